@@ -0,0 +1,62 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.database;
+
+import androidx.room.testing.MigrationTestHelper;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+import java.io.IOException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Checks that the hand-written migrations from version 54 lead to the schema which Room exports
+ * for the current version, so the cached data and pending offline data are kept on updates.
+ */
+@RunWith(AndroidJUnit4.class)
+public class MigrationTest {
+
+  private static final String TEST_DB = "migration-test";
+
+  @Rule
+  public MigrationTestHelper helper = new MigrationTestHelper(
+      InstrumentationRegistry.getInstrumentation(),
+      AppDatabase.class
+  );
+
+  @Test
+  public void migrate54To58() throws IOException {
+    SupportSQLiteDatabase database = helper.createDatabase(TEST_DB, 54);
+    database.close();
+
+    helper.runMigrationsAndValidate(
+        TEST_DB,
+        58,
+        true,
+        AppDatabase.MIGRATION_54_55,
+        AppDatabase.MIGRATION_55_56,
+        AppDatabase.MIGRATION_56_57,
+        AppDatabase.MIGRATION_57_58
+    ).close();
+  }
+}
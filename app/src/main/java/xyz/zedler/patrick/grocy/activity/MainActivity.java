@@ -83,6 +83,7 @@ import xyz.zedler.patrick.grocy.databinding.ActivityMainBinding;
 import xyz.zedler.patrick.grocy.fragment.BaseFragment;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.FeedbackBottomSheet;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.StockTransactionOutbox;
 import xyz.zedler.patrick.grocy.util.ClickUtil;
 import xyz.zedler.patrick.grocy.util.ConfigUtil;
 import xyz.zedler.patrick.grocy.util.HapticUtil;
@@ -110,6 +111,7 @@ public class MainActivity extends AppCompatActivity {
   private GrocyApi grocyApi;
   private ClickUtil clickUtil;
   private BroadcastReceiver networkReceiver;
+  private DownloadHelper outboxDlHelper;
   private BottomScrollBehavior scrollBehavior;
   private UiUtil uiUtil;
   private boolean runAsSuperClass;
@@ -177,6 +179,9 @@ public class MainActivity extends AppCompatActivity {
     networkReceiver = new BroadcastReceiver() {
       @Override
       public void onReceive(Context context, Intent intent) {
+        if (netUtil.isOnline() && !PrefsUtil.isServerUrlEmpty(sharedPrefs)) {
+          replayStockTransactions();
+        }
         Fragment navHostFragment = fragmentManager.findFragmentById(R.id.fragment_main_nav_host);
         assert navHostFragment != null;
         if (navHostFragment.getChildFragmentManager().getFragments().isEmpty()) {
@@ -277,6 +282,10 @@ public class MainActivity extends AppCompatActivity {
     if (networkReceiver != null) {
       unregisterReceiver(networkReceiver);
     }
+    if (outboxDlHelper != null) {
+      StockTransactionOutbox.getInstance().cancel(outboxDlHelper);
+      outboxDlHelper.destroy();
+    }
     if (netUtil != null) {
       netUtil.closeWebSocketClient("fragment destroyed");
     }
@@ -450,6 +459,24 @@ public class MainActivity extends AppCompatActivity {
     return netUtil.isOnline();
   }
 
+  private void replayStockTransactions() {
+    if (outboxDlHelper == null) {
+      outboxDlHelper = new DownloadHelper(this, TAG);
+    }
+    StockTransactionOutbox.getInstance().replay(
+        outboxDlHelper,
+        (sent, rejected, failed) -> {
+          if (failed > 0) {
+            showSnackbar(R.string.msg_queued_transactions_failed, true);
+          } else if (rejected > 0) {
+            showSnackbar(R.string.msg_queued_transactions_rejected, true);
+          } else {
+            showSnackbar(R.string.msg_queued_transactions_sent, false);
+          }
+        }
+    );
+  }
+
   @Override
   protected void onActivityResult(int requestCode, int resultCode, @Nullable Intent data) {
     super.onActivityResult(requestCode, resultCode, data);
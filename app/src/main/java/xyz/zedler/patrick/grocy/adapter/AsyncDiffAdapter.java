@@ -0,0 +1,159 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.adapter;
+
+import android.view.View;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.ListUpdateCallback;
+import androidx.recyclerview.widget.RecyclerView;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
+import xyz.zedler.patrick.grocy.helper.ListPipeline.DiffedList;
+
+/**
+ * Base for list adapters which are updated with DiffUtil.
+ * The diff is calculated on the background thread of a ListPipeline and the new data is
+ * applied together with the dispatched updates on the main thread, so the adapter never shows
+ * data which does not match the notified changes.
+ * Items have stable ids, and changed items are notified with PAYLOAD_CONTENT, so the item
+ * animator rebinds the existing view holder instead of binding a second one for a crossfade.
+ * Adapters can use the payload to skip expensive parts of the binding, e.g. pictures.
+ */
+public abstract class AsyncDiffAdapter<VH extends RecyclerView.ViewHolder>
+    extends RecyclerView.Adapter<VH> {
+
+  public static final Object PAYLOAD_CONTENT = new Object();
+
+  private final ListPipeline listPipeline;
+  @Nullable
+  private final LinearLayoutManager linearLayoutManager;
+
+  /**
+   * @param linearLayoutManager if not null, the scroll position is kept when items are moved
+   */
+  public AsyncDiffAdapter(@Nullable LinearLayoutManager linearLayoutManager) {
+    this.linearLayoutManager = linearLayoutManager;
+    this.listPipeline = new ListPipeline();
+    setHasStableIds(true);
+  }
+
+  @Override
+  public abstract long getItemId(int position);
+
+  @Override
+  public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+    super.onDetachedFromRecyclerView(recyclerView);
+    listPipeline.cancel();
+  }
+
+  /**
+   * Runs the stage in the background, cancels a running update of this adapter.
+   * onApply has to replace the data of the adapter with the new items of the result, the
+   * updates are dispatched afterwards.
+   */
+  protected <T> void submitDiff(
+      ListPipeline.Stage<DiffedList<T>> stage,
+      ListPipeline.OnResultListener<DiffedList<T>> onApply
+  ) {
+    listPipeline.submit(stage, diffedList -> {
+      onApply.onResult(diffedList);
+      diffedList.diffResult.dispatchUpdatesTo(
+          new AdapterListUpdateCallback(this, linearLayoutManager)
+      );
+    });
+  }
+
+  // ids of different view types never collide, e.g. a header and an entry with the same key
+  public static long getStableId(int viewType, long key) {
+    return ((long) viewType << 32) | (key & 0xffffffffL);
+  }
+
+  public abstract static class ChangePayloadCallback extends DiffUtil.Callback {
+
+    @Nullable
+    @Override
+    public Object getChangePayload(int oldItemPosition, int newItemPosition) {
+      return PAYLOAD_CONTENT;
+    }
+  }
+
+  /**
+   * Custom ListUpdateCallback that prevents RecyclerView from scrolling down if top item is moved.
+   */
+  public static final class AdapterListUpdateCallback implements ListUpdateCallback {
+
+    @NonNull
+    private final RecyclerView.Adapter<?> mAdapter;
+    @Nullable
+    private final LinearLayoutManager linearLayoutManager;
+
+    public AdapterListUpdateCallback(
+        @NonNull RecyclerView.Adapter<?> adapter,
+        @Nullable LinearLayoutManager linearLayoutManager
+    ) {
+      this.mAdapter = adapter;
+      this.linearLayoutManager = linearLayoutManager;
+    }
+
+    @Override
+    public void onInserted(int position, int count) {
+      mAdapter.notifyItemRangeInserted(position, count);
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+      mAdapter.notifyItemRangeRemoved(position, count);
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition) {
+      if (linearLayoutManager == null) {
+        mAdapter.notifyItemMoved(fromPosition, toPosition);
+        return;
+      }
+      // workaround for https://github.com/patzly/grocy-android/issues/439
+      // figure out the position of the first visible item
+      int firstPos = linearLayoutManager.findFirstCompletelyVisibleItemPosition();
+      int offsetTop = 0;
+      if(firstPos >= 0) {
+        View firstView = linearLayoutManager.findViewByPosition(firstPos);
+        if (firstView != null) {
+          offsetTop = linearLayoutManager.getDecoratedTop(firstView)
+              - linearLayoutManager.getTopDecorationHeight(firstView);
+        }
+      }
+
+      mAdapter.notifyItemMoved(fromPosition, toPosition);
+
+      // reapply the saved position
+      if(firstPos >= 0) {
+        linearLayoutManager.scrollToPositionWithOffset(firstPos, offsetTop);
+      }
+    }
+
+    @Override
+    public void onChanged(int position, int count, Object payload) {
+      mAdapter.notifyItemRangeChanged(position, count, payload);
+    }
+  }
+}
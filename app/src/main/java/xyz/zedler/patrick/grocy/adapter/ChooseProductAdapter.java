@@ -28,19 +28,22 @@ import android.widget.ImageView;
 import android.widget.LinearLayout;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.button.MaterialButton;
 import java.util.ArrayList;
 import java.util.List;
 import xyz.zedler.patrick.grocy.R;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.PendingProduct;
 import xyz.zedler.patrick.grocy.model.Product;
 
 public class ChooseProductAdapter extends
-    RecyclerView.Adapter<ChooseProductAdapter.ViewHolder> {
+    AsyncDiffAdapter<ChooseProductAdapter.ViewHolder> {
 
   private final static String TAG = ChooseProductAdapter.class.getSimpleName();
+  // pending products have their own ids, which can be the same as the id of a product
+  private final static int ID_TYPE_PRODUCT = 0;
+  private final static int ID_TYPE_PENDING_PRODUCT = 1;
 
   private final List<Product> products;
   private final ChooseProductAdapterListener listener;
@@ -51,6 +54,7 @@ public class ChooseProductAdapter extends
       ChooseProductAdapterListener listener,
       boolean forbidCreateProduct
   ) {
+    super(null);
     this.products = new ArrayList<>(products);
     this.listener = listener;
     this.forbidCreateProduct = forbidCreateProduct;
@@ -122,17 +126,18 @@ public class ChooseProductAdapter extends
   }
 
   public void updateData(List<Product> newProducts) {
-    DiffCallback diffCallback = new DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(newProducts, new DiffCallback(
         newProducts,
         this.products
-    );
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.products.clear();
-    this.products.addAll(newProducts);
-    diffResult.dispatchUpdatesTo(this);
+    )), diffedList -> {
+      this.products.clear();
+      this.products.addAll(newProducts);
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     List<Product> oldItems;
     List<Product> newItems;
@@ -168,11 +173,23 @@ public class ChooseProductAdapter extends
     private boolean compare(int oldItemPos, int newItemPos, boolean compareContent) {
       Product newItem = newItems.get(newItemPos);
       Product oldItem = oldItems.get(oldItemPos);
+      if (newItem.getClass() != oldItem.getClass()) {
+        return false;
+      }
       return compareContent ? newItem.equals(oldItem)
           : newItem.getId() == oldItem.getId();
     }
   }
 
+  @Override
+  public long getItemId(int position) {
+    Product product = products.get(position);
+    return getStableId(
+        product instanceof PendingProduct ? ID_TYPE_PENDING_PRODUCT : ID_TYPE_PRODUCT,
+        product.getId()
+    );
+  }
+
   @Override
   public int getItemCount() {
     return products.size();
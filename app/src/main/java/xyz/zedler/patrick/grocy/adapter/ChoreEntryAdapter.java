@@ -27,15 +27,14 @@ import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.core.content.res.ResourcesCompat;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
-import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 import java.util.ArrayList;
 import java.util.HashMap;
 import xyz.zedler.patrick.grocy.Constants.DATE;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.databinding.RowChoreEntryBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.Chore;
 import xyz.zedler.patrick.grocy.model.ChoreEntry;
 import xyz.zedler.patrick.grocy.model.User;
@@ -43,13 +42,11 @@ import xyz.zedler.patrick.grocy.util.DateUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.ResUtil;
 
-public class ChoreEntryAdapter extends
-    RecyclerView.Adapter<ChoreEntryAdapter.ViewHolder> {
+public class ChoreEntryAdapter extends AsyncDiffAdapter<ChoreEntryAdapter.ViewHolder> {
 
   private final static String TAG = ChoreEntryAdapter.class.getSimpleName();
   private final static boolean DEBUG = false;
 
-  private final LinearLayoutManager linearLayoutManager;
   private final ArrayList<ChoreEntry> choreEntries;
   private final HashMap<Integer, Chore> choreHashMap;
   private final HashMap<Integer, User> usersHashMap;
@@ -63,7 +60,7 @@ public class ChoreEntryAdapter extends
       LinearLayoutManager linearLayoutManager,
       ChoreEntryAdapterListener listener
   ) {
-    this.linearLayoutManager = linearLayoutManager;
+    super(linearLayoutManager);
     this.choreEntries = new ArrayList<>();
     this.choreHashMap = new HashMap<>();
     this.usersHashMap = new HashMap<>();
@@ -71,11 +68,6 @@ public class ChoreEntryAdapter extends
     this.dateUtil = new DateUtil(context);
   }
 
-  @Override
-  public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
-    super.onDetachedFromRecyclerView(recyclerView);
-  }
-
   public static class ViewHolder extends RecyclerView.ViewHolder {
 
     public ViewHolder(View view) {
@@ -122,7 +114,7 @@ public class ChoreEntryAdapter extends
     Integer days = null;
     boolean colorDays = false;
     if (date != null && !date.isEmpty() && !date.equals(DATE.NEVER_OVERDUE_WITH_TIME)) {
-      days = DateUtil.getDaysFromNow(date);
+      days = DateUtil.getDaysFromNow(choreEntry.getNextEstimatedExecutionEpochDay());
     }
 
     if (days != null) {
@@ -207,6 +199,11 @@ public class ChoreEntryAdapter extends
     );
   }
 
+  @Override
+  public long getItemId(int position) {
+    return choreEntries.get(position).getId();
+  }
+
   @Override
   public int getItemCount() {
     return choreEntries.size();
@@ -232,7 +229,9 @@ public class ChoreEntryAdapter extends
       boolean sortAscending,
       Runnable onListFilled
   ) {
-    ChoreEntryAdapter.DiffCallback diffCallback = new ChoreEntryAdapter.DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(newList, new DiffCallback(
         this.choreEntries,
         newList,
         this.choreHashMap,
@@ -243,25 +242,23 @@ public class ChoreEntryAdapter extends
         sortMode,
         this.sortAscending,
         sortAscending
-    );
-
-    if (onListFilled != null && !newList.isEmpty() && choreEntries.isEmpty()) {
-      onListFilled.run();
-    }
+    )), diffedList -> {
+      if (onListFilled != null && !newList.isEmpty() && choreEntries.isEmpty()) {
+        onListFilled.run();
+      }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.choreEntries.clear();
-    this.choreEntries.addAll(newList);
-    this.choreHashMap.clear();
-    this.choreHashMap.putAll(choreHashMap);
-    this.usersHashMap.clear();
-    this.usersHashMap.putAll(usersHashMap);
-    this.sortMode = sortMode;
-    this.sortAscending = sortAscending;
-    diffResult.dispatchUpdatesTo(new AdapterListUpdateCallback(this, linearLayoutManager));
+      this.choreEntries.clear();
+      this.choreEntries.addAll(newList);
+      this.choreHashMap.clear();
+      this.choreHashMap.putAll(choreHashMap);
+      this.usersHashMap.clear();
+      this.usersHashMap.putAll(usersHashMap);
+      this.sortMode = sortMode;
+      this.sortAscending = sortAscending;
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     ArrayList<ChoreEntry> oldItems;
     ArrayList<ChoreEntry> newItems;
@@ -347,59 +344,4 @@ public class ChoreEntryAdapter extends
       return newItem.equals(oldItem);
     }
   }
-
-  /**
-   * Custom ListUpdateCallback that prevents RecyclerView from scrolling down if top item is moved.
-   */
-  public static final class AdapterListUpdateCallback implements ListUpdateCallback {
-
-    @NonNull
-    private final ChoreEntryAdapter mAdapter;
-    private final LinearLayoutManager linearLayoutManager;
-
-    public AdapterListUpdateCallback(
-        @NonNull ChoreEntryAdapter adapter,
-        LinearLayoutManager linearLayoutManager
-    ) {
-      this.mAdapter = adapter;
-      this.linearLayoutManager = linearLayoutManager;
-    }
-
-    @Override
-    public void onInserted(int position, int count) {
-      mAdapter.notifyItemRangeInserted(position, count);
-    }
-
-    @Override
-    public void onRemoved(int position, int count) {
-      mAdapter.notifyItemRangeRemoved(position, count);
-    }
-
-    @Override
-    public void onMoved(int fromPosition, int toPosition) {
-      // workaround for https://github.com/patzly/grocy-android/issues/439
-      // figure out the position of the first visible item
-      int firstPos = linearLayoutManager.findFirstCompletelyVisibleItemPosition();
-      int offsetTop = 0;
-      if(firstPos >= 0) {
-        View firstView = linearLayoutManager.findViewByPosition(firstPos);
-        if (firstView != null) {
-          offsetTop = linearLayoutManager.getDecoratedTop(firstView)
-              - linearLayoutManager.getTopDecorationHeight(firstView);
-        }
-      }
-
-      mAdapter.notifyItemMoved(fromPosition, toPosition);
-
-      // reapply the saved position
-      if(firstPos >= 0) {
-        linearLayoutManager.scrollToPositionWithOffset(firstPos, offsetTop);
-      }
-    }
-
-    @Override
-    public void onChanged(int position, int count, Object payload) {
-      mAdapter.notifyItemRangeChanged(position, count, payload);
-    }
-  }
 }
@@ -27,19 +27,19 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import com.bumptech.glide.load.model.LazyHeaders;
 import java.util.ArrayList;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowMasterItemBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.util.ObjectUtil;
 import xyz.zedler.patrick.grocy.util.PictureUtil;
 import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class MasterObjectListAdapter extends
-    RecyclerView.Adapter<MasterObjectListAdapter.ViewHolder> {
+    AsyncDiffAdapter<MasterObjectListAdapter.ViewHolder> {
 
   private final static String TAG = MasterObjectListAdapter.class.getSimpleName();
 
@@ -55,6 +55,7 @@ public class MasterObjectListAdapter extends
       String entity,
       MasterObjectListAdapterListener listener
   ) {
+    super(null);
     this.objects = new ArrayList<>();
     this.listener = listener;
     this.entity = entity;
@@ -120,33 +121,33 @@ public class MasterObjectListAdapter extends
   }
 
   public void updateData(ArrayList<Object> newObjects, Runnable onListFilled) {
-    DiffCallback diffCallback = new DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(newObjects, new DiffCallback(
         newObjects,
         this.objects,
         entity
-    );
-
-    containsPictures = false;
-    for (Object object : newObjects) {
-      if (!(object instanceof Product)) continue;
-      String pictureFileName = ((Product) object).getPictureFileName();
-      if (pictureFileName != null && !pictureFileName.isEmpty()) {
-        containsPictures = true;
-        break;
+    )), diffedList -> {
+      if (onListFilled != null && !newObjects.isEmpty() && objects.isEmpty()) {
+        onListFilled.run();
       }
-    }
 
-    if (onListFilled != null && !newObjects.isEmpty() && objects.isEmpty()) {
-      onListFilled.run();
-    }
+      containsPictures = false;
+      for (Object object : newObjects) {
+        if (!(object instanceof Product)) continue;
+        String pictureFileName = ((Product) object).getPictureFileName();
+        if (pictureFileName != null && !pictureFileName.isEmpty()) {
+          containsPictures = true;
+          break;
+        }
+      }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.objects.clear();
-    this.objects.addAll(newObjects);
-    diffResult.dispatchUpdatesTo(this);
+      this.objects.clear();
+      this.objects.addAll(newObjects);
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     ArrayList<Object> oldItems;
     ArrayList<Object> newItems;
@@ -191,6 +192,11 @@ public class MasterObjectListAdapter extends
     }
   }
 
+  @Override
+  public long getItemId(int position) {
+    return ObjectUtil.getObjectId(objects.get(position), entity);
+  }
+
   @Override
   public int getItemCount() {
     return objects.size();
@@ -83,8 +83,8 @@ public class MatchArrayAdapter extends ArrayAdapter<String> {
 
         // Initialize list with max. capacity to avoid growing.
         List<String> suggestions = new ArrayList<>(itemsAll.size());
+        String match = constraint.toString().toLowerCase();
         for (String item : itemsAll) {
-          String match = constraint.toString().toLowerCase();
           if (item.toLowerCase().contains(match)) {
             suggestions.add(item);
           }
@@ -100,10 +100,10 @@ public class MatchArrayAdapter extends ArrayAdapter<String> {
         @SuppressWarnings("unchecked")
         ArrayList<String> filteredList = (ArrayList<String>) results.values;
         if (results.count > 0) {
+          // notify only once instead of after every added item
+          setNotifyOnChange(false);
           clear();
-          for (String item : filteredList) {
-            add(item);
-          }
+          addAll(filteredList);
           notifyDataSetChanged();
         }
       }
@@ -29,10 +29,8 @@ import android.widget.Filter;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import me.xdrop.fuzzywuzzy.FuzzySearch;
-import me.xdrop.fuzzywuzzy.model.ExtractedResult;
+import xyz.zedler.patrick.grocy.helper.ProductSearchIndex;
 import xyz.zedler.patrick.grocy.model.Product;
 
 public class MatchProductsArrayAdapter extends ArrayAdapter<Product> {
@@ -40,18 +38,15 @@ public class MatchProductsArrayAdapter extends ArrayAdapter<Product> {
   final Context context;
   final int resource;
   final List<Product> items;
-  final HashMap<String, Product> tempItems;
+  final ProductSearchIndex searchIndex;
 
   public MatchProductsArrayAdapter(Context context, int resource, List<Product> items) {
     super(context, resource, items);
     this.context = context;
     this.resource = resource;
     this.items = items;
-    tempItems = new HashMap<>(); // this makes the difference.
-    for (Product product : items) {
-      if (product.getName() == null) continue;
-      tempItems.put(product.getName().toLowerCase(), product);
-    }
+    // built before the adapter modifies the list while filtering
+    searchIndex = ProductSearchIndex.get(items);
   }
 
   @NonNull
@@ -94,16 +89,7 @@ public class MatchProductsArrayAdapter extends ArrayAdapter<Product> {
         return new FilterResults();
       }
 
-      ArrayList<Product> suggestions = new ArrayList<>(30);
-      List<ExtractedResult> results = FuzzySearch.extractTop(
-          constraint.toString().toLowerCase(),
-          tempItems.keySet(),
-          30,
-          50
-      );
-      for (ExtractedResult result : results) {
-        suggestions.add(tempItems.get(result.getString()));
-      }
+      List<Product> suggestions = searchIndex.search(constraint.toString(), 30, 50);
       FilterResults filterResults = new FilterResults();
       filterResults.values = suggestions;
       filterResults.count = suggestions.size();
@@ -115,11 +101,11 @@ public class MatchProductsArrayAdapter extends ArrayAdapter<Product> {
     protected void publishResults(CharSequence constraint, FilterResults results) {
       List<Product> filterList = (ArrayList<Product>) results.values;
       if (results.count > 0) {
+        // notify only once instead of after every added product
+        setNotifyOnChange(false);
         clear();
-        for (Product product : filterList) {
-          add(product);
-          notifyDataSetChanged();
-        }
+        addAll(filterList);
+        notifyDataSetChanged();
       }
     }
   };
@@ -30,7 +30,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.content.res.ResourcesCompat;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ItemTouchHelper;
 import androidx.recyclerview.widget.RecyclerView;
 import com.bumptech.glide.load.model.LazyHeaders;
@@ -48,6 +47,7 @@ import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowMealPlanEntryBinding;
 import xyz.zedler.patrick.grocy.databinding.RowMealPlanSectionHeaderBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.GroupedListItem;
 import xyz.zedler.patrick.grocy.model.MealPlanEntry;
 import xyz.zedler.patrick.grocy.model.MealPlanSection;
@@ -67,8 +67,7 @@ import xyz.zedler.patrick.grocy.util.ResUtil;
 import xyz.zedler.patrick.grocy.view.MaterialTimelineView;
 import xyz.zedler.patrick.grocy.viewmodel.MealPlanViewModel;
 
-public class MealPlanEntryAdapter extends
-    RecyclerView.Adapter<MealPlanEntryAdapter.ViewHolder> {
+public class MealPlanEntryAdapter extends AsyncDiffAdapter<MealPlanEntryAdapter.ViewHolder> {
 
   private final static String TAG = MealPlanEntryAdapter.class.getSimpleName();
 
@@ -96,6 +95,7 @@ public class MealPlanEntryAdapter extends
       LazyHeaders grocyAuthHeaders,
       String date
   ) {
+    super(null);
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
     this.maxDecimalPlacesAmount = sharedPrefs.getInt(
         STOCK.DECIMAL_PLACES_AMOUNT,
@@ -517,6 +517,14 @@ public class MealPlanEntryAdapter extends
 
   }
 
+  @Override
+  public long getItemId(int position) {
+    GroupedListItem item = groupedListItems.get(position);
+    int type = getItemViewType(position);
+    return getStableId(type, type == GroupedListItem.TYPE_ENTRY
+        ? ((MealPlanEntry) item).getId() : ((MealPlanSection) item).getId());
+  }
+
   @Override
   public int getItemCount() {
     return groupedListItems.size();
@@ -562,7 +570,9 @@ public class MealPlanEntryAdapter extends
             || activeFields.contains(MealPlanViewModel.FIELD_ENERGY)
             || activeFields.contains(MealPlanViewModel.FIELD_FULFILLMENT))
     );
-    DiffCallback diffCallback = new DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(newGroupedListItems, new DiffCallback(
         this.groupedListItems,
         newGroupedListItems,
         this.recipeHashMap,
@@ -582,31 +592,29 @@ public class MealPlanEntryAdapter extends
         this.activeFields,
         activeFields,
         date
-    );
-
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.groupedListItems.clear();
-    this.groupedListItems.addAll(newGroupedListItems);
-    this.recipeHashMap.clear();
-    this.recipeHashMap.putAll(recipeHashMap);
-    this.productHashMap.clear();
-    this.productHashMap.putAll(productHashMap);
-    this.quantityUnitHashMap.clear();
-    this.quantityUnitHashMap.putAll(quantityUnitHashMap);
-    this.productLastPurchasedHashMap.clear();
-    this.productLastPurchasedHashMap.putAll(productLastPurchasedHashMap);
-    this.recipeResolvedFulfillmentHashMap.clear();
-    this.recipeResolvedFulfillmentHashMap.putAll(recipeResolvedFulfillmentHashMap);
-    this.stockItemHashMap.clear();
-    this.stockItemHashMap.putAll(stockItemHashMap);
-    this.userfieldHashMap.clear();
-    this.userfieldHashMap.putAll(userfieldHashMap);
-    this.activeFields.clear();
-    this.activeFields.addAll(activeFields);
-    diffResult.dispatchUpdatesTo(this);
+    )), diffedList -> {
+      this.groupedListItems.clear();
+      this.groupedListItems.addAll(newGroupedListItems);
+      this.recipeHashMap.clear();
+      this.recipeHashMap.putAll(recipeHashMap);
+      this.productHashMap.clear();
+      this.productHashMap.putAll(productHashMap);
+      this.quantityUnitHashMap.clear();
+      this.quantityUnitHashMap.putAll(quantityUnitHashMap);
+      this.productLastPurchasedHashMap.clear();
+      this.productLastPurchasedHashMap.putAll(productLastPurchasedHashMap);
+      this.recipeResolvedFulfillmentHashMap.clear();
+      this.recipeResolvedFulfillmentHashMap.putAll(recipeResolvedFulfillmentHashMap);
+      this.stockItemHashMap.clear();
+      this.stockItemHashMap.putAll(stockItemHashMap);
+      this.userfieldHashMap.clear();
+      this.userfieldHashMap.putAll(userfieldHashMap);
+      this.activeFields.clear();
+      this.activeFields.addAll(activeFields);
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     List<GroupedListItem> oldItems;
     List<GroupedListItem> newItems;
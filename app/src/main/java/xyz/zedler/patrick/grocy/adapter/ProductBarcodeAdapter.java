@@ -27,7 +27,6 @@ import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,12 +34,13 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.databinding.RowProductBarcodeBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.Store;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 
-public class ProductBarcodeAdapter extends RecyclerView.Adapter<ProductBarcodeAdapter.ViewHolder> {
+public class ProductBarcodeAdapter extends AsyncDiffAdapter<ProductBarcodeAdapter.ViewHolder> {
 
   private final static String TAG = ProductBarcodeAdapter.class.getSimpleName();
 
@@ -54,6 +54,7 @@ public class ProductBarcodeAdapter extends RecyclerView.Adapter<ProductBarcodeAd
       Context context,
       ProductBarcodeAdapterListener listener
   ) {
+    super(null);
     this.productBarcodes = new ArrayList<>();
     this.listener = listener;
     this.quantityUnits = new ArrayList<>();
@@ -146,6 +147,11 @@ public class ProductBarcodeAdapter extends RecyclerView.Adapter<ProductBarcodeAd
     );
   }
 
+  @Override
+  public long getItemId(int position) {
+    return productBarcodes.get(position).getId();
+  }
+
   @Override
   public int getItemCount() {
     return productBarcodes.size();
@@ -157,30 +163,30 @@ public class ProductBarcodeAdapter extends RecyclerView.Adapter<ProductBarcodeAd
       List<Store> stores,
       Runnable onListFilled
   ) {
-    DiffCallback diffCallback = new DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(productBarcodesNew, new DiffCallback(
         this.productBarcodes,
         productBarcodesNew,
         this.quantityUnits,
         quantityUnits,
         this.stores,
         stores
-    );
-
-    if (onListFilled != null && !productBarcodesNew.isEmpty() && productBarcodes.isEmpty()) {
-      onListFilled.run();
-    }
+    )), diffedList -> {
+      if (onListFilled != null && !productBarcodesNew.isEmpty() && productBarcodes.isEmpty()) {
+        onListFilled.run();
+      }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.productBarcodes.clear();
-    this.productBarcodes.addAll(productBarcodesNew);
-    this.quantityUnits.clear();
-    this.quantityUnits.addAll(quantityUnits);
-    this.stores.clear();
-    this.stores.addAll(stores);
-    diffResult.dispatchUpdatesTo(this);
+      this.productBarcodes.clear();
+      this.productBarcodes.addAll(productBarcodesNew);
+      this.quantityUnits.clear();
+      this.quantityUnits.addAll(quantityUnits);
+      this.stores.clear();
+      this.stores.addAll(stores);
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     List<ProductBarcode> oldItems;
     List<ProductBarcode> newItems;
@@ -26,7 +26,6 @@ import android.view.LayoutInflater;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -34,12 +33,13 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.databinding.RowQuantityUnitConversionBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 
-public class QuantityUnitConversionAdapter extends RecyclerView.Adapter<QuantityUnitConversionAdapter.ViewHolder> {
+public class QuantityUnitConversionAdapter extends AsyncDiffAdapter<QuantityUnitConversionAdapter.ViewHolder> {
 
   private final static String TAG = QuantityUnitConversionAdapter.class.getSimpleName();
 
@@ -53,6 +53,7 @@ public class QuantityUnitConversionAdapter extends RecyclerView.Adapter<Quantity
       Context context,
       QuantityUnitConversionAdapterListener listener
   ) {
+    super(null);
     this.pluralUtil = new PluralUtil(context);
     this.quantityUnitConversions = new ArrayList<>();
     this.listener = listener;
@@ -109,6 +110,11 @@ public class QuantityUnitConversionAdapter extends RecyclerView.Adapter<Quantity
     );
   }
 
+  @Override
+  public long getItemId(int position) {
+    return quantityUnitConversions.get(position).getId();
+  }
+
   @Override
   public int getItemCount() {
     return quantityUnitConversions.size();
@@ -119,27 +125,27 @@ public class QuantityUnitConversionAdapter extends RecyclerView.Adapter<Quantity
       HashMap<Integer, QuantityUnit> quantityUnitHashMap,
       Runnable onListFilled
   ) {
-    DiffCallback diffCallback = new DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(quantityUnitConversionsNew, new DiffCallback(
         this.quantityUnitConversions,
         quantityUnitConversionsNew,
         this.quantityUnitHashMap,
         quantityUnitHashMap
-    );
-
-    if (onListFilled != null && !quantityUnitConversionsNew.isEmpty()
-        && quantityUnitConversions.isEmpty()) {
-      onListFilled.run();
-    }
+    )), diffedList -> {
+      if (onListFilled != null && !quantityUnitConversionsNew.isEmpty()
+          && quantityUnitConversions.isEmpty()) {
+        onListFilled.run();
+      }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.quantityUnitConversions.clear();
-    this.quantityUnitConversions.addAll(quantityUnitConversionsNew);
-    this.quantityUnitHashMap.clear();
-    this.quantityUnitHashMap.putAll(quantityUnitHashMap);
-    diffResult.dispatchUpdatesTo(this);
+      this.quantityUnitConversions.clear();
+      this.quantityUnitConversions.addAll(quantityUnitConversionsNew);
+      this.quantityUnitHashMap.clear();
+      this.quantityUnitHashMap.putAll(quantityUnitHashMap);
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     ArrayList<QuantityUnitConversion> oldItems;
     ArrayList<QuantityUnitConversion> newItems;
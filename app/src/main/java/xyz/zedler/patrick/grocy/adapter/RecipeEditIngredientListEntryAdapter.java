@@ -28,17 +28,18 @@ import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
-import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.databinding.RowRecipeEditListEntryBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
+import xyz.zedler.patrick.grocy.helper.QuantityUnitConversionIndex;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
@@ -47,16 +48,15 @@ import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 
 public class RecipeEditIngredientListEntryAdapter extends
-    RecyclerView.Adapter<RecipeEditIngredientListEntryAdapter.ViewHolder> {
+    AsyncDiffAdapter<RecipeEditIngredientListEntryAdapter.ViewHolder> {
 
   private final static String TAG = RecipeEditIngredientListEntryAdapter.class.getSimpleName();
   private final static boolean DEBUG = false;
 
-  private final LinearLayoutManager linearLayoutManager;
   private final ArrayList<RecipePosition> recipePositions;
   private final ArrayList<Product> products;
   private final HashMap<Integer, QuantityUnit> quantityUnitHashMap;
-  private final List<QuantityUnitConversionResolved> unitConversions;
+  private QuantityUnitConversionIndex unitConversionIndex;
   private final RecipeEditIngredientListEntryAdapterListener listener;
 
   private final PluralUtil pluralUtil;
@@ -67,11 +67,11 @@ public class RecipeEditIngredientListEntryAdapter extends
       LinearLayoutManager linearLayoutManager,
       RecipeEditIngredientListEntryAdapterListener listener
   ) {
-    this.linearLayoutManager = linearLayoutManager;
+    super(linearLayoutManager);
     this.recipePositions = new ArrayList<>();
     this.products = new ArrayList<>();
     this.quantityUnitHashMap = new HashMap<>();
-    this.unitConversions = new ArrayList<>();
+    this.unitConversionIndex = QuantityUnitConversionIndex.get(new ArrayList<>());
     this.listener = listener;
     this.pluralUtil = new PluralUtil(context);
     maxDecimalPlacesAmount = PreferenceManager.getDefaultSharedPreferences(context).getInt(
@@ -80,11 +80,6 @@ public class RecipeEditIngredientListEntryAdapter extends
     );
   }
 
-  @Override
-  public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
-    super.onDetachedFromRecyclerView(recyclerView);
-  }
-
   public static class ViewHolder extends RecyclerView.ViewHolder {
 
     public ViewHolder(View view) {
@@ -131,9 +126,9 @@ public class RecipeEditIngredientListEntryAdapter extends
         || recipePosition.getVariableAmount().isEmpty())) {
       double amount = recipePosition.getAmount();
       if (!recipePosition.isOnlyCheckSingleUnitInStock()) {
-        QuantityUnitConversionResolved conversionResolved = QuantityUnitConversionResolved
-            .findConversion(unitConversions, product.getId(), product.getQuIdStockInt(),
-                recipePosition.getQuantityUnitId());
+        QuantityUnitConversionResolved conversionResolved = unitConversionIndex.getConversion(
+            product.getId(), product.getQuIdStockInt(), recipePosition.getQuantityUnitId()
+        );
         if (conversionResolved != null) amount *= conversionResolved.getFactor();
       }
       holder.binding.quantity.setText(
@@ -163,6 +158,11 @@ public class RecipeEditIngredientListEntryAdapter extends
     );
   }
 
+  @Override
+  public long getItemId(int position) {
+    return recipePositions.get(position).getId();
+  }
+
   @Override
   public int getItemCount() {
     return recipePositions.size();
@@ -187,34 +187,36 @@ public class RecipeEditIngredientListEntryAdapter extends
       List<QuantityUnitConversionResolved> newUnitConversions,
       Runnable onListFilled
   ) {
-    RecipeEditIngredientListEntryAdapter.DiffCallback diffCallback = new RecipeEditIngredientListEntryAdapter.DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    QuantityUnitConversionIndex newUnitConversionIndex = QuantityUnitConversionIndex.get(
+        newUnitConversions
+    );
+    submitDiff(token -> ListPipeline.diff(newList, new DiffCallback(
         this.recipePositions,
         newList,
         this.products,
         newProducts,
         this.quantityUnitHashMap,
         newQuantityUnitHashMap,
-        this.unitConversions,
-        newUnitConversions
-    );
-
-    if (onListFilled != null && !newList.isEmpty() && recipePositions.isEmpty()) {
-      onListFilled.run();
-    }
+        this.unitConversionIndex,
+        newUnitConversionIndex
+    )), diffedList -> {
+      if (onListFilled != null && !newList.isEmpty() && recipePositions.isEmpty()) {
+        onListFilled.run();
+      }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.recipePositions.clear();
-    this.recipePositions.addAll(newList);
-    this.products.clear();
-    this.products.addAll(newProducts);
-    this.quantityUnitHashMap.clear();
-    this.quantityUnitHashMap.putAll(newQuantityUnitHashMap);
-    this.unitConversions.clear();
-    this.unitConversions.addAll(newUnitConversions);
-    diffResult.dispatchUpdatesTo(new AdapterListUpdateCallback(this, linearLayoutManager));
+      this.recipePositions.clear();
+      this.recipePositions.addAll(newList);
+      this.products.clear();
+      this.products.addAll(newProducts);
+      this.quantityUnitHashMap.clear();
+      this.quantityUnitHashMap.putAll(newQuantityUnitHashMap);
+      this.unitConversionIndex = newUnitConversionIndex;
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     ArrayList<RecipePosition> oldItems;
     ArrayList<RecipePosition> newItems;
@@ -222,8 +224,8 @@ public class RecipeEditIngredientListEntryAdapter extends
     ArrayList<Product> newProducts;
     HashMap<Integer, QuantityUnit> oldQuantityUnitHashMap;
     HashMap<Integer, QuantityUnit> newQuantityUnitHashMap;
-    List<QuantityUnitConversionResolved> oldUnitConversions;
-    List<QuantityUnitConversionResolved> newUnitConversions;
+    QuantityUnitConversionIndex oldUnitConversionIndex;
+    QuantityUnitConversionIndex newUnitConversionIndex;
 
     public DiffCallback(
         ArrayList<RecipePosition> oldItems,
@@ -232,8 +234,8 @@ public class RecipeEditIngredientListEntryAdapter extends
         ArrayList<Product> newProducts,
         HashMap<Integer, QuantityUnit> oldQuantityUnitHashMap,
         HashMap<Integer, QuantityUnit> newQuantityUnitHashMap,
-        List<QuantityUnitConversionResolved> oldUnitConversions,
-        List<QuantityUnitConversionResolved> newUnitConversions
+        QuantityUnitConversionIndex oldUnitConversionIndex,
+        QuantityUnitConversionIndex newUnitConversionIndex
     ) {
       this.oldItems = oldItems;
       this.newItems = newItems;
@@ -241,8 +243,8 @@ public class RecipeEditIngredientListEntryAdapter extends
       this.newProducts = newProducts;
       this.oldQuantityUnitHashMap = oldQuantityUnitHashMap;
       this.newQuantityUnitHashMap = newQuantityUnitHashMap;
-      this.oldUnitConversions = oldUnitConversions;
-      this.newUnitConversions = newUnitConversions;
+      this.oldUnitConversionIndex = oldUnitConversionIndex;
+      this.newUnitConversionIndex = newUnitConversionIndex;
     }
 
     @Override
@@ -280,67 +282,20 @@ public class RecipeEditIngredientListEntryAdapter extends
       if (newItem.getQuantityUnitId() != oldItem.getQuantityUnitId()) {
         return false;
       }
-      if (!newQuantityUnitHashMap.equals(oldQuantityUnitHashMap)
-          || !newUnitConversions.equals(oldUnitConversions)) {
+      if (!newQuantityUnitHashMap.equals(oldQuantityUnitHashMap)) {
         return false;
       }
-
-      return newItem.equals(oldItem);
-    }
-  }
-
-  /**
-   * Custom ListUpdateCallback that prevents RecyclerView from scrolling down if top item is moved.
-   */
-  public static final class AdapterListUpdateCallback implements ListUpdateCallback {
-
-    @NonNull
-    private final RecipeEditIngredientListEntryAdapter mAdapter;
-    private final LinearLayoutManager linearLayoutManager;
-
-    public AdapterListUpdateCallback(
-        @NonNull RecipeEditIngredientListEntryAdapter adapter,
-        LinearLayoutManager linearLayoutManager
-    ) {
-      this.mAdapter = adapter;
-      this.linearLayoutManager = linearLayoutManager;
-    }
-
-    @Override
-    public void onInserted(int position, int count) {
-      mAdapter.notifyItemRangeInserted(position, count);
-    }
-
-    @Override
-    public void onRemoved(int position, int count) {
-      mAdapter.notifyItemRangeRemoved(position, count);
-    }
-
-    @Override
-    public void onMoved(int fromPosition, int toPosition) {
-      // workaround for https://github.com/patzly/grocy-android/issues/439
-      // figure out the position of the first visible item
-      int firstPos = linearLayoutManager.findFirstCompletelyVisibleItemPosition();
-      int offsetTop = 0;
-      if(firstPos >= 0) {
-        View firstView = linearLayoutManager.findViewByPosition(firstPos);
-        if (firstView != null) {
-          offsetTop = linearLayoutManager.getDecoratedTop(firstView)
-              - linearLayoutManager.getTopDecorationHeight(firstView);
-        }
-      }
-
-      mAdapter.notifyItemMoved(fromPosition, toPosition);
-
-      // reapply the saved position
-      if(firstPos >= 0) {
-        linearLayoutManager.scrollToPositionWithOffset(firstPos, offsetTop);
+      QuantityUnitConversionResolved newConversion = newUnitConversionIndex.getConversion(
+          newItemProduct.getId(), newItemProduct.getQuIdStockInt(), newItem.getQuantityUnitId()
+      );
+      QuantityUnitConversionResolved oldConversion = oldUnitConversionIndex.getConversion(
+          oldItemProduct.getId(), oldItemProduct.getQuIdStockInt(), oldItem.getQuantityUnitId()
+      );
+      if (!Objects.equals(newConversion, oldConversion)) {
+        return false;
       }
-    }
 
-    @Override
-    public void onChanged(int position, int count, Object payload) {
-      mAdapter.notifyItemRangeChanged(position, count, payload);
+      return newItem.equals(oldItem);
     }
   }
 }
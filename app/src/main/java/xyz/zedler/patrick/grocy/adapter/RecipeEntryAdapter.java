@@ -32,7 +32,6 @@ import android.widget.ImageView;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.RecyclerView.LayoutManager;
@@ -51,6 +50,7 @@ import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowRecipeEntryBinding;
 import xyz.zedler.patrick.grocy.databinding.RowRecipeEntryGridBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.Recipe;
 import xyz.zedler.patrick.grocy.model.RecipeFulfillment;
 import xyz.zedler.patrick.grocy.model.Userfield;
@@ -61,15 +61,14 @@ import xyz.zedler.patrick.grocy.util.PictureUtil;
 import xyz.zedler.patrick.grocy.viewmodel.RecipesViewModel;
 import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
-public class RecipeEntryAdapter extends
-    RecyclerView.Adapter<RecipeEntryAdapter.ViewHolder> {
+public class RecipeEntryAdapter extends AsyncDiffAdapter<RecipeEntryAdapter.ViewHolder> {
 
   private final static String TAG = RecipeEntryAdapter.class.getSimpleName();
   private final static boolean DEBUG = false;
 
   private final LayoutManager layoutManager;
   private final ArrayList<Recipe> recipes;
-  private final ArrayList<RecipeFulfillment> recipeFulfillments;
+  private final HashMap<Integer, RecipeFulfillment> recipeFulfillmentHashMap;
   private final HashMap<String, Userfield> userfieldHashMap;
   private final RecipesItemAdapterListener listener;
   private final GrocyApi grocyApi;
@@ -86,9 +85,10 @@ public class RecipeEntryAdapter extends
       LayoutManager layoutManager,
       RecipesItemAdapterListener listener
   ) {
+    super(null);
     this.layoutManager = layoutManager;
     this.recipes = new ArrayList<>();
-    this.recipeFulfillments = new ArrayList<>();
+    this.recipeFulfillmentHashMap = new HashMap<>();
     this.userfieldHashMap = new HashMap<>();
     this.listener = listener;
     this.grocyApi = new GrocyApi((Application) context.getApplicationContext());
@@ -102,13 +102,10 @@ public class RecipeEntryAdapter extends
     energyUnit = sharedPrefs.getString(PREF.ENERGY_UNIT, PREF.ENERGY_UNIT_DEFAULT);
   }
 
-  @Override
-  public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
-    super.onDetachedFromRecyclerView(recyclerView);
-  }
-
   public static class ViewHolder extends RecyclerView.ViewHolder {
 
+    private String pictureUrl;
+
     public ViewHolder(View view) {
       super(view);
     }
@@ -160,9 +157,7 @@ public class RecipeEntryAdapter extends
     int position = viewHolder.getAbsoluteAdapterPosition();
 
     Recipe recipe = recipes.get(position);
-    RecipeFulfillment recipeFulfillment = RecipeFulfillment.getRecipeFulfillmentFromRecipeId(
-        recipeFulfillments, recipe.getId()
-    );
+    RecipeFulfillment recipeFulfillment = recipeFulfillmentHashMap.get(recipe.getId());
 
     ViewGroup container;
     TextView title;
@@ -233,21 +228,28 @@ public class RecipeEntryAdapter extends
     String pictureFileName = recipe.getPictureFileName();
     if (activeFields.contains(RecipesViewModel.FIELD_PICTURE)
         && pictureFileName != null && !pictureFileName.isEmpty()) {
-      picture.layout(0, 0, 0, 0);
-
-      PictureUtil.loadPicture(
-          picture,
-          null,
-          picturePlaceholder,
-          grocyApi.getRecipePictureServeSmall(pictureFileName),
-          grocyAuthHeaders,
-          viewHolder instanceof RecipeGridViewHolder
-      );
+      String pictureUrl = grocyApi.getRecipePictureServeSmall(pictureFileName);
+      // changed items are rebound in their own view holder, which already shows the picture
+      if (!pictureUrl.equals(viewHolder.pictureUrl)) {
+        viewHolder.pictureUrl = pictureUrl;
+        picture.layout(0, 0, 0, 0);
+
+        PictureUtil.loadPicture(
+            picture,
+            null,
+            picturePlaceholder,
+            pictureUrl,
+            grocyAuthHeaders,
+            viewHolder instanceof RecipeGridViewHolder
+        );
+      }
     } else if (activeFields.contains(RecipesViewModel.FIELD_PICTURE)
         && containsPictures && viewHolder instanceof RecipeViewHolder) {
+      viewHolder.pictureUrl = null;
       picture.setVisibility(View.GONE);
       picturePlaceholder.setVisibility(View.VISIBLE);
     } else {
+      viewHolder.pictureUrl = null;
       picture.setVisibility(View.GONE);
       if (picturePlaceholder != null) picturePlaceholder.setVisibility(View.GONE);
     }
@@ -259,6 +261,11 @@ public class RecipeEntryAdapter extends
     );
   }
 
+  @Override
+  public long getItemId(int position) {
+    return recipes.get(position).getId();
+  }
+
   @Override
   public int getItemCount() {
     return recipes.size();
@@ -271,18 +278,20 @@ public class RecipeEntryAdapter extends
 
   public void updateData(
       ArrayList<Recipe> newList,
-      ArrayList<RecipeFulfillment> newRecipeFulfillments,
+      HashMap<Integer, RecipeFulfillment> newRecipeFulfillmentHashMap,
       HashMap<String, Userfield> newUserfieldHashMap,
       String sortMode,
       boolean sortAscending,
       List<String> activeFields,
       Runnable onListFilled
   ) {
-    RecipeEntryAdapter.DiffCallback diffCallback = new RecipeEntryAdapter.DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(newList, new DiffCallback(
         this.recipes,
         newList,
-        this.recipeFulfillments,
-        newRecipeFulfillments,
+        this.recipeFulfillmentHashMap,
+        newRecipeFulfillmentHashMap,
         this.userfieldHashMap,
         newUserfieldHashMap,
         this.sortMode,
@@ -291,41 +300,39 @@ public class RecipeEntryAdapter extends
         sortAscending,
         this.activeFields,
         activeFields
-    );
-
-    if (onListFilled != null && !newList.isEmpty() && recipes.isEmpty()) {
-      onListFilled.run();
-    }
+    )), diffedList -> {
+      if (onListFilled != null && !newList.isEmpty() && recipes.isEmpty()) {
+        onListFilled.run();
+      }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.recipes.clear();
-    this.recipes.addAll(newList);
-    this.recipeFulfillments.clear();
-    this.recipeFulfillments.addAll(newRecipeFulfillments);
-    this.userfieldHashMap.clear();
-    this.userfieldHashMap.putAll(newUserfieldHashMap);
-    this.sortMode = sortMode;
-    this.sortAscending = sortAscending;
-    this.activeFields.clear();
-    this.activeFields.addAll(activeFields);
-    diffResult.dispatchUpdatesTo(this);
-
-    containsPictures = false;
-    for (Recipe recipe : recipes) {
-      String pictureFileName = recipe.getPictureFileName();
-      if (pictureFileName != null && !pictureFileName.isEmpty()) {
-        containsPictures = true;
-        break;
+      this.recipes.clear();
+      this.recipes.addAll(newList);
+      this.recipeFulfillmentHashMap.clear();
+      this.recipeFulfillmentHashMap.putAll(newRecipeFulfillmentHashMap);
+      this.userfieldHashMap.clear();
+      this.userfieldHashMap.putAll(newUserfieldHashMap);
+      this.sortMode = sortMode;
+      this.sortAscending = sortAscending;
+      this.activeFields.clear();
+      this.activeFields.addAll(activeFields);
+
+      containsPictures = false;
+      for (Recipe recipe : recipes) {
+        String pictureFileName = recipe.getPictureFileName();
+        if (pictureFileName != null && !pictureFileName.isEmpty()) {
+          containsPictures = true;
+          break;
+        }
       }
-    }
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     ArrayList<Recipe> oldItems;
     ArrayList<Recipe> newItems;
-    ArrayList<RecipeFulfillment> oldRecipeFulfillments;
-    ArrayList<RecipeFulfillment> newRecipeFulfillments;
+    HashMap<Integer, RecipeFulfillment> oldRecipeFulfillmentHashMap;
+    HashMap<Integer, RecipeFulfillment> newRecipeFulfillmentHashMap;
     HashMap<String, Userfield> oldUserfieldHashMap;
     HashMap<String, Userfield> newUserfieldHashMap;
     String sortModeOld;
@@ -338,8 +345,8 @@ public class RecipeEntryAdapter extends
     public DiffCallback(
         ArrayList<Recipe> oldItems,
         ArrayList<Recipe> newItems,
-        ArrayList<RecipeFulfillment> oldRecipeFulfillments,
-        ArrayList<RecipeFulfillment> newRecipeFulfillments,
+        HashMap<Integer, RecipeFulfillment> oldRecipeFulfillmentHashMap,
+        HashMap<Integer, RecipeFulfillment> newRecipeFulfillmentHashMap,
         HashMap<String, Userfield> oldUserfieldHashMap,
         HashMap<String, Userfield> newUserfieldHashMap,
         String sortModeOld,
@@ -351,8 +358,8 @@ public class RecipeEntryAdapter extends
     ) {
       this.oldItems = oldItems;
       this.newItems = newItems;
-      this.oldRecipeFulfillments = oldRecipeFulfillments;
-      this.newRecipeFulfillments = newRecipeFulfillments;
+      this.oldRecipeFulfillmentHashMap = oldRecipeFulfillmentHashMap;
+      this.newRecipeFulfillmentHashMap = newRecipeFulfillmentHashMap;
       this.oldUserfieldHashMap = oldUserfieldHashMap;
       this.newUserfieldHashMap = newUserfieldHashMap;
       this.sortModeOld = sortModeOld;
@@ -397,8 +404,8 @@ public class RecipeEntryAdapter extends
         return false;
       }
 
-      RecipeFulfillment recipeFulfillmentOld = RecipeFulfillment.getRecipeFulfillmentFromRecipeId(oldRecipeFulfillments, oldItem.getId());
-      RecipeFulfillment recipeFulfillmentNew = RecipeFulfillment.getRecipeFulfillmentFromRecipeId(newRecipeFulfillments, newItem.getId());
+      RecipeFulfillment recipeFulfillmentOld = oldRecipeFulfillmentHashMap.get(oldItem.getId());
+      RecipeFulfillment recipeFulfillmentNew = newRecipeFulfillmentHashMap.get(newItem.getId());
       if (recipeFulfillmentOld == null && recipeFulfillmentNew != null
           || recipeFulfillmentOld != null && recipeFulfillmentNew == null
           || recipeFulfillmentOld != null && !recipeFulfillmentOld.equals(recipeFulfillmentNew)) {
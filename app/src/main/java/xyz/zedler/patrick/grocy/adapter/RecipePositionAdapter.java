@@ -30,9 +30,7 @@ import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.core.content.res.ResourcesCompat;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
-import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -42,6 +40,8 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.databinding.RowRecipePositionEntryBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
+import xyz.zedler.patrick.grocy.helper.QuantityUnitConversionIndex;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
@@ -56,17 +56,16 @@ import xyz.zedler.patrick.grocy.util.ResUtil;
 import xyz.zedler.patrick.grocy.util.ViewUtil;
 
 public class RecipePositionAdapter extends
-    RecyclerView.Adapter<RecipePositionAdapter.ViewHolder> {
+    AsyncDiffAdapter<RecipePositionAdapter.ViewHolder> {
 
   private final static String TAG = RecipePositionAdapter.class.getSimpleName();
   private final static boolean DEBUG = false;
 
-  private final LinearLayoutManager linearLayoutManager;
   private Recipe recipe;
   private final List<RecipePosition> recipePositions;
   private final List<Product> products;
   private final List<QuantityUnit> quantityUnits;
-  private final List<QuantityUnitConversionResolved> quantityUnitConversions;
+  private QuantityUnitConversionIndex unitConversionIndex;
   private final HashMap<Integer, StockItem> stockItemHashMap;
   private final List<ShoppingListItem> shoppingListItems;
   private final RecipePositionsItemAdapterListener listener;
@@ -87,16 +86,16 @@ public class RecipePositionAdapter extends
       List<ShoppingListItem> shoppingListItems,
       RecipePositionsItemAdapterListener listener
   ) {
+    super(linearLayoutManager);
     maxDecimalPlacesAmount = PreferenceManager.getDefaultSharedPreferences(context).getInt(
         STOCK.DECIMAL_PLACES_AMOUNT,
         SETTINGS_DEFAULT.STOCK.DECIMAL_PLACES_AMOUNT
     );
-    this.linearLayoutManager = linearLayoutManager;
     this.recipe = recipe;
     this.recipePositions = new ArrayList<>(recipePositions);
     this.products = new ArrayList<>(products);
     this.quantityUnits = new ArrayList<>(quantityUnits);
-    this.quantityUnitConversions = new ArrayList<>(quantityUnitConversions);
+    this.unitConversionIndex = QuantityUnitConversionIndex.get(quantityUnitConversions);
     this.stockItemHashMap = stockItemHashMap != null
         ? new HashMap<>(stockItemHashMap)
         : new HashMap<>();
@@ -111,11 +110,6 @@ public class RecipePositionAdapter extends
     colorRed = ResUtil.getColor(context, R.attr.colorError);
   }
 
-  @Override
-  public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
-    super.onDetachedFromRecyclerView(recyclerView);
-  }
-
   public static class ViewHolder extends RecyclerView.ViewHolder {
 
     public ViewHolder(View view) {
@@ -148,8 +142,7 @@ public class RecipePositionAdapter extends
     for (RecipePosition recipePosition : recipePositions) {
       Product product = Product.getProductFromId(products, recipePosition.getProductId());
       QuantityUnitConversion conversion = product != null
-          ? QuantityUnitConversionResolved.findConversion(
-          quantityUnitConversions,
+          ? unitConversionIndex.getConversion(
           product.getId(),
           product.getQuIdStockInt(),
           recipePosition.getQuantityUnitId()
@@ -189,8 +182,7 @@ public class RecipePositionAdapter extends
         quantityUnits, recipePosition.getQuantityUnitId()
     );
     QuantityUnitConversion conversion = product != null
-        ? QuantityUnitConversionResolved.findConversion(
-            quantityUnitConversions,
+        ? unitConversionIndex.getConversion(
             product.getId(),
             product.getQuIdStockInt(),
             recipePosition.getQuantityUnitId()
@@ -312,6 +304,11 @@ public class RecipePositionAdapter extends
     );
   }
 
+  @Override
+  public long getItemId(int position) {
+    return recipePositions.get(position).getId();
+  }
+
   @Override
   public int getItemCount() {
     return recipePositions.size();
@@ -331,8 +328,12 @@ public class RecipePositionAdapter extends
       HashMap<Integer, StockItem> newStockItemHashMap,
       List<ShoppingListItem> newShoppingListItems
   ) {
-
-    RecipePositionAdapter.DiffCallback diffCallback = new RecipePositionAdapter.DiffCallback(
+    QuantityUnitConversionIndex newUnitConversionIndex = QuantityUnitConversionIndex.get(
+        newQuantityUnitConversions
+    );
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(newList, new DiffCallback(
         this.recipe,
         recipe,
         this.recipePositions,
@@ -341,31 +342,29 @@ public class RecipePositionAdapter extends
         newProducts,
         this.quantityUnits,
         newQuantityUnits,
-        this.quantityUnitConversions,
-        newQuantityUnitConversions,
+        this.unitConversionIndex,
+        newUnitConversionIndex,
         this.stockItemHashMap,
         newStockItemHashMap,
         this.shoppingListItems,
         newShoppingListItems
-    );
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.recipe = recipe;
-    this.recipePositions.clear();
-    this.recipePositions.addAll(newList);
-    this.products.clear();
-    this.products.addAll(newProducts);
-    this.quantityUnits.clear();
-    this.quantityUnits.addAll(newQuantityUnits);
-    this.quantityUnitConversions.clear();
-    this.quantityUnitConversions.addAll(newQuantityUnitConversions);
-    this.stockItemHashMap.clear();
-    this.stockItemHashMap.putAll(newStockItemHashMap);
-    this.shoppingListItems.clear();
-    this.shoppingListItems.addAll(newShoppingListItems);
-    diffResult.dispatchUpdatesTo(new AdapterListUpdateCallback(this, linearLayoutManager));
+    )), diffedList -> {
+      this.recipe = recipe;
+      this.recipePositions.clear();
+      this.recipePositions.addAll(newList);
+      this.products.clear();
+      this.products.addAll(newProducts);
+      this.quantityUnits.clear();
+      this.quantityUnits.addAll(newQuantityUnits);
+      this.unitConversionIndex = newUnitConversionIndex;
+      this.stockItemHashMap.clear();
+      this.stockItemHashMap.putAll(newStockItemHashMap);
+      this.shoppingListItems.clear();
+      this.shoppingListItems.addAll(newShoppingListItems);
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     Recipe oldRecipe;
     Recipe newRecipe;
@@ -375,8 +374,8 @@ public class RecipePositionAdapter extends
     List<Product> newProducts;
     List<QuantityUnit> oldQuantityUnits;
     List<QuantityUnit> newQuantityUnits;
-    List<QuantityUnitConversionResolved> oldQuantityUnitConversions;
-    List<QuantityUnitConversionResolved> newQuantityUnitConversions;
+    QuantityUnitConversionIndex oldUnitConversionIndex;
+    QuantityUnitConversionIndex newUnitConversionIndex;
     HashMap<Integer, StockItem> oldStockItemHashMap;
     HashMap<Integer, StockItem> newStockItemHashMap;
     List<ShoppingListItem> oldShoppingListItems;
@@ -391,8 +390,8 @@ public class RecipePositionAdapter extends
         List<Product> newProducts,
         List<QuantityUnit> oldQuantityUnits,
         List<QuantityUnit> newQuantityUnits,
-        List<QuantityUnitConversionResolved> oldQuantityUnitConversions,
-        List<QuantityUnitConversionResolved> newQuantityUnitConversions,
+        QuantityUnitConversionIndex oldUnitConversionIndex,
+        QuantityUnitConversionIndex newUnitConversionIndex,
         HashMap<Integer, StockItem> oldStockItemHashMap,
         HashMap<Integer, StockItem> newStockItemHashMap,
         List<ShoppingListItem> oldShoppingListItems,
@@ -406,8 +405,8 @@ public class RecipePositionAdapter extends
       this.newProducts = newProducts;
       this.oldQuantityUnits = oldQuantityUnits;
       this.newQuantityUnits = newQuantityUnits;
-      this.oldQuantityUnitConversions = oldQuantityUnitConversions;
-      this.newQuantityUnitConversions = newQuantityUnitConversions;
+      this.oldUnitConversionIndex = oldUnitConversionIndex;
+      this.newUnitConversionIndex = newUnitConversionIndex;
       this.oldStockItemHashMap = oldStockItemHashMap;
       this.newStockItemHashMap = newStockItemHashMap;
       this.oldShoppingListItems = oldShoppingListItems;
@@ -449,15 +448,13 @@ public class RecipePositionAdapter extends
           oldQuantityUnits, oldItem.getQuantityUnitId()
       );
       QuantityUnitConversion newQuantityUnitConversion = newItemProduct != null
-          ? QuantityUnitConversionResolved.findConversion(
-              newQuantityUnitConversions,
+          ? newUnitConversionIndex.getConversion(
               newItemProduct.getId(),
               newItemProduct.getQuIdStockInt(),
               newItem.getQuantityUnitId()
           ) : null;
       QuantityUnitConversion oldQuantityUnitConversion = oldItemProduct != null
-          ? QuantityUnitConversionResolved.findConversion(
-              oldQuantityUnitConversions,
+          ? oldUnitConversionIndex.getConversion(
               oldItemProduct.getId(),
               oldItemProduct.getQuIdStockInt(),
               oldItem.getQuantityUnitId()
@@ -494,59 +491,4 @@ public class RecipePositionAdapter extends
       return newItem.equals(oldItem);
     }
   }
-
-  /**
-   * Custom ListUpdateCallback that prevents RecyclerView from scrolling down if top item is moved.
-   */
-  public static final class AdapterListUpdateCallback implements ListUpdateCallback {
-
-    @NonNull
-    private final RecipePositionAdapter mAdapter;
-    private final LinearLayoutManager linearLayoutManager;
-
-    public AdapterListUpdateCallback(
-        @NonNull RecipePositionAdapter adapter,
-        LinearLayoutManager linearLayoutManager
-    ) {
-      this.mAdapter = adapter;
-      this.linearLayoutManager = linearLayoutManager;
-    }
-
-    @Override
-    public void onInserted(int position, int count) {
-      mAdapter.notifyItemRangeInserted(position, count);
-    }
-
-    @Override
-    public void onRemoved(int position, int count) {
-      mAdapter.notifyItemRangeRemoved(position, count);
-    }
-
-    @Override
-    public void onMoved(int fromPosition, int toPosition) {
-      // workaround for https://github.com/patzly/grocy-android/issues/439
-      // figure out the position of the first visible item
-      int firstPos = linearLayoutManager.findFirstCompletelyVisibleItemPosition();
-      int offsetTop = 0;
-      if(firstPos >= 0) {
-        View firstView = linearLayoutManager.findViewByPosition(firstPos);
-        if (firstView != null) {
-          offsetTop = linearLayoutManager.getDecoratedTop(firstView)
-              - linearLayoutManager.getTopDecorationHeight(firstView);
-        }
-      }
-
-      mAdapter.notifyItemMoved(fromPosition, toPosition);
-
-      // reapply the saved position
-      if(firstPos >= 0) {
-        linearLayoutManager.scrollToPositionWithOffset(firstPos, offsetTop);
-      }
-    }
-
-    @Override
-    public void onChanged(int position, int count, Object payload) {
-      mAdapter.notifyItemRangeChanged(position, count, payload);
-    }
-  }
 }
@@ -31,9 +31,7 @@ import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.core.content.res.ResourcesCompat;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
-import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.chip.Chip;
 import java.util.ArrayList;
@@ -46,6 +44,8 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.databinding.RowRecipePositionEntryBinding;
 import xyz.zedler.patrick.grocy.databinding.RowRecipePositionGroupBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
+import xyz.zedler.patrick.grocy.helper.QuantityUnitConversionIndex;
 import xyz.zedler.patrick.grocy.model.GroupHeader;
 import xyz.zedler.patrick.grocy.model.GroupedListItem;
 import xyz.zedler.patrick.grocy.model.Product;
@@ -62,17 +62,16 @@ import xyz.zedler.patrick.grocy.util.ViewUtil;
 import xyz.zedler.patrick.grocy.viewmodel.RecipeViewModel;
 
 public class RecipePositionResolvedAdapter extends
-    RecyclerView.Adapter<RecipePositionResolvedAdapter.ViewHolder> {
+    AsyncDiffAdapter<RecipePositionResolvedAdapter.ViewHolder> {
 
   private final static String TAG = RecipePositionResolvedAdapter.class.getSimpleName();
   private final static boolean DEBUG = false;
 
-  private final LinearLayoutManager linearLayoutManager;
   private Recipe recipe;
   private final List<GroupedListItem> groupedListItems;
   private final List<Product> products;
   private final List<QuantityUnit> quantityUnits;
-  private final List<QuantityUnitConversionResolved> quantityUnitConversions;
+  private QuantityUnitConversionIndex unitConversionIndex;
   private final List<String> activeFields;
   private final RecipePositionsItemAdapterListener listener;
 
@@ -94,6 +93,7 @@ public class RecipePositionResolvedAdapter extends
       List<String> activeFields,
       RecipePositionsItemAdapterListener listener
   ) {
+    super(linearLayoutManager);
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
     maxDecimalPlacesAmount = sharedPrefs.getInt(
         STOCK.DECIMAL_PLACES_AMOUNT,
@@ -105,12 +105,11 @@ public class RecipePositionResolvedAdapter extends
     );
     energyUnit = sharedPrefs.getString(PREF.ENERGY_UNIT, PREF.ENERGY_UNIT_DEFAULT);
     currency = sharedPrefs.getString(PREF.CURRENCY, "");
-    this.linearLayoutManager = linearLayoutManager;
     this.recipe = recipe;
     this.groupedListItems = getGroupedListItems(context, recipePositions);
     this.products = new ArrayList<>(products);
     this.quantityUnits = new ArrayList<>(quantityUnits);
-    this.quantityUnitConversions = new ArrayList<>(quantityUnitConversions);
+    this.unitConversionIndex = QuantityUnitConversionIndex.get(quantityUnitConversions);
     this.activeFields = new ArrayList<>(activeFields);
     this.listener = listener;
     this.pluralUtil = new PluralUtil(context);
@@ -120,11 +119,6 @@ public class RecipePositionResolvedAdapter extends
     colorRed = ResUtil.getColor(context, R.attr.colorError);
   }
 
-  @Override
-  public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
-    super.onDetachedFromRecyclerView(recyclerView);
-  }
-
   static ArrayList<GroupedListItem> getGroupedListItems(
       Context context,
       List<RecipePositionResolved> recipePositions
@@ -264,8 +258,7 @@ public class RecipePositionResolvedAdapter extends
         quantityUnits, recipePosition.getQuId()
     );
     QuantityUnitConversion conversion = product != null
-        ? QuantityUnitConversionResolved.findConversion(
-            quantityUnitConversions,
+        ? unitConversionIndex.getConversion(
             product.getId(),
             product.getQuIdStockInt(),
             recipePosition.getQuId()
@@ -426,6 +419,15 @@ public class RecipePositionResolvedAdapter extends
     return chip;
   }
 
+  @Override
+  public long getItemId(int position) {
+    GroupedListItem item = groupedListItems.get(position);
+    int type = getItemViewType(position);
+    // headers are only the same item if they are equal, see DiffCallback
+    return getStableId(type, type == GroupedListItem.TYPE_ENTRY
+        ? ((RecipePositionResolved) item).getId() : item.hashCode());
+  }
+
   @Override
   public int getItemCount() {
     return groupedListItems.size();
@@ -448,7 +450,12 @@ public class RecipePositionResolvedAdapter extends
     List<GroupedListItem> groupedListItemsNew = getGroupedListItems(
         context, (ArrayList<RecipePositionResolved>) newList
     );
-    RecipePositionResolvedAdapter.DiffCallback diffCallback = new RecipePositionResolvedAdapter.DiffCallback(
+    QuantityUnitConversionIndex newUnitConversionIndex = QuantityUnitConversionIndex.get(
+        newQuantityUnitConversions
+    );
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(groupedListItemsNew, new DiffCallback(
         this.recipe,
         recipe,
         this.groupedListItems,
@@ -457,27 +464,25 @@ public class RecipePositionResolvedAdapter extends
         newProducts,
         this.quantityUnits,
         newQuantityUnits,
-        this.quantityUnitConversions,
-        newQuantityUnitConversions,
+        this.unitConversionIndex,
+        newUnitConversionIndex,
         this.activeFields,
         newActiveFields
-    );
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.recipe = recipe;
-    this.groupedListItems.clear();
-    this.groupedListItems.addAll(groupedListItemsNew);
-    this.products.clear();
-    this.products.addAll(newProducts);
-    this.quantityUnits.clear();
-    this.quantityUnits.addAll(newQuantityUnits);
-    this.quantityUnitConversions.clear();
-    this.quantityUnitConversions.addAll(newQuantityUnitConversions);
-    this.activeFields.clear();
-    this.activeFields.addAll(newActiveFields);
-    diffResult.dispatchUpdatesTo(new AdapterListUpdateCallback(this, linearLayoutManager));
+    )), diffedList -> {
+      this.recipe = recipe;
+      this.groupedListItems.clear();
+      this.groupedListItems.addAll(groupedListItemsNew);
+      this.products.clear();
+      this.products.addAll(newProducts);
+      this.quantityUnits.clear();
+      this.quantityUnits.addAll(newQuantityUnits);
+      this.unitConversionIndex = newUnitConversionIndex;
+      this.activeFields.clear();
+      this.activeFields.addAll(newActiveFields);
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     Recipe oldRecipe;
     Recipe newRecipe;
@@ -487,8 +492,8 @@ public class RecipePositionResolvedAdapter extends
     List<Product> newProducts;
     List<QuantityUnit> oldQuantityUnits;
     List<QuantityUnit> newQuantityUnits;
-    List<QuantityUnitConversionResolved> oldQuantityUnitConversions;
-    List<QuantityUnitConversionResolved> newQuantityUnitConversions;
+    QuantityUnitConversionIndex oldUnitConversionIndex;
+    QuantityUnitConversionIndex newUnitConversionIndex;
     List<String> oldActiveFields;
     List<String> newActiveFields;
 
@@ -501,8 +506,8 @@ public class RecipePositionResolvedAdapter extends
         List<Product> newProducts,
         List<QuantityUnit> oldQuantityUnits,
         List<QuantityUnit> newQuantityUnits,
-        List<QuantityUnitConversionResolved> oldQuantityUnitConversions,
-        List<QuantityUnitConversionResolved> newQuantityUnitConversions,
+        QuantityUnitConversionIndex oldUnitConversionIndex,
+        QuantityUnitConversionIndex newUnitConversionIndex,
         List<String> oldActiveFields,
         List<String> newActiveFields
     ) {
@@ -514,8 +519,8 @@ public class RecipePositionResolvedAdapter extends
       this.newProducts = newProducts;
       this.oldQuantityUnits = oldQuantityUnits;
       this.newQuantityUnits = newQuantityUnits;
-      this.oldQuantityUnitConversions = oldQuantityUnitConversions;
-      this.newQuantityUnitConversions = newQuantityUnitConversions;
+      this.oldUnitConversionIndex = oldUnitConversionIndex;
+      this.newUnitConversionIndex = newUnitConversionIndex;
       this.oldActiveFields = oldActiveFields;
       this.newActiveFields = newActiveFields;
     }
@@ -567,15 +572,13 @@ public class RecipePositionResolvedAdapter extends
             oldQuantityUnits, oldItem.getQuId()
         );
         QuantityUnitConversion newQuantityUnitConversion = newItemProduct != null
-            ? QuantityUnitConversionResolved.findConversion(
-            newQuantityUnitConversions,
+            ? newUnitConversionIndex.getConversion(
             newItemProduct.getId(),
             newItemProduct.getQuIdStockInt(),
             newItem.getQuId()
         ) : null;
         QuantityUnitConversion oldQuantityUnitConversion = oldItemProduct != null
-            ? QuantityUnitConversionResolved.findConversion(
-            oldQuantityUnitConversions,
+            ? oldUnitConversionIndex.getConversion(
             oldItemProduct.getId(),
             oldItemProduct.getQuIdStockInt(),
             oldItem.getQuId()
@@ -604,59 +607,4 @@ public class RecipePositionResolvedAdapter extends
       }
     }
   }
-
-  /**
-   * Custom ListUpdateCallback that prevents RecyclerView from scrolling down if top item is moved.
-   */
-  public static final class AdapterListUpdateCallback implements ListUpdateCallback {
-
-    @NonNull
-    private final RecipePositionResolvedAdapter mAdapter;
-    private final LinearLayoutManager linearLayoutManager;
-
-    public AdapterListUpdateCallback(
-        @NonNull RecipePositionResolvedAdapter adapter,
-        LinearLayoutManager linearLayoutManager
-    ) {
-      this.mAdapter = adapter;
-      this.linearLayoutManager = linearLayoutManager;
-    }
-
-    @Override
-    public void onInserted(int position, int count) {
-      mAdapter.notifyItemRangeInserted(position, count);
-    }
-
-    @Override
-    public void onRemoved(int position, int count) {
-      mAdapter.notifyItemRangeRemoved(position, count);
-    }
-
-    @Override
-    public void onMoved(int fromPosition, int toPosition) {
-      // workaround for https://github.com/patzly/grocy-android/issues/439
-      // figure out the position of the first visible item
-      int firstPos = linearLayoutManager.findFirstCompletelyVisibleItemPosition();
-      int offsetTop = 0;
-      if(firstPos >= 0) {
-        View firstView = linearLayoutManager.findViewByPosition(firstPos);
-        if (firstView != null) {
-          offsetTop = linearLayoutManager.getDecoratedTop(firstView)
-              - linearLayoutManager.getTopDecorationHeight(firstView);
-        }
-      }
-
-      mAdapter.notifyItemMoved(fromPosition, toPosition);
-
-      // reapply the saved position
-      if(firstPos >= 0) {
-        linearLayoutManager.scrollToPositionWithOffset(firstPos, offsetTop);
-      }
-    }
-
-    @Override
-    public void onChanged(int position, int count, Object payload) {
-      mAdapter.notifyItemRangeChanged(position, count, payload);
-    }
-  }
 }
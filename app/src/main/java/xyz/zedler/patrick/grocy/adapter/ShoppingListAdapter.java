@@ -33,12 +33,14 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.button.MaterialButton;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import xyz.zedler.patrick.grocy.R;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.ShoppingList;
 import xyz.zedler.patrick.grocy.util.ResUtil;
 import xyz.zedler.patrick.grocy.util.ViewUtil;
 
-public class ShoppingListAdapter extends RecyclerView.Adapter<ShoppingListAdapter.ViewHolder> {
+public class ShoppingListAdapter extends AsyncDiffAdapter<ShoppingListAdapter.ViewHolder> {
 
   private final static String TAG = ShoppingListAdapter.class.getSimpleName();
 
@@ -51,6 +53,7 @@ public class ShoppingListAdapter extends RecyclerView.Adapter<ShoppingListAdapte
       ShoppingListAdapterListener listener,
       boolean showActions
   ) {
+    super(null);
     this.shoppingLists = new ArrayList<>();
     this.listener = listener;
     this.showActions = showActions;
@@ -101,6 +104,7 @@ public class ShoppingListAdapter extends RecyclerView.Adapter<ShoppingListAdapte
     if (shoppingList.getId() == selectedId) {
       holder.imageSelected.setVisibility(View.VISIBLE);
       holder.name.setTextColor(ResUtil.getColor(context, R.attr.colorOnSecondaryContainer));
+      holder.container.setOnClickListener(null);
       holder.container.setBackground(ViewUtil.getBgListItemSelected(context));
     } else {
       holder.imageSelected.setVisibility(View.INVISIBLE);
@@ -124,15 +128,78 @@ public class ShoppingListAdapter extends RecyclerView.Adapter<ShoppingListAdapte
   }
 
   public void updateData(List<ShoppingList> shoppingListsNew, Object selectedIdNew) {
-    shoppingLists.clear();
-    shoppingLists.addAll(shoppingListsNew);
-    this.selectedId = selectedIdNew != null ? (Integer) selectedIdNew : -1;
-    notifyDataSetChanged();
+    int selectedIdOld = this.selectedId;
+    int selectedId = selectedIdNew != null ? (Integer) selectedIdNew : -1;
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(shoppingListsNew, new DiffCallback(
+        this.shoppingLists,
+        shoppingListsNew,
+        selectedIdOld,
+        selectedId
+    )), diffedList -> {
+      this.shoppingLists.clear();
+      this.shoppingLists.addAll(shoppingListsNew);
+      this.selectedId = selectedId;
+    });
   }
 
   public void updateSelectedId(Object selectedIdNew) {
+    int selectedIdOld = this.selectedId;
     this.selectedId = selectedIdNew != null ? (Integer) selectedIdNew : -1;
-    notifyDataSetChanged();
+    if (selectedIdOld == selectedId) {
+      return;
+    }
+    // only the rows of the old and the new selection have to be rebound
+    for (int i = 0; i < shoppingLists.size(); i++) {
+      int id = shoppingLists.get(i).getId();
+      if (id == selectedIdOld || id == selectedId) {
+        notifyItemChanged(i, PAYLOAD_CONTENT);
+      }
+    }
+  }
+
+  static class DiffCallback extends ChangePayloadCallback {
+
+    List<ShoppingList> oldItems;
+    List<ShoppingList> newItems;
+    int oldSelectedId;
+    int newSelectedId;
+
+    public DiffCallback(
+        List<ShoppingList> oldItems,
+        List<ShoppingList> newItems,
+        int oldSelectedId,
+        int newSelectedId
+    ) {
+      this.oldItems = oldItems;
+      this.newItems = newItems;
+      this.oldSelectedId = oldSelectedId;
+      this.newSelectedId = newSelectedId;
+    }
+
+    @Override
+    public int getOldListSize() {
+      return oldItems.size();
+    }
+
+    @Override
+    public int getNewListSize() {
+      return newItems.size();
+    }
+
+    @Override
+    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+      return newItems.get(newItemPosition).getId() == oldItems.get(oldItemPosition).getId();
+    }
+
+    @Override
+    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+      ShoppingList newItem = newItems.get(newItemPosition);
+      ShoppingList oldItem = oldItems.get(oldItemPosition);
+      return Objects.equals(newItem.getName(), oldItem.getName())
+          && (newItem.getId() == newSelectedId) == (oldItem.getId() == oldSelectedId);
+    }
   }
 
   @Override
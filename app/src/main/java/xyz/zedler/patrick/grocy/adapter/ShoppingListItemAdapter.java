@@ -34,7 +34,6 @@ import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import com.bumptech.glide.load.model.LazyHeaders;
 import com.google.android.material.chip.Chip;
@@ -50,6 +49,8 @@ import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingListBottomNotesBinding;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingListGroupBinding;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingListItemBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
+import xyz.zedler.patrick.grocy.helper.QuantityUnitConversionIndex;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataGroupingShoppingList;
 import xyz.zedler.patrick.grocy.model.GroupHeader;
 import xyz.zedler.patrick.grocy.model.GroupedListItem;
@@ -73,7 +74,7 @@ import xyz.zedler.patrick.grocy.viewmodel.StockOverviewViewModel;
 import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class ShoppingListItemAdapter extends
-    RecyclerView.Adapter<ShoppingListItemAdapter.ViewHolder> {
+    AsyncDiffAdapter<ShoppingListItemAdapter.ViewHolder> {
 
   private final static String TAG = ShoppingListItemAdapter.class.getSimpleName();
 
@@ -81,7 +82,7 @@ public class ShoppingListItemAdapter extends
   private final HashMap<Integer, Product> productHashMap;
   private final HashMap<Integer, ProductLastPurchased> productLastPurchasedHashMap;
   private final HashMap<Integer, QuantityUnit> quantityUnitHashMap;
-  private final List<QuantityUnitConversionResolved> unitConversions;
+  private QuantityUnitConversionIndex unitConversionIndex;
   private final HashMap<Integer, Double> shoppingListItemAmountsHashMap;
   private final ArrayList<Integer> missingProductIds;
   private final ShoppingListItemAdapterListener listener;
@@ -99,6 +100,7 @@ public class ShoppingListItemAdapter extends
       Context context,
       ShoppingListItemAdapterListener listener
   ) {
+    super(null);
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
     this.maxDecimalPlacesAmount = sharedPrefs.getInt(
         STOCK.DECIMAL_PLACES_AMOUNT,
@@ -114,7 +116,7 @@ public class ShoppingListItemAdapter extends
     this.productHashMap = new HashMap<>();
     this.productLastPurchasedHashMap = new HashMap<>();
     this.quantityUnitHashMap = new HashMap<>();
-    this.unitConversions = new ArrayList<>();
+    this.unitConversionIndex = new QuantityUnitConversionIndex(new ArrayList<>());
     this.shoppingListItemAmountsHashMap = new HashMap<>();
     this.missingProductIds = new ArrayList<>();
     this.listener = listener;
@@ -294,6 +296,7 @@ public class ShoppingListItemAdapter extends
   public static class ShoppingListItemViewHolder extends ViewHolder {
 
     private final RowShoppingListItemBinding binding;
+    private String pictureUrl;
 
     public ShoppingListItemViewHolder(RowShoppingListItemBinding binding) {
       super(binding.getRoot());
@@ -398,7 +401,8 @@ public class ShoppingListItemAdapter extends
     }
 
     ShoppingListItem item = (ShoppingListItem) groupedListItem;
-    RowShoppingListItemBinding binding = ((ShoppingListItemViewHolder) viewHolder).binding;
+    ShoppingListItemViewHolder holder = (ShoppingListItemViewHolder) viewHolder;
+    RowShoppingListItemBinding binding = holder.binding;
 
     Context context = binding.getRoot().getContext();
 
@@ -537,8 +541,7 @@ public class ShoppingListItemAdapter extends
     double conversionFactor = 1.0;
     if ((activeFields.contains(ShoppingListViewModel.FIELD_PRICE_LAST_TOTAL)
         || activeFields.contains(ShoppingListViewModel.FIELD_PRICE_LAST_UNIT)) && product != null) {
-      QuantityUnitConversionResolved c = QuantityUnitConversionResolved.findConversion(
-          unitConversions,
+      QuantityUnitConversionResolved c = unitConversionIndex.getConversion(
           product.getId(),
           item.getQuIdInt(),
           product.getQuIdStockInt()
@@ -586,17 +589,23 @@ public class ShoppingListItemAdapter extends
     String pictureFileName = product != null ? product.getPictureFileName() : null;
     if (activeFields.contains(StockOverviewViewModel.FIELD_PICTURE)
         && pictureFileName != null && !pictureFileName.isEmpty()) {
-      binding.picture.layout(0, 0, 0, 0);
-
-      PictureUtil.loadPicture(
-          binding.picture,
-          null,
-          null,
-          grocyApi.getProductPictureServeSmall(pictureFileName),
-          grocyAuthHeaders,
-          false
-      );
+      String pictureUrl = grocyApi.getProductPictureServeSmall(pictureFileName);
+      // changed items are rebound in their own view holder, which already shows the picture
+      if (!pictureUrl.equals(holder.pictureUrl)) {
+        holder.pictureUrl = pictureUrl;
+        binding.picture.layout(0, 0, 0, 0);
+
+        PictureUtil.loadPicture(
+            binding.picture,
+            null,
+            null,
+            pictureUrl,
+            grocyAuthHeaders,
+            false
+        );
+      }
     } else {
+      holder.pictureUrl = null;
       binding.picture.setVisibility(View.GONE);
     }
 
@@ -620,6 +629,15 @@ public class ShoppingListItemAdapter extends
     return chip;
   }
 
+  @Override
+  public long getItemId(int position) {
+    GroupedListItem groupedListItem = groupedListItems.get(position);
+    int type = getItemViewType(position);
+    // headers and notes are only the same item if they are equal, see DiffCallback
+    return getStableId(type, type == GroupedListItem.TYPE_ENTRY
+        ? ((ShoppingListItem) groupedListItem).getId() : groupedListItem.hashCode());
+  }
+
   @Override
   public int getItemCount() {
     return groupedListItems.size();
@@ -778,57 +796,63 @@ public class ShoppingListItemAdapter extends
       List<String> activeFields,
       Runnable onListFilled
   ) {
-    ArrayList<GroupedListItem> newGroupedListItems = getGroupedListItems(context, shoppingListItems,
-        productGroupHashMap, productHashMap, productNamesHashMap, storeHashMap,
-        productLastPurchasedHashMap, shoppingListItemAmountsHashMap,
-        shoppingListNotes, groupingMode, priceTrackingEnabled, decimalPlacesPriceDisplay, currency);
-    ShoppingListItemAdapter.DiffCallback diffCallback = new ShoppingListItemAdapter.DiffCallback(
-        this.groupedListItems,
-        newGroupedListItems,
-        this.productHashMap,
-        productHashMap,
-        this.productLastPurchasedHashMap,
-        productLastPurchasedHashMap,
-        this.quantityUnitHashMap,
-        quantityUnitHashMap,
-        this.unitConversions,
-        unitConversions,
-        this.shoppingListItemAmountsHashMap,
-        shoppingListItemAmountsHashMap,
-        this.missingProductIds,
-        missingProductIds,
-        this.groupingMode,
-        groupingMode,
-        this.activeFields,
-        activeFields
+    QuantityUnitConversionIndex newUnitConversionIndex = QuantityUnitConversionIndex.get(
+        unitConversions
     );
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> {
+      ArrayList<GroupedListItem> newGroupedListItems = getGroupedListItems(context,
+          shoppingListItems, productGroupHashMap, productHashMap, productNamesHashMap,
+          storeHashMap, productLastPurchasedHashMap, shoppingListItemAmountsHashMap,
+          shoppingListNotes, groupingMode, priceTrackingEnabled, decimalPlacesPriceDisplay,
+          currency);
+      token.throwIfCanceled();
+      return ListPipeline.diff(newGroupedListItems, new DiffCallback(
+          this.groupedListItems,
+          newGroupedListItems,
+          this.productHashMap,
+          productHashMap,
+          this.productLastPurchasedHashMap,
+          productLastPurchasedHashMap,
+          this.quantityUnitHashMap,
+          quantityUnitHashMap,
+          this.unitConversionIndex,
+          newUnitConversionIndex,
+          this.shoppingListItemAmountsHashMap,
+          shoppingListItemAmountsHashMap,
+          this.missingProductIds,
+          missingProductIds,
+          this.groupingMode,
+          groupingMode,
+          this.activeFields,
+          activeFields
+      ));
+    }, diffedList -> {
+      if (onListFilled != null && !diffedList.items.isEmpty() && groupedListItems.isEmpty()) {
+        onListFilled.run();
+      }
 
-    if (onListFilled != null && !newGroupedListItems.isEmpty() && groupedListItems.isEmpty()) {
-      onListFilled.run();
-    }
-
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.groupedListItems.clear();
-    this.groupedListItems.addAll(newGroupedListItems);
-    this.productHashMap.clear();
-    this.productHashMap.putAll(productHashMap);
-    this.quantityUnitHashMap.clear();
-    this.quantityUnitHashMap.putAll(quantityUnitHashMap);
-    this.unitConversions.clear();
-    this.unitConversions.addAll(unitConversions);
-    this.productLastPurchasedHashMap.clear();
-    this.productLastPurchasedHashMap.putAll(productLastPurchasedHashMap);
-    this.shoppingListItemAmountsHashMap.clear();
-    this.shoppingListItemAmountsHashMap.putAll(shoppingListItemAmountsHashMap);
-    this.missingProductIds.clear();
-    this.missingProductIds.addAll(missingProductIds);
-    this.groupingMode = groupingMode;
-    this.activeFields.clear();
-    this.activeFields.addAll(activeFields);
-    diffResult.dispatchUpdatesTo(this);
+      this.groupedListItems.clear();
+      this.groupedListItems.addAll(diffedList.items);
+      this.productHashMap.clear();
+      this.productHashMap.putAll(productHashMap);
+      this.quantityUnitHashMap.clear();
+      this.quantityUnitHashMap.putAll(quantityUnitHashMap);
+      this.unitConversionIndex = newUnitConversionIndex;
+      this.productLastPurchasedHashMap.clear();
+      this.productLastPurchasedHashMap.putAll(productLastPurchasedHashMap);
+      this.shoppingListItemAmountsHashMap.clear();
+      this.shoppingListItemAmountsHashMap.putAll(shoppingListItemAmountsHashMap);
+      this.missingProductIds.clear();
+      this.missingProductIds.addAll(missingProductIds);
+      this.groupingMode = groupingMode;
+      this.activeFields.clear();
+      this.activeFields.addAll(activeFields);
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     ArrayList<GroupedListItem> oldItems;
     ArrayList<GroupedListItem> newItems;
@@ -838,8 +862,8 @@ public class ShoppingListItemAdapter extends
     HashMap<Integer, ProductLastPurchased> productLastPurchasedHashMapNew;
     HashMap<Integer, QuantityUnit> quantityUnitHashMapOld;
     HashMap<Integer, QuantityUnit> quantityUnitHashMapNew;
-    List<QuantityUnitConversionResolved> unitConversionsOld;
-    List<QuantityUnitConversionResolved> unitConversionsNew;
+    QuantityUnitConversionIndex unitConversionIndexOld;
+    QuantityUnitConversionIndex unitConversionIndexNew;
     HashMap<Integer, Double> shoppingListItemAmountsHashMapOld;
     HashMap<Integer, Double> shoppingListItemAmountsHashMapNew;
     ArrayList<Integer> missingProductIdsOld;
@@ -858,8 +882,8 @@ public class ShoppingListItemAdapter extends
         HashMap<Integer, ProductLastPurchased> productLastPurchasedHashMapNew,
         HashMap<Integer, QuantityUnit> quantityUnitHashMapOld,
         HashMap<Integer, QuantityUnit> quantityUnitHashMapNew,
-        List<QuantityUnitConversionResolved> unitConversionsOld,
-        List<QuantityUnitConversionResolved> unitConversionsNew,
+        QuantityUnitConversionIndex unitConversionIndexOld,
+        QuantityUnitConversionIndex unitConversionIndexNew,
         HashMap<Integer, Double> shoppingListItemAmountsHashMapOld,
         HashMap<Integer, Double> shoppingListItemAmountsHashMapNew,
         ArrayList<Integer> missingProductIdsOld,
@@ -877,8 +901,8 @@ public class ShoppingListItemAdapter extends
       this.productLastPurchasedHashMapNew = productLastPurchasedHashMapNew;
       this.quantityUnitHashMapOld = quantityUnitHashMapOld;
       this.quantityUnitHashMapNew = quantityUnitHashMapNew;
-      this.unitConversionsOld = unitConversionsOld;
-      this.unitConversionsNew = unitConversionsNew;
+      this.unitConversionIndexOld = unitConversionIndexOld;
+      this.unitConversionIndexNew = unitConversionIndexNew;
       this.shoppingListItemAmountsHashMapOld = shoppingListItemAmountsHashMapOld;
       this.shoppingListItemAmountsHashMapNew = shoppingListItemAmountsHashMapNew;
       this.missingProductIdsOld = missingProductIdsOld;
@@ -969,14 +993,12 @@ public class ShoppingListItemAdapter extends
           }
 
           if (productOld != null && productNew != null) {
-            QuantityUnitConversionResolved oldCon = QuantityUnitConversionResolved.findConversion(
-                unitConversionsOld,
+            QuantityUnitConversionResolved oldCon = unitConversionIndexOld.getConversion(
                 productOld.getId(),
                 oldItem.getQuIdInt(),
                 productOld.getQuIdStockInt()
             );
-            QuantityUnitConversionResolved newCon = QuantityUnitConversionResolved.findConversion(
-                unitConversionsNew,
+            QuantityUnitConversionResolved newCon = unitConversionIndexNew.getConversion(
                 productNew.getId(),
                 newItem.getQuIdInt(),
                 productNew.getQuIdStockInt()
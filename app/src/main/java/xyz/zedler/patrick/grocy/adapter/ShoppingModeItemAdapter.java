@@ -35,9 +35,7 @@ import android.widget.LinearLayout;
 import android.widget.LinearLayout.LayoutParams;
 import androidx.annotation.NonNull;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
-import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 import com.bumptech.glide.load.model.LazyHeaders;
 import com.google.android.material.chip.Chip;
@@ -54,6 +52,8 @@ import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingModeBottomNotesBinding;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingModeGroupBinding;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingModeItemBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
+import xyz.zedler.patrick.grocy.helper.QuantityUnitConversionIndex;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataGroupingShoppingList;
 import xyz.zedler.patrick.grocy.model.GroupHeader;
 import xyz.zedler.patrick.grocy.model.GroupedListItem;
@@ -77,15 +77,14 @@ import xyz.zedler.patrick.grocy.viewmodel.ShoppingModeViewModel;
 import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class ShoppingModeItemAdapter extends
-    RecyclerView.Adapter<ShoppingModeItemAdapter.ViewHolder> {
+    AsyncDiffAdapter<ShoppingModeItemAdapter.ViewHolder> {
 
   private final Context context;
-  private final LinearLayoutManager linearLayoutManager;
   private final ArrayList<GroupedListItem> groupedListItems;
   private final HashMap<Integer, Product> productHashMap;
   private final HashMap<Integer, ProductLastPurchased> productLastPurchasedHashMap;
   private final HashMap<Integer, QuantityUnit> quantityUnitHashMap;
-  private final List<QuantityUnitConversionResolved> unitConversions;
+  private QuantityUnitConversionIndex unitConversionIndex;
   private final HashMap<Integer, Double> shoppingListItemAmountsHashMap;
   private final ArrayList<Integer> missingProductIds;
   private final ShoppingModeItemClickListener listener;
@@ -106,13 +105,13 @@ public class ShoppingModeItemAdapter extends
       LinearLayoutManager linearLayoutManager,
       ShoppingModeItemClickListener listener
   ) {
+    super(linearLayoutManager);
     this.context = context;
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
-    this.linearLayoutManager = linearLayoutManager;
     this.productHashMap = new HashMap<>();
     this.productLastPurchasedHashMap = new HashMap<>();
     this.quantityUnitHashMap = new HashMap<>();
-    this.unitConversions = new ArrayList<>();
+    this.unitConversionIndex = new QuantityUnitConversionIndex(new ArrayList<>());
     this.shoppingListItemAmountsHashMap = new HashMap<>();
     this.missingProductIds = new ArrayList<>();
     this.activeFields = new ArrayList<>();
@@ -247,6 +246,7 @@ public class ShoppingModeItemAdapter extends
   public static class ShoppingItemViewHolder extends ViewHolder {
 
     private final RowShoppingModeItemBinding binding;
+    private String pictureUrl;
 
     public ShoppingItemViewHolder(RowShoppingModeItemBinding binding) {
       super(binding.getRoot());
@@ -353,7 +353,8 @@ public class ShoppingModeItemAdapter extends
     }
 
     ShoppingListItem item = (ShoppingListItem) groupedListItem;
-    RowShoppingModeItemBinding binding = ((ShoppingItemViewHolder) viewHolder).binding;
+    ShoppingItemViewHolder holder = (ShoppingItemViewHolder) viewHolder;
+    RowShoppingModeItemBinding binding = holder.binding;
 
     if (useSmallerFonts) {
       int dp8 = UiUtil.dpToPx(binding.name.getContext(), 8);
@@ -516,25 +517,30 @@ public class ShoppingModeItemAdapter extends
     String pictureFileName = product != null ? product.getPictureFileName() : null;
     if (activeFields.contains(ShoppingModeViewModel.FIELD_PICTURE)
         && pictureFileName != null && !pictureFileName.isEmpty()) {
-      binding.picture.layout(0, 0, 0, 0);
-
-      PictureUtil.loadPicture(
-          binding.picture,
-          null,
-          null,
-          grocyApi.getProductPictureServeSmall(pictureFileName),
-          grocyAuthHeaders,
-          false
-      );
+      String pictureUrl = grocyApi.getProductPictureServeSmall(pictureFileName);
+      // changed items are rebound in their own view holder, which already shows the picture
+      if (!pictureUrl.equals(holder.pictureUrl)) {
+        holder.pictureUrl = pictureUrl;
+        binding.picture.layout(0, 0, 0, 0);
+
+        PictureUtil.loadPicture(
+            binding.picture,
+            null,
+            null,
+            pictureUrl,
+            grocyAuthHeaders,
+            false
+        );
+      }
     } else {
+      holder.pictureUrl = null;
       binding.picture.setVisibility(View.GONE);
     }
 
     double conversionFactor = 1.0;
     if ((activeFields.contains(ShoppingModeViewModel.FIELD_PRICE_LAST_TOTAL)
         || activeFields.contains(ShoppingModeViewModel.FIELD_PRICE_LAST_UNIT)) && product != null) {
-      QuantityUnitConversionResolved c = QuantityUnitConversionResolved.findConversion(
-          unitConversions,
+      QuantityUnitConversionResolved c = unitConversionIndex.getConversion(
           product.getId(),
           item.getQuIdInt(),
           product.getQuIdStockInt()
@@ -619,56 +625,70 @@ public class ShoppingModeItemAdapter extends
       List<String> activeFields,
       Runnable onListFilled
   ) {
-    ArrayList<GroupedListItem> newGroupedListItems = getGroupedListItems(
-        context, shoppingListItems,
-        productGroupHashMap, productHashMap, productNamesHashMap, storeHashMap,
-        productLastPurchasedHashMap, shoppingListItemAmountsHashMap,
-        shoppingListNotes, groupingMode, priceTrackingEnabled, decimalPlacesPriceDisplay,
-        currency, showDoneItems);
-    ShoppingListItemAdapter.DiffCallback diffCallback = new ShoppingListItemAdapter.DiffCallback(
-        this.groupedListItems,
-        newGroupedListItems,
-        this.productHashMap,
-        productHashMap,
-        this.productLastPurchasedHashMap,
-        productLastPurchasedHashMap,
-        this.quantityUnitHashMap,
-        quantityUnitHashMap,
-        this.unitConversions,
-        unitConversions,
-        this.shoppingListItemAmountsHashMap,
-        shoppingListItemAmountsHashMap,
-        this.missingProductIds,
-        missingProductIds,
-        this.groupingMode,
-        groupingMode,
-        this.activeFields,
-        activeFields
+    QuantityUnitConversionIndex newUnitConversionIndex = QuantityUnitConversionIndex.get(
+        unitConversions
     );
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> {
+      ArrayList<GroupedListItem> newGroupedListItems = getGroupedListItems(
+          context, shoppingListItems,
+          productGroupHashMap, productHashMap, productNamesHashMap, storeHashMap,
+          productLastPurchasedHashMap, shoppingListItemAmountsHashMap,
+          shoppingListNotes, groupingMode, priceTrackingEnabled, decimalPlacesPriceDisplay,
+          currency, showDoneItems);
+      token.throwIfCanceled();
+      return ListPipeline.diff(newGroupedListItems, new ShoppingListItemAdapter.DiffCallback(
+          this.groupedListItems,
+          newGroupedListItems,
+          this.productHashMap,
+          productHashMap,
+          this.productLastPurchasedHashMap,
+          productLastPurchasedHashMap,
+          this.quantityUnitHashMap,
+          quantityUnitHashMap,
+          this.unitConversionIndex,
+          newUnitConversionIndex,
+          this.shoppingListItemAmountsHashMap,
+          shoppingListItemAmountsHashMap,
+          this.missingProductIds,
+          missingProductIds,
+          this.groupingMode,
+          groupingMode,
+          this.activeFields,
+          activeFields
+      ));
+    }, diffedList -> {
+      if (onListFilled != null && !diffedList.items.isEmpty() && groupedListItems.isEmpty()) {
+        onListFilled.run();
+      }
 
-    if (onListFilled != null && !newGroupedListItems.isEmpty() && groupedListItems.isEmpty()) {
-      onListFilled.run();
-    }
+      this.groupedListItems.clear();
+      this.groupedListItems.addAll(diffedList.items);
+      this.productHashMap.clear();
+      this.productHashMap.putAll(productHashMap);
+      this.quantityUnitHashMap.clear();
+      this.quantityUnitHashMap.putAll(quantityUnitHashMap);
+      this.unitConversionIndex = newUnitConversionIndex;
+      this.productLastPurchasedHashMap.clear();
+      this.productLastPurchasedHashMap.putAll(productLastPurchasedHashMap);
+      this.shoppingListItemAmountsHashMap.clear();
+      this.shoppingListItemAmountsHashMap.putAll(shoppingListItemAmountsHashMap);
+      this.missingProductIds.clear();
+      this.missingProductIds.addAll(missingProductIds);
+      this.groupingMode = groupingMode;
+      this.activeFields.clear();
+      this.activeFields.addAll(activeFields);
+    });
+  }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.groupedListItems.clear();
-    this.groupedListItems.addAll(newGroupedListItems);
-    this.productHashMap.clear();
-    this.productHashMap.putAll(productHashMap);
-    this.quantityUnitHashMap.clear();
-    this.quantityUnitHashMap.putAll(quantityUnitHashMap);
-    this.unitConversions.clear();
-    this.unitConversions.addAll(unitConversions);
-    this.productLastPurchasedHashMap.clear();
-    this.productLastPurchasedHashMap.putAll(productLastPurchasedHashMap);
-    this.shoppingListItemAmountsHashMap.clear();
-    this.shoppingListItemAmountsHashMap.putAll(shoppingListItemAmountsHashMap);
-    this.missingProductIds.clear();
-    this.missingProductIds.addAll(missingProductIds);
-    this.groupingMode = groupingMode;
-    this.activeFields.clear();
-    this.activeFields.addAll(activeFields);
-    diffResult.dispatchUpdatesTo(new AdapterListUpdateCallback(this, linearLayoutManager));
+  @Override
+  public long getItemId(int position) {
+    GroupedListItem groupedListItem = groupedListItems.get(position);
+    int type = getItemViewType(position);
+    // headers and notes are only the same item if they are equal, see DiffCallback
+    return getStableId(type, type == GroupedListItem.TYPE_ENTRY
+        ? ((ShoppingListItem) groupedListItem).getId() : groupedListItem.hashCode());
   }
 
   @Override
@@ -680,59 +700,4 @@ public class ShoppingModeItemAdapter extends
 
     void onItemRowClicked(GroupedListItem groupedListItem);
   }
-
-  /**
-   * Custom ListUpdateCallback that prevents RecyclerView from scrolling down if top item is moved.
-   */
-  public static final class AdapterListUpdateCallback implements ListUpdateCallback {
-
-    @NonNull
-    private final ShoppingModeItemAdapter mAdapter;
-    private final LinearLayoutManager linearLayoutManager;
-
-    public AdapterListUpdateCallback(
-        @NonNull ShoppingModeItemAdapter adapter,
-        LinearLayoutManager linearLayoutManager
-    ) {
-      this.mAdapter = adapter;
-      this.linearLayoutManager = linearLayoutManager;
-    }
-
-    @Override
-    public void onInserted(int position, int count) {
-      mAdapter.notifyItemRangeInserted(position, count);
-    }
-
-    @Override
-    public void onRemoved(int position, int count) {
-      mAdapter.notifyItemRangeRemoved(position, count);
-    }
-
-    @Override
-    public void onMoved(int fromPosition, int toPosition) {
-      // workaround for https://github.com/patzly/grocy-android/issues/439
-      // figure out the position of the first visible item
-      int firstPos = linearLayoutManager.findFirstCompletelyVisibleItemPosition();
-      int offsetTop = 0;
-      if(firstPos >= 0) {
-        View firstView = linearLayoutManager.findViewByPosition(firstPos);
-        if (firstView != null) {
-          offsetTop = linearLayoutManager.getDecoratedTop(firstView)
-              - linearLayoutManager.getTopDecorationHeight(firstView);
-        }
-      }
-
-      mAdapter.notifyItemMoved(fromPosition, toPosition);
-
-      // reapply the saved position
-      if(firstPos >= 0) {
-        linearLayoutManager.scrollToPositionWithOffset(firstPos, offsetTop);
-      }
-    }
-
-    @Override
-    public void onChanged(int position, int count, Object payload) {
-      mAdapter.notifyItemRangeChanged(position, count, payload);
-    }
-  }
 }
@@ -29,7 +29,6 @@ import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.core.content.res.ResourcesCompat;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -40,6 +39,7 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingListGroupBinding;
 import xyz.zedler.patrick.grocy.databinding.RowStockEntryBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataGroupingStockEntries;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataGroupingStock;
 import xyz.zedler.patrick.grocy.model.GroupHeader;
@@ -58,8 +58,7 @@ import xyz.zedler.patrick.grocy.util.ResUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
 import xyz.zedler.patrick.grocy.viewmodel.StockOverviewViewModel;
 
-public class StockEntryAdapter extends
-    RecyclerView.Adapter<StockEntryAdapter.ViewHolder> {
+public class StockEntryAdapter extends AsyncDiffAdapter<StockEntryAdapter.ViewHolder> {
 
   private final static String TAG = StockEntryAdapter.class.getSimpleName();
 
@@ -84,6 +83,7 @@ public class StockEntryAdapter extends
       Context context,
       StockEntryAdapterListener listener
   ) {
+    super(null);
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
     this.showDateTracking = sharedPrefs.getBoolean(PREF.FEATURE_STOCK_BBD_TRACKING, true);
     this.currency = sharedPrefs.getString(PREF.CURRENCY, "");
@@ -303,8 +303,8 @@ public class StockEntryAdapter extends
     // BEST BEFORE
 
     String date = stockEntry.getBestBeforeDate();
-    int daysInt = DateUtil.getDaysFromNow(date);
-    String days = date != null ? String.valueOf(DateUtil.getDaysFromNow(date)) : null;
+    int daysInt = DateUtil.getDaysFromNow(stockEntry.getBestBeforeDateEpochDay());
+    String days = date != null ? String.valueOf(daysInt) : null;
     boolean colorDays = false;
 
     if (!showDateTracking) {
@@ -440,6 +440,15 @@ public class StockEntryAdapter extends
     );
   }
 
+  @Override
+  public long getItemId(int position) {
+    GroupedListItem item = groupedListItems.get(position);
+    int type = getItemViewType(position);
+    // headers are only the same item if they are equal, see DiffCallback
+    return getStableId(type, type == GroupedListItem.TYPE_ENTRY
+        ? ((StockEntry) item).getId() : item.hashCode());
+  }
+
   @Override
   public int getItemCount() {
     return groupedListItems.size();
@@ -473,7 +482,9 @@ public class StockEntryAdapter extends
     ArrayList<GroupedListItem> newGroupedListItems = getGroupedListItems(context, newList,
         productHashMap, locationHashMap, storeHashMap, this.currency, this.dateUtil,
         sortMode, sortAscending, groupingMode);
-    StockEntryAdapter.DiffCallback diffCallback = new StockEntryAdapter.DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(newGroupedListItems, new DiffCallback(
         this.groupedListItems,
         newGroupedListItems,
         this.productHashMap,
@@ -490,30 +501,28 @@ public class StockEntryAdapter extends
         sortAscending,
         this.groupingMode,
         groupingMode
-    );
-
-    if (onListFilled != null && !newGroupedListItems.isEmpty() && groupedListItems.isEmpty()) {
-      onListFilled.run();
-    }
+    )), diffedList -> {
+      if (onListFilled != null && !newGroupedListItems.isEmpty() && groupedListItems.isEmpty()) {
+        onListFilled.run();
+      }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.groupedListItems.clear();
-    this.groupedListItems.addAll(newGroupedListItems);
-    this.productHashMap.clear();
-    this.productHashMap.putAll(productHashMap);
-    this.quantityUnitHashMap.clear();
-    this.quantityUnitHashMap.putAll(quantityUnitHashMap);
-    this.locationHashMap.clear();
-    this.locationHashMap.putAll(locationHashMap);
-    this.storeHashMap.clear();
-    this.storeHashMap.putAll(storeHashMap);
-    this.sortMode = sortMode;
-    this.sortAscending = sortAscending;
-    this.groupingMode = groupingMode;
-    diffResult.dispatchUpdatesTo(this);
+      this.groupedListItems.clear();
+      this.groupedListItems.addAll(newGroupedListItems);
+      this.productHashMap.clear();
+      this.productHashMap.putAll(productHashMap);
+      this.quantityUnitHashMap.clear();
+      this.quantityUnitHashMap.putAll(quantityUnitHashMap);
+      this.locationHashMap.clear();
+      this.locationHashMap.putAll(locationHashMap);
+      this.storeHashMap.clear();
+      this.storeHashMap.putAll(storeHashMap);
+      this.sortMode = sortMode;
+      this.sortAscending = sortAscending;
+      this.groupingMode = groupingMode;
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     ArrayList<GroupedListItem> oldItems;
     ArrayList<GroupedListItem> newItems;
@@ -604,7 +613,7 @@ public class StockEntryAdapter extends
         StockEntry newEntry = (StockEntry) newItems.get(newItemPos);
         StockEntry oldEntry = (StockEntry) oldItems.get(oldItemPos);
         if (!compareContent) {
-          return newEntry.getProductId() == oldEntry.getProductId();
+          return newEntry.getId() == oldEntry.getId();
         }
         Product productNew = productHashMapNew.get(newEntry.getProductId());
         Product productOld = productHashMapOld.get(oldEntry.getProductId());
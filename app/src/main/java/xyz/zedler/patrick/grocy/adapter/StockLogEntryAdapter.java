@@ -262,9 +262,18 @@ public class StockLogEntryAdapter extends
   public abstract static class PaginationScrollListener extends RecyclerView.OnScrollListener {
 
     private final LinearLayoutManager layoutManager;
+    private final int prefetchDistance;
 
     public PaginationScrollListener(LinearLayoutManager layoutManager) {
+      this(layoutManager, 0);
+    }
+
+    /**
+     * @param prefetchDistance number of items before the end at which more items are loaded
+     */
+    public PaginationScrollListener(LinearLayoutManager layoutManager, int prefetchDistance) {
       this.layoutManager = layoutManager;
+      this.prefetchDistance = prefetchDistance;
     }
 
     @Override
@@ -276,7 +285,7 @@ public class StockLogEntryAdapter extends
       int firstVisibleItemPosition = layoutManager.findFirstVisibleItemPosition();
 
       if (!isLoading() && !isLastPage()) {
-        if ((visibleItemCount + firstVisibleItemPosition) >= totalItemCount
+        if ((visibleItemCount + firstVisibleItemPosition) >= totalItemCount - prefetchDistance
             && firstVisibleItemPosition >= 0) {
           loadMoreItems();
         }
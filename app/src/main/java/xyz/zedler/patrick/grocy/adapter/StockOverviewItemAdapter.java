@@ -30,7 +30,6 @@ import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.preference.PreferenceManager;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import com.bumptech.glide.load.model.LazyHeaders;
 import com.google.android.material.chip.Chip;
@@ -45,6 +44,8 @@ import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.databinding.RowShoppingListGroupBinding;
 import xyz.zedler.patrick.grocy.databinding.RowStockItemBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
+import xyz.zedler.patrick.grocy.helper.QuantityUnitConversionIndex;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataGroupingStock;
 import xyz.zedler.patrick.grocy.model.GroupHeader;
 import xyz.zedler.patrick.grocy.model.GroupedListItem;
@@ -68,14 +69,14 @@ import xyz.zedler.patrick.grocy.viewmodel.StockOverviewViewModel;
 import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class StockOverviewItemAdapter extends
-    RecyclerView.Adapter<StockOverviewItemAdapter.ViewHolder> {
+    AsyncDiffAdapter<StockOverviewItemAdapter.ViewHolder> {
 
   private final static String TAG = StockOverviewItemAdapter.class.getSimpleName();
 
   private final ArrayList<GroupedListItem> groupedListItems;
   private final ArrayList<String> shoppingListItemsProductIds;
   private final HashMap<Integer, QuantityUnit> quantityUnitHashMap;
-  private final List<QuantityUnitConversionResolved> quantityUnitConversions;
+  private QuantityUnitConversionIndex unitConversionIndex;
   private final HashMap<Integer, String> productAveragePriceHashMap;
   private final HashMap<Integer, ProductLastPurchased> productLastPurchasedHashMap;
   private final PluralUtil pluralUtil;
@@ -106,9 +107,10 @@ public class StockOverviewItemAdapter extends
       int daysExpiringSoon,
       String currency
   ) {
+    super(null);
     this.shoppingListItemsProductIds = new ArrayList<>();
     this.quantityUnitHashMap = new HashMap<>();
-    this.quantityUnitConversions = new ArrayList<>();
+    this.unitConversionIndex = new QuantityUnitConversionIndex(new ArrayList<>());
     this.productAveragePriceHashMap = new HashMap<>();
     this.productLastPurchasedHashMap = new HashMap<>();
     this.pluralUtil = new PluralUtil(context);
@@ -282,6 +284,7 @@ public class StockOverviewItemAdapter extends
   public static class StockItemViewHolder extends ViewHolder {
 
     private final RowStockItemBinding binding;
+    private String pictureUrl;
 
     public StockItemViewHolder(RowStockItemBinding binding) {
       super(binding.getRoot());
@@ -405,7 +408,7 @@ public class StockOverviewItemAdapter extends
     String date = stockItem.getBestBeforeDate();
     String days = null;
     if (date != null) {
-      days = String.valueOf(DateUtil.getDaysFromNow(date));
+      days = String.valueOf(DateUtil.getDaysFromNow(stockItem.getBestBeforeDateEpochDay()));
     }
 
     if (activeFields.contains(StockOverviewViewModel.FIELD_DUE_DATE) && showDateTracking
@@ -466,8 +469,7 @@ public class StockOverviewItemAdapter extends
       holder.binding.flexboxLayout.addView(chipValue);
     }
     double factorPriceToStock = 1.0;
-    QuantityUnitConversionResolved c = QuantityUnitConversionResolved.findConversion(
-            quantityUnitConversions,
+    QuantityUnitConversionResolved c = unitConversionIndex.getConversion(
             stockItem.getProduct().getId(),
             stockItem.getProduct().getQuIdPriceInt(),
             stockItem.getProduct().getQuIdStockInt()
@@ -523,20 +525,27 @@ public class StockOverviewItemAdapter extends
     String pictureFileName = stockItem.getProduct().getPictureFileName();
     if (activeFields.contains(StockOverviewViewModel.FIELD_PICTURE)
         && pictureFileName != null && !pictureFileName.isEmpty()) {
-      holder.binding.picture.layout(0, 0, 0, 0);
-
-      PictureUtil.loadPicture(
-          holder.binding.picture,
-          null,
-          holder.binding.picturePlaceholder,
-          grocyApi.getProductPictureServeSmall(pictureFileName),
-          grocyAuthHeaders,
-          false
-      );
+      String pictureUrl = grocyApi.getProductPictureServeSmall(pictureFileName);
+      // changed items are rebound in their own view holder, which already shows the picture
+      if (!pictureUrl.equals(holder.pictureUrl)) {
+        holder.pictureUrl = pictureUrl;
+        holder.binding.picture.layout(0, 0, 0, 0);
+
+        PictureUtil.loadPicture(
+            holder.binding.picture,
+            null,
+            holder.binding.picturePlaceholder,
+            pictureUrl,
+            grocyAuthHeaders,
+            false
+        );
+      }
     } else if (activeFields.contains(StockOverviewViewModel.FIELD_PICTURE) && containsPictures) {
+      holder.pictureUrl = null;
       holder.binding.picture.setVisibility(View.GONE);
       holder.binding.picturePlaceholder.setVisibility(View.VISIBLE);
     } else {
+      holder.pictureUrl = null;
       holder.binding.picture.setVisibility(View.GONE);
       holder.binding.picturePlaceholder.setVisibility(View.GONE);
     }
@@ -560,6 +569,14 @@ public class StockOverviewItemAdapter extends
     return chip;
   }
 
+  @Override
+  public long getItemId(int position) {
+    GroupedListItem groupedListItem = groupedListItems.get(position);
+    int type = getItemViewType(position);
+    return getStableId(type, type == GroupedListItem.TYPE_ENTRY
+        ? ((StockItem) groupedListItem).getProductId() : groupedListItem.hashCode());
+  }
+
   @Override
   public int getItemCount() {
     return groupedListItems.size();
@@ -597,77 +614,82 @@ public class StockOverviewItemAdapter extends
       List<String> activeFields,
       Runnable onListFilled
   ) {
-    ArrayList<GroupedListItem> newGroupedListItems = getGroupedListItems(context, newList,
-        productGroupHashMap, productHashMap, locationHashMap, userfieldHashMap, this.currency,
-        this.dateUtil, sortMode, sortAscending, groupingMode, maxDecimalPlacesAmount,
-        decimalPlacesPriceDisplay);
-    StockOverviewItemAdapter.DiffCallback diffCallback = new StockOverviewItemAdapter.DiffCallback(
-        this.groupedListItems,
-        newGroupedListItems,
-        this.shoppingListItemsProductIds,
-        shoppingListItemsProductIds,
-        this.quantityUnitHashMap,
-        quantityUnitHashMap,
-        this.quantityUnitConversions,
-        quantityUnitConversions,
-        this.productAveragePriceHashMap,
-        productAveragePriceHashMap,
-        this.productLastPurchasedHashMap,
-        productLastPurchasedHashMap,
-        this.missingItemsProductIds,
-        missingItemsProductIds,
-        this.userfieldHashMap,
-        userfieldHashMap,
-        this.sortMode,
-        sortMode,
-        this.sortAscending,
-        sortAscending,
-        this.groupingMode,
-        groupingMode,
-        this.activeFields,
-        activeFields
+    QuantityUnitConversionIndex newUnitConversionIndex = QuantityUnitConversionIndex.get(
+        quantityUnitConversions
     );
-
-    containsPictures = false;
-    for (StockItem stockItem : newList) {
-      if (stockItem.getProduct() == null) continue;
-      String pictureFileName = stockItem.getProduct().getPictureFileName();
-      if (pictureFileName != null && !pictureFileName.isEmpty()) {
-        containsPictures = true;
-        break;
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> {
+      ArrayList<GroupedListItem> newGroupedListItems = getGroupedListItems(context, newList,
+          productGroupHashMap, productHashMap, locationHashMap, userfieldHashMap, this.currency,
+          this.dateUtil, sortMode, sortAscending, groupingMode, maxDecimalPlacesAmount,
+          decimalPlacesPriceDisplay);
+      token.throwIfCanceled();
+      return ListPipeline.diff(newGroupedListItems, new DiffCallback(
+          this.groupedListItems,
+          newGroupedListItems,
+          this.shoppingListItemsProductIds,
+          shoppingListItemsProductIds,
+          this.quantityUnitHashMap,
+          quantityUnitHashMap,
+          this.unitConversionIndex,
+          newUnitConversionIndex,
+          this.productAveragePriceHashMap,
+          productAveragePriceHashMap,
+          this.productLastPurchasedHashMap,
+          productLastPurchasedHashMap,
+          this.missingItemsProductIds,
+          missingItemsProductIds,
+          this.userfieldHashMap,
+          userfieldHashMap,
+          this.sortMode,
+          sortMode,
+          this.sortAscending,
+          sortAscending,
+          this.groupingMode,
+          groupingMode,
+          this.activeFields,
+          activeFields
+      ));
+    }, diffedList -> {
+      containsPictures = false;
+      for (StockItem stockItem : newList) {
+        if (stockItem.getProduct() == null) continue;
+        String pictureFileName = stockItem.getProduct().getPictureFileName();
+        if (pictureFileName != null && !pictureFileName.isEmpty()) {
+          containsPictures = true;
+          break;
+        }
       }
-    }
 
-    if (onListFilled != null && !newGroupedListItems.isEmpty() && groupedListItems.isEmpty()) {
-      onListFilled.run();
-    }
+      if (onListFilled != null && !diffedList.items.isEmpty() && groupedListItems.isEmpty()) {
+        onListFilled.run();
+      }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.groupedListItems.clear();
-    this.groupedListItems.addAll(newGroupedListItems);
-    this.shoppingListItemsProductIds.clear();
-    this.shoppingListItemsProductIds.addAll(shoppingListItemsProductIds);
-    this.quantityUnitHashMap.clear();
-    this.quantityUnitHashMap.putAll(quantityUnitHashMap);
-    this.quantityUnitConversions.clear();
-    this.quantityUnitConversions.addAll(quantityUnitConversions);
-    this.productAveragePriceHashMap.clear();
-    this.productAveragePriceHashMap.putAll(productAveragePriceHashMap);
-    this.productLastPurchasedHashMap.clear();
-    this.productLastPurchasedHashMap.putAll(productLastPurchasedHashMap);
-    this.missingItemsProductIds.clear();
-    this.missingItemsProductIds.addAll(missingItemsProductIds);
-    this.userfieldHashMap.clear();
-    this.userfieldHashMap.putAll(userfieldHashMap);
-    this.sortMode = sortMode;
-    this.sortAscending = sortAscending;
-    this.groupingMode = groupingMode;
-    this.activeFields.clear();
-    this.activeFields.addAll(activeFields);
-    diffResult.dispatchUpdatesTo(this);
+      this.groupedListItems.clear();
+      this.groupedListItems.addAll(diffedList.items);
+      this.shoppingListItemsProductIds.clear();
+      this.shoppingListItemsProductIds.addAll(shoppingListItemsProductIds);
+      this.quantityUnitHashMap.clear();
+      this.quantityUnitHashMap.putAll(quantityUnitHashMap);
+      this.unitConversionIndex = newUnitConversionIndex;
+      this.productAveragePriceHashMap.clear();
+      this.productAveragePriceHashMap.putAll(productAveragePriceHashMap);
+      this.productLastPurchasedHashMap.clear();
+      this.productLastPurchasedHashMap.putAll(productLastPurchasedHashMap);
+      this.missingItemsProductIds.clear();
+      this.missingItemsProductIds.addAll(missingItemsProductIds);
+      this.userfieldHashMap.clear();
+      this.userfieldHashMap.putAll(userfieldHashMap);
+      this.sortMode = sortMode;
+      this.sortAscending = sortAscending;
+      this.groupingMode = groupingMode;
+      this.activeFields.clear();
+      this.activeFields.addAll(activeFields);
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     ArrayList<GroupedListItem> oldItems;
     ArrayList<GroupedListItem> newItems;
@@ -675,8 +697,8 @@ public class StockOverviewItemAdapter extends
     ArrayList<String> shoppingListItemsProductIdsNew;
     HashMap<Integer, QuantityUnit> quantityUnitHashMapOld;
     HashMap<Integer, QuantityUnit> quantityUnitHashMapNew;
-    List<QuantityUnitConversionResolved> unitConversionsOld;
-    List<QuantityUnitConversionResolved> unitConversionsNew;
+    QuantityUnitConversionIndex unitConversionIndexOld;
+    QuantityUnitConversionIndex unitConversionIndexNew;
     HashMap<Integer, String> productAveragePriceHashMapOld;
     HashMap<Integer, String> productAveragePriceHashMapNew;
     HashMap<Integer, ProductLastPurchased> productLastPurchasedHashMapOld;
@@ -701,8 +723,8 @@ public class StockOverviewItemAdapter extends
         ArrayList<String> shoppingListItemsProductIdsNew,
         HashMap<Integer, QuantityUnit> quantityUnitHashMapOld,
         HashMap<Integer, QuantityUnit> quantityUnitHashMapNew,
-        List<QuantityUnitConversionResolved> unitConversionsOld,
-        List<QuantityUnitConversionResolved> unitConversionsNew,
+        QuantityUnitConversionIndex unitConversionIndexOld,
+        QuantityUnitConversionIndex unitConversionIndexNew,
         HashMap<Integer, String> productAveragePriceHashMapOld,
         HashMap<Integer, String> productAveragePriceHashMapNew,
         HashMap<Integer, ProductLastPurchased> productLastPurchasedHashMapOld,
@@ -726,8 +748,8 @@ public class StockOverviewItemAdapter extends
       this.shoppingListItemsProductIdsNew = shoppingListItemsProductIdsNew;
       this.quantityUnitHashMapOld = quantityUnitHashMapOld;
       this.quantityUnitHashMapNew = quantityUnitHashMapNew;
-      this.unitConversionsOld = unitConversionsOld;
-      this.unitConversionsNew = unitConversionsNew;
+      this.unitConversionIndexOld = unitConversionIndexOld;
+      this.unitConversionIndexNew = unitConversionIndexNew;
       this.productAveragePriceHashMapOld = productAveragePriceHashMapOld;
       this.productAveragePriceHashMapNew = productAveragePriceHashMapNew;
       this.productLastPurchasedHashMapOld = productLastPurchasedHashMapOld;
@@ -834,14 +856,12 @@ public class StockOverviewItemAdapter extends
           return false;
         }
 
-        QuantityUnitConversionResolved oldCon = QuantityUnitConversionResolved.findConversion(
-                unitConversionsOld,
+        QuantityUnitConversionResolved oldCon = unitConversionIndexOld.getConversion(
                 oldItem.getProductId(),
                 oldItem.getProduct().getQuIdPriceInt(),
                 oldItem.getProduct().getQuIdStockInt()
         );
-        QuantityUnitConversionResolved newCon = QuantityUnitConversionResolved.findConversion(
-                unitConversionsNew,
+        QuantityUnitConversionResolved newCon = unitConversionIndexNew.getConversion(
                 newItem.getProductId(),
                 newItem.getProduct().getQuIdPriceInt(),
                 newItem.getProduct().getQuIdStockInt()
@@ -29,14 +29,13 @@ import android.view.View;
 import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 import androidx.core.content.res.ResourcesCompat;
-import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
-import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 import java.util.ArrayList;
 import java.util.HashMap;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.databinding.RowTaskEntryBinding;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
 import xyz.zedler.patrick.grocy.model.Task;
 import xyz.zedler.patrick.grocy.model.TaskCategory;
 import xyz.zedler.patrick.grocy.model.User;
@@ -44,13 +43,11 @@ import xyz.zedler.patrick.grocy.util.DateUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.ResUtil;
 
-public class TaskEntryAdapter extends
-    RecyclerView.Adapter<TaskEntryAdapter.ViewHolder> {
+public class TaskEntryAdapter extends AsyncDiffAdapter<TaskEntryAdapter.ViewHolder> {
 
   private final static String TAG = TaskEntryAdapter.class.getSimpleName();
   private final static boolean DEBUG = false;
 
-  private final LinearLayoutManager linearLayoutManager;
   private final ArrayList<Task> tasks;
   private final HashMap<Integer, TaskCategory> taskCategoriesHashMap;
   private final HashMap<Integer, User> usersHashMap;
@@ -63,18 +60,13 @@ public class TaskEntryAdapter extends
       LinearLayoutManager linearLayoutManager,
       TasksItemAdapterListener listener
   ) {
-    this.linearLayoutManager = linearLayoutManager;
+    super(linearLayoutManager);
     this.tasks = new ArrayList<>();
     this.taskCategoriesHashMap = new HashMap<>();
     this.usersHashMap = new HashMap<>();
     this.listener = listener;
   }
 
-  @Override
-  public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
-    super.onDetachedFromRecyclerView(recyclerView);
-  }
-
   public static class ViewHolder extends RecyclerView.ViewHolder {
 
     public ViewHolder(View view) {
@@ -133,7 +125,7 @@ public class TaskEntryAdapter extends
     Integer days = null;
     boolean colorDays = false;
     if (date != null && !date.isEmpty()) {
-      days = DateUtil.getDaysFromNow(date);
+      days = DateUtil.getDaysFromNow(task.getDueDateEpochDay());
     }
 
     if (days != null && !task.isDone()) {
@@ -207,6 +199,11 @@ public class TaskEntryAdapter extends
     );
   }
 
+  @Override
+  public long getItemId(int position) {
+    return tasks.get(position).getId();
+  }
+
   @Override
   public int getItemCount() {
     return tasks.size();
@@ -232,7 +229,9 @@ public class TaskEntryAdapter extends
       boolean sortAscending,
       Runnable onListFilled
   ) {
-    TaskEntryAdapter.DiffCallback diffCallback = new TaskEntryAdapter.DiffCallback(
+    // the old state is only changed when a result is applied, which happens on the main thread
+    // after the background stage of the latest run has finished
+    submitDiff(token -> ListPipeline.diff(newList, new DiffCallback(
         this.tasks,
         newList,
         this.taskCategoriesHashMap,
@@ -243,25 +242,23 @@ public class TaskEntryAdapter extends
         sortMode,
         this.sortAscending,
         sortAscending
-    );
-
-    if (onListFilled != null && !newList.isEmpty() && tasks.isEmpty()) {
-      onListFilled.run();
-    }
+    )), diffedList -> {
+      if (onListFilled != null && !newList.isEmpty() && tasks.isEmpty()) {
+        onListFilled.run();
+      }
 
-    DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback);
-    this.tasks.clear();
-    this.tasks.addAll(newList);
-    this.taskCategoriesHashMap.clear();
-    this.taskCategoriesHashMap.putAll(taskCategoriesHashMap);
-    this.usersHashMap.clear();
-    this.usersHashMap.putAll(usersHashMap);
-    this.sortMode = sortMode;
-    this.sortAscending = sortAscending;
-    diffResult.dispatchUpdatesTo(new AdapterListUpdateCallback(this, linearLayoutManager));
+      this.tasks.clear();
+      this.tasks.addAll(newList);
+      this.taskCategoriesHashMap.clear();
+      this.taskCategoriesHashMap.putAll(taskCategoriesHashMap);
+      this.usersHashMap.clear();
+      this.usersHashMap.putAll(usersHashMap);
+      this.sortMode = sortMode;
+      this.sortAscending = sortAscending;
+    });
   }
 
-  static class DiffCallback extends DiffUtil.Callback {
+  static class DiffCallback extends ChangePayloadCallback {
 
     ArrayList<Task> oldItems;
     ArrayList<Task> newItems;
@@ -349,59 +346,4 @@ public class TaskEntryAdapter extends
       return newItem.equals(oldItem);
     }
   }
-
-  /**
-   * Custom ListUpdateCallback that prevents RecyclerView from scrolling down if top item is moved.
-   */
-  public static final class AdapterListUpdateCallback implements ListUpdateCallback {
-
-    @NonNull
-    private final TaskEntryAdapter mAdapter;
-    private final LinearLayoutManager linearLayoutManager;
-
-    public AdapterListUpdateCallback(
-        @NonNull TaskEntryAdapter adapter,
-        LinearLayoutManager linearLayoutManager
-    ) {
-      this.mAdapter = adapter;
-      this.linearLayoutManager = linearLayoutManager;
-    }
-
-    @Override
-    public void onInserted(int position, int count) {
-      mAdapter.notifyItemRangeInserted(position, count);
-    }
-
-    @Override
-    public void onRemoved(int position, int count) {
-      mAdapter.notifyItemRangeRemoved(position, count);
-    }
-
-    @Override
-    public void onMoved(int fromPosition, int toPosition) {
-      // workaround for https://github.com/patzly/grocy-android/issues/439
-      // figure out the position of the first visible item
-      int firstPos = linearLayoutManager.findFirstCompletelyVisibleItemPosition();
-      int offsetTop = 0;
-      if(firstPos >= 0) {
-        View firstView = linearLayoutManager.findViewByPosition(firstPos);
-        if (firstView != null) {
-          offsetTop = linearLayoutManager.getDecoratedTop(firstView)
-              - linearLayoutManager.getTopDecorationHeight(firstView);
-        }
-      }
-
-      mAdapter.notifyItemMoved(fromPosition, toPosition);
-
-      // reapply the saved position
-      if(firstPos >= 0) {
-        linearLayoutManager.scrollToPositionWithOffset(firstPos, offsetTop);
-      }
-    }
-
-    @Override
-    public void onChanged(int position, int count, Object payload) {
-      mAdapter.notifyItemRangeChanged(position, count, payload);
-    }
-  }
 }
@@ -324,6 +324,36 @@ public class GrocyApi {
     }
   }
 
+  /**
+   * Returns the newest journal entries which are older than the entry with beforeId
+   */
+  public String getStockLogEntriesBefore(int limit, int beforeId) {
+    return getUrl(
+        "/objects/stock_log",
+        "query%5B%5D=id%3C" + beforeId,
+        "limit=" + limit,
+        "order=id%3Adesc"
+    );
+  }
+
+  public String getStockLogEntriesForTransaction(String transactionId) {
+    return getUrl(
+        "/objects/stock_log",
+        "query%5B%5D=transaction_id%3D" + transactionId
+    );
+  }
+
+  /**
+   * Returns the journal entries which were undone at or after the given server timestamp
+   */
+  public String getStockLogEntriesUndoneSince(String timestamp) {
+    return getUrl(
+        "/objects/stock_log",
+        "query%5B%5D=undone_timestamp%3E%3D"
+            + timestamp.replace(" ", "%20").replace(":", "%3A")
+    );
+  }
+
   /**
    * Returns all products which are currently in stock incl. the next due date per product
    */
@@ -487,6 +517,17 @@ public class GrocyApi {
     return getObjects(ENTITY.RECIPES_NESTINGS);
   }
 
+  /**
+   * Returns the meal plan entries from firstDay to lastDay, both in format yyyy-MM-dd
+   */
+  public String getMealPlanEntries(String firstDay, String lastDay) {
+    return getObjects(
+        ENTITY.MEAL_PLAN,
+        new COMPARISON("day", COMPARISON_OPERATOR.GREATER_OR_EQUAL, firstDay),
+        new COMPARISON("day", COMPARISON_OPERATOR.LESS_OR_EQUAL, lastDay)
+    );
+  }
+
   public String consumeRecipe(int recipeId) {
     return getUrl("/recipes/" + recipeId + "/consume");
   }
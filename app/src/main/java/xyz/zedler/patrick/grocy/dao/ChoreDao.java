@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.Chore;
@@ -40,4 +41,16 @@ public interface ChoreDao {
   @Query("DELETE FROM chore_table")
   Single<Integer> deleteChores();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<Chore> chores);
+
+  @Query("DELETE FROM chore_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<Chore> chores) {
+    deleteAll();
+    insertAll(chores);
+  }
+
 }
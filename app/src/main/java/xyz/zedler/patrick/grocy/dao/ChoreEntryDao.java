@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.ChoreEntry;
@@ -40,4 +41,16 @@ public interface ChoreEntryDao {
   @Query("DELETE FROM chore_entry_table")
   Single<Integer> deleteChoreEntries();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<ChoreEntry> choreEntries);
+
+  @Query("DELETE FROM chore_entry_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<ChoreEntry> choreEntries) {
+    deleteAll();
+    insertAll(choreEntries);
+  }
+
 }
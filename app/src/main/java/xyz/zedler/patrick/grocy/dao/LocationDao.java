@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.Location;
@@ -40,4 +41,16 @@ public interface LocationDao {
   @Query("DELETE FROM location_table")
   Single<Integer> deleteLocations();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<Location> locations);
+
+  @Query("DELETE FROM location_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<Location> locations) {
+    deleteAll();
+    insertAll(locations);
+  }
+
 }
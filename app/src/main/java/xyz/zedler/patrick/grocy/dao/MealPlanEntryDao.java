@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.MealPlanEntry;
@@ -34,10 +35,48 @@ public interface MealPlanEntryDao {
   @Query("SELECT * FROM meal_plan_entry_table")
   Single<List<MealPlanEntry>> getMealPlanEntries();
 
+  @Query("SELECT * FROM meal_plan_entry_table WHERE day BETWEEN :firstDay AND :lastDay")
+  Single<List<MealPlanEntry>> getMealPlanEntries(String firstDay, String lastDay);
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertMealPlanEntries(List<MealPlanEntry> mealPlanEntries);
 
   @Query("DELETE FROM meal_plan_entry_table")
   Single<Integer> deleteMealPlanEntries();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<MealPlanEntry> mealPlanEntries);
+
+  @Query("DELETE FROM meal_plan_entry_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<MealPlanEntry> mealPlanEntries) {
+    deleteAll();
+    insertAll(mealPlanEntries);
+  }
+
+  @Query("DELETE FROM meal_plan_entry_table WHERE day BETWEEN :firstDay AND :lastDay")
+  void deleteAll(String firstDay, String lastDay);
+
+  @Query("DELETE FROM meal_plan_entry_table WHERE day < :firstDay OR day > :lastDay")
+  void deleteAllOutside(String firstDay, String lastDay);
+
+  /**
+   * Replaces the entries of the downloaded days and drops all entries outside of the days
+   * which are still cached, so the table only holds the window around the selected date
+   */
+  @Transaction
+  default void replaceAll(
+      String cachedFirstDay,
+      String cachedLastDay,
+      String firstDay,
+      String lastDay,
+      List<MealPlanEntry> mealPlanEntries
+  ) {
+    deleteAllOutside(cachedFirstDay, cachedLastDay);
+    deleteAll(firstDay, lastDay);
+    insertAll(mealPlanEntries);
+  }
+
 }
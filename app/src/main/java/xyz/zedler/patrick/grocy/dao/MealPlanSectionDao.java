@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.MealPlanSection;
@@ -40,4 +41,16 @@ public interface MealPlanSectionDao {
   @Query("DELETE FROM meal_plan_section_table")
   Single<Integer> deleteMealPlanSections();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<MealPlanSection> mealPlanSections);
+
+  @Query("DELETE FROM meal_plan_section_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<MealPlanSection> mealPlanSections) {
+    deleteAll();
+    insertAll(mealPlanSections);
+  }
+
 }
@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
@@ -34,10 +35,28 @@ public interface ProductBarcodeDao {
   @Query("SELECT * FROM product_barcode_table")
   Single<List<ProductBarcode>> getProductBarcodes();
 
+  @Query("SELECT * FROM product_barcode_table WHERE product_id = :productId")
+  Single<List<ProductBarcode>> getProductBarcodesForProduct(String productId);
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertProductBarcodes(List<ProductBarcode> productBarcodes);
 
   @Query("DELETE FROM product_barcode_table")
   Single<Integer> deleteProductBarcodes();
 
+  @Query("DELETE FROM product_barcode_table WHERE id IN (:ids)")
+  Single<Integer> deleteProductBarcodesByIds(List<Integer> ids);
+
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<ProductBarcode> productBarcodes);
+
+  @Query("DELETE FROM product_barcode_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<ProductBarcode> productBarcodes) {
+    deleteAll();
+    insertAll(productBarcodes);
+  }
+
 }
@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.Product;
@@ -34,10 +35,28 @@ public interface ProductDao {
   @Query("SELECT * FROM product_table")
   Single<List<Product>> getProducts();
 
+  @Query("SELECT * FROM product_table WHERE id = :id")
+  Product getProduct(int id);
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertProducts(List<Product> products);
 
   @Query("DELETE FROM product_table")
   Single<Integer> deleteProducts();
 
+  @Query("DELETE FROM product_table WHERE id IN (:ids)")
+  Single<Integer> deleteProductsByIds(List<Integer> ids);
+
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<Product> products);
+
+  @Query("DELETE FROM product_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<Product> products) {
+    deleteAll();
+    insertAll(products);
+  }
+
 }
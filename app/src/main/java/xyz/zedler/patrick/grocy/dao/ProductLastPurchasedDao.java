@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.ProductLastPurchased;
@@ -40,4 +41,16 @@ public interface ProductLastPurchasedDao {
   @Query("DELETE FROM product_last_purchased_table")
   Single<Integer> deleteProductsLastPurchased();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<ProductLastPurchased> productsLastPurchased);
+
+  @Query("DELETE FROM product_last_purchased_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<ProductLastPurchased> productsLastPurchased) {
+    deleteAll();
+    insertAll(productsLastPurchased);
+  }
+
 }
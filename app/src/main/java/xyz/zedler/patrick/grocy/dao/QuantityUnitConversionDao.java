@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
@@ -40,4 +41,16 @@ public interface QuantityUnitConversionDao {
   @Query("DELETE FROM quantity_unit_conversion_table")
   Single<Integer> deleteConversions();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<QuantityUnitConversion> quantityUnitConversions);
+
+  @Query("DELETE FROM quantity_unit_conversion_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<QuantityUnitConversion> quantityUnitConversions) {
+    deleteAll();
+    insertAll(quantityUnitConversions);
+  }
+
 }
@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
@@ -40,4 +41,16 @@ public interface QuantityUnitConversionResolvedDao {
   @Query("DELETE FROM quantity_unit_conversion_resolved_table")
   Single<Integer> deleteConversionsResolved();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<QuantityUnitConversionResolved> quantityUnitConversionsResolved);
+
+  @Query("DELETE FROM quantity_unit_conversion_resolved_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<QuantityUnitConversionResolved> quantityUnitConversionsResolved) {
+    deleteAll();
+    insertAll(quantityUnitConversionsResolved);
+  }
+
 }
@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
@@ -40,4 +41,16 @@ public interface QuantityUnitDao {
   @Query("DELETE FROM quantity_unit_table")
   Single<Integer> deleteQuantityUnits();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<QuantityUnit> quantityUnits);
+
+  @Query("DELETE FROM quantity_unit_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<QuantityUnit> quantityUnits) {
+    deleteAll();
+    insertAll(quantityUnits);
+  }
+
 }
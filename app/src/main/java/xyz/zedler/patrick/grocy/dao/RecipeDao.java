@@ -25,6 +25,7 @@ import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 
+import androidx.room.Transaction;
 import java.util.List;
 
 import io.reactivex.rxjava3.core.Single;
@@ -42,4 +43,16 @@ public interface RecipeDao {
   @Query("DELETE FROM recipe_table")
   Single<Integer> deleteRecipes();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<Recipe> recipes);
+
+  @Query("DELETE FROM recipe_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<Recipe> recipes) {
+    deleteAll();
+    insertAll(recipes);
+  }
+
 }
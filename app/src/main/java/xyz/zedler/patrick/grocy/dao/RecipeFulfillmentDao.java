@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.RecipeFulfillment;
@@ -40,4 +41,16 @@ public interface RecipeFulfillmentDao {
   @Query("DELETE FROM recipe_fulfillment_table")
   Single<Integer> deleteRecipeFulfillments();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<RecipeFulfillment> recipeFulfillmentList);
+
+  @Query("DELETE FROM recipe_fulfillment_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<RecipeFulfillment> recipeFulfillmentList) {
+    deleteAll();
+    insertAll(recipeFulfillmentList);
+  }
+
 }
@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.RecipeNesting;
@@ -44,4 +45,16 @@ public interface RecipeNestingDao {
   @Query("SELECT * FROM RecipeNestingResolved")
   Single<List<RecipeNestingResolved>> getRecipeNestingsResolved();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<RecipeNesting> recipeNestings);
+
+  @Query("DELETE FROM recipe_nesting_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<RecipeNesting> recipeNestings) {
+    deleteAll();
+    insertAll(recipeNestings);
+  }
+
 }
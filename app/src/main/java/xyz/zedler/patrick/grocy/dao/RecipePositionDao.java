@@ -25,6 +25,7 @@ import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
 
+import androidx.room.Transaction;
 import java.util.List;
 
 import io.reactivex.rxjava3.core.Single;
@@ -36,10 +37,25 @@ public interface RecipePositionDao {
   @Query("SELECT * FROM recipe_pos_table")
   Single<List<RecipePosition>> getRecipePositions();
 
+  @Query("SELECT * FROM recipe_pos_table WHERE recipe_id = :recipeId")
+  Single<List<RecipePosition>> getRecipePositionsForRecipe(int recipeId);
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertRecipePositions(List<RecipePosition> recipePositions);
 
   @Query("DELETE FROM recipe_pos_table")
   Single<Integer> deleteRecipePositions();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<RecipePosition> recipePositions);
+
+  @Query("DELETE FROM recipe_pos_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<RecipePosition> recipePositions) {
+    deleteAll();
+    insertAll(recipePositions);
+  }
+
 }
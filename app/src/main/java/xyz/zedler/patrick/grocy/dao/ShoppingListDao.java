@@ -25,6 +25,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.ShoppingList;
@@ -44,4 +45,16 @@ public interface ShoppingListDao {
   @Query("DELETE FROM shopping_list_table")
   Single<Integer> deleteShoppingLists();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<ShoppingList> shoppingLists);
+
+  @Query("DELETE FROM shopping_list_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<ShoppingList> shoppingLists) {
+    deleteAll();
+    insertAll(shoppingLists);
+  }
+
 }
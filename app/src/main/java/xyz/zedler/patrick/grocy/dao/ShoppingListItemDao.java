@@ -24,8 +24,12 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import xyz.zedler.patrick.grocy.model.ShoppingListItem;
 
 @Dao
@@ -49,4 +53,37 @@ public interface ShoppingListItemDao {
   @Query("DELETE FROM shopping_list_item_table")
   Single<Integer> deleteShoppingListItems();
 
+  @Query("DELETE FROM shopping_list_item_table WHERE id IN (:ids)")
+  Single<Integer> deleteShoppingListItemsByIds(List<Integer> ids);
+
+  @Transaction
+  default void replaceAll(List<ShoppingListItem> shoppingListItems) {
+    deleteAll();
+    insertAll(shoppingListItems);
+  }
+
+  @Query("SELECT * FROM shopping_list_item_table WHERE id IN (:ids)")
+  List<ShoppingListItem> getShoppingListItemsByIds(Collection<Integer> ids);
+
+  /**
+   * Clears the sync flag of items whose done state was sent, but only if the item was not
+   * toggled again while the request was running.
+   */
+  @Transaction
+  default void clearDoneSynced(Map<Integer, Integer> sentDoneStates) {
+    if (sentDoneStates.isEmpty()) {
+      return;
+    }
+    List<ShoppingListItem> items = getShoppingListItemsByIds(sentDoneStates.keySet());
+    List<ShoppingListItem> syncedItems = new ArrayList<>();
+    for (ShoppingListItem item : items) {
+      Integer sentDone = sentDoneStates.get(item.getId());
+      if (sentDone != null && sentDone == item.getDoneInt()) {
+        item.setDoneSynced(-1);
+        syncedItems.add(item);
+      }
+    }
+    insertAll(syncedItems);
+  }
+
 }
@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.StockEntry;
@@ -34,10 +35,28 @@ public interface StockEntryDao {
   @Query("SELECT * FROM stock_entry_table")
   Single<List<StockEntry>> getStockEntries();
 
+  @Query("SELECT * FROM stock_entry_table WHERE product_id = :productId ORDER BY best_before_date")
+  Single<List<StockEntry>> getStockEntriesForProduct(int productId);
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertStockEntries(List<StockEntry> stockEntries);
 
   @Query("DELETE FROM stock_entry_table")
   Single<Integer> deleteStockEntries();
 
+  @Query("DELETE FROM stock_entry_table WHERE id IN (:ids)")
+  Single<Integer> deleteStockEntriesByIds(List<Integer> ids);
+
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<StockEntry> stockEntries);
+
+  @Query("DELETE FROM stock_entry_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<StockEntry> stockEntries) {
+    deleteAll();
+    insertAll(stockEntries);
+  }
+
 }
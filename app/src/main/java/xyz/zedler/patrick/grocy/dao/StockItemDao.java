@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.StockItem;
@@ -34,10 +35,28 @@ public interface StockItemDao {
   @Query("SELECT * FROM stock_item_table")
   Single<List<StockItem>> getStockItems();
 
+  @Query("SELECT * FROM stock_item_table WHERE product_id = :productId")
+  StockItem getStockItem(int productId);
+
   @Insert(onConflict = OnConflictStrategy.REPLACE)
   Single<List<Long>> insertStockItems(List<StockItem> stockItems);
 
   @Query("DELETE FROM stock_item_table")
   Single<Integer> deleteStockItems();
 
+  @Query("DELETE FROM stock_item_table WHERE product_id IN (:productIds)")
+  Single<Integer> deleteStockItemsByProductIds(List<Integer> productIds);
+
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<StockItem> stockItems);
+
+  @Query("DELETE FROM stock_item_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<StockItem> stockItems) {
+    deleteAll();
+    insertAll(stockItems);
+  }
+
 }
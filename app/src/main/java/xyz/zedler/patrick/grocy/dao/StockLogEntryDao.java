@@ -0,0 +1,71 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.dao;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Transaction;
+import io.reactivex.rxjava3.core.Single;
+import java.util.List;
+import xyz.zedler.patrick.grocy.model.StockLogEntry;
+
+@Dao
+public interface StockLogEntryDao {
+
+  // newest first and older than beforeId, so pages stay stable when newer entries are inserted
+  @Query("SELECT * FROM stock_log_table WHERE id < :beforeId "
+      + "AND (:anyProduct OR product_id IN (:productIds)) "
+      + "AND (:locationId IS NULL OR location_id = :locationId) "
+      + "AND (:userId IS NULL OR user_id = :userId) "
+      + "ORDER BY id DESC LIMIT :limit")
+  Single<List<StockLogEntry>> getStockLogEntries(
+      int beforeId,
+      boolean anyProduct,
+      List<Integer> productIds,
+      String locationId,
+      String userId,
+      int limit
+  );
+
+  @Query("SELECT MIN(id) FROM stock_log_table")
+  Integer getMinId();
+
+  @Query("SELECT MAX(id) FROM stock_log_table")
+  Integer getMaxId();
+
+  @Query("SELECT row_created_timestamp FROM stock_log_table ORDER BY id DESC LIMIT 1")
+  String getNewestTimestamp();
+
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<StockLogEntry> stockLogEntries);
+
+  @Query("DELETE FROM stock_log_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<StockLogEntry> stockLogEntries) {
+    deleteAll();
+    insertAll(stockLogEntries);
+  }
+
+}
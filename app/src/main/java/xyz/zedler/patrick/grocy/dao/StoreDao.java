@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.Store;
@@ -40,4 +41,16 @@ public interface StoreDao {
   @Query("DELETE FROM store_table")
   Single<Integer> deleteStores();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<Store> stores);
+
+  @Query("DELETE FROM store_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<Store> stores) {
+    deleteAll();
+    insertAll(stores);
+  }
+
 }
@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.TaskCategory;
@@ -40,4 +41,16 @@ public interface TaskCategoryDao {
   @Query("DELETE FROM task_category_table")
   Single<Integer> deleteCategories();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<TaskCategory> taskGroups);
+
+  @Query("DELETE FROM task_category_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<TaskCategory> taskGroups) {
+    deleteAll();
+    insertAll(taskGroups);
+  }
+
 }
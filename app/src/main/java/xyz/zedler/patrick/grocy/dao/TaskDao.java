@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.Task;
@@ -40,4 +41,16 @@ public interface TaskDao {
   @Query("DELETE FROM task_table")
   Single<Integer> deleteTasks();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<Task> tasks);
+
+  @Query("DELETE FROM task_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<Task> tasks) {
+    deleteAll();
+    insertAll(tasks);
+  }
+
 }
@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.User;
@@ -40,4 +41,16 @@ public interface UserDao {
   @Query("DELETE FROM user_table")
   Single<Integer> deleteUsers();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<User> users);
+
+  @Query("DELETE FROM user_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<User> users) {
+    deleteAll();
+    insertAll(users);
+  }
+
 }
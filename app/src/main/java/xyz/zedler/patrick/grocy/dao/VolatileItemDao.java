@@ -24,6 +24,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import io.reactivex.rxjava3.core.Single;
 import java.util.List;
 import xyz.zedler.patrick.grocy.model.VolatileItem;
@@ -43,4 +44,16 @@ public interface VolatileItemDao {
   @Query("DELETE FROM volatile_item_table")
   Single<Integer> deleteVolatileItems();
 
+  @Insert(onConflict = OnConflictStrategy.REPLACE)
+  void insertAll(List<VolatileItem> volatileItems);
+
+  @Query("DELETE FROM volatile_item_table")
+  void deleteAll();
+
+  @Transaction
+  default void replaceAll(List<VolatileItem> volatileItems) {
+    deleteAll();
+    insertAll(volatileItems);
+  }
+
 }
@@ -21,10 +21,13 @@
 package xyz.zedler.patrick.grocy.database;
 
 import android.content.Context;
+import androidx.annotation.NonNull;
 import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
 import androidx.room.TypeConverters;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
@@ -36,6 +39,7 @@ import xyz.zedler.patrick.grocy.dao.MealPlanSectionDao;
 import xyz.zedler.patrick.grocy.dao.MissingItemDao;
 import xyz.zedler.patrick.grocy.dao.PendingProductBarcodeDao;
 import xyz.zedler.patrick.grocy.dao.PendingProductDao;
+import xyz.zedler.patrick.grocy.dao.PendingStockTransactionDao;
 import xyz.zedler.patrick.grocy.dao.ProductAveragePriceDao;
 import xyz.zedler.patrick.grocy.dao.ProductBarcodeDao;
 import xyz.zedler.patrick.grocy.dao.ProductDao;
@@ -55,6 +59,7 @@ import xyz.zedler.patrick.grocy.dao.ShoppingListItemDao;
 import xyz.zedler.patrick.grocy.dao.StockEntryDao;
 import xyz.zedler.patrick.grocy.dao.StockItemDao;
 import xyz.zedler.patrick.grocy.dao.StockLocationDao;
+import xyz.zedler.patrick.grocy.dao.StockLogEntryDao;
 import xyz.zedler.patrick.grocy.dao.StoreDao;
 import xyz.zedler.patrick.grocy.dao.StoredPurchaseDao;
 import xyz.zedler.patrick.grocy.dao.TaskCategoryDao;
@@ -70,6 +75,7 @@ import xyz.zedler.patrick.grocy.model.MealPlanSection;
 import xyz.zedler.patrick.grocy.model.MissingItem;
 import xyz.zedler.patrick.grocy.model.PendingProduct;
 import xyz.zedler.patrick.grocy.model.PendingProductBarcode;
+import xyz.zedler.patrick.grocy.model.PendingStockTransaction;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductAveragePrice;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
@@ -90,6 +96,7 @@ import xyz.zedler.patrick.grocy.model.ShoppingListItem;
 import xyz.zedler.patrick.grocy.model.StockEntry;
 import xyz.zedler.patrick.grocy.model.StockItem;
 import xyz.zedler.patrick.grocy.model.StockLocation;
+import xyz.zedler.patrick.grocy.model.StockLogEntry;
 import xyz.zedler.patrick.grocy.model.Store;
 import xyz.zedler.patrick.grocy.model.StoredPurchase;
 import xyz.zedler.patrick.grocy.model.Task;
@@ -134,18 +141,82 @@ import xyz.zedler.patrick.grocy.repository.MainRepository.OnVersionListener;
         RecipeNesting.class,
         MealPlanEntry.class,
         MealPlanSection.class,
-        Userfield.class
+        Userfield.class,
+        PendingStockTransaction.class,
+        StockLogEntry.class
     },
     views = {
         RecipeNestingResolved.class
     },
-    version = 54
+    version = 58
 )
 @TypeConverters({Converters.class})
 public abstract class AppDatabase extends RoomDatabase {
 
   private static AppDatabase INSTANCE;
 
+  // only adds indexes, so the cached data and pending offline data can be kept
+  static final Migration MIGRATION_54_55 = new Migration(54, 55) {
+    @Override
+    public void migrate(@NonNull SupportSQLiteDatabase database) {
+      database.execSQL("CREATE INDEX IF NOT EXISTS `index_product_barcode_table_product_id` "
+          + "ON `product_barcode_table` (`product_id`)");
+      database.execSQL("CREATE INDEX IF NOT EXISTS "
+          + "`index_stock_entry_table_product_id_best_before_date` "
+          + "ON `stock_entry_table` (`product_id`, `best_before_date`)");
+      database.execSQL("CREATE INDEX IF NOT EXISTS `index_recipe_pos_table_recipe_id` "
+          + "ON `recipe_pos_table` (`recipe_id`)");
+    }
+  };
+
+  // new table for the stock transaction outbox
+  static final Migration MIGRATION_55_56 = new Migration(55, 56) {
+    @Override
+    public void migrate(@NonNull SupportSQLiteDatabase database) {
+      database.execSQL("CREATE TABLE IF NOT EXISTS `pending_stock_transaction_table` ("
+          + "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, `idempotency_key` TEXT, "
+          + "`product_id` INTEGER NOT NULL, `type` TEXT, `body` TEXT, "
+          + "`created_timestamp` INTEGER NOT NULL)");
+      database.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS "
+          + "`index_pending_stock_transaction_table_idempotency_key` "
+          + "ON `pending_stock_transaction_table` (`idempotency_key`)");
+      database.execSQL("CREATE INDEX IF NOT EXISTS "
+          + "`index_pending_stock_transaction_table_product_id` "
+          + "ON `pending_stock_transaction_table` (`product_id`)");
+    }
+  };
+
+  // only adds an index for the date window queries of the meal plan
+  static final Migration MIGRATION_56_57 = new Migration(56, 57) {
+    @Override
+    public void migrate(@NonNull SupportSQLiteDatabase database) {
+      database.execSQL("CREATE INDEX IF NOT EXISTS `index_meal_plan_entry_table_day` "
+          + "ON `meal_plan_entry_table` (`day`)");
+    }
+  };
+
+  // new table for the cached stock journal
+  static final Migration MIGRATION_57_58 = new Migration(57, 58) {
+    @Override
+    public void migrate(@NonNull SupportSQLiteDatabase database) {
+      database.execSQL("CREATE TABLE IF NOT EXISTS `stock_log_table` ("
+          + "`id` INTEGER NOT NULL, `product_id` INTEGER NOT NULL, `amount` TEXT, "
+          + "`best_before_date` TEXT, `purchased_date` TEXT, `used_date` TEXT, "
+          + "`spoiled` TEXT, `stock_id` TEXT, `transaction_type` TEXT, `price` TEXT, "
+          + "`undone` TEXT, `undone_timestamp` TEXT, `opened_date` TEXT, "
+          + "`location_id` TEXT, `recipe_id` TEXT, `correlation_id` TEXT, "
+          + "`transaction_id` TEXT, `stock_row_id` TEXT, `shopping_location_id` TEXT, "
+          + "`user_id` TEXT, `row_created_timestamp` TEXT, `note` TEXT, "
+          + "PRIMARY KEY(`id`))");
+      database.execSQL("CREATE INDEX IF NOT EXISTS `index_stock_log_table_product_id` "
+          + "ON `stock_log_table` (`product_id`)");
+      database.execSQL("CREATE INDEX IF NOT EXISTS `index_stock_log_table_location_id` "
+          + "ON `stock_log_table` (`location_id`)");
+      database.execSQL("CREATE INDEX IF NOT EXISTS `index_stock_log_table_user_id` "
+          + "ON `stock_log_table` (`user_id`)");
+    }
+  };
+
   public abstract ShoppingListDao shoppingListDao();
 
   public abstract ShoppingListItemDao shoppingListItemDao();
@@ -214,12 +285,18 @@ public abstract class AppDatabase extends RoomDatabase {
 
   public abstract ServerDao serverDao();
 
+  public abstract PendingStockTransactionDao pendingStockTransactionDao();
+
+  public abstract StockLogEntryDao stockLogEntryDao();
+
   public static AppDatabase getAppDatabase(Context context) {
     if (INSTANCE == null) {
       INSTANCE = Room.databaseBuilder(
           context.getApplicationContext(),
           AppDatabase.class,
           "app_database"
+      ).addMigrations(
+          MIGRATION_54_55, MIGRATION_55_56, MIGRATION_56_57, MIGRATION_57_58
       ).fallbackToDestructiveMigration().build();
     }
     return INSTANCE;
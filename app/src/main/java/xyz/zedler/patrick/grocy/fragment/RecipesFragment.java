@@ -169,7 +169,7 @@ public class RecipesFragment extends BaseFragment implements
       }
       adapter.updateData(
           items,
-          viewModel.getRecipeFulfillments(),
+          viewModel.getRecipeFulfillmentHashMap(),
           viewModel.getUserfieldHashMap(),
           viewModel.getSortMode(),
           viewModel.isSortAscending(),
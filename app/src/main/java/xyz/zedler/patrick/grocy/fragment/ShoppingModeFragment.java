@@ -22,7 +22,6 @@ package xyz.zedler.patrick.grocy.fragment;
 
 import android.content.SharedPreferences;
 import android.os.Bundle;
-import android.os.Handler;
 import android.text.Spanned;
 import android.util.Log;
 import android.view.LayoutInflater;
@@ -37,8 +36,6 @@ import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModelProvider;
 import androidx.preference.PreferenceManager;
 import androidx.recyclerview.widget.LinearLayoutManager;
-import java.util.Timer;
-import java.util.TimerTask;
 import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.activity.MainActivity;
@@ -58,6 +55,7 @@ import xyz.zedler.patrick.grocy.model.SnackbarMessage;
 import xyz.zedler.patrick.grocy.util.ClickUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.viewmodel.ShoppingModeViewModel;
+import xyz.zedler.patrick.grocy.web.DbChangedTimeFeed;
 
 public class ShoppingModeFragment extends BaseFragment implements
     ShoppingModeItemAdapter.ShoppingModeItemClickListener {
@@ -70,9 +68,6 @@ public class ShoppingModeFragment extends BaseFragment implements
   private ClickUtil clickUtil;
   private FragmentShoppingModeBinding binding;
   private InfoFullscreenHelper infoFullscreenHelper;
-  private Timer timer;
-  private TimerTask timerTask;
-  private Handler handler;
 
   private boolean debug = false;
 
@@ -125,7 +120,6 @@ public class ShoppingModeFragment extends BaseFragment implements
     clickUtil = new ClickUtil();
     sharedPrefs = PreferenceManager.getDefaultSharedPreferences(activity);
     debug = PrefsUtil.isDebuggingEnabled(sharedPrefs);
-    handler = new Handler();
 
     if (savedInstanceState == null) {
       binding.recycler.scrollTo(0, 0);
@@ -219,14 +213,16 @@ public class ShoppingModeFragment extends BaseFragment implements
   @Override
   public void onPause() {
     super.onPause();
-    if (timer != null) {
-      timer.cancel();
-    }
+    DbChangedTimeFeed.getInstance(activity).stopPolling(this);
   }
 
   @Override
   public void onResume() {
     super.onResume();
+    startPollingIfEnabled();
+  }
+
+  private void startPollingIfEnabled() {
     int seconds = sharedPrefs.getInt(
         Constants.SETTINGS.SHOPPING_MODE.UPDATE_INTERVAL,
         Constants.SETTINGS_DEFAULT.SHOPPING_MODE.UPDATE_INTERVAL
@@ -234,9 +230,8 @@ public class ShoppingModeFragment extends BaseFragment implements
     if (seconds == 0 || !viewModel.getAutoSyncEnabled()) {
       return;
     }
-    timer = new Timer();
-    initTimerTask();
-    timer.schedule(timerTask, 2000, seconds * 1000L);
+    // ViewModel downloads when polling notices a change on the server
+    DbChangedTimeFeed.getInstance(activity).startPolling(this, seconds);
   }
 
   @Override
@@ -362,40 +357,14 @@ public class ShoppingModeFragment extends BaseFragment implements
         return true;
       } else if (item.getItemId() == R.id.action_sync) {
         viewModel.setAutoSyncEnabled(!viewModel.getAutoSyncEnabled());
-        if (timer != null) {
-          timer.cancel();
-        }
-        int seconds = sharedPrefs.getInt(
-            Constants.SETTINGS.SHOPPING_MODE.UPDATE_INTERVAL,
-            Constants.SETTINGS_DEFAULT.SHOPPING_MODE.UPDATE_INTERVAL
-        );
-        if (seconds == 0 || !viewModel.getAutoSyncEnabled()) {
-          return true;
-        }
-        timer = new Timer();
-        initTimerTask();
-        timer.schedule(timerTask, 2000, seconds * 1000L);
+        DbChangedTimeFeed.getInstance(activity).stopPolling(this);
+        startPollingIfEnabled();
         return true;
       }
       return false;
     };
   }
 
-  private void initTimerTask() {
-    if (timerTask != null) {
-      timerTask.cancel();
-    }
-    timerTask = new TimerTask() {
-      @Override
-      public void run() {
-        if (debug) {
-          Log.i(TAG, "auto sync shopping list (but may skip download)");
-        }
-        handler.post(() -> viewModel.downloadData(false, false));
-      }
-    };
-  }
-
   private void keepScreenOnIfNecessary(boolean keepOn) {
     if (activity == null) {
       activity = (MainActivity) requireActivity();
@@ -134,14 +134,14 @@ public class StockJournalFragment extends BaseFragment implements StockLogEntryA
     binding.recycler.setAdapter(new StockLogPlaceholderAdapter());
 
     binding.recycler.addOnScrollListener(new PaginationScrollListener(
-        (LinearLayoutManager) binding.recycler.getLayoutManager()) {
+        (LinearLayoutManager) binding.recycler.getLayoutManager(),
+        StockJournalViewModel.PREFETCH_DISTANCE
+    ) {
       @Override
       protected void loadMoreItems() {
         if (binding.recycler.getAdapter() instanceof StockLogPlaceholderAdapter) return;
-        viewModel.setCurrentPage(viewModel.getCurrentPage() + 1);
         viewModel.loadNextPage(stockLogEntries -> {
-          if (stockLogEntries.size() == 0) {
-            viewModel.setLastPage(true);
+          if (stockLogEntries.isEmpty() || binding == null) {
             return;
           }
           StockLogEntryAdapter adapter = (StockLogEntryAdapter) binding.recycler.getAdapter();
@@ -157,8 +157,7 @@ public class StockJournalFragment extends BaseFragment implements StockLogEntryA
 
       @Override
       public boolean isLoading() {
-        return viewModel.getIsLoadingLive().getValue() != null
-            && viewModel.getIsLoadingLive().getValue();
+        return viewModel.isLoadingPage();
       }
     });
 
@@ -186,8 +185,6 @@ public class StockJournalFragment extends BaseFragment implements StockLogEntryA
           )
       );
       binding.recycler.scheduleLayoutAnimation();
-      viewModel.setLastPage(false);
-      viewModel.setCurrentPage(0);
     });
 
     viewModel.getEventHandler().observeEvent(getViewLifecycleOwner(), event -> {
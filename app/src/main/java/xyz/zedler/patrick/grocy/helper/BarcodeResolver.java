@@ -0,0 +1,128 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import androidx.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import xyz.zedler.patrick.grocy.model.PendingProductBarcode;
+import xyz.zedler.patrick.grocy.model.ProductBarcode;
+
+/**
+ * Resolves scanned barcodes for the purchase, consume, inventory and transfer pages with hash
+ * lookups instead of searching the barcode list on every scan.
+ * The server barcodes are indexed once per list which a page loaded, the index is kept with
+ * the list from the EntityCache. Barcodes which are uploaded or stored for a pending product
+ * on one of the pages are added to the resolver, so every page finds them on the next scan
+ * without reloading. Uploaded barcodes are dropped as soon as a loaded list contains them.
+ * Like the lists of the view models, the resolver must only be used on the main thread.
+ */
+public class BarcodeResolver {
+
+  private static BarcodeResolver instance;
+
+  @Nullable
+  private Map<String, ProductBarcode> serverBarcodes;
+  private final HashMap<String, ProductBarcode> addedBarcodes;
+  private final HashMap<String, PendingProductBarcode> pendingBarcodes;
+
+  private BarcodeResolver() {
+    addedBarcodes = new HashMap<>();
+    pendingBarcodes = new HashMap<>();
+  }
+
+  public static synchronized BarcodeResolver getInstance() {
+    if (instance == null) {
+      instance = new BarcodeResolver();
+    }
+    return instance;
+  }
+
+  public boolean isLoaded() {
+    return serverBarcodes != null;
+  }
+
+  public void setBarcodes(List<ProductBarcode> barcodes) {
+    Map<String, ProductBarcode> index = EntityCache.getIndex(
+        barcodes,
+        "barcodeResolverIndex",
+        () -> getIndex(barcodes)
+    );
+    if (index != serverBarcodes) {
+      serverBarcodes = index;
+      addedBarcodes.keySet().removeAll(index.keySet());
+    }
+  }
+
+  public void setPendingBarcodes(List<PendingProductBarcode> barcodes) {
+    pendingBarcodes.clear();
+    for (PendingProductBarcode barcode : barcodes) {
+      if (barcode.getBarcode() != null) {
+        pendingBarcodes.putIfAbsent(barcode.getBarcode(), barcode);
+      }
+    }
+  }
+
+  public void addBarcode(ProductBarcode barcode) {
+    if (barcode.getBarcode() == null) {
+      return;
+    }
+    if (barcode instanceof PendingProductBarcode) {
+      pendingBarcodes.putIfAbsent(barcode.getBarcode(), (PendingProductBarcode) barcode);
+    } else {
+      addedBarcodes.putIfAbsent(barcode.getBarcode(), barcode);
+    }
+  }
+
+  /**
+   * Returns the server barcode for the scanned code, including barcodes added on the pages.
+   */
+  @Nullable
+  public ProductBarcode getBarcode(@Nullable String barcode) {
+    if (barcode == null) {
+      return null;
+    }
+    ProductBarcode productBarcode = serverBarcodes != null ? serverBarcodes.get(barcode) : null;
+    return productBarcode != null ? productBarcode : addedBarcodes.get(barcode);
+  }
+
+  /**
+   * Same as getBarcode(), but falls back to the barcodes of pending products, which are only
+   * known on the purchase page.
+   */
+  @Nullable
+  public ProductBarcode getBarcodeOrPending(@Nullable String barcode) {
+    ProductBarcode productBarcode = getBarcode(barcode);
+    return productBarcode != null ? productBarcode : pendingBarcodes.get(barcode);
+  }
+
+  // the first barcode wins like in ProductBarcode.getFromBarcode(), also for manual input
+  private static Map<String, ProductBarcode> getIndex(List<ProductBarcode> barcodes) {
+    HashMap<String, ProductBarcode> index = new HashMap<>();
+    for (ProductBarcode barcode : barcodes) {
+      if (barcode.getBarcode() != null) {
+        index.putIfAbsent(barcode.getBarcode(), barcode);
+      }
+    }
+    return index;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import xyz.zedler.patrick.grocy.database.AppDatabase;
+
+/**
+ * Applies a downloaded object list to its Room table by upserting only new or changed rows and
+ * deleting rows which no longer exist on the server, instead of rewriting the whole table.
+ */
+public class DeltaSyncHelper {
+
+  // if more rows changed than this share, rewriting the whole table is cheaper
+  private static final double MAX_DELTA_RATIO = 0.5;
+  // stay below the SQLite limit of 999 variables per statement on older devices
+  private static final int MAX_IDS_PER_STATEMENT = 500;
+
+  public static <T> Result syncTable(
+      AppDatabase appDatabase,
+      List<T> remoteObjects,
+      boolean forceFullRefresh,
+      Table<T> table
+  ) {
+    return appDatabase.runInTransaction(() -> {
+      List<T> localObjects = forceFullRefresh ? null : table.getAll.get();
+      if (localObjects == null || localObjects.isEmpty()) {
+        return fullRefresh(remoteObjects, table);
+      }
+
+      HashMap<Integer, T> localHashMap = new HashMap<>();
+      for (T object : localObjects) {
+        localHashMap.put(table.idGetter.applyAsInt(object), object);
+      }
+      ArrayList<T> upserts = new ArrayList<>();
+      for (T remoteObject : remoteObjects) {
+        T localObject = localHashMap.remove(table.idGetter.applyAsInt(remoteObject));
+        if (localObject == null || !table.rowMatcher.test(localObject, remoteObject)) {
+          upserts.add(remoteObject);
+        }
+      }
+      ArrayList<Integer> tombstones = new ArrayList<>(localHashMap.keySet());
+
+      if (upserts.size() + tombstones.size() > remoteObjects.size() * MAX_DELTA_RATIO) {
+        return fullRefresh(remoteObjects, table);
+      }
+      if (!upserts.isEmpty()) {
+        table.insert.accept(upserts);
+      }
+      for (int i = 0; i < tombstones.size(); i += MAX_IDS_PER_STATEMENT) {
+        table.deleteByIds.accept(
+            tombstones.subList(i, Math.min(i + MAX_IDS_PER_STATEMENT, tombstones.size()))
+        );
+      }
+      return new Result(upserts.size(), tombstones.size(), false);
+    });
+  }
+
+  private static <T> Result fullRefresh(List<T> remoteObjects, Table<T> table) {
+    table.deleteAll.run();
+    table.insert.accept(remoteObjects);
+    return new Result(remoteObjects.size(), 0, true);
+  }
+
+  public static class Table<T> {
+
+    private final Supplier<List<T>> getAll;
+    private final Consumer<List<T>> insert;
+    private final Consumer<List<Integer>> deleteByIds;
+    private final Runnable deleteAll;
+    private final ToIntFunction<T> idGetter;
+    private final BiPredicate<T, T> rowMatcher;
+
+    public Table(
+        Supplier<List<T>> getAll,
+        Consumer<List<T>> insert,
+        Consumer<List<Integer>> deleteByIds,
+        Runnable deleteAll,
+        ToIntFunction<T> idGetter,
+        BiPredicate<T, T> rowMatcher
+    ) {
+      this.getAll = getAll;
+      this.insert = insert;
+      this.deleteByIds = deleteByIds;
+      this.deleteAll = deleteAll;
+      this.idGetter = idGetter;
+      this.rowMatcher = rowMatcher;
+    }
+  }
+
+  public static class Result {
+
+    public final int upserted;
+    public final int deleted;
+    public final boolean fullRefresh;
+
+    public Result(int upserted, int deleted, boolean fullRefresh) {
+      this.upserted = upserted;
+      this.deleted = deleted;
+      this.fullRefresh = fullRefresh;
+    }
+
+    public boolean hasChanges() {
+      return upserted > 0 || deleted > 0;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+      return fullRefresh
+          ? "full refresh with " + upserted + " rows"
+          : upserted + " upserted, " + deleted + " deleted";
+    }
+  }
+}
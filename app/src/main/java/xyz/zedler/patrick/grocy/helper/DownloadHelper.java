@@ -24,11 +24,14 @@ import android.app.Activity;
 import android.app.Application;
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.os.SystemClock;
 import android.util.Log;
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
 import androidx.lifecycle.MutableLiveData;
 import androidx.preference.PreferenceManager;
+import com.android.volley.ParseError;
 import com.android.volley.Request;
 import com.android.volley.RequestQueue;
 import com.android.volley.VolleyError;
@@ -38,12 +41,20 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import org.json.JSONArray;
-import org.json.JSONException;
 import org.json.JSONObject;
 import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
@@ -51,7 +62,6 @@ import xyz.zedler.patrick.grocy.database.AppDatabase;
 import xyz.zedler.patrick.grocy.model.Chore;
 import xyz.zedler.patrick.grocy.model.ChoreEntry;
 import xyz.zedler.patrick.grocy.model.Location;
-import xyz.zedler.patrick.grocy.model.MealPlanEntry;
 import xyz.zedler.patrick.grocy.model.MealPlanSection;
 import xyz.zedler.patrick.grocy.model.MissingItem;
 import xyz.zedler.patrick.grocy.model.Product;
@@ -84,32 +94,55 @@ import xyz.zedler.patrick.grocy.web.CustomByteArrayRequest;
 import xyz.zedler.patrick.grocy.web.CustomJsonArrayRequest;
 import xyz.zedler.patrick.grocy.web.CustomJsonObjectRequest;
 import xyz.zedler.patrick.grocy.web.CustomJsonStringRequest;
+import xyz.zedler.patrick.grocy.web.CustomStreamingRequest;
+import xyz.zedler.patrick.grocy.web.CustomStreamingRequest.ChunkReader;
 import xyz.zedler.patrick.grocy.web.CustomStringRequest;
+import xyz.zedler.patrick.grocy.web.DbChangedTimeFeed;
 import xyz.zedler.patrick.grocy.web.NetworkQueue;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.OnQueueEmptyListener;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
+import xyz.zedler.patrick.grocy.web.RequestCoalescer;
 import xyz.zedler.patrick.grocy.web.RequestQueueSingleton;
+import xyz.zedler.patrick.grocy.web.ResponseValidatorStore;
+import xyz.zedler.patrick.grocy.web.ResponseValidatorStore.Validators;
 
 public class DownloadHelper {
 
   private static final String TAG = DownloadHelper.class.getSimpleName();
+  // objects per Room insert when JSON arrays are streamed
+  public static final int STREAMING_CHUNK_SIZE = 500;
+  // Stages of the download pipeline: responses are parsed on the computation threads and the
+  // parsed objects are written by one thread shared by all helpers, so the next response can
+  // already be parsed while the previous table is written
+  private static final Scheduler PARSE_SCHEDULER = Schedulers.computation();
+  public static final Scheduler WRITE_SCHEDULER = Schedulers.from(
+      Executors.newSingleThreadExecutor()
+  );
 
   public final Application application;
   public final GrocyApi grocyApi;
   private final RequestQueue requestQueue;
+  private final RequestCoalescer requestCoalescer;
   public final Gson gson;
   private final String uuidHelper;
   private final OnLoadingListener onLoadingListener;
   private final MutableLiveData<Boolean> offlineLive;
   public final SharedPreferences sharedPrefs;
   public final AppDatabase appDatabase;
+  public final EntityCache entityCache;
+  private final ResponseValidatorStore validatorStore;
 
   private final ArrayList<NetworkQueue> queueArrayList;
+  private final Map<String, DatabaseWriteBatch> writeBatches; // queue uuid -> pending writes
+  private final Map<String, SyncStats> syncStats; // queue uuid -> skipped/rewritten tables
   public final String tag;
   private final String apiKey;
   public final boolean debug;
   private final int timeoutSeconds;
   private int loadingRequests;
+  private boolean batchDatabaseWrites;
+  private boolean destroyed;
+  private String lastDbChangedTime;
 
   public DownloadHelper(
       Application application,
@@ -122,13 +155,18 @@ public class DownloadHelper {
     sharedPrefs = PreferenceManager.getDefaultSharedPreferences(application);
     debug = PrefsUtil.isDebuggingEnabled(sharedPrefs);
     appDatabase = AppDatabase.getAppDatabase(application.getApplicationContext());
+    entityCache = EntityCache.getInstance(application);
+    validatorStore = ResponseValidatorStore.getInstance(application);
     gson = new GsonBuilder().registerTypeAdapter(Double.class, new BadDoubleDeserializer())
         .registerTypeAdapter(double.class, new BadDoubleDeserializer()).create();
     requestQueue = RequestQueueSingleton.getInstance(application).getRequestQueue();
+    requestCoalescer = RequestCoalescer.getInstance();
     grocyApi = new GrocyApi(application);
     apiKey = sharedPrefs.getString(Constants.PREF.API_KEY, "");
     uuidHelper = UUID.randomUUID().toString();
     queueArrayList = new ArrayList<>();
+    writeBatches = new ConcurrentHashMap<>();
+    syncStats = new ConcurrentHashMap<>();
     loadingRequests = 0;
     this.onLoadingListener = onLoadingListener;
     this.offlineLive = offlineLive;
@@ -151,12 +189,17 @@ public class DownloadHelper {
     debug = PrefsUtil.isDebuggingEnabled(sharedPrefs);
     gson = new GsonBuilder().registerTypeAdapter(Double.class, new BadDoubleDeserializer()).create();
     appDatabase = AppDatabase.getAppDatabase(application.getApplicationContext());
+    entityCache = EntityCache.getInstance(application);
+    validatorStore = ResponseValidatorStore.getInstance(application);
     RequestQueueSingleton.getInstance(application).newRequestQueue();
     requestQueue = RequestQueueSingleton.getInstance(application).getRequestQueue();
+    requestCoalescer = RequestCoalescer.getInstance();
     grocyApi = new GrocyApi(application, serverUrl);
     this.apiKey = apiKey;
     uuidHelper = UUID.randomUUID().toString();
     queueArrayList = new ArrayList<>();
+    writeBatches = new ConcurrentHashMap<>();
+    syncStats = new ConcurrentHashMap<>();
     loadingRequests = 0;
     this.onLoadingListener = onLoadingListener;
     this.offlineLive = null;
@@ -176,16 +219,80 @@ public class DownloadHelper {
 
   // cancel all requests
   public void destroy() {
+    destroyed = true;
     for (NetworkQueue queue : queueArrayList) {
       queue.reset(true);
     }
     requestQueue.cancelAll(uuidHelper);
+    requestCoalescer.cancelAll(uuidHelper);
   }
 
   public String getUuid() {
     return uuidHelper;
   }
 
+  /**
+   * If enabled, all entity tables downloaded by one updateData call are written in a single
+   * transaction after every download has finished, so observers never see a partial sync
+   */
+  public void setBatchDatabaseWrites(boolean batchDatabaseWrites) {
+    this.batchDatabaseWrites = batchDatabaseWrites;
+  }
+
+  /**
+   * Runs the write of downloaded objects in a transaction and saves the db-changed-time under
+   * the given preference keys afterwards. Must be called on the WRITE_SCHEDULER.
+   * If the queue with the given uuid batches its writes, the write is deferred until the queue
+   * is finished and committed together with the writes of all other items.
+   */
+  public void writeToDatabase(
+      @Nullable String uuid,
+      Runnable write,
+      String dbChangedTime,
+      String... lastTimePrefKeys
+  ) {
+    SyncStats stats = uuid != null ? syncStats.get(uuid) : null;
+    if (stats != null) {
+      stats.add(true, lastTimePrefKeys);
+    }
+    DatabaseWriteBatch batch = uuid != null ? writeBatches.get(uuid) : null;
+    if (batch != null) {
+      batch.add(write, dbChangedTime, lastTimePrefKeys);
+      return;
+    }
+    long startTime = SystemClock.elapsedRealtime();
+    appDatabase.runInTransaction(write);
+    if (stats != null) {
+      stats.addTime(SyncStats.STAGE_WRITE, SystemClock.elapsedRealtime() - startTime);
+    }
+    SharedPreferences.Editor editor = sharedPrefs.edit();
+    for (String key : lastTimePrefKeys) {
+      editor.putString(key, dbChangedTime);
+    }
+    editor.apply();
+    validatorStore.commitPending(dbChangedTime, lastTimePrefKeys);
+    entityCache.invalidate(lastTimePrefKeys);
+  }
+
+  // saves the db-changed-time for objects which did not change since their last download
+  public void saveLastTime(
+      @Nullable String uuid,
+      String dbChangedTime,
+      String... lastTimePrefKeys
+  ) {
+    DatabaseWriteBatch batch = uuid != null ? writeBatches.get(uuid) : null;
+    if (batch != null) {
+      batch.add(null, dbChangedTime, lastTimePrefKeys);
+      return;
+    }
+    SharedPreferences.Editor editor = sharedPrefs.edit();
+    for (String key : lastTimePrefKeys) {
+      editor.putString(key, dbChangedTime);
+    }
+    editor.apply();
+    validatorStore.commitPending(dbChangedTime, lastTimePrefKeys);
+  }
+
   public void get(
       String url,
       String tag,
@@ -194,17 +301,25 @@ public class DownloadHelper {
   ) {
     String sessionKey = sharedPrefs
         .getString(Constants.PREF.HOME_ASSISTANT_INGRESS_SESSION_KEY, null);
-    CustomStringRequest request = new CustomStringRequest(
-        Request.Method.GET,
-        url,
-        apiKey,
-        sessionKey,
+    requestCoalescer.get(
+        requestQueue,
+        apiKey + " " + url,
+        tag,
         onResponse::onResponse,
+        null,
         onError::onError,
-        timeoutSeconds,
-        tag
+        (requestTag, onSharedResponse, onSharedNotModified, onSharedError) ->
+            new CustomStringRequest(
+                Request.Method.GET,
+                url,
+                apiKey,
+                sessionKey,
+                onSharedResponse,
+                onSharedError,
+                timeoutSeconds,
+                requestTag
+            )
     );
-    requestQueue.add(request);
   }
 
   // for requests without loading progress (set noLoadingProgress=true) TODO
@@ -232,6 +347,100 @@ public class DownloadHelper {
     requestQueue.add(request);
   }
 
+  /**
+   * GET for entity lists which sends the validators of the last download of the URL, if the
+   * objects of that download are still in the database. If the response did not change,
+   * only the db-changed-time is saved and onNotModified is called instead of onResponse.
+   * onResponse is the parse stage of the pipeline and called on the PARSE_SCHEDULER, it has to
+   * hand the parsed objects over to writeToDatabase on the WRITE_SCHEDULER.
+   */
+  public void getIfChanged(
+      String url,
+      String tag,
+      String dbChangedTime,
+      String lastTimePrefKey,
+      boolean conditional,
+      OnStringResponseListener onResponse,
+      Runnable onNotModified,
+      OnErrorListener onError
+  ) {
+    String sessionKey = sharedPrefs
+        .getString(Constants.PREF.HOME_ASSISTANT_INGRESS_SESSION_KEY, null);
+    // conditional requests are only merged with requests for the same db-changed-time
+    String key = conditional
+        ? apiKey + " " + url + " " + lastTimePrefKey + " " + dbChangedTime
+        : apiKey + " " + url;
+    long startTime = SystemClock.elapsedRealtime();
+    requestCoalescer.get(
+        requestQueue,
+        key,
+        tag,
+        response -> {
+          SyncStats stats = syncStats.get(tag);
+          if (stats != null) {
+            stats.addTime(SyncStats.STAGE_DOWNLOAD, SystemClock.elapsedRealtime() - startTime);
+          }
+          PARSE_SCHEDULER.scheduleDirect(() -> {
+            long parseStartTime = SystemClock.elapsedRealtime();
+            try {
+              onResponse.onResponse(response);
+            } catch (RuntimeException e) {
+              AndroidSchedulers.mainThread().scheduleDirect(
+                  () -> onError.onError(new ParseError(e))
+              );
+              return;
+            }
+            if (stats != null) {
+              stats.addTime(
+                  SyncStats.STAGE_PARSE, SystemClock.elapsedRealtime() - parseStartTime
+              );
+            }
+          });
+        },
+        () -> {
+          SyncStats stats = syncStats.get(tag);
+          if (stats != null) {
+            stats.add(false, lastTimePrefKey);
+          }
+          saveLastTime(tag, dbChangedTime, lastTimePrefKey);
+          onNotModified.run();
+        },
+        onError::onError,
+        (requestTag, onSharedResponse, onSharedNotModified, onSharedError) -> {
+          CustomStringRequest request = new CustomStringRequest(
+              Request.Method.GET,
+              url,
+              apiKey,
+              sessionKey,
+              onSharedResponse,
+              onSharedError,
+              timeoutSeconds,
+              requestTag
+          );
+          if (!conditional) {
+            return request;
+          }
+          Validators validators = validatorStore.get(
+              url, lastTimePrefKey, sharedPrefs.getString(lastTimePrefKey, null)
+          );
+          // saved with the db-changed-time by writeToDatabase or saveLastTime
+          request.setConditional(
+              validators,
+              newValidators -> validatorStore.putPending(
+                  url, lastTimePrefKey, newValidators, dbChangedTime
+              ),
+              () -> {
+                if (validators != null) {
+                  validatorStore.putPending(url, lastTimePrefKey, validators, dbChangedTime);
+                }
+                onSharedNotModified.run();
+              }
+          );
+          return request;
+        }
+    );
+  }
+
   // for single requests without a queue
   public void get(
       String url,
@@ -264,6 +473,38 @@ public class DownloadHelper {
     requestQueue.add(request);
   }
 
+  // for large object lists, the chunks have to be read in writeToDatabase on the WRITE_SCHEDULER
+  public <T> void getStreaming(
+      String url,
+      String tag,
+      Type elementType,
+      OnObjectResponseListener<ChunkReader<T>> onResponse,
+      OnErrorListener onError
+  ) {
+    String sessionKey = sharedPrefs
+        .getString(Constants.PREF.HOME_ASSISTANT_INGRESS_SESSION_KEY, null);
+    long startTime = SystemClock.elapsedRealtime();
+    CustomStreamingRequest<T> request = new CustomStreamingRequest<>(
+        url,
+        apiKey,
+        sessionKey,
+        gson,
+        elementType,
+        STREAMING_CHUNK_SIZE,
+        chunkReader -> {
+          SyncStats stats = syncStats.get(tag);
+          if (stats != null) {
+            stats.addTime(SyncStats.STAGE_DOWNLOAD, SystemClock.elapsedRealtime() - startTime);
+          }
+          onResponse.onResponse(chunkReader);
+        },
+        onError::onError,
+        timeoutSeconds,
+        tag
+    );
+    requestQueue.add(request);
+  }
+
   public void post(
       String url,
       JSONObject json,
@@ -278,7 +519,10 @@ public class DownloadHelper {
         apiKey,
         sessionKey,
         json,
-        onResponse::onResponse,
+        response -> {
+          invalidateDbChangedTime();
+          onResponse.onResponse(response);
+        },
         onError::onError,
         timeoutSeconds,
         uuidHelper
@@ -300,7 +544,10 @@ public class DownloadHelper {
             apiKey,
             sessionKey,
             json,
-            onResponse::onResponse,
+            response -> {
+              invalidateDbChangedTime();
+              onResponse.onResponse(response);
+            },
             onError::onError,
             timeoutSeconds,
             uuidHelper
@@ -322,7 +569,10 @@ public class DownloadHelper {
         apiKey,
         sessionKey,
         json,
-        onResponse::onResponse,
+        response -> {
+          invalidateDbChangedTime();
+          onResponse.onResponse(response);
+        },
         onError::onError,
         timeoutSeconds,
         uuidHelper
@@ -338,7 +588,10 @@ public class DownloadHelper {
         url,
         apiKey,
         sessionKey,
-        onResponse::onResponse,
+        response -> {
+          invalidateDbChangedTime();
+          onResponse.onResponse(response);
+        },
         onError::onError,
         timeoutSeconds,
         uuidHelper
@@ -360,7 +613,10 @@ public class DownloadHelper {
         apiKey,
         sessionKey,
         json,
-        onResponse::onResponse,
+        response -> {
+          invalidateDbChangedTime();
+          onResponse.onResponse(response);
+        },
         onError::onError,
         timeoutSeconds,
         uuidHelper
@@ -382,7 +638,10 @@ public class DownloadHelper {
         apiKey,
         sessionKey,
         fileContent,
-        onSuccess,
+        () -> {
+          invalidateDbChangedTime();
+          onSuccess.run();
+        },
         onError::onError,
         timeoutSeconds,
         uuidHelper
@@ -403,7 +662,10 @@ public class DownloadHelper {
         url,
         apiKey,
         sessionKey,
-        onResponse::onResponse,
+        response -> {
+          invalidateDbChangedTime();
+          onResponse.onResponse(response);
+        },
         onError::onError,
         timeoutSeconds,
         tag
@@ -433,7 +695,10 @@ public class DownloadHelper {
         apiKey,
         sessionKey,
         json,
-        onResponse::onResponse,
+        response -> {
+          invalidateDbChangedTime();
+          onResponse.onResponse(response);
+        },
         onError::onError,
         timeoutSeconds,
         uuidHelper
@@ -445,27 +710,45 @@ public class DownloadHelper {
       OnStringResponseListener onResponseListener,
       OnMultiTypeErrorListener onErrorListener
   ) {
-    get(
-        grocyApi.getDbChangedTime(),
-        uuidHelper,
+    getTimeDbChanged(
+        DbChangedTimeFeed.DEFAULT_MAX_AGE_MILLIS,
+        onResponseListener,
+        onErrorListener
+    );
+  }
+
+  // db-changed-time is shared by all helpers, values younger than maxAgeMillis are reused
+  public void getTimeDbChanged(
+      long maxAgeMillis,
+      OnStringResponseListener onResponseListener,
+      OnMultiTypeErrorListener onErrorListener
+  ) {
+    DbChangedTimeFeed.getInstance(application).get(
+        maxAgeMillis,
         response -> {
-          try {
-            JSONObject body = new JSONObject(response);
-            String dateStr = body.getString("changed_time");
-            onResponseListener.onResponse(dateStr);
-          } catch (JSONException e) {
-            Log.e(tag, "getTimeDbChanged: " + e);
-            onErrorListener.onError(e);
+          if (!destroyed) {
+            lastDbChangedTime = response;
+            onResponseListener.onResponse(response);
           }
         },
-        onErrorListener::onError,
-        !sharedPrefs.getBoolean(
-            Constants.SETTINGS.NETWORK.LOADING_CIRCLE,
-            Constants.SETTINGS_DEFAULT.NETWORK.LOADING_CIRCLE
-        )
+        error -> {
+          if (!destroyed) {
+            onErrorListener.onError(error);
+          }
+        }
     );
   }
 
+  // the last db-changed-time this helper got, so its owner can skip a change it fetched itself
+  @Nullable
+  public String getLastDbChangedTime() {
+    return lastDbChangedTime;
+  }
+
+  private void invalidateDbChangedTime() {
+    DbChangedTimeFeed.getInstance(application).invalidate();
+  }
+
   public NetworkQueue newQueue(
       OnQueueEmptyListener onQueueEmptyListener,
       OnMultiTypeErrorListener onErrorListener
@@ -474,7 +757,8 @@ public class DownloadHelper {
         requestQueue,
         onQueueEmptyListener,
         onErrorListener,
-        onLoadingListener
+        onLoadingListener,
+        debug
     );
     queueArrayList.add(queue);
     return queue;
@@ -514,6 +798,7 @@ public class DownloadHelper {
   ) {
     if (dbChangedTime == null) {
       getTimeDbChanged(
+          forceUpdate ? 0 : DbChangedTimeFeed.DEFAULT_MAX_AGE_MILLIS,
           time -> updateData(
               onFinished,
               errorListener,
@@ -534,80 +819,124 @@ public class DownloadHelper {
       return;
     }
 
+    DatabaseWriteBatch batch = batchDatabaseWrites ? new DatabaseWriteBatch() : null;
+    SyncStats stats = debug ? new SyncStats() : null;
     NetworkQueue queue = newQueue(updated -> {
-      if (offlineLive != null) offlineLive.setValue(false);
-      onFinished.onQueueEmpty(updated);
+      if (stats != null) {
+        syncStats.values().remove(stats);
+      }
+      if (batch == null) {
+        if (stats != null) {
+          Log.i(tag, "updateData: " + stats);
+        }
+        if (offlineLive != null) offlineLive.setValue(false);
+        onFinished.onQueueEmpty(updated);
+        return;
+      }
+      writeBatches.values().remove(batch);
+      Completable.fromAction(() -> {
+        long startTime = SystemClock.elapsedRealtime();
+        batch.commit(appDatabase, sharedPrefs, entityCache, validatorStore);
+        if (stats != null) {
+          stats.addTime(SyncStats.STAGE_WRITE, SystemClock.elapsedRealtime() - startTime);
+        }
+      })
+          .subscribeOn(WRITE_SCHEDULER)
+          .observeOn(AndroidSchedulers.mainThread())
+          .subscribe(() -> {
+            if (debug) {
+              Log.i(tag, "updateData: committed " + batch.size() + " tables in one transaction");
+              Log.i(tag, "updateData: " + stats);
+            }
+            if (offlineLive != null) offlineLive.setValue(false);
+            onFinished.onQueueEmpty(updated);
+          }, errorListener::onError);
     }, error -> {
+      if (stats != null) {
+        syncStats.values().remove(stats);
+      }
+      if (batch != null) {
+        writeBatches.values().remove(batch);
+      }
       if (offlineLive != null) offlineLive.setValue(true);
       if (errorsOnlyWithForceUpdate && !forceUpdate) {
         return;
       }
       errorListener.onError(error);
     });
+    if (batch != null) {
+      writeBatches.put(queue.getUuid(), batch);
+    }
+    if (stats != null) {
+      syncStats.put(queue.getUuid(), stats);
+    }
 
     for (Class<?> type : types) {
+      QueueItem queueItem = null;
       if (type == Product.class) {
-        queue.append(Product.updateProducts(this, dbChangedTime, forceUpdate, null, false));
+        queueItem = Product.updateProducts(this, dbChangedTime, forceUpdate, null, false);
       } else if (type == ProductGroup.class) {
-        queue.append(ProductGroup.updateProductGroups(this, dbChangedTime, forceUpdate, null));
+        queueItem = ProductGroup.updateProductGroups(this, dbChangedTime, forceUpdate, null);
       } else if (type == QuantityUnit.class) {
-        queue.append(QuantityUnit.updateQuantityUnits(this, dbChangedTime, forceUpdate, null));
+        queueItem = QuantityUnit.updateQuantityUnits(this, dbChangedTime, forceUpdate, null);
       } else if (type == QuantityUnitConversion.class) {
-        queue.append(QuantityUnitConversion.updateQuantityUnitConversions(this, dbChangedTime, forceUpdate, null));
+        queueItem = QuantityUnitConversion.updateQuantityUnitConversions(this, dbChangedTime, forceUpdate, null);
       } else if (type == QuantityUnitConversionResolved.class) {
-        queue.append(QuantityUnitConversionResolved.updateQuantityUnitConversions(this, dbChangedTime, forceUpdate, false, null));
+        queueItem = QuantityUnitConversionResolved.updateQuantityUnitConversions(this, dbChangedTime, forceUpdate, false, null);
       } else if (type == Location.class) {
-        queue.append(Location.updateLocations(this, dbChangedTime, forceUpdate, null));
+        queueItem = Location.updateLocations(this, dbChangedTime, forceUpdate, null);
       } else if (type == StockLocation.class) {
-        queue.append(StockLocation.updateStockCurrentLocations(this, dbChangedTime, forceUpdate, null));
+        queueItem = StockLocation.updateStockCurrentLocations(this, dbChangedTime, forceUpdate, null);
       } else if (type == ProductLastPurchased.class) {
-        queue.append(ProductLastPurchased.updateProductsLastPurchased(this, dbChangedTime, forceUpdate, null, true));
+        queueItem = ProductLastPurchased.updateProductsLastPurchased(this, dbChangedTime, forceUpdate, null, true);
       } else if (type == ProductAveragePrice.class) {
-        queue.append(ProductAveragePrice.updateProductsAveragePrice(this, dbChangedTime, forceUpdate, null, true));
+        queueItem = ProductAveragePrice.updateProductsAveragePrice(this, dbChangedTime, forceUpdate, null, true);
       } else if (type == ProductBarcode.class) {
-        queue.append(ProductBarcode.updateProductBarcodes(this, dbChangedTime, forceUpdate, null));
+        queueItem = ProductBarcode.updateProductBarcodes(this, dbChangedTime, forceUpdate, null);
       } else if (type == User.class) {
-        queue.append(User.updateUsers(this, dbChangedTime, forceUpdate, null));
+        queueItem = User.updateUsers(this, dbChangedTime, forceUpdate, null);
       } else if (type == StockItem.class) {
-        queue.append(StockItem.updateStockItems(this, dbChangedTime, forceUpdate, null));
+        queueItem = StockItem.updateStockItems(this, dbChangedTime, forceUpdate, null);
       } else if (type == StockEntry.class) {
-        queue.append(StockEntry.updateStockEntries(this, dbChangedTime, forceUpdate, null));
+        queueItem = StockEntry.updateStockEntries(this, dbChangedTime, forceUpdate, null);
       } else if (type == VolatileItem.class) {
-        queue.append(VolatileItem.updateVolatile(this, dbChangedTime, forceUpdate, null));
+        queueItem = VolatileItem.updateVolatile(this, dbChangedTime, forceUpdate, null);
       } else if (type == MissingItem.class) {
-        queue.append(MissingItem.updateMissingItems(this, dbChangedTime, forceUpdate, null));
+        queueItem = MissingItem.updateMissingItems(this, dbChangedTime, forceUpdate, null);
       } else if (type == ShoppingListItem.class) {
-        queue.append(ShoppingListItem.updateShoppingListItems(this, dbChangedTime, forceUpdate,
-            null));
+        queueItem = ShoppingListItem.updateShoppingListItems(this, dbChangedTime, forceUpdate,
+            null);
       } else if (type == ShoppingListItemWithSync.class) {
-        queue.append(ShoppingListItem.updateShoppingListItemsWithoutNotSyncedItems(this, dbChangedTime, forceUpdate,
-            null));
+        queueItem = ShoppingListItem.updateShoppingListItemsWithoutNotSyncedItems(this, dbChangedTime, forceUpdate,
+            null);
       } else if (type == ShoppingList.class) {
-        queue.append(ShoppingList.updateShoppingLists(this, dbChangedTime, forceUpdate, null));
+        queueItem = ShoppingList.updateShoppingLists(this, dbChangedTime, forceUpdate, null);
       } else if (type == Store.class) {
-        queue.append(Store.updateStores(this, dbChangedTime, forceUpdate, null));
+        queueItem = Store.updateStores(this, dbChangedTime, forceUpdate, null);
       } else if (type == Task.class) {
-        queue.append(Task.updateTasks(this, dbChangedTime, forceUpdate, null));
+        queueItem = Task.updateTasks(this, dbChangedTime, forceUpdate, null);
       } else if (type == TaskCategory.class) {
-        queue.append(TaskCategory.updateTaskCategories(this, dbChangedTime, forceUpdate, null));
+        queueItem = TaskCategory.updateTaskCategories(this, dbChangedTime, forceUpdate, null);
       } else if (type == Chore.class) {
-        queue.append(Chore.updateChores(this, dbChangedTime, forceUpdate, null));
+        queueItem = Chore.updateChores(this, dbChangedTime, forceUpdate, null);
       } else if (type == ChoreEntry.class) {
-        queue.append(ChoreEntry.updateChoreEntries(this, dbChangedTime, forceUpdate, null));
+        queueItem = ChoreEntry.updateChoreEntries(this, dbChangedTime, forceUpdate, null);
       } else if (type == Recipe.class) {
-        queue.append(Recipe.updateRecipes(this, dbChangedTime, forceUpdate, null));
+        queueItem = Recipe.updateRecipes(this, dbChangedTime, forceUpdate, null);
       } else if (type == RecipeFulfillment.class) {
-        queue.append(RecipeFulfillment.updateRecipeFulfillments(this, dbChangedTime, forceUpdate, null));
+        queueItem = RecipeFulfillment.updateRecipeFulfillments(this, dbChangedTime, forceUpdate, null);
       } else if (type == RecipePosition.class) {
-        queue.append(RecipePosition.updateRecipePositions(this, dbChangedTime, forceUpdate, null));
+        queueItem = RecipePosition.updateRecipePositions(this, dbChangedTime, forceUpdate, null);
       } else if (type == RecipePositionResolved.class) {
-        queue.append(RecipePositionResolved.updateRecipePositionsResolved(this, dbChangedTime, forceUpdate, null));
+        queueItem = RecipePositionResolved.updateRecipePositionsResolved(this, dbChangedTime, forceUpdate, null);
       } else if (type == Userfield.class) {
-        queue.append(Userfield.updateUserfields(this, dbChangedTime, forceUpdate, null));
-      } else if (type == MealPlanEntry.class) {
-        queue.append(MealPlanEntry.updateMealPlanEntries(this, dbChangedTime, null));
+        queueItem = Userfield.updateUserfields(this, dbChangedTime, forceUpdate, null);
       } else if (type == MealPlanSection.class) {
-        queue.append(MealPlanSection.updateMealPlanSections(this, dbChangedTime, null));
+        queueItem = MealPlanSection.updateMealPlanSections(this, dbChangedTime, null);
+      }
+      if (queueItem != null) {
+        queue.append(queueItem.setName(type.getSimpleName())
+            .setDependencies(getUpdateDependencies(type)));
       }
     }
 
@@ -615,6 +944,25 @@ public class DownloadHelper {
     queue.start();
   }
 
+  /**
+   * Returns the names of the entity types which have to be written to the database before the
+   * given type is updated, because observers of the given type also read them
+   */
+  private static String[] getUpdateDependencies(Class<?> type) {
+    if (type == QuantityUnitConversion.class || type == QuantityUnitConversionResolved.class) {
+      return new String[]{Product.class.getSimpleName(), QuantityUnit.class.getSimpleName()};
+    } else if (type == RecipeFulfillment.class || type == RecipePosition.class) {
+      return new String[]{Recipe.class.getSimpleName()};
+    } else if (type == RecipePositionResolved.class) {
+      return new String[]{Recipe.class.getSimpleName(), RecipePosition.class.getSimpleName()};
+    } else if (type == ShoppingListItem.class || type == ShoppingListItemWithSync.class) {
+      return new String[]{ShoppingList.class.getSimpleName()};
+    } else if (type == StockEntry.class || type == StockLocation.class) {
+      return new String[]{StockItem.class.getSimpleName()};
+    }
+    return new String[0];
+  }
+
   public interface OnObjectsResponseListener<T> {
 
     void onResponse(List<T> objects);
@@ -665,6 +1013,88 @@ public class DownloadHelper {
     void onFinished(@StringRes int msg);
   }
 
+  private static class DatabaseWriteBatch {
+
+    private final ArrayList<Runnable> writes = new ArrayList<>();
+    private final HashMap<String, String> lastTimes = new HashMap<>();
+
+    synchronized void add(
+        @Nullable Runnable write,
+        String dbChangedTime,
+        String... lastTimePrefKeys
+    ) {
+      if (write != null) {
+        writes.add(write);
+      }
+      for (String key : lastTimePrefKeys) {
+        lastTimes.put(key, dbChangedTime);
+      }
+    }
+
+    synchronized int size() {
+      return writes.size();
+    }
+
+    synchronized void commit(
+        AppDatabase appDatabase,
+        SharedPreferences sharedPrefs,
+        EntityCache entityCache,
+        ResponseValidatorStore validatorStore
+    ) {
+      if (lastTimes.isEmpty()) {
+        return;
+      }
+      if (!writes.isEmpty()) {
+        appDatabase.runInTransaction(() -> {
+          for (Runnable write : writes) {
+            write.run();
+          }
+        });
+      }
+      SharedPreferences.Editor editor = sharedPrefs.edit();
+      for (Map.Entry<String, String> entry : lastTimes.entrySet()) {
+        editor.putString(entry.getKey(), entry.getValue());
+      }
+      editor.apply();
+      for (Map.Entry<String, String> entry : lastTimes.entrySet()) {
+        validatorStore.commitPending(entry.getValue(), entry.getKey());
+      }
+      entityCache.invalidate(lastTimes.keySet().toArray(new String[0]));
+    }
+  }
+
+  // counts per sync which tables were rewritten and which were skipped as their
+  // response did not change and sums up the time spent in each pipeline stage,
+  // only collected in debug mode
+  private static class SyncStats {
+
+    static final int STAGE_DOWNLOAD = 0;
+    static final int STAGE_PARSE = 1;
+    static final int STAGE_WRITE = 2;
+
+    private final ArrayList<String> rewritten = new ArrayList<>();
+    private final ArrayList<String> skipped = new ArrayList<>();
+    private final long[] stageTimes = new long[3];
+
+    synchronized void add(boolean isRewritten, String... lastTimePrefKeys) {
+      Collections.addAll(isRewritten ? rewritten : skipped, lastTimePrefKeys);
+    }
+
+    synchronized void addTime(int stage, long millis) {
+      stageTimes[stage] += millis;
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+      return "rewritten " + rewritten.size() + " " + rewritten
+          + ", skipped " + skipped.size() + " " + skipped
+          + ", download " + stageTimes[STAGE_DOWNLOAD] + " ms"
+          + ", parse " + stageTimes[STAGE_PARSE] + " ms"
+          + ", write " + stageTimes[STAGE_WRITE] + " ms";
+    }
+  }
+
   public static class BadDoubleDeserializer implements JsonDeserializer<Double> {
     @Override
     public Double deserialize(JsonElement element, Type type, JsonDeserializationContext context) throws JsonParseException {
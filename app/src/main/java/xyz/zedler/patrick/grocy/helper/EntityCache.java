@@ -0,0 +1,165 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import androidx.preference.PreferenceManager;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.reactivex.rxjava3.core.Single;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of entity lists loaded from Room, shared by all repositories.
+ * Every list is stored with the version it was loaded with, which is made of the
+ * DB_LAST_TIME_* value of the entity and a counter increased by invalidate(), so a list is
+ * read from the database again only after the entity was synced or changed locally.
+ * Callers get their own copy of the list with their own copies of the entities, so they can
+ * modify them like entities read from the database. Indexes like id maps are built once per
+ * handed out list.
+ */
+public class EntityCache {
+
+  // copies entities with all their fields, also those which are not stored in Room
+  private static final Gson GSON = new GsonBuilder().serializeSpecialFloatingPointValues().create();
+
+  private static EntityCache instance;
+  private final SharedPreferences sharedPrefs;
+  private final Map<String, Entry> entries; // DB_LAST_TIME_* key -> loaded list
+  private final Map<String, AtomicInteger> invalidations;
+
+  private EntityCache(Context context) {
+    sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context.getApplicationContext());
+    entries = new ConcurrentHashMap<>();
+    invalidations = new ConcurrentHashMap<>();
+  }
+
+  public static synchronized EntityCache getInstance(Context context) {
+    if (instance == null) {
+      instance = new EntityCache(context);
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the cached list for the given DB_LAST_TIME_* key or subscribes to the source.
+   * Entities which were never synced are not cached.
+   */
+  public <T> Single<List<T>> get(String lastTimePrefKey, Single<List<T>> source) {
+    return Single.defer(() -> {
+      String version = getVersion(lastTimePrefKey);
+      if (version == null) {
+        return source;
+      }
+      Entry entry = entries.get(lastTimePrefKey);
+      if (entry != null && entry.version.equals(version)) {
+        return Single.fromCallable(entry::newList);
+      }
+      return source.map(objects -> {
+        Entry newEntry = new Entry(version, objects);
+        entries.put(lastTimePrefKey, newEntry);
+        return newEntry.newList();
+      });
+    });
+  }
+
+  // must be called after every database write of the entities, after the prefs are saved
+  public void invalidate(String... lastTimePrefKeys) {
+    for (String key : lastTimePrefKeys) {
+      invalidations.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+      entries.remove(key);
+    }
+  }
+
+  public void clear() {
+    for (String key : entries.keySet()) {
+      invalidate(key);
+    }
+  }
+
+  private String getVersion(String lastTimePrefKey) {
+    String lastTime = sharedPrefs.getString(lastTimePrefKey, null);
+    if (lastTime == null) {
+      return null;
+    }
+    AtomicInteger counter = invalidations.get(lastTimePrefKey);
+    return (counter != null ? counter.get() : 0) + "_" + lastTime;
+  }
+
+  /**
+   * Returns the index with the given name for a list from this cache, which is built only once
+   * for the list, so it holds the same entities as the list. For other lists or lists which were
+   * modified after they were handed out, the index is built every time. Returned indexes must
+   * not be modified.
+   */
+  @SuppressWarnings("unchecked")
+  public static <I> I getIndex(List<?> list, String name, Supplier<I> builder) {
+    if (list instanceof CachedList && !((CachedList<?>) list).isModified()) {
+      return (I) ((CachedList<?>) list).indexes.computeIfAbsent(name, k -> builder.get());
+    }
+    return builder.get();
+  }
+
+  private static class Entry {
+
+    private final String version;
+    // never handed out, callers get copies which they may modify
+    private final List<?> objects;
+
+    Entry(String version, List<?> objects) {
+      this.version = version;
+      this.objects = Collections.unmodifiableList(new ArrayList<>(objects));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CachedList<T> newList() {
+      ArrayList<T> copies = new ArrayList<>(objects.size());
+      for (Object object : objects) {
+        copies.add((T) GSON.fromJson(GSON.toJsonTree(object), object.getClass()));
+      }
+      return new CachedList<>(copies);
+    }
+  }
+
+  private static class CachedList<T> extends ArrayList<T> {
+
+    private final Map<String, Object> indexes;
+    private final int initialModCount;
+
+    CachedList(Collection<T> objects) {
+      super(objects);
+      indexes = new ConcurrentHashMap<>();
+      initialModCount = modCount;
+    }
+
+    boolean isModified() {
+      return modCount != initialModCount;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import android.util.Log;
+import androidx.recyclerview.widget.DiffUtil;
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the filter, sort, group and diff work of list screens on a background thread.
+ * Every submit cancels the run before it, so only the result for the latest search input or
+ * filter reaches the UI. Runs of all pipelines are executed one after another on the same
+ * thread, results are delivered on the main thread.
+ * submit and cancel must be called on the main thread.
+ */
+public class ListPipeline {
+
+  private static final String TAG = ListPipeline.class.getSimpleName();
+  private static final Scheduler SCHEDULER = Schedulers.from(
+      Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, TAG);
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+      })
+  );
+
+  private Disposable runningDisposable;
+  private CancellationToken runningToken;
+
+  public <T> void submit(Stage<T> stage, OnResultListener<T> onResult) {
+    cancel();
+    CancellationToken token = new CancellationToken();
+    runningToken = token;
+    runningDisposable = Single.fromCallable(() -> stage.run(token))
+        .subscribeOn(SCHEDULER)
+        .observeOn(AndroidSchedulers.mainThread())
+        .subscribe(result -> {
+          if (!token.isCanceled()) {
+            onResult.onResult(result);
+          }
+        }, throwable -> {
+          if (!(throwable instanceof CancellationException)) {
+            Log.e(TAG, "submit: " + throwable);
+          }
+        });
+  }
+
+  public void cancel() {
+    if (runningToken != null) {
+      runningToken.canceled = true;
+      runningToken = null;
+    }
+    if (runningDisposable != null) {
+      runningDisposable.dispose();
+      runningDisposable = null;
+    }
+  }
+
+  public static <T> DiffedList<T> diff(List<T> newItems, DiffUtil.Callback diffCallback) {
+    return new DiffedList<>(newItems, DiffUtil.calculateDiff(diffCallback));
+  }
+
+  public interface Stage<T> {
+
+    T run(CancellationToken token) throws Exception;
+  }
+
+  public interface OnResultListener<T> {
+
+    void onResult(T result);
+  }
+
+  public static class CancellationToken {
+
+    private volatile boolean canceled;
+
+    public boolean isCanceled() {
+      return canceled;
+    }
+
+    // for long loops, aborts the run as early as possible
+    public void throwIfCanceled() {
+      if (canceled) {
+        throw new CancellationException();
+      }
+    }
+  }
+
+  public static class DiffedList<T> {
+
+    public final List<T> items;
+    public final DiffUtil.DiffResult diffResult;
+
+    DiffedList(List<T> items, DiffUtil.DiffResult diffResult) {
+      this.items = items;
+      this.diffResult = diffResult;
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import me.xdrop.fuzzywuzzy.FuzzySearch;
+import xyz.zedler.patrick.grocy.model.Product;
+
+/**
+ * Search index over product names which replaces FuzzySearch.extractTop over all products.
+ * Names are normalized once and split into trigrams; a query only scores the products which
+ * share the most trigrams with it, using the same weighted ratio as extractTop.
+ * The index is immutable and can be used from any thread.
+ */
+public class ProductSearchIndex {
+
+  private static final int GRAM_LENGTH = 3;
+  private static final int MAX_CANDIDATES = 200;
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+  private final Product[] products;
+  private final String[] names; // normalized
+  private final Map<String, int[]> postings; // trigram -> ascending product indexes
+
+  public ProductSearchIndex(List<? extends Product> productList) {
+    ArrayList<Product> indexedProducts = new ArrayList<>(productList.size());
+    ArrayList<String> indexedNames = new ArrayList<>(productList.size());
+    HashMap<String, ArrayList<Integer>> postingLists = new HashMap<>();
+    for (Product product : productList) {
+      if (product == null || product.getName() == null) {
+        continue;
+      }
+      int index = indexedProducts.size();
+      String name = normalize(product.getName());
+      indexedProducts.add(product);
+      indexedNames.add(name);
+      for (String gram : getGrams(name)) {
+        ArrayList<Integer> postingList = postingLists.get(gram);
+        if (postingList == null) {
+          postingList = new ArrayList<>();
+          postingLists.put(gram, postingList);
+        }
+        postingList.add(index);
+      }
+    }
+    products = indexedProducts.toArray(new Product[0]);
+    names = indexedNames.toArray(new String[0]);
+    postings = new HashMap<>(postingLists.size());
+    for (Map.Entry<String, ArrayList<Integer>> entry : postingLists.entrySet()) {
+      ArrayList<Integer> postingList = entry.getValue();
+      int[] indexes = new int[postingList.size()];
+      for (int i = 0; i < indexes.length; i++) {
+        indexes[i] = postingList.get(i);
+      }
+      postings.put(entry.getKey(), indexes);
+    }
+  }
+
+  /**
+   * Returns the index for a product list from the EntityCache, which is built only once for the
+   * list.
+   */
+  public static ProductSearchIndex get(List<Product> products) {
+    return EntityCache.getIndex(
+        products, "productSearchIndex", () -> new ProductSearchIndex(products)
+    );
+  }
+
+  /**
+   * Returns up to limit products with a score of at least cutoff, best matches first.
+   */
+  public List<Product> search(String query, int limit, int cutoff) {
+    ArrayList<Product> results = new ArrayList<>();
+    if (query == null) {
+      return results;
+    }
+    String normalizedQuery = normalize(query);
+    if (normalizedQuery.trim().isEmpty()) {
+      return results;
+    }
+
+    int[] candidates = getCandidates(normalizedQuery);
+    int[] scores = new int[candidates.length];
+    Integer[] order = new Integer[candidates.length];
+    int count = 0;
+    for (int i = 0; i < candidates.length; i++) {
+      int score = FuzzySearch.weightedRatio(normalizedQuery, names[candidates[i]]);
+      if (score >= cutoff) {
+        scores[i] = score;
+        order[count++] = i;
+      }
+    }
+    Arrays.sort(order, 0, count, (a, b) -> Integer.compare(scores[b], scores[a]));
+    for (int i = 0; i < Math.min(count, limit); i++) {
+      results.add(products[candidates[order[i]]]);
+    }
+    return results;
+  }
+
+  private int[] getCandidates(String normalizedQuery) {
+    if (normalizedQuery.length() < GRAM_LENGTH) {
+      // too short for trigrams, every name containing the query is a candidate
+      int[] candidates = new int[names.length];
+      int count = 0;
+      for (int i = 0; i < names.length; i++) {
+        if (names[i].contains(normalizedQuery)) {
+          candidates[count++] = i;
+        }
+      }
+      return Arrays.copyOf(candidates, count);
+    }
+
+    int[] hits = new int[names.length];
+    int[] touched = new int[names.length];
+    int touchedCount = 0;
+    for (String gram : getGrams(normalizedQuery)) {
+      int[] indexes = postings.get(gram);
+      if (indexes == null) {
+        continue;
+      }
+      for (int index : indexes) {
+        if (hits[index]++ == 0) {
+          touched[touchedCount++] = index;
+        }
+      }
+    }
+    if (touchedCount <= MAX_CANDIDATES) {
+      return Arrays.copyOf(touched, touchedCount);
+    }
+    Integer[] sorted = new Integer[touchedCount];
+    for (int i = 0; i < touchedCount; i++) {
+      sorted[i] = touched[i];
+    }
+    Arrays.sort(sorted, (a, b) -> Integer.compare(hits[b], hits[a]));
+    int[] candidates = new int[MAX_CANDIDATES];
+    for (int i = 0; i < MAX_CANDIDATES; i++) {
+      candidates[i] = sorted[i];
+    }
+    return candidates;
+  }
+
+  private static HashSet<String> getGrams(String normalized) {
+    String padded = " " + normalized + " ";
+    HashSet<String> grams = new HashSet<>();
+    for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+      grams.add(padded.substring(i, i + GRAM_LENGTH));
+    }
+    return grams;
+  }
+
+  public static String normalize(String text) {
+    String decomposed = Normalizer.normalize(text.toLowerCase(), Normalizer.Form.NFD);
+    return DIACRITICS.matcher(decomposed).replaceAll("");
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import android.util.LongSparseArray;
+import android.util.SparseArray;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
+
+/**
+ * Index over the quantity unit conversions, grouped by product and keyed by from and to unit.
+ * Conversions without product are grouped under NO_PRODUCT. Conversions of a product keep the
+ * order of the table, so callers which use the first conversion for a unit get the same result
+ * as with a scan of the whole list.
+ * The index is immutable and can be used from any thread.
+ */
+public class QuantityUnitConversionIndex {
+
+  public static final int NO_PRODUCT = -1;
+
+  private final SparseArray<ProductConversions> productConversions;
+
+  public QuantityUnitConversionIndex(List<QuantityUnitConversionResolved> conversions) {
+    productConversions = new SparseArray<>();
+    for (QuantityUnitConversionResolved conversion : conversions) {
+      int productId = conversion.getProductIdInt();
+      ProductConversions forProduct = productConversions.get(productId);
+      if (forProduct == null) {
+        forProduct = new ProductConversions();
+        productConversions.put(productId, forProduct);
+      }
+      forProduct.conversions.add(conversion);
+      long key = getKey(conversion.getFromQuId(), conversion.getToQuId());
+      if (forProduct.byUnits.get(key) == null) {
+        forProduct.byUnits.put(key, conversion);
+      }
+    }
+  }
+
+  /**
+   * Returns the index for a conversion list from the EntityCache, which is built only once for the
+   * list.
+   */
+  public static QuantityUnitConversionIndex get(
+      List<QuantityUnitConversionResolved> conversions
+  ) {
+    return EntityCache.getIndex(
+        conversions,
+        "quantityUnitConversionIndex",
+        () -> new QuantityUnitConversionIndex(conversions)
+    );
+  }
+
+  /**
+   * Returns all conversions of the product in table order, NO_PRODUCT for standard conversions.
+   */
+  public List<QuantityUnitConversionResolved> getConversions(int productId) {
+    ProductConversions forProduct = productConversions.get(productId);
+    return forProduct != null
+        ? Collections.unmodifiableList(forProduct.conversions)
+        : Collections.emptyList();
+  }
+
+  @Nullable
+  public QuantityUnitConversionResolved getConversion(int productId, int fromQuId, int toQuId) {
+    ProductConversions forProduct = productConversions.get(productId);
+    return forProduct != null ? forProduct.byUnits.get(getKey(fromQuId, toQuId)) : null;
+  }
+
+  private static long getKey(int fromQuId, int toQuId) {
+    return ((long) fromQuId << 32) | (toQuId & 0xffffffffL);
+  }
+
+  private static class ProductConversions {
+
+    private final ArrayList<QuantityUnitConversionResolved> conversions = new ArrayList<>();
+    private final LongSparseArray<QuantityUnitConversionResolved> byUnits
+        = new LongSparseArray<>();
+  }
+}
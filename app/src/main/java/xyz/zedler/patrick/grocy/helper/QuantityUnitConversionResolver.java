@@ -0,0 +1,242 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
+import xyz.zedler.patrick.grocy.model.QuantityUnitConversionPath;
+import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
+
+/**
+ * Calculates the transitive conversions of every product for servers below 4.0, which only
+ * provide the direct conversions. The result has the same form as the resolved conversions of
+ * newer servers, so all pages can use the same lookups for every server version.
+ * <p>
+ * The conversion graph of a product consists of the purchase to stock factor, the product
+ * specific conversions and the standard conversions for unit pairs which the product does not
+ * override, each with its inverse if it is not defined explicitly. The units which can be
+ * reached from the stock unit are copied into a compact adjacency array, in which a breadth
+ * first search from each unit finds the shortest conversion path to all other units.
+ */
+public class QuantityUnitConversionResolver {
+
+  private final HashMap<Integer, LinkedHashMap<Integer, Double>> standardEdges;
+  private final HashMap<Integer, ArrayList<QuantityUnitConversion>> productConversions;
+
+  public QuantityUnitConversionResolver(List<? extends QuantityUnitConversion> conversions) {
+    standardEdges = new HashMap<>();
+    productConversions = new HashMap<>();
+    ArrayList<QuantityUnitConversion> standardConversions = new ArrayList<>();
+    for (QuantityUnitConversion conversion : conversions) {
+      if (conversion.getProductId() == null || conversion.getProductId().isEmpty()) {
+        standardConversions.add(conversion);
+        continue;
+      }
+      int productId = conversion.getProductIdInt();
+      ArrayList<QuantityUnitConversion> forProduct = productConversions.get(productId);
+      if (forProduct == null) {
+        forProduct = new ArrayList<>();
+        productConversions.put(productId, forProduct);
+      }
+      forProduct.add(conversion);
+    }
+    addEdges(standardEdges, standardConversions);
+  }
+
+  /**
+   * Returns the resolved conversions of all products with consecutive ids, including a
+   * conversion with factor 1 from every unit of a product to itself.
+   */
+  public List<QuantityUnitConversionResolved> resolve(List<Product> products) {
+    ArrayList<QuantityUnitConversionResolved> resolved = new ArrayList<>();
+    for (Product product : products) {
+      int stockQuId = product.getQuIdStockInt();
+      if (stockQuId == -1) {
+        continue;
+      }
+      HashMap<Integer, LinkedHashMap<Integer, Double>> edges = new HashMap<>();
+      int purchaseQuId = product.getQuIdPurchaseInt();
+      double purchaseFactor = product.getQuFactorPurchaseToStockDouble();
+      if (purchaseQuId != -1 && purchaseQuId != stockQuId && purchaseFactor > 0) {
+        putEdge(edges, purchaseQuId, stockQuId, purchaseFactor);
+        putEdge(edges, stockQuId, purchaseQuId, 1 / purchaseFactor);
+      }
+      ArrayList<QuantityUnitConversion> forProduct = productConversions.get(product.getId());
+      if (forProduct != null) {
+        addEdges(edges, forProduct);
+      }
+      resolveProduct(product, stockQuId, edges, resolved);
+    }
+    return resolved;
+  }
+
+  private void resolveProduct(
+      Product product,
+      int stockQuId,
+      HashMap<Integer, LinkedHashMap<Integer, Double>> edges,
+      List<QuantityUnitConversionResolved> resolved
+  ) {
+    // collect all units which can be reached from the stock unit
+    ArrayList<Integer> units = new ArrayList<>();
+    HashMap<Integer, Integer> unitIndexes = new HashMap<>();
+    units.add(stockQuId);
+    unitIndexes.put(stockQuId, 0);
+    ArrayList<Map<Integer, Double>> neighbors = new ArrayList<>();
+    int edgeCount = 0;
+    for (int i = 0; i < units.size(); i++) {
+      Map<Integer, Double> unitNeighbors = getNeighbors(edges, units.get(i));
+      neighbors.add(unitNeighbors);
+      edgeCount += unitNeighbors.size();
+      for (int toQuId : unitNeighbors.keySet()) {
+        if (!unitIndexes.containsKey(toQuId)) {
+          unitIndexes.put(toQuId, units.size());
+          units.add(toQuId);
+        }
+      }
+    }
+
+    int unitCount = units.size();
+    int[] offsets = new int[unitCount + 1];
+    int[] targets = new int[edgeCount];
+    double[] factors = new double[edgeCount];
+    int edgeIndex = 0;
+    for (int i = 0; i < unitCount; i++) {
+      offsets[i] = edgeIndex;
+      for (Map.Entry<Integer, Double> entry : neighbors.get(i).entrySet()) {
+        targets[edgeIndex] = unitIndexes.get(entry.getKey());
+        factors[edgeIndex] = entry.getValue();
+        edgeIndex++;
+      }
+    }
+    offsets[unitCount] = edgeIndex;
+
+    String productId = String.valueOf(product.getId());
+    int[] queue = new int[unitCount];
+    int[] depths = new int[unitCount];
+    int[] parents = new int[unitCount];
+    double[] pathFactors = new double[unitCount];
+    for (int from = 0; from < unitCount; from++) {
+      for (int i = 0; i < unitCount; i++) {
+        depths[i] = -1;
+      }
+      depths[from] = 0;
+      parents[from] = -1;
+      pathFactors[from] = 1;
+      int head = 0;
+      int tail = 0;
+      queue[tail++] = from;
+      while (head < tail) {
+        int unit = queue[head++];
+        resolved.add(new QuantityUnitConversionPath(
+            depths[unit],
+            productId,
+            units.get(from),
+            units.get(unit),
+            pathFactors[unit],
+            getPath(units, parents, unit)
+        ).toConversion(resolved.size()));
+        for (int e = offsets[unit]; e < offsets[unit + 1]; e++) {
+          int target = targets[e];
+          if (depths[target] != -1) {
+            continue;
+          }
+          depths[target] = depths[unit] + 1;
+          parents[target] = unit;
+          pathFactors[target] = pathFactors[unit] * factors[e];
+          queue[tail++] = target;
+        }
+      }
+    }
+  }
+
+  // product edges override the standard edges between the same units
+  private Map<Integer, Double> getNeighbors(
+      HashMap<Integer, LinkedHashMap<Integer, Double>> edges,
+      int fromQuId
+  ) {
+    LinkedHashMap<Integer, Double> productNeighbors = edges.get(fromQuId);
+    LinkedHashMap<Integer, Double> standardNeighbors = standardEdges.get(fromQuId);
+    if (standardNeighbors == null) {
+      return productNeighbors != null ? productNeighbors : new LinkedHashMap<>();
+    } else if (productNeighbors == null) {
+      return standardNeighbors;
+    }
+    LinkedHashMap<Integer, Double> neighbors = new LinkedHashMap<>(productNeighbors);
+    for (Map.Entry<Integer, Double> entry : standardNeighbors.entrySet()) {
+      if (!neighbors.containsKey(entry.getKey())) {
+        neighbors.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return neighbors;
+  }
+
+  private static String getPath(List<Integer> units, int[] parents, int unit) {
+    StringBuilder path = new StringBuilder("/");
+    ArrayList<Integer> chain = new ArrayList<>();
+    for (int i = unit; i != -1; i = parents[i]) {
+      chain.add(units.get(i));
+    }
+    for (int i = chain.size() - 1; i >= 0; i--) {
+      path.append(chain.get(i)).append("/");
+    }
+    return path.toString();
+  }
+
+  // explicit conversions are added first, so they win over inverted ones
+  private static void addEdges(
+      HashMap<Integer, LinkedHashMap<Integer, Double>> edges,
+      List<QuantityUnitConversion> conversions
+  ) {
+    for (QuantityUnitConversion conversion : conversions) {
+      if (conversion.getFactor() > 0 && conversion.getFromQuId() != conversion.getToQuId()) {
+        putEdge(edges, conversion.getFromQuId(), conversion.getToQuId(), conversion.getFactor());
+      }
+    }
+    for (QuantityUnitConversion conversion : conversions) {
+      if (conversion.getFactor() > 0 && conversion.getFromQuId() != conversion.getToQuId()) {
+        putEdge(
+            edges, conversion.getToQuId(), conversion.getFromQuId(), 1 / conversion.getFactor()
+        );
+      }
+    }
+  }
+
+  private static void putEdge(
+      HashMap<Integer, LinkedHashMap<Integer, Double>> edges,
+      int fromQuId,
+      int toQuId,
+      double factor
+  ) {
+    LinkedHashMap<Integer, Double> neighbors = edges.get(fromQuId);
+    if (neighbors == null) {
+      neighbors = new LinkedHashMap<>();
+      edges.put(fromQuId, neighbors);
+    }
+    if (!neighbors.containsKey(toQuId)) {
+      neighbors.put(toQuId, factor);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import xyz.zedler.patrick.grocy.model.Recipe;
+import xyz.zedler.patrick.grocy.model.RecipeFulfillment;
+
+/**
+ * Substring search over recipe names and the product names of their fulfillment.
+ * The texts are lowercased once and split into trigrams, so a query only has to check the
+ * recipes which contain all trigrams of it instead of every recipe.
+ * The result is the same as a toLowerCase().contains() check of both texts.
+ */
+public class RecipeSearchIndex {
+
+  private static final int GRAM_LENGTH = 3;
+
+  private final int[] recipeIds;
+  private final String[] names; // lowercase
+  private final String[] productNames; // lowercase, can be null
+  private final Map<String, int[]> postings; // trigram -> ascending recipe indexes
+
+  public RecipeSearchIndex(
+      List<Recipe> recipes,
+      Map<Integer, RecipeFulfillment> recipeFulfillmentHashMap
+  ) {
+    recipeIds = new int[recipes.size()];
+    names = new String[recipes.size()];
+    productNames = new String[recipes.size()];
+    HashMap<String, ArrayList<Integer>> postingLists = new HashMap<>();
+    for (int i = 0; i < recipes.size(); i++) {
+      Recipe recipe = recipes.get(i);
+      RecipeFulfillment recipeFulfillment = recipeFulfillmentHashMap.get(recipe.getId());
+      recipeIds[i] = recipe.getId();
+      names[i] = recipe.getName() != null ? recipe.getName().toLowerCase() : "";
+      productNames[i] = recipeFulfillment != null
+          && recipeFulfillment.getProductNamesCommaSeparated() != null
+          ? recipeFulfillment.getProductNamesCommaSeparated().toLowerCase() : null;
+
+      HashSet<String> grams = getGrams(names[i]);
+      if (productNames[i] != null) {
+        grams.addAll(getGrams(productNames[i]));
+      }
+      for (String gram : grams) {
+        ArrayList<Integer> postingList = postingLists.get(gram);
+        if (postingList == null) {
+          postingList = new ArrayList<>();
+          postingLists.put(gram, postingList);
+        }
+        postingList.add(i);
+      }
+    }
+    postings = new HashMap<>(postingLists.size());
+    for (Map.Entry<String, ArrayList<Integer>> entry : postingLists.entrySet()) {
+      ArrayList<Integer> postingList = entry.getValue();
+      int[] indexes = new int[postingList.size()];
+      for (int i = 0; i < indexes.length; i++) {
+        indexes[i] = postingList.get(i);
+      }
+      postings.put(entry.getKey(), indexes);
+    }
+  }
+
+  /**
+   * Returns the ids of all recipes whose name or product names contain the lowercase query.
+   */
+  public HashSet<Integer> search(String query) {
+    HashSet<Integer> results = new HashSet<>();
+    if (query.length() < GRAM_LENGTH) {
+      for (int i = 0; i < names.length; i++) {
+        if (matches(i, query)) {
+          results.add(recipeIds[i]);
+        }
+      }
+      return results;
+    }
+
+    // the shortest posting list of the query trigrams has the fewest candidates
+    int[] candidates = null;
+    for (String gram : getGrams(query)) {
+      int[] indexes = postings.get(gram);
+      if (indexes == null) {
+        return results;
+      }
+      if (candidates == null || indexes.length < candidates.length) {
+        candidates = indexes;
+      }
+    }
+    if (candidates == null) {
+      return results;
+    }
+    for (int index : candidates) {
+      if (matches(index, query)) {
+        results.add(recipeIds[index]);
+      }
+    }
+    return results;
+  }
+
+  private boolean matches(int index, String query) {
+    return names[index].contains(query)
+        || productNames[index] != null && productNames[index].contains(query);
+  }
+
+  private static HashSet<String> getGrams(String text) {
+    HashSet<String> grams = new HashSet<>();
+    for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+      grams.add(text.substring(i, i + GRAM_LENGTH));
+    }
+    return grams;
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import com.android.volley.NoConnectionError;
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import org.json.JSONException;
+import org.json.JSONObject;
+import xyz.zedler.patrick.grocy.Constants.PREF;
+import xyz.zedler.patrick.grocy.model.ShoppingListItem;
+
+/**
+ * Sends the done states of shopping list items which were toggled offline.
+ * Only the last state of an item is sent, items which were toggled back to the state of the
+ * server don't need a request at all. At most MAX_PARALLEL_REQUESTS requests are running at
+ * once and every failed request is retried on its own with exponential backoff, so one bad
+ * response doesn't cancel the whole sync. Without connection the sync stops and the remaining
+ * items are sent with the next sync. When all items are finished, the sync flags of the
+ * successful items are cleared in one database transaction.
+ */
+public class ShoppingListSyncBatcher {
+
+  private static final String TAG = ShoppingListSyncBatcher.class.getSimpleName();
+
+  public static final int MAX_PARALLEL_REQUESTS = 4;
+  private static final int MAX_ATTEMPTS = 3;
+  private static final long INITIAL_BACKOFF_MS = 1000;
+
+  private final DownloadHelper dlHelper;
+  private final Handler handler;
+  private final ArrayDeque<ShoppingListItem> waitingItems;
+  private final HashMap<Integer, Integer> syncedDoneStates; // item id -> sent done state
+  private OnSyncFinishedListener onFinished;
+  private int runningCount;
+  private int delayedCount;
+  private int failedCount;
+  private boolean isSyncing;
+  private int generation; // responses of a cancelled sync are ignored
+
+  public interface OnSyncFinishedListener {
+
+    void onFinished(int synced, int failed);
+  }
+
+  public ShoppingListSyncBatcher(DownloadHelper dlHelper) {
+    this.dlHelper = dlHelper;
+    handler = new Handler(Looper.getMainLooper());
+    waitingItems = new ArrayDeque<>();
+    syncedDoneStates = new HashMap<>();
+  }
+
+  public boolean isSyncing() {
+    return isSyncing;
+  }
+
+  /**
+   * Starts the sync of all items with a changed done state. Calls while a sync is running are
+   * ignored, their items are still flagged and are sent with the next sync.
+   */
+  public void sync(List<ShoppingListItem> items, OnSyncFinishedListener onFinished) {
+    if (isSyncing) {
+      return;
+    }
+    isSyncing = true;
+    this.onFinished = onFinished;
+    waitingItems.clear();
+    syncedDoneStates.clear();
+    failedCount = 0;
+    for (ShoppingListItem item : items) {
+      if (item.getDoneSynced() == -1) {
+        continue;
+      }
+      if (item.getDoneInt() == item.getDoneSynced()) {
+        // toggled back to the state of the server
+        syncedDoneStates.put(item.getId(), item.getDoneInt());
+      } else {
+        waitingItems.add(item);
+      }
+    }
+    sendNext();
+  }
+
+  // must be called when the owner is cleared, requests of the DownloadHelper are cancelled then
+  public void cancel() {
+    generation++;
+    handler.removeCallbacksAndMessages(null);
+    waitingItems.clear();
+    runningCount = 0;
+    delayedCount = 0;
+    isSyncing = false;
+  }
+
+  private void sendNext() {
+    while (runningCount < MAX_PARALLEL_REQUESTS && !waitingItems.isEmpty()) {
+      send(waitingItems.poll(), 1);
+    }
+    if (runningCount == 0 && delayedCount == 0 && waitingItems.isEmpty()) {
+      commit();
+    }
+  }
+
+  private void send(ShoppingListItem item, int attempt) {
+    int sendGeneration = generation;
+    runningCount++;
+    JSONObject body = new JSONObject();
+    try {
+      body.put("done", item.getDoneInt());
+    } catch (JSONException e) {
+      Log.e(TAG, "send: " + e);
+    }
+    ShoppingListItem.editShoppingListItem(dlHelper, item.getId(), body, response -> {
+      if (sendGeneration != generation) {
+        return;
+      }
+      runningCount--;
+      syncedDoneStates.put(item.getId(), item.getDoneInt());
+      sendNext();
+    }, error -> {
+      if (sendGeneration != generation) {
+        return;
+      }
+      runningCount--;
+      if (error instanceof NoConnectionError) {
+        // the items stay flagged, retrying makes no sense until the connection is back
+        failedCount += 1 + waitingItems.size();
+        waitingItems.clear();
+        sendNext();
+        return;
+      }
+      boolean isServerError = error.networkResponse == null
+          || error.networkResponse.statusCode >= 500;
+      if (isServerError && attempt < MAX_ATTEMPTS) {
+        delayedCount++;
+        handler.postDelayed(() -> {
+          delayedCount--;
+          send(item, attempt + 1);
+        }, INITIAL_BACKOFF_MS << (attempt - 1));
+      } else {
+        if (dlHelper.debug) {
+          Log.i(TAG, "send: failed to sync item " + item.getId() + ": " + error);
+        }
+        failedCount++;
+      }
+      sendNext();
+    }).perform(dlHelper.getUuid());
+  }
+
+  private void commit() {
+    HashMap<Integer, Integer> doneStates = new HashMap<>(syncedDoneStates);
+    int failed = failedCount;
+    Single.fromCallable(() -> {
+          dlHelper.appDatabase.shoppingListItemDao().clearDoneSynced(doneStates);
+          dlHelper.entityCache.invalidate(PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS);
+          return true;
+        })
+        .subscribeOn(Schedulers.io())
+        .observeOn(AndroidSchedulers.mainThread())
+        .doFinally(() -> {
+          isSyncing = false;
+          if (onFinished != null) {
+            onFinished.onFinished(doneStates.size(), failed);
+          }
+        })
+        .subscribe(ignored -> {}, throwable -> Log.e(TAG, "commit: " + throwable));
+  }
+}
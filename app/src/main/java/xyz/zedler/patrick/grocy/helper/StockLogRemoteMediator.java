@@ -0,0 +1,287 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import android.util.Log;
+import androidx.annotation.Nullable;
+import com.google.gson.reflect.TypeToken;
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import xyz.zedler.patrick.grocy.dao.StockLogEntryDao;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.model.StockLogEntry;
+import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
+
+/**
+ * Downloads the stock journal into the stock_log_table, like a RemoteMediator of the paging
+ * library. The table always holds a gapless range of the newest entries, so the journal can be
+ * paged and filtered from the database and only the end of this range needs requests.
+ */
+public class StockLogRemoteMediator {
+
+  public final static int PAGE_SIZE = 100;
+
+  private final DownloadHelper dlHelper;
+  private final StockLogEntryDao stockLogEntryDao;
+  private boolean endReached;
+
+  public interface OnLoadFinishedListener {
+
+    void onLoadFinished(boolean endReached);
+  }
+
+  public StockLogRemoteMediator(DownloadHelper dlHelper) {
+    this.dlHelper = dlHelper;
+    this.stockLogEntryDao = dlHelper.appDatabase.stockLogEntryDao();
+    this.endReached = false;
+  }
+
+  // true if the oldest entry of the journal is cached
+  public boolean isEndReached() {
+    return endReached;
+  }
+
+  /**
+   * Downloads the newest entries. If they don't reach the newest cached entry, the entries in
+   * between are unknown and the cache is replaced with the downloaded entries.
+   * Older cached entries can only change by being undone, which always happens after the newest
+   * cached entry was created, so the entries undone since then are downloaded again afterwards.
+   */
+  public QueueItem refresh(@Nullable OnLoadFinishedListener onFinished) {
+    return new QueueItem() {
+      @Override
+      public void perform(
+          @Nullable OnStringResponseListener responseListener,
+          @Nullable OnMultiTypeErrorListener errorListener,
+          @Nullable String uuid
+      ) {
+        Single.fromCallable(() -> {
+              String timestamp = stockLogEntryDao.getNewestTimestamp();
+              return timestamp != null ? timestamp : "";
+            })
+            .subscribeOn(Schedulers.io())
+            .observeOn(AndroidSchedulers.mainThread())
+            .doOnSuccess(timestamp -> download(
+                dlHelper.grocyApi.getStockLogEntries(PAGE_SIZE, 0, -1),
+                true,
+                uuid,
+                onFinished,
+                response -> {
+                  if (timestamp.isEmpty()) {
+                    if (responseListener != null) {
+                      responseListener.onResponse(response);
+                    }
+                    return;
+                  }
+                  updateEntries(
+                      dlHelper.grocyApi.getStockLogEntriesUndoneSince(timestamp),
+                      uuid,
+                      responseListener,
+                      errorListener
+                  );
+                },
+                errorListener
+            ))
+            .doOnError(throwable -> {
+              if (errorListener != null) {
+                errorListener.onError(throwable);
+              }
+            })
+            .onErrorComplete()
+            .subscribe();
+      }
+    };
+  }
+
+  /**
+   * Downloads the entries which are older than the oldest cached entry
+   */
+  public QueueItem append(@Nullable OnLoadFinishedListener onFinished) {
+    return new QueueItem() {
+      @Override
+      public void perform(
+          @Nullable OnStringResponseListener responseListener,
+          @Nullable OnMultiTypeErrorListener errorListener,
+          @Nullable String uuid
+      ) {
+        Single.fromCallable(() -> {
+              Integer minId = stockLogEntryDao.getMinId();
+              return minId != null ? minId : Integer.MAX_VALUE;
+            })
+            .subscribeOn(Schedulers.io())
+            .observeOn(AndroidSchedulers.mainThread())
+            .doOnSuccess(minId -> download(
+                dlHelper.grocyApi.getStockLogEntriesBefore(PAGE_SIZE, minId),
+                false,
+                uuid,
+                onFinished,
+                responseListener,
+                errorListener
+            ))
+            .doOnError(throwable -> {
+              if (errorListener != null) {
+                errorListener.onError(throwable);
+              }
+            })
+            .onErrorComplete()
+            .subscribe();
+      }
+    };
+  }
+
+  /**
+   * Downloads the entries of a transaction again, e.g. after it was undone
+   */
+  public QueueItem updateTransaction(String transactionId) {
+    return new QueueItem() {
+      @Override
+      public void perform(
+          @Nullable OnStringResponseListener responseListener,
+          @Nullable OnMultiTypeErrorListener errorListener,
+          @Nullable String uuid
+      ) {
+        updateEntries(
+            dlHelper.grocyApi.getStockLogEntriesForTransaction(transactionId),
+            uuid,
+            responseListener,
+            errorListener
+        );
+      }
+    };
+  }
+
+  // downloads cached entries again, entries older than the cached range would leave a gap
+  private void updateEntries(
+      String url,
+      @Nullable String uuid,
+      @Nullable OnStringResponseListener responseListener,
+      @Nullable OnMultiTypeErrorListener errorListener
+  ) {
+    dlHelper.get(
+        url,
+        uuid,
+        response -> {
+          ArrayList<StockLogEntry> entries = parse(response);
+          Single.fromCallable(() -> {
+                Integer minId = stockLogEntryDao.getMinId();
+                ArrayList<StockLogEntry> cachedEntries = new ArrayList<>();
+                for (StockLogEntry entry : entries) {
+                  if (minId != null && entry.getId() >= minId) {
+                    cachedEntries.add(entry);
+                  }
+                }
+                stockLogEntryDao.insertAll(cachedEntries);
+                return true;
+              })
+              .subscribeOn(Schedulers.io())
+              .observeOn(AndroidSchedulers.mainThread())
+              .doOnSuccess(written -> {
+                if (responseListener != null) {
+                  responseListener.onResponse(response);
+                }
+              })
+              .doOnError(throwable -> {
+                if (errorListener != null) {
+                  errorListener.onError(throwable);
+                }
+              })
+              .onErrorComplete()
+              .subscribe();
+        },
+        error -> {
+          if (errorListener != null) {
+            errorListener.onError(error);
+          }
+        }
+    );
+  }
+
+  private void download(
+      String url,
+      boolean refresh,
+      @Nullable String uuid,
+      @Nullable OnLoadFinishedListener onFinished,
+      @Nullable OnStringResponseListener responseListener,
+      @Nullable OnMultiTypeErrorListener errorListener
+  ) {
+    dlHelper.get(
+        url,
+        uuid,
+        response -> {
+          ArrayList<StockLogEntry> entries = parse(response);
+          boolean pageFull = entries.size() >= PAGE_SIZE;
+          Single.fromCallable(() -> {
+                if (refresh && pageFull) {
+                  Integer maxId = stockLogEntryDao.getMaxId();
+                  // entries are ordered by id descending
+                  if (maxId != null && entries.get(entries.size() - 1).getId() > maxId) {
+                    stockLogEntryDao.replaceAll(entries);
+                    return true;
+                  }
+                }
+                stockLogEntryDao.insertAll(entries);
+                return false;
+              })
+              .subscribeOn(Schedulers.io())
+              .observeOn(AndroidSchedulers.mainThread())
+              .doOnSuccess(replaced -> {
+                if (refresh) {
+                  endReached = !pageFull || (!replaced && endReached);
+                } else {
+                  endReached = !pageFull;
+                }
+                if (onFinished != null) {
+                  onFinished.onLoadFinished(endReached);
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(response);
+                }
+              })
+              .doOnError(throwable -> {
+                if (errorListener != null) {
+                  errorListener.onError(throwable);
+                }
+              })
+              .onErrorComplete()
+              .subscribe();
+        },
+        error -> {
+          if (errorListener != null) {
+            errorListener.onError(error);
+          }
+        }
+    );
+  }
+
+  private ArrayList<StockLogEntry> parse(String response) {
+    Type type = new TypeToken<ArrayList<StockLogEntry>>() {
+    }.getType();
+    ArrayList<StockLogEntry> entries = dlHelper.gson.fromJson(response, type);
+    if (dlHelper.debug) {
+      Log.i(dlHelper.tag, "download StockLogEntries: " + entries);
+    }
+    return entries;
+  }
+}
@@ -0,0 +1,399 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.helper;
+
+import android.util.Log;
+import androidx.annotation.Nullable;
+import com.android.volley.NoConnectionError;
+import com.android.volley.VolleyError;
+import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.json.JSONException;
+import org.json.JSONObject;
+import xyz.zedler.patrick.grocy.Constants.PREF;
+import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnJSONArrayResponseListener;
+import xyz.zedler.patrick.grocy.model.PendingStockTransaction;
+import xyz.zedler.patrick.grocy.model.Product;
+import xyz.zedler.patrick.grocy.model.StockItem;
+
+/**
+ * Outbox for consume, open, inventory and transfer transactions, which are stored in Room if
+ * the server can't be reached and replayed when the device is online again.
+ * Transactions of the same product are replayed one after another in the order in which they
+ * were made, transactions of different products in parallel. While a product has queued
+ * transactions, new ones are queued behind them. Queued transactions are applied to the cached
+ * stock item of the product, so the stock overview shows the expected amounts until the
+ * replayed transactions are synced back.
+ * A transaction is only queued if the request could not reach the server, not after a
+ * timeout, because the server may have booked it already. Grocy has no idempotency keys, so
+ * the key of a transaction only prevents that it is queued or replayed twice by the app.
+ * For the same reason a transaction is removed from the outbox before it is replayed and only
+ * stored again if the server could not be reached. After a timeout or a server error it is
+ * dropped, the stock is downloaded again and the user is told to check it.
+ * Methods must be called on the main thread.
+ */
+public class StockTransactionOutbox {
+
+  private static final String TAG = StockTransactionOutbox.class.getSimpleName();
+
+  private static StockTransactionOutbox instance;
+  private boolean isReplaying;
+  private boolean replayAgain;
+  private ReplayResult runningReplay;
+
+  public interface OnReplayFinishedListener {
+
+    void onFinished(int sent, int rejected, int failed);
+  }
+
+  public static synchronized StockTransactionOutbox getInstance() {
+    if (instance == null) {
+      instance = new StockTransactionOutbox();
+    }
+    return instance;
+  }
+
+  /**
+   * Sends the transaction to the server, or queues it if the device is offline, the server
+   * can't be reached or an older transaction of the product is still queued.
+   */
+  public void post(
+      DownloadHelper dlHelper,
+      PendingStockTransaction transaction,
+      boolean isOffline,
+      OnJSONArrayResponseListener onResponse,
+      Runnable onQueued,
+      OnErrorListener onError
+  ) {
+    if (isOffline) {
+      enqueue(dlHelper, transaction, onQueued, onError);
+      return;
+    }
+    dlHelper.appDatabase.pendingStockTransactionDao()
+        .countTransactionsForProduct(transaction.getProductId())
+        .subscribeOn(Schedulers.io())
+        .observeOn(AndroidSchedulers.mainThread())
+        .subscribe(count -> {
+          if (count > 0) {
+            enqueue(dlHelper, transaction, () -> {
+              onQueued.run();
+              replay(dlHelper, null);
+            }, onError);
+            return;
+          }
+          JSONObject body;
+          try {
+            body = transaction.getBodyJson();
+          } catch (JSONException e) {
+            onError.onError(new VolleyError(e));
+            return;
+          }
+          dlHelper.postWithArray(transaction.getUrl(dlHelper.grocyApi), body, onResponse, error -> {
+            if (error instanceof NoConnectionError) {
+              enqueue(dlHelper, transaction, onQueued, onError);
+            } else {
+              onError.onError(error);
+            }
+          });
+        }, throwable -> onError.onError(new VolleyError(throwable)));
+  }
+
+  private void enqueue(
+      DownloadHelper dlHelper,
+      PendingStockTransaction transaction,
+      Runnable onQueued,
+      OnErrorListener onError
+  ) {
+    AppDatabase appDatabase = dlHelper.appDatabase;
+    Single.fromCallable(() -> {
+          appDatabase.runInTransaction(() -> {
+            if (appDatabase.pendingStockTransactionDao().insertTransaction(transaction) != -1) {
+              applyToStockItem(appDatabase, transaction);
+            }
+            return null;
+          });
+          dlHelper.entityCache.invalidate(PREF.DB_LAST_TIME_STOCK_ITEMS);
+          return true;
+        })
+        .subscribeOn(Schedulers.io())
+        .observeOn(AndroidSchedulers.mainThread())
+        .subscribe(
+            ignored -> onQueued.run(),
+            throwable -> onError.onError(new VolleyError(throwable))
+        );
+  }
+
+  /**
+   * Replays all queued transactions. If a replay is already running, another one is started
+   * after it, so all calls while the connection comes back are coalesced into one more pass.
+   */
+  public void replay(DownloadHelper dlHelper, @Nullable OnReplayFinishedListener onFinished) {
+    if (isReplaying) {
+      replayAgain = true;
+      return;
+    }
+    isReplaying = true;
+    ReplayResult result = new ReplayResult();
+    runningReplay = result;
+    dlHelper.appDatabase.pendingStockTransactionDao().getTransactions()
+        .subscribeOn(Schedulers.io())
+        .observeOn(AndroidSchedulers.mainThread())
+        .subscribe(transactions -> {
+          if (result.cancelled) {
+            return;
+          }
+          LinkedHashMap<Integer, ArrayDeque<PendingStockTransaction>> byProduct
+              = new LinkedHashMap<>();
+          for (PendingStockTransaction transaction : transactions) {
+            ArrayDeque<PendingStockTransaction> queue = byProduct.get(transaction.getProductId());
+            if (queue == null) {
+              queue = new ArrayDeque<>();
+              byProduct.put(transaction.getProductId(), queue);
+            }
+            queue.add(transaction);
+          }
+          result.remainingProducts = byProduct.size();
+          if (byProduct.isEmpty()) {
+            onReplayFinished(dlHelper, result, onFinished);
+            return;
+          }
+          for (ArrayDeque<PendingStockTransaction> queue : byProduct.values()) {
+            replayNext(dlHelper, queue, result, () -> {
+              result.remainingProducts--;
+              if (result.remainingProducts == 0) {
+                onReplayFinished(dlHelper, result, onFinished);
+              }
+            });
+          }
+        }, throwable -> {
+          if (!result.cancelled) {
+            isReplaying = false;
+            runningReplay = null;
+          }
+          Log.e(TAG, "replay: " + throwable);
+        });
+  }
+
+  /**
+   * Stops the running replay, must be called before the DownloadHelper of the replay is
+   * destroyed. Transactions which are sent right now may have been booked or not, so the stock
+   * is downloaded completely with the next sync.
+   */
+  public void cancel(DownloadHelper dlHelper) {
+    if (runningReplay == null) {
+      return;
+    }
+    runningReplay.cancelled = true;
+    if (runningReplay.sending > 0) {
+      invalidateStockItems(dlHelper);
+    }
+    runningReplay = null;
+    isReplaying = false;
+    replayAgain = false;
+  }
+
+  private void replayNext(
+      DownloadHelper dlHelper,
+      ArrayDeque<PendingStockTransaction> queue,
+      ReplayResult result,
+      Runnable onProductFinished
+  ) {
+    if (result.cancelled) {
+      return;
+    }
+    PendingStockTransaction transaction = queue.poll();
+    if (transaction == null) {
+      onProductFinished.run();
+      return;
+    }
+    Runnable next = () -> replayNext(dlHelper, queue, result, onProductFinished);
+    JSONObject body;
+    try {
+      body = transaction.getBodyJson();
+    } catch (JSONException e) {
+      result.rejected++;
+      delete(dlHelper, transaction, next, onProductFinished);
+      return;
+    }
+    delete(dlHelper, transaction, () -> {
+      if (result.cancelled) {
+        // not sent yet, so it can be replayed later
+        requeue(dlHelper, transaction, () -> {});
+        return;
+      }
+      result.sending++;
+      postTransaction(dlHelper, transaction, body, result, next, onProductFinished);
+    }, onProductFinished);
+  }
+
+  private void postTransaction(
+      DownloadHelper dlHelper,
+      PendingStockTransaction transaction,
+      JSONObject body,
+      ReplayResult result,
+      Runnable next,
+      Runnable onProductFinished
+  ) {
+    dlHelper.postWithArray(
+        transaction.getUrl(dlHelper.grocyApi),
+        body,
+        response -> {
+          result.sending--;
+          if (dlHelper.debug) {
+            Log.i(TAG, "postTransaction: sent " + transaction);
+          }
+          result.sent++;
+          next.run();
+        },
+        error -> {
+          result.sending--;
+          if (error instanceof NoConnectionError) {
+            // keep this and the following transactions of the product for the next replay
+            requeue(dlHelper, transaction, onProductFinished);
+            return;
+          }
+          if (error.networkResponse != null && error.networkResponse.statusCode >= 400
+              && error.networkResponse.statusCode < 500) {
+            // e.g. not enough stock left, the following transactions may still be valid
+            result.rejected++;
+          } else {
+            // timeout or server error, the server may have booked it already
+            result.failed++;
+          }
+          if (dlHelper.debug) {
+            Log.i(TAG, "postTransaction: dropped " + transaction + ": " + error);
+          }
+          next.run();
+        }
+    );
+  }
+
+  private void delete(
+      DownloadHelper dlHelper,
+      PendingStockTransaction transaction,
+      Runnable onDeleted,
+      Runnable onFailed
+  ) {
+    dlHelper.appDatabase.pendingStockTransactionDao()
+        .deleteTransaction(transaction.getId())
+        .subscribeOn(Schedulers.io())
+        .observeOn(AndroidSchedulers.mainThread())
+        .subscribe(ignored -> onDeleted.run(), throwable -> {
+          Log.e(TAG, "delete: " + throwable);
+          onFailed.run();
+        });
+  }
+
+  // stores the transaction with its old id again, so it keeps its place in the outbox
+  private void requeue(
+      DownloadHelper dlHelper,
+      PendingStockTransaction transaction,
+      Runnable onFinished
+  ) {
+    Single.fromCallable(
+            () -> dlHelper.appDatabase.pendingStockTransactionDao().insertTransaction(transaction)
+        )
+        .subscribeOn(Schedulers.io())
+        .observeOn(AndroidSchedulers.mainThread())
+        .subscribe(ignored -> onFinished.run(), throwable -> {
+          Log.e(TAG, "requeue: " + throwable);
+          onFinished.run();
+        });
+  }
+
+  private void onReplayFinished(
+      DownloadHelper dlHelper,
+      ReplayResult result,
+      @Nullable OnReplayFinishedListener onFinished
+  ) {
+    if (result.cancelled) {
+      return;
+    }
+    isReplaying = false;
+    runningReplay = null;
+    if (result.rejected > 0 || result.failed > 0) {
+      invalidateStockItems(dlHelper);
+    }
+    if (onFinished != null && (result.sent > 0 || result.rejected > 0 || result.failed > 0)) {
+      onFinished.onFinished(result.sent, result.rejected, result.failed);
+    }
+    if (replayAgain) {
+      replayAgain = false;
+      replay(dlHelper, onFinished);
+    }
+  }
+
+  // the optimistic amounts of dropped transactions are only corrected by a full download
+  private static void invalidateStockItems(DownloadHelper dlHelper) {
+    dlHelper.sharedPrefs.edit().remove(PREF.DB_LAST_TIME_STOCK_ITEMS).apply();
+    dlHelper.entityCache.invalidate(PREF.DB_LAST_TIME_STOCK_ITEMS);
+  }
+
+  /**
+   * Applies all queued transactions to the stock items again, must be called after the stock
+   * items were synced inside of the same database write.
+   */
+  public static void applyPendingTransactions(AppDatabase appDatabase) {
+    List<PendingStockTransaction> transactions = appDatabase.pendingStockTransactionDao()
+        .getTransactions().blockingGet();
+    for (PendingStockTransaction transaction : transactions) {
+      try {
+        applyToStockItem(appDatabase, transaction);
+      } catch (JSONException e) {
+        Log.e(TAG, "applyPendingTransactions: " + e);
+      }
+    }
+  }
+
+  private static void applyToStockItem(
+      AppDatabase appDatabase,
+      PendingStockTransaction transaction
+  ) throws JSONException {
+    StockItem stockItem = appDatabase.stockItemDao().getStockItem(transaction.getProductId());
+    if (stockItem == null) {
+      return;
+    }
+    // amounts of tare weight products are gross weights, the stock is corrected by the next sync
+    Product product = appDatabase.productDao().getProduct(transaction.getProductId());
+    if (product != null && product.getEnableTareWeightHandlingBoolean()) {
+      return;
+    }
+    transaction.applyToStockItem(stockItem);
+    appDatabase.stockItemDao().insertAll(Collections.singletonList(stockItem));
+  }
+
+  private static class ReplayResult {
+
+    private int remainingProducts;
+    private int sent;
+    private int rejected;
+    private int failed;
+    private int sending; // requests without response
+    private boolean cancelled;
+  }
+}
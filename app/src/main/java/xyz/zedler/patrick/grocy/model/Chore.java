@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -442,9 +441,12 @@ public class Chore implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(ENTITY.CHORES),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_CHORES,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<Chore>>() {
                 }.getType();
@@ -453,13 +455,15 @@ public class Chore implements Parcelable {
                   Log.i(dlHelper.tag, "download Chores: " + chores);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.choreDao().deleteChores().blockingSubscribe();
-                  dlHelper.appDatabase.choreDao().insertChores(chores).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_CHORES, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.choreDao().replaceAll(chores),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_CHORES
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -475,6 +479,14 @@ public class Chore implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Chores: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -35,7 +35,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -47,6 +46,7 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.DateUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
@@ -74,6 +74,9 @@ public class ChoreEntry implements Parcelable {
   @SerializedName("next_estimated_execution_time")
   private String nextEstimatedExecutionTime;
 
+  @Ignore
+  private transient Long nextEstimatedExecutionEpochDay; // parsed on first use
+
   @ColumnInfo(name = "track_date_only")
   @SerializedName("track_date_only")
   private String trackDateOnly;
@@ -156,8 +159,18 @@ public class ChoreEntry implements Parcelable {
     return nextEstimatedExecutionTime;
   }
 
+  public long getNextEstimatedExecutionEpochDay() {
+    Long epochDay = nextEstimatedExecutionEpochDay;
+    if (epochDay == null) {
+      epochDay = DateUtil.getEpochDay(nextEstimatedExecutionTime);
+      nextEstimatedExecutionEpochDay = epochDay;
+    }
+    return epochDay;
+  }
+
   public void setNextEstimatedExecutionTime(String nextEstimatedExecutionTime) {
     this.nextEstimatedExecutionTime = nextEstimatedExecutionTime;
+    this.nextEstimatedExecutionEpochDay = null;
   }
 
   public String getTrackDateOnly() {
@@ -266,9 +279,12 @@ public class ChoreEntry implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getChores(),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_CHORE_ENTRIES,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<ChoreEntry>>() {
                 }.getType();
@@ -277,15 +293,15 @@ public class ChoreEntry implements Parcelable {
                   Log.i(dlHelper.tag, "download ChoreEntries: " + choreEntries);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.choreEntryDao()
-                      .deleteChoreEntries().blockingSubscribe();
-                  dlHelper.appDatabase.choreEntryDao()
-                      .insertChoreEntries(choreEntries).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_CHORE_ENTRIES, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.choreEntryDao().replaceAll(choreEntries),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_CHORE_ENTRIES
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -301,6 +317,14 @@ public class ChoreEntry implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download ChoreEntries: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -33,7 +33,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -268,9 +267,12 @@ public class Location implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.LOCATIONS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_LOCATIONS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<Location>>() {
                 }.getType();
@@ -279,15 +281,15 @@ public class Location implements Parcelable {
                   Log.i(dlHelper.tag, "download Locations: " + locations);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.locationDao()
-                      .deleteLocations().blockingSubscribe();
-                  dlHelper.appDatabase.locationDao()
-                      .insertLocations(locations).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_LOCATIONS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.locationDao().replaceAll(locations),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_LOCATIONS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -303,6 +305,14 @@ public class Location implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Locations: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
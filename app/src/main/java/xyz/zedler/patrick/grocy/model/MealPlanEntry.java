@@ -20,6 +20,7 @@
 
 package xyz.zedler.patrick.grocy.model;
 
+import android.content.SharedPreferences;
 import android.os.Parcel;
 import android.os.Parcelable;
 import android.util.Log;
@@ -28,26 +29,25 @@ import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.Constants.PREF;
-import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
-@Entity(tableName = "meal_plan_entry_table")
+@Entity(tableName = "meal_plan_entry_table", indices = @Index("day"))
 public class MealPlanEntry extends GroupedListItem implements Parcelable {
 
   public final static String TYPE_RECIPE = "recipe";
@@ -291,15 +291,22 @@ public class MealPlanEntry extends GroupedListItem implements Parcelable {
     return "MealPlanEntry(" + id + ')';
   }
 
+  /**
+   * Downloads the entries from firstDay to lastDay (format yyyy-MM-dd) instead of the whole
+   * meal plan history. The cached days are saved with the db-changed-time, so the download is
+   * skipped while the requested days are cached and nothing changed on the server.
+   */
   public static QueueItem updateMealPlanEntries(
       DownloadHelper dlHelper,
       String dbChangedTime,
+      String firstDay,
+      String lastDay,
+      boolean forceUpdate,
       OnObjectsResponseListener<MealPlanEntry> onResponseListener
   ) {
-    String lastTime = dlHelper.sharedPrefs.getString(  // get last offline db-changed-time value
-        Constants.PREF.DB_LAST_TIME_MEAL_PLAN_ENTRIES, null
-    );
-    if (lastTime == null || !lastTime.equals(dbChangedTime)) {
+    String[] cachedDays = getCachedDays(dlHelper.sharedPrefs, dbChangedTime);
+    if (forceUpdate || cachedDays == null
+        || cachedDays[0].compareTo(firstDay) > 0 || cachedDays[1].compareTo(lastDay) < 0) {
       return new QueueItem() {
         @Override
         public void perform(
@@ -307,26 +314,42 @@ public class MealPlanEntry extends GroupedListItem implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
-              dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.MEAL_PLAN),
+          // not conditional, because days of another window may have been dropped in the meantime
+          dlHelper.getIfChanged(
+              dlHelper.grocyApi.getMealPlanEntries(firstDay, lastDay),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_MEAL_PLAN_ENTRIES,
+              false,
               response -> {
                 Type type = new TypeToken<List<MealPlanEntry>>() {
                 }.getType();
                 ArrayList<MealPlanEntry> mealPlanEntries = dlHelper.gson.fromJson(response, type);
                 if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download MealPlanEntries: " + mealPlanEntries);
+                  Log.i(dlHelper.tag, "download MealPlanEntries from " + firstDay
+                      + " to " + lastDay + ": " + mealPlanEntries);
                 }
                 Single.fromCallable(() -> {
-                      dlHelper.appDatabase.mealPlanEntryDao()
-                          .deleteMealPlanEntries().blockingSubscribe();
-                      dlHelper.appDatabase.mealPlanEntryDao()
-                          .insertMealPlanEntries(mealPlanEntries).blockingSubscribe();
-                      dlHelper.sharedPrefs.edit()
-                          .putString(PREF.DB_LAST_TIME_MEAL_PLAN_ENTRIES, dbChangedTime).apply();
+                      dlHelper.writeToDatabase(
+                          uuid,
+                          () -> {
+                            String[] daysToCache = getDaysToCache(
+                                dlHelper.sharedPrefs, dbChangedTime, firstDay, lastDay
+                            );
+                            dlHelper.appDatabase.mealPlanEntryDao().replaceAll(
+                                daysToCache[0], daysToCache[1], firstDay, lastDay, mealPlanEntries
+                            );
+                            dlHelper.sharedPrefs.edit().putString(
+                                PREF.DB_LAST_WINDOW_MEAL_PLAN_ENTRIES,
+                                dbChangedTime + "|" + daysToCache[0] + "|" + daysToCache[1]
+                            ).apply();
+                          },
+                          dbChangedTime,
+                          PREF.DB_LAST_TIME_MEAL_PLAN_ENTRIES
+                      );
                       return true;
                     })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doOnError(throwable -> {
                       if (errorListener != null) {
@@ -343,6 +366,11 @@ public class MealPlanEntry extends GroupedListItem implements Parcelable {
                     })
                     .subscribe();
               },
+              () -> {
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -358,4 +386,37 @@ public class MealPlanEntry extends GroupedListItem implements Parcelable {
       return null;
     }
   }
+
+  // first and last cached day, null if the cached days are from another db-changed-time
+  @Nullable
+  private static String[] getCachedDays(SharedPreferences sharedPrefs, String dbChangedTime) {
+    String window = sharedPrefs.getString(PREF.DB_LAST_WINDOW_MEAL_PLAN_ENTRIES, null);
+    if (window == null) {
+      return null;
+    }
+    String[] parts = window.split("\\|");
+    if (parts.length != 3 || !parts[0].equals(dbChangedTime)) {
+      return null;
+    }
+    return new String[]{parts[1], parts[2]};
+  }
+
+  // the cached days are extended if they touch the downloaded days, otherwise they are replaced
+  private static String[] getDaysToCache(
+      SharedPreferences sharedPrefs,
+      String dbChangedTime,
+      String firstDay,
+      String lastDay
+  ) {
+    String[] cachedDays = getCachedDays(sharedPrefs, dbChangedTime);
+    if (cachedDays == null
+        || LocalDate.parse(cachedDays[1]).plusDays(1).isBefore(LocalDate.parse(firstDay))
+        || LocalDate.parse(lastDay).plusDays(1).isBefore(LocalDate.parse(cachedDays[0]))) {
+      return new String[]{firstDay, lastDay};
+    }
+    return new String[]{
+        cachedDays[0].compareTo(firstDay) < 0 ? cachedDays[0] : firstDay,
+        cachedDays[1].compareTo(lastDay) > 0 ? cachedDays[1] : lastDay
+    };
+  }
 }
@@ -33,7 +33,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -223,9 +222,12 @@ public class MealPlanSection extends GroupedListItem implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(ENTITY.MEAL_PLAN_SECTIONS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_MEAL_PLAN_SECTIONS,
+              onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<MealPlanSection>>() {
                 }.getType();
@@ -234,15 +236,15 @@ public class MealPlanSection extends GroupedListItem implements Parcelable {
                   Log.i(dlHelper.tag, "download MealPlanSections: " + mealPlanSections);
                 }
                 Single.fromCallable(() -> {
-                      dlHelper.appDatabase.mealPlanSectionDao()
-                          .deleteMealPlanSections().blockingSubscribe();
-                      dlHelper.appDatabase.mealPlanSectionDao()
-                          .insertMealPlanSections(mealPlanSections).blockingSubscribe();
-                      dlHelper.sharedPrefs.edit()
-                          .putString(PREF.DB_LAST_TIME_MEAL_PLAN_SECTIONS, dbChangedTime).apply();
+                      dlHelper.writeToDatabase(
+                          uuid,
+                          () -> dlHelper.appDatabase.mealPlanSectionDao().replaceAll(mealPlanSections),
+                          dbChangedTime,
+                          PREF.DB_LAST_TIME_MEAL_PLAN_SECTIONS
+                      );
                       return true;
                     })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doOnError(throwable -> {
                       if (errorListener != null) {
@@ -259,6 +261,14 @@ public class MealPlanSection extends GroupedListItem implements Parcelable {
                     })
                     .subscribe();
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download MealPlanSections: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
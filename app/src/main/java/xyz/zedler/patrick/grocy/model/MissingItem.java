@@ -33,7 +33,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.ArrayList;
 import java.util.List;
 import org.json.JSONException;
@@ -172,9 +171,12 @@ public class MissingItem implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getStockVolatile(),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_VOLATILE_MISSING,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 if (dlHelper.debug) {
                   Log.i(dlHelper.tag, "download Volatile (only missing): success");
@@ -199,14 +201,15 @@ public class MissingItem implements Parcelable {
                 }
                 ArrayList<MissingItem> finalMissingItems = missingItems;
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.missingItemDao().deleteMissingItems().blockingSubscribe();
-                  dlHelper.appDatabase.missingItemDao()
-                      .insertMissingItems(finalMissingItems).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_VOLATILE_MISSING, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.missingItemDao().replaceAll(finalMissingItems),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_VOLATILE_MISSING
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -222,6 +225,14 @@ public class MissingItem implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download updateMissingItems: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -0,0 +1,198 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.model;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+import java.util.UUID;
+import org.json.JSONException;
+import org.json.JSONObject;
+import xyz.zedler.patrick.grocy.api.GrocyApi;
+
+/**
+ * Stock transaction which could not be sent to the server and is kept in the outbox until it
+ * is replayed. The id gives the order in which the transactions were made.
+ */
+@Entity(
+    tableName = "pending_stock_transaction_table",
+    indices = {
+        @Index(value = "idempotency_key", unique = true),
+        @Index("product_id")
+    }
+)
+public class PendingStockTransaction {
+
+  public static final String TYPE_CONSUME = "consume";
+  public static final String TYPE_OPEN = "open";
+  public static final String TYPE_INVENTORY = "inventory";
+  public static final String TYPE_TRANSFER = "transfer";
+
+  @PrimaryKey(autoGenerate = true)
+  @ColumnInfo(name = "id")
+  private long id;
+
+  @ColumnInfo(name = "idempotency_key")
+  private String idempotencyKey;
+
+  @ColumnInfo(name = "product_id")
+  private int productId;
+
+  @ColumnInfo(name = "type")
+  private String type;
+
+  @ColumnInfo(name = "body")
+  private String body;
+
+  @ColumnInfo(name = "created_timestamp")
+  private long createdTimestamp;
+
+  public PendingStockTransaction() {
+  }
+
+  @Ignore
+  public PendingStockTransaction(int productId, String type, JSONObject body) {
+    this.idempotencyKey = UUID.randomUUID().toString();
+    this.productId = productId;
+    this.type = type;
+    this.body = body.toString();
+    this.createdTimestamp = System.currentTimeMillis();
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public void setId(long id) {
+    this.id = id;
+  }
+
+  public String getIdempotencyKey() {
+    return idempotencyKey;
+  }
+
+  public void setIdempotencyKey(String idempotencyKey) {
+    this.idempotencyKey = idempotencyKey;
+  }
+
+  public int getProductId() {
+    return productId;
+  }
+
+  public void setProductId(int productId) {
+    this.productId = productId;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public String getBody() {
+    return body;
+  }
+
+  public void setBody(String body) {
+    this.body = body;
+  }
+
+  public JSONObject getBodyJson() throws JSONException {
+    return new JSONObject(body);
+  }
+
+  public long getCreatedTimestamp() {
+    return createdTimestamp;
+  }
+
+  public void setCreatedTimestamp(long createdTimestamp) {
+    this.createdTimestamp = createdTimestamp;
+  }
+
+  public String getUrl(GrocyApi grocyApi) {
+    switch (type) {
+      case TYPE_OPEN:
+        return grocyApi.openProduct(productId);
+      case TYPE_INVENTORY:
+        return grocyApi.inventoryProduct(productId);
+      case TYPE_TRANSFER:
+        return grocyApi.transferProduct(productId);
+      default:
+        return grocyApi.consumeProduct(productId);
+    }
+  }
+
+  /**
+   * Applies the transaction to the cached stock item of the product, so the stock overview
+   * shows the expected amounts until the transaction is replayed and the stock is synced.
+   * Transfers don't change the amounts of a product. Must not be used for products with tare
+   * weight handling, their amounts are gross weights.
+   */
+  public void applyToStockItem(StockItem stockItem) throws JSONException {
+    JSONObject json = getBodyJson();
+    switch (type) {
+      case TYPE_CONSUME: {
+        double amount = json.optDouble("amount", 0);
+        double newAmount = Math.max(0, stockItem.getAmountDouble() - amount);
+        stockItem.setAmount(String.valueOf(newAmount));
+        stockItem.setAmountOpened(
+            String.valueOf(Math.min(newAmount, stockItem.getAmountOpenedDouble()))
+        );
+        stockItem.setAmountAggregated(
+            String.valueOf(Math.max(0, stockItem.getAmountAggregatedDouble() - amount))
+        );
+        break;
+      }
+      case TYPE_OPEN: {
+        double amount = json.optDouble("amount", 0);
+        double amountOpened = Math.min(
+            stockItem.getAmountDouble(), stockItem.getAmountOpenedDouble() + amount
+        );
+        stockItem.setAmountOpened(String.valueOf(amountOpened));
+        stockItem.setAmountOpenedAggregated(String.valueOf(Math.min(
+            stockItem.getAmountAggregatedDouble(),
+            stockItem.getAmountOpenedAggregatedDouble() + amount
+        )));
+        break;
+      }
+      case TYPE_INVENTORY: {
+        double newAmount = json.optDouble("new_amount", stockItem.getAmountDouble());
+        double difference = newAmount - stockItem.getAmountDouble();
+        stockItem.setAmount(String.valueOf(newAmount));
+        stockItem.setAmountAggregated(
+            String.valueOf(Math.max(0, stockItem.getAmountAggregatedDouble() + difference))
+        );
+        break;
+      }
+    }
+  }
+
+  @NonNull
+  @Override
+  public String toString() {
+    return "PendingStockTransaction(" + type + ", " + productId + ')';
+  }
+}
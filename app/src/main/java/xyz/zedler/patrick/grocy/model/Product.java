@@ -49,7 +49,9 @@ import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS.STOCK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
+import xyz.zedler.patrick.grocy.dao.ProductDao;
 import xyz.zedler.patrick.grocy.database.Converters;
+import xyz.zedler.patrick.grocy.helper.DeltaSyncHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
@@ -1119,9 +1121,12 @@ public class Product extends GroupedListItem implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.PRODUCTS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_PRODUCTS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<Product>>() {
                 }.getType();
@@ -1130,15 +1135,28 @@ public class Product extends GroupedListItem implements Parcelable {
                   Log.i(dlHelper.tag, "download Products: " + products);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.productDao()
-                      .deleteProducts().blockingSubscribe();
-                  dlHelper.appDatabase.productDao()
-                      .insertProducts(products).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_PRODUCTS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(uuid, () -> {
+                    ProductDao dao = dlHelper.appDatabase.productDao();
+                    DeltaSyncHelper.Result result = DeltaSyncHelper.syncTable(
+                        dlHelper.appDatabase,
+                        products,
+                        forceUpdate,
+                        new DeltaSyncHelper.Table<>(
+                            () -> dao.getProducts().blockingGet(),
+                            dao::insertAll,
+                            ids -> dao.deleteProductsByIds(ids).blockingSubscribe(),
+                            dao::deleteAll,
+                            Product::getId,
+                            Product::equals
+                        )
+                    );
+                    if (dlHelper.debug) {
+                      Log.i(dlHelper.tag, "sync Products: " + result);
+                    }
+                  }, dbChangedTime, PREF.DB_LAST_TIME_PRODUCTS);
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -1154,6 +1172,14 @@ public class Product extends GroupedListItem implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Products: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -150,9 +149,12 @@ public class ProductAveragePrice implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(ENTITY.PRODUCTS_AVERAGE_PRICE),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_PRODUCTS_AVERAGE_PRICE,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<ProductAveragePrice>>() {
                 }.getType();
@@ -161,15 +163,15 @@ public class ProductAveragePrice implements Parcelable {
                   Log.i(dlHelper.tag, "download ProductsAveragePrice: " + productsAveragePrice);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.productAveragePriceDao()
-                      .deleteProductsAveragePrice().blockingSubscribe();
-                  dlHelper.appDatabase.productAveragePriceDao()
-                      .insertProductsAveragePrice(productsAveragePrice).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_PRODUCTS_AVERAGE_PRICE, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.productAveragePriceDao().replaceAll(productsAveragePrice),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_PRODUCTS_AVERAGE_PRICE
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -185,6 +187,14 @@ public class ProductAveragePrice implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download ProductsAveragePrice: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (isOptional) {
                   if (responseListener != null) {
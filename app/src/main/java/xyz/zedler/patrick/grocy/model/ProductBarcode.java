@@ -29,12 +29,12 @@ import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -44,6 +44,8 @@ import org.json.JSONObject;
 import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
+import xyz.zedler.patrick.grocy.dao.ProductBarcodeDao;
+import xyz.zedler.patrick.grocy.helper.DeltaSyncHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
@@ -53,7 +55,7 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
-@Entity(tableName = "product_barcode_table")
+@Entity(tableName = "product_barcode_table", indices = @Index("product_id"))
 public class ProductBarcode implements Parcelable {
 
   @PrimaryKey
@@ -352,9 +354,12 @@ public class ProductBarcode implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.PRODUCT_BARCODES),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<ProductBarcode>>() {
                 }.getType();
@@ -364,15 +369,28 @@ public class ProductBarcode implements Parcelable {
                   Log.i(dlHelper.tag, "download Barcodes: " + barcodes);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.productBarcodeDao()
-                      .deleteProductBarcodes().blockingSubscribe();
-                  dlHelper.appDatabase.productBarcodeDao()
-                      .insertProductBarcodes(barcodes).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_PRODUCT_BARCODES, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(uuid, () -> {
+                    ProductBarcodeDao dao = dlHelper.appDatabase.productBarcodeDao();
+                    DeltaSyncHelper.Result result = DeltaSyncHelper.syncTable(
+                        dlHelper.appDatabase,
+                        barcodes,
+                        forceUpdate,
+                        new DeltaSyncHelper.Table<>(
+                            () -> dao.getProductBarcodes().blockingGet(),
+                            dao::insertAll,
+                            ids -> dao.deleteProductBarcodesByIds(ids).blockingSubscribe(),
+                            dao::deleteAll,
+                            ProductBarcode::getId,
+                            ProductBarcode::equals
+                        )
+                    );
+                    if (dlHelper.debug) {
+                      Log.i(dlHelper.tag, "sync ProductBarcodes: " + result);
+                    }
+                  }, dbChangedTime, PREF.DB_LAST_TIME_PRODUCT_BARCODES);
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -388,6 +406,14 @@ public class ProductBarcode implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Barcodes: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
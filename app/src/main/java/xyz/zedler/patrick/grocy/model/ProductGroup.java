@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -256,9 +255,12 @@ public class ProductGroup extends GroupedListItem implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.PRODUCT_GROUPS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_PRODUCT_GROUPS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<ProductGroup>>() {
                 }.getType();
@@ -267,15 +269,15 @@ public class ProductGroup extends GroupedListItem implements Parcelable {
                   Log.i(dlHelper.tag, "download ProductGroups: " + productGroups);
                 }
                 Single.fromCallable(() -> {
-                      dlHelper.appDatabase.productGroupDao()
-                          .deleteProductGroups().blockingSubscribe();
-                      dlHelper.appDatabase.productGroupDao()
-                          .insertProductGroups(productGroups).blockingSubscribe();
-                      dlHelper.sharedPrefs.edit()
-                          .putString(PREF.DB_LAST_TIME_PRODUCT_GROUPS, dbChangedTime).apply();
+                      dlHelper.writeToDatabase(
+                          uuid,
+                          () -> dlHelper.appDatabase.productGroupDao().replaceAll(productGroups),
+                          dbChangedTime,
+                          PREF.DB_LAST_TIME_PRODUCT_GROUPS
+                      );
                       return true;
                     })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -291,6 +293,14 @@ public class ProductGroup extends GroupedListItem implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download ProductGroups: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
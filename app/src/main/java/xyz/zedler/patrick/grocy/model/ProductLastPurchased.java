@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -216,9 +215,12 @@ public class ProductLastPurchased implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(ENTITY.PRODUCTS_LAST_PURCHASED),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_PRODUCTS_LAST_PURCHASED,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<ProductLastPurchased>>() {
                 }.getType();
@@ -227,15 +229,15 @@ public class ProductLastPurchased implements Parcelable {
                   Log.i(dlHelper.tag, "download ProductsLastPurchased: " + productsLastPurchased);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.productLastPurchasedDao()
-                      .deleteProductsLastPurchased().blockingSubscribe();
-                  dlHelper.appDatabase.productLastPurchasedDao()
-                      .insertProductsLastPurchased(productsLastPurchased).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_PRODUCTS_LAST_PURCHASED, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.productLastPurchasedDao().replaceAll(productsLastPurchased),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_PRODUCTS_LAST_PURCHASED
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -251,6 +253,14 @@ public class ProductLastPurchased implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download ProductsLastPurchased: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (isOptional) {
                   if (responseListener != null) {
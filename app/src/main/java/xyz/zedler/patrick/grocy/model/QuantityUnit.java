@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -303,9 +302,12 @@ public class QuantityUnit implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.QUANTITY_UNITS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_QUANTITY_UNITS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<QuantityUnit>>() {
                 }.getType();
@@ -314,14 +316,15 @@ public class QuantityUnit implements Parcelable {
                   Log.i(dlHelper.tag, "download QuantityUnits: " + quantityUnits);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.quantityUnitDao().deleteQuantityUnits().blockingSubscribe();
-                  dlHelper.appDatabase.quantityUnitDao()
-                      .insertQuantityUnits(quantityUnits).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_QUANTITY_UNITS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.quantityUnitDao().replaceAll(quantityUnits),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_QUANTITY_UNITS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -337,6 +340,14 @@ public class QuantityUnit implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download QuantityUnits: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -282,9 +281,12 @@ public class QuantityUnitConversion implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.QUANTITY_UNIT_CONVERSIONS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<QuantityUnitConversion>>() {
                 }.getType();
@@ -295,15 +297,15 @@ public class QuantityUnitConversion implements Parcelable {
                       + conversions);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.quantityUnitConversionDao()
-                      .deleteConversions().blockingSubscribe();
-                  dlHelper.appDatabase.quantityUnitConversionDao()
-                      .insertConversions(conversions).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.quantityUnitConversionDao().replaceAll(conversions),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -319,6 +321,14 @@ public class QuantityUnitConversion implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download QuantityUnitConversions: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -24,19 +24,19 @@ import android.annotation.SuppressLint;
 import android.util.Log;
 import androidx.annotation.Nullable;
 import androidx.room.Entity;
-import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.api.GrocyApi.ENTITY;
+import xyz.zedler.patrick.grocy.dao.QuantityUnitConversionResolvedDao;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.helper.QuantityUnitConversionResolver;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
@@ -55,23 +55,6 @@ public class QuantityUnitConversionResolved extends QuantityUnitConversion {
     setRowCreatedTimestamp(conversion.getRowCreatedTimestamp());
   }
 
-  public static QuantityUnitConversionResolved findConversion(
-      List<QuantityUnitConversionResolved> conversionsResolved,
-      int productId,
-      int fromQuId,
-      int toQuId
-  ) {
-    String productIdStr = String.valueOf(productId);
-    for (QuantityUnitConversionResolved tmpConversion : conversionsResolved) {
-      if (productIdStr.equals(tmpConversion.getProductId())
-          && tmpConversion.getFromQuId() == fromQuId
-          && tmpConversion.getToQuId() == toQuId) {
-        return tmpConversion;
-      }
-    }
-    return null;
-  }
-
   @SuppressLint("CheckResult")
   public static QueueItem updateQuantityUnitConversions(
       DownloadHelper dlHelper,
@@ -92,55 +75,70 @@ public class QuantityUnitConversionResolved extends QuantityUnitConversion {
             @Nullable String uuid
         ) {
           boolean isServerVersion4 = VersionUtil.isGrocyServerMin400(dlHelper.sharedPrefs);
-          dlHelper.get(
+          dlHelper.<QuantityUnitConversionResolved>getStreaming(
               dlHelper.grocyApi.getObjects(isServerVersion4
                   ? ENTITY.QUANTITY_UNIT_CONVERSIONS_RESOLVED : ENTITY.QUANTITY_UNIT_CONVERSIONS),
               uuid,
-              response -> Single.fromCallable(() -> {
-                    Type type = new TypeToken<List<QuantityUnitConversionResolved>>() {
-                    }.getType();
-                    List<QuantityUnitConversionResolved> conversionsResolved;
-                    if (isServerVersion4) {
-                      List<QuantityUnitConversionResolved> conversionsResolvedNotForDb = dlHelper.gson
-                          .fromJson(response, type);
-                      if (dlHelper.debug) {
-                        Log.i(dlHelper.tag, "download QuantityUnitConversionsResolved: "
-                            + conversionsResolvedNotForDb);
-                      }
-                      conversionsResolved = new ArrayList<>();
-                      int id = 0;
-                      for (QuantityUnitConversionResolved conversion : conversionsResolvedNotForDb) {
-                        conversion.setId(id);
-                        conversionsResolved.add(conversion);
-                        id++;
-                      }
-                    } else {
-                      // Below server version 4.0.0, transitive conversions are not
-                      // working and thus disallowed.
-                      conversionsResolved = dlHelper.gson
-                          .fromJson(response, type);
-                      if (dlHelper.debug) {
-                        Log.i(dlHelper.tag, "download QuantityUnitConversions: "
-                            + conversionsResolved);
+              QuantityUnitConversionResolved.class,
+              chunkReader -> Single.fromCallable(() -> {
+                dlHelper.writeToDatabase(uuid, () -> {
+                  QuantityUnitConversionResolvedDao dao = dlHelper.appDatabase
+                      .quantityUnitConversionResolvedDao();
+                  if (!isServerVersion4) {
+                    // Below server version 4.0.0, the server only provides the direct
+                    // conversions, the transitive ones are resolved with the products
+                    // after they are written to the database.
+                    ArrayList<QuantityUnitConversion> conversions = new ArrayList<>();
+                    List<QuantityUnitConversionResolved> chunk;
+                    while ((chunk = chunkReader.nextChunk()) != null) {
+                      conversions.addAll(chunk);
+                    }
+                    List<Product> products = dlHelper.appDatabase.productDao()
+                        .getProducts().blockingGet();
+                    dao.replaceAll(
+                        new QuantityUnitConversionResolver(conversions).resolve(products)
+                    );
+                  } else {
+                    dao.deleteAll();
+                    int id = 0;
+                    List<QuantityUnitConversionResolved> chunk;
+                    while ((chunk = chunkReader.nextChunk()) != null) {
+                      for (QuantityUnitConversionResolved conversion : chunk) {
+                        conversion.setId(id++);
                       }
+                      dao.insertAll(chunk);
                     }
-                dlHelper.appDatabase.quantityUnitConversionResolvedDao()
-                    .deleteConversionsResolved().blockingSubscribe();
-                dlHelper.appDatabase.quantityUnitConversionResolvedDao()
-                    .insertConversionsResolved(conversionsResolved).blockingSubscribe();
-                dlHelper.sharedPrefs.edit()
-                    .putString(PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED, dbChangedTime).apply();
-                return conversionsResolved;
+                  }
+                  if (dlHelper.debug) {
+                    Log.i(dlHelper.tag, "download QuantityUnitConversionsResolved: "
+                        + chunkReader.getCount() + " objects");
+                  }
+                }, dbChangedTime, PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED);
+                return true;
               })
-                  .subscribeOn(Schedulers.io())
+                  .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                   .observeOn(AndroidSchedulers.mainThread())
-                  .subscribe(conversionsResolved -> {
-                    if (onResponseListener != null) {
-                      onResponseListener.onResponse(conversionsResolved);
-                    }
-                    if (responseListener != null) {
-                      responseListener.onResponse(response);
+                  .subscribe(ignored -> {
+                    if (onResponseListener == null) {
+                      if (responseListener != null) {
+                        responseListener.onResponse(null);
+                      }
+                      return;
                     }
+                    dlHelper.appDatabase.quantityUnitConversionResolvedDao()
+                        .getConversionsResolved()
+                        .subscribeOn(Schedulers.io())
+                        .observeOn(AndroidSchedulers.mainThread())
+                        .doFinally(() -> {
+                          if (responseListener != null) {
+                            responseListener.onResponse(null);
+                          }
+                        })
+                        .subscribe(onResponseListener::onResponse, throwable -> {
+                          if (errorListener != null) {
+                            errorListener.onError(throwable);
+                          }
+                        });
                   }, throwable -> {
                     if (errorListener != null) {
                       errorListener.onError(throwable);
@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -349,9 +348,12 @@ public class Recipe implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getRecipes(),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_RECIPES,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<Recipe>>() {
                 }.getType();
@@ -360,14 +362,15 @@ public class Recipe implements Parcelable {
                   Log.i(dlHelper.tag, "download Recipes: " + recipes);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.recipeDao().deleteRecipes().blockingSubscribe();
-                  dlHelper.appDatabase.recipeDao()
-                      .insertRecipes(recipes).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_RECIPES, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.recipeDao().replaceAll(recipes),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_RECIPES
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -383,6 +386,14 @@ public class Recipe implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Recipes: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
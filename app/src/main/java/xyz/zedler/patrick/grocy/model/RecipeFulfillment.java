@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -312,9 +311,12 @@ public class RecipeFulfillment implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getRecipeFulfillments(),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_RECIPE_FULFILLMENTS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<RecipeFulfillment>>() {
                 }.getType();
@@ -323,15 +325,15 @@ public class RecipeFulfillment implements Parcelable {
                   Log.i(dlHelper.tag, "download RecipeFulfillments: " + recipeFulfillments);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.recipeFulfillmentDao()
-                      .deleteRecipeFulfillments().blockingSubscribe();
-                  dlHelper.appDatabase.recipeFulfillmentDao()
-                      .insertRecipeFulfillments(recipeFulfillments).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_RECIPE_FULFILLMENTS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.recipeFulfillmentDao().replaceAll(recipeFulfillments),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_RECIPE_FULFILLMENTS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -347,6 +349,14 @@ public class RecipeFulfillment implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download RecipeFulfillments: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -180,9 +179,12 @@ public class RecipeNesting implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getRecipeNestings(),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_RECIPE_NESTINGS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<RecipeNesting>>() {
                 }.getType();
@@ -191,15 +193,15 @@ public class RecipeNesting implements Parcelable {
                   Log.i(dlHelper.tag, "download RecipeNestings: " + recipeNestings);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.recipeNestingDao()
-                      .deleteRecipeNestings().blockingSubscribe();
-                  dlHelper.appDatabase.recipeNestingDao()
-                      .insertRecipeNestings(recipeNestings).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_RECIPE_NESTINGS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.recipeNestingDao().replaceAll(recipeNestings),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_RECIPE_NESTINGS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -215,6 +217,14 @@ public class RecipeNesting implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download RecipeNestings: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -29,12 +29,12 @@ import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -49,7 +49,7 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
-@Entity(tableName = "recipe_pos_table")
+@Entity(tableName = "recipe_pos_table", indices = @Index("recipe_id"))
 public class RecipePosition implements Parcelable {
 
   @PrimaryKey
@@ -358,9 +358,12 @@ public class RecipePosition implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getRecipePositions(),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_RECIPE_POSITIONS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<RecipePosition>>() {
                 }.getType();
@@ -376,15 +379,15 @@ public class RecipePosition implements Parcelable {
                   }
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.recipePositionDao()
-                      .deleteRecipePositions().blockingSubscribe();
-                  dlHelper.appDatabase.recipePositionDao()
-                      .insertRecipePositions(recipePositions).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_RECIPE_POSITIONS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.recipePositionDao().replaceAll(recipePositions),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_RECIPE_POSITIONS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -400,6 +403,14 @@ public class RecipePosition implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download RecipePositions: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -29,16 +29,14 @@ import androidx.room.Entity;
 import androidx.room.Ignore;
 import androidx.room.PrimaryKey;
 import com.google.gson.annotations.SerializedName;
-import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
-import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 import xyz.zedler.patrick.grocy.Constants.PREF;
+import xyz.zedler.patrick.grocy.dao.RecipePositionResolvedDao;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
@@ -442,56 +440,63 @@ public class RecipePositionResolved extends GroupedListItem {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.<RecipePositionResolved>getStreaming(
               dlHelper.grocyApi.getRecipePositionsResolved(),
               uuid,
-              response -> {
-                Type type = new TypeToken<List<RecipePositionResolved>>() {
-                }.getType();
-                ArrayList<RecipePositionResolved> recipePositionsResolved = dlHelper.gson
-                    .fromJson(response, type);
-                if (dlHelper.debug) {
-                  Log.i(dlHelper.tag, "download RecipePositionResolved: "
-                      + recipePositionsResolved);
-                }
-                // fix crash, amount can be NaN according to a user
-                for (int i = 0; i < recipePositionsResolved.size(); i++) {
-                  RecipePositionResolved recipePos = recipePositionsResolved.get(i);
-                  recipePos.setId(i);
-                  if (Double.isNaN(recipePos.getRecipeAmount())) {
-                    recipePos.setRecipeAmount(0);
+              RecipePositionResolved.class,
+              chunkReader -> Single.fromCallable(() -> {
+                dlHelper.writeToDatabase(uuid, () -> {
+                  RecipePositionResolvedDao dao = dlHelper.appDatabase.recipePositionResolvedDao();
+                  dao.deleteAll();
+                  int id = 0;
+                  List<RecipePositionResolved> chunk;
+                  while ((chunk = chunkReader.nextChunk()) != null) {
+                    for (RecipePositionResolved recipePos : chunk) {
+                      recipePos.setId(id++);
+                      // fix crash, amount can be NaN according to a user
+                      if (Double.isNaN(recipePos.getRecipeAmount())) {
+                        recipePos.setRecipeAmount(0);
+                      }
+                      if (Double.isNaN(recipePos.getStockAmount())) {
+                        recipePos.setStockAmount(0);
+                      }
+                    }
+                    dao.insertAll(chunk);
                   }
-                  if (Double.isNaN(recipePos.getStockAmount())) {
-                    recipePos.setStockAmount(0);
+                  if (dlHelper.debug) {
+                    Log.i(dlHelper.tag, "download RecipePositionResolved: "
+                        + chunkReader.getCount() + " objects");
                   }
-                }
-                Single.fromCallable(() -> {
-                      dlHelper.appDatabase.recipePositionResolvedDao()
-                          .deleteRecipePositionsResolved().blockingSubscribe();
-                      dlHelper.appDatabase.recipePositionResolvedDao()
-                          .insertRecipePositionsResolved(recipePositionsResolved)
-                          .blockingSubscribe();
-                      dlHelper.sharedPrefs.edit()
-                          .putString(PREF.DB_LAST_TIME_RECIPE_POSITIONS_RESOLVED, dbChangedTime)
-                          .apply();
-                      return true;
-                    })
-                    .subscribeOn(Schedulers.io())
-                    .observeOn(AndroidSchedulers.mainThread())
-                    .doFinally(() -> {
-                      if (onResponseListener != null) {
-                        onResponseListener.onResponse(recipePositionsResolved);
-                      }
+                }, dbChangedTime, PREF.DB_LAST_TIME_RECIPE_POSITIONS_RESOLVED);
+                return true;
+              })
+                  .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
+                  .observeOn(AndroidSchedulers.mainThread())
+                  .subscribe(ignored -> {
+                    if (onResponseListener == null) {
                       if (responseListener != null) {
-                        responseListener.onResponse(response);
-                      }
-                    })
-                    .subscribe(ignored -> {}, throwable -> {
-                      if (errorListener != null) {
-                        errorListener.onError(throwable);
+                        responseListener.onResponse(null);
                       }
-                    });
-              },
+                      return;
+                    }
+                    dlHelper.appDatabase.recipePositionResolvedDao().getRecipePositionsResolved()
+                        .subscribeOn(Schedulers.io())
+                        .observeOn(AndroidSchedulers.mainThread())
+                        .doFinally(() -> {
+                          if (responseListener != null) {
+                            responseListener.onResponse(null);
+                          }
+                        })
+                        .subscribe(onResponseListener::onResponse, throwable -> {
+                          if (errorListener != null) {
+                            errorListener.onError(throwable);
+                          }
+                        });
+                  }, throwable -> {
+                    if (errorListener != null) {
+                      errorListener.onError(throwable);
+                    }
+                  }),
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -33,7 +33,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -189,9 +188,12 @@ public class ShoppingList implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.SHOPPING_LISTS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_SHOPPING_LISTS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<ShoppingList>>() {
                 }.getType();
@@ -200,15 +202,15 @@ public class ShoppingList implements Parcelable {
                   Log.i(dlHelper.tag, "download ShoppingLists: " + shoppingLists);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.shoppingListDao()
-                      .deleteShoppingLists().blockingSubscribe();
-                  dlHelper.appDatabase.shoppingListDao()
-                      .insertShoppingLists(shoppingLists).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_SHOPPING_LISTS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.shoppingListDao().replaceAll(shoppingLists),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_SHOPPING_LISTS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -224,6 +226,14 @@ public class ShoppingList implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download ShoppingLists: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
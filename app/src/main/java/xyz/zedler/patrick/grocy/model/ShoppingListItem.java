@@ -33,7 +33,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -44,6 +43,8 @@ import org.json.JSONObject;
 import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
+import xyz.zedler.patrick.grocy.dao.ShoppingListItemDao;
+import xyz.zedler.patrick.grocy.helper.DeltaSyncHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnJSONResponseListener;
@@ -383,15 +384,15 @@ public class ShoppingListItem extends GroupedListItem implements Parcelable {
                   Log.i(dlHelper.tag, "download ShoppingListItems: " + shoppingListItems);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.shoppingListItemDao()
-                      .deleteShoppingListItems().blockingSubscribe();
-                  dlHelper.appDatabase.shoppingListItemDao()
-                      .insertShoppingListItems(shoppingListItems).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> syncTable(dlHelper, shoppingListItems, forceUpdate),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -469,13 +470,15 @@ public class ShoppingListItem extends GroupedListItem implements Parcelable {
                       }
                     })
                     .flatMap(completeItems -> {
-                      dlHelper.appDatabase.shoppingListItemDao().deleteAll();
-                      dlHelper.appDatabase.shoppingListItemDao().insertAll(shoppingListItems);
-                      dlHelper.sharedPrefs.edit()
-                          .putString(PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS, dbChangedTime).apply();
+                      dlHelper.writeToDatabase(
+                          uuid,
+                          () -> syncTable(dlHelper, shoppingListItems, forceUpdate),
+                          dbChangedTime,
+                          PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS
+                      );
                       return Single.just(shoppingListItems);
                     })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doOnError(throwable -> {
                       if (errorListener != null) {
@@ -510,6 +513,30 @@ public class ShoppingListItem extends GroupedListItem implements Parcelable {
     }
   }
 
+  private static void syncTable(
+      DownloadHelper dlHelper,
+      List<ShoppingListItem> shoppingListItems,
+      boolean forceUpdate
+  ) {
+    ShoppingListItemDao dao = dlHelper.appDatabase.shoppingListItemDao();
+    DeltaSyncHelper.Result result = DeltaSyncHelper.syncTable(
+        dlHelper.appDatabase,
+        shoppingListItems,
+        forceUpdate,
+        new DeltaSyncHelper.Table<>(
+            () -> dao.getShoppingListItems().blockingGet(),
+            dao::insertAll,
+            ids -> dao.deleteShoppingListItemsByIds(ids).blockingSubscribe(),
+            dao::deleteAll,
+            ShoppingListItem::getId,
+            ShoppingListItem::equals
+        )
+    );
+    if (dlHelper.debug) {
+      Log.i(dlHelper.tag, "sync ShoppingListItems: " + result);
+    }
+  }
+
   public static QueueItem editShoppingListItem(
       DownloadHelper dlHelper,
       int itemId,
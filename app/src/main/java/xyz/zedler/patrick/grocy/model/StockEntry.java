@@ -29,27 +29,33 @@ import androidx.annotation.Nullable;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.api.GrocyApi.ENTITY;
+import xyz.zedler.patrick.grocy.dao.StockEntryDao;
+import xyz.zedler.patrick.grocy.helper.DeltaSyncHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.DateUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
-@Entity(tableName = "stock_entry_table")
+@Entity(
+    tableName = "stock_entry_table",
+    indices = @Index({"product_id", "best_before_date"})
+)
 public class StockEntry extends GroupedListItem implements Parcelable {
 
   @PrimaryKey
@@ -69,6 +75,9 @@ public class StockEntry extends GroupedListItem implements Parcelable {
   @SerializedName("best_before_date")
   private String bestBeforeDate;
 
+  @Ignore
+  private transient Long bestBeforeDateEpochDay; // parsed on first use
+
   @ColumnInfo(name = "purchased_date")
   @SerializedName("purchased_date")
   private String purchasedDate;
@@ -188,8 +197,18 @@ public class StockEntry extends GroupedListItem implements Parcelable {
     return bestBeforeDate;
   }
 
+  public long getBestBeforeDateEpochDay() {
+    Long epochDay = bestBeforeDateEpochDay;
+    if (epochDay == null) {
+      epochDay = DateUtil.getEpochDay(bestBeforeDate);
+      bestBeforeDateEpochDay = epochDay;
+    }
+    return epochDay;
+  }
+
   public void setBestBeforeDate(String bestBeforeDate) {
     this.bestBeforeDate = bestBeforeDate;
+    this.bestBeforeDateEpochDay = null;
   }
 
   public String getPurchasedDate() {
@@ -339,9 +358,12 @@ public class StockEntry extends GroupedListItem implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(ENTITY.STOCK_ENTRIES),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_STOCK_ENTRIES,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<StockEntry>>() {
                 }.getType();
@@ -350,14 +372,28 @@ public class StockEntry extends GroupedListItem implements Parcelable {
                   Log.i(dlHelper.tag, "dowload StockEntries: " + stockEntries);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.stockEntryDao().deleteStockEntries().blockingSubscribe();
-                  dlHelper.appDatabase.stockEntryDao()
-                      .insertStockEntries(stockEntries).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_STOCK_ENTRIES, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(uuid, () -> {
+                    StockEntryDao dao = dlHelper.appDatabase.stockEntryDao();
+                    DeltaSyncHelper.Result result = DeltaSyncHelper.syncTable(
+                        dlHelper.appDatabase,
+                        stockEntries,
+                        forceUpdate,
+                        new DeltaSyncHelper.Table<>(
+                            () -> dao.getStockEntries().blockingGet(),
+                            dao::insertAll,
+                            ids -> dao.deleteStockEntriesByIds(ids).blockingSubscribe(),
+                            dao::deleteAll,
+                            StockEntry::getId,
+                            StockEntry::equals
+                        )
+                    );
+                    if (dlHelper.debug) {
+                      Log.i(dlHelper.tag, "sync StockEntries: " + result);
+                    }
+                  }, dbChangedTime, PREF.DB_LAST_TIME_STOCK_ENTRIES);
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -373,6 +409,14 @@ public class StockEntry extends GroupedListItem implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download StockEntries: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -34,17 +34,20 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.Constants.PREF;
+import xyz.zedler.patrick.grocy.dao.StockItemDao;
+import xyz.zedler.patrick.grocy.helper.DeltaSyncHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.helper.StockTransactionOutbox;
+import xyz.zedler.patrick.grocy.util.DateUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
@@ -70,6 +73,9 @@ public class StockItem extends GroupedListItem implements Parcelable {
   @SerializedName("best_before_date")
   private String bestBeforeDate;
 
+  @Ignore
+  private transient Long bestBeforeDateEpochDay; // parsed on first use
+
   @ColumnInfo(name = "amount_opened")
   @SerializedName("amount_opened")
   private String amountOpened;
@@ -195,6 +201,15 @@ public class StockItem extends GroupedListItem implements Parcelable {
     return bestBeforeDate;
   }
 
+  public long getBestBeforeDateEpochDay() {
+    Long epochDay = bestBeforeDateEpochDay;
+    if (epochDay == null) {
+      epochDay = DateUtil.getEpochDay(bestBeforeDate);
+      bestBeforeDateEpochDay = epochDay;
+    }
+    return epochDay;
+  }
+
   public double getAmountOpenedAggregatedDouble() {
     if (amountOpenedAggregated == null || amountOpenedAggregated.isEmpty()) {
       return 0;
@@ -249,6 +264,7 @@ public class StockItem extends GroupedListItem implements Parcelable {
 
   public void setBestBeforeDate(String bestBeforeDate) {
     this.bestBeforeDate = bestBeforeDate;
+    this.bestBeforeDateEpochDay = null;
   }
 
   public void setAmountOpened(String amountOpened) {
@@ -370,6 +386,24 @@ public class StockItem extends GroupedListItem implements Parcelable {
         Objects.equals(product, stockItem.product);
   }
 
+  // compares only columns stored in Room, the nested product object is not persisted
+  public boolean hasSameColumns(StockItem stockItem) {
+    return itemDue == stockItem.itemDue &&
+        itemOverdue == stockItem.itemOverdue &&
+        itemExpired == stockItem.itemExpired &&
+        itemMissing == stockItem.itemMissing &&
+        itemMissingAndPartlyInStock == stockItem.itemMissingAndPartlyInStock &&
+        Objects.equals(amount, stockItem.amount) &&
+        Objects.equals(amountAggregated, stockItem.amountAggregated) &&
+        Objects.equals(value, stockItem.value) &&
+        Objects.equals(bestBeforeDate, stockItem.bestBeforeDate) &&
+        Objects.equals(amountOpened, stockItem.amountOpened) &&
+        Objects.equals(amountOpenedAggregated, stockItem.amountOpenedAggregated) &&
+        Objects.equals(isAggregatedAmount, stockItem.isAggregatedAmount) &&
+        Objects.equals(dueType, stockItem.dueType) &&
+        productId == stockItem.productId;
+  }
+
   @Override
   public int hashCode() {
     return Objects
@@ -402,9 +436,12 @@ public class StockItem extends GroupedListItem implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getStock(),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_STOCK_ITEMS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<StockItem>>() {
                 }.getType();
@@ -413,14 +450,30 @@ public class StockItem extends GroupedListItem implements Parcelable {
                   Log.i(dlHelper.tag, "download StockItems: " + stockItems);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.stockItemDao().deleteStockItems().blockingSubscribe();
-                  dlHelper.appDatabase.stockItemDao()
-                      .insertStockItems(stockItems).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_STOCK_ITEMS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(uuid, () -> {
+                    StockItemDao dao = dlHelper.appDatabase.stockItemDao();
+                    DeltaSyncHelper.Result result = DeltaSyncHelper.syncTable(
+                        dlHelper.appDatabase,
+                        stockItems,
+                        forceUpdate,
+                        new DeltaSyncHelper.Table<>(
+                            () -> dao.getStockItems().blockingGet(),
+                            dao::insertAll,
+                            ids -> dao.deleteStockItemsByProductIds(ids).blockingSubscribe(),
+                            dao::deleteAll,
+                            StockItem::getProductId,
+                            StockItem::hasSameColumns
+                        )
+                    );
+                    // keep the amounts of transactions which are waiting in the outbox
+                    StockTransactionOutbox.applyPendingTransactions(dlHelper.appDatabase);
+                    if (dlHelper.debug) {
+                      Log.i(dlHelper.tag, "sync StockItems: " + result);
+                    }
+                  }, dbChangedTime, PREF.DB_LAST_TIME_STOCK_ITEMS);
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -436,6 +489,14 @@ public class StockItem extends GroupedListItem implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download StockItems: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -33,7 +33,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -254,9 +253,12 @@ public class StockLocation implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.STOCK_CURRENT_LOCATIONS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_STOCK_LOCATIONS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<StockLocation>>() {
                 }.getType();
@@ -265,15 +267,15 @@ public class StockLocation implements Parcelable {
                   Log.i(dlHelper.tag, "download StockCurrentLocations: " + locations);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.stockLocationDao()
-                      .deleteStockLocations().blockingSubscribe();
-                  dlHelper.appDatabase.stockLocationDao()
-                      .insertStockLocations(locations).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_STOCK_LOCATIONS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.stockLocationDao().replaceAll(locations),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_STOCK_LOCATIONS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -289,6 +291,14 @@ public class StockLocation implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download StockCurrentLocations: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -33,7 +33,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -191,9 +190,12 @@ public class Store implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.STORES),
               uuid,
+              dbChangedTime,
+              Constants.PREF.DB_LAST_TIME_STORES,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<Store>>() {
                 }.getType();
@@ -202,13 +204,15 @@ public class Store implements Parcelable {
                   Log.i(dlHelper.tag, "download Stores: " + stores);
                 }
                 Single.fromCallable(() -> {
-                      dlHelper.appDatabase.storeDao().deleteStores().blockingSubscribe();
-                      dlHelper.appDatabase.storeDao().insertStores(stores).blockingSubscribe();
-                      dlHelper.sharedPrefs.edit()
-                          .putString(Constants.PREF.DB_LAST_TIME_STORES, dbChangedTime).apply();
+                      dlHelper.writeToDatabase(
+                          uuid,
+                          () -> dlHelper.appDatabase.storeDao().replaceAll(stores),
+                          dbChangedTime,
+                          Constants.PREF.DB_LAST_TIME_STORES
+                      );
                       return true;
                     })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -224,6 +228,14 @@ public class Store implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Stores: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
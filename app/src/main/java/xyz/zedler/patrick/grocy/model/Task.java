@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +47,7 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+import xyz.zedler.patrick.grocy.util.DateUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue.QueueItem;
 
@@ -71,6 +71,9 @@ public class Task implements Parcelable {
   @SerializedName("due_date")
   private String dueDate;
 
+  @Ignore
+  private transient Long dueDateEpochDay; // parsed on first use
+
   @ColumnInfo(name = "done")
   @SerializedName("done")
   private Integer done;
@@ -155,8 +158,18 @@ public class Task implements Parcelable {
     return dueDate;
   }
 
+  public long getDueDateEpochDay() {
+    Long epochDay = dueDateEpochDay;
+    if (epochDay == null) {
+      epochDay = DateUtil.getEpochDay(dueDate);
+      dueDateEpochDay = epochDay;
+    }
+    return epochDay;
+  }
+
   public void setDueDate(String dueDate) {
     this.dueDate = dueDate;
+    this.dueDateEpochDay = null;
   }
 
   public Integer getDone() {
@@ -317,9 +330,12 @@ public class Task implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(ENTITY.TASKS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_TASKS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<Task>>() {
                 }.getType();
@@ -328,13 +344,15 @@ public class Task implements Parcelable {
                   Log.i(dlHelper.tag, "download Tasks: " + tasks);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.taskDao().deleteTasks().blockingSubscribe();
-                  dlHelper.appDatabase.taskDao().insertTasks(tasks).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_TASKS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.taskDao().replaceAll(tasks),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_TASKS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -350,6 +368,14 @@ public class Task implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Tasks: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
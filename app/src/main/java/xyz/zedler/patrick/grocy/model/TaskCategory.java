@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -239,9 +238,12 @@ public class TaskCategory extends GroupedListItem implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(ENTITY.TASK_CATEGORIES),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_TASK_CATEGORIES,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<TaskCategory>>() {
                 }.getType();
@@ -250,14 +252,15 @@ public class TaskCategory extends GroupedListItem implements Parcelable {
                   Log.i(dlHelper.tag, "download Task categories: " + taskCategories);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.taskCategoryDao().deleteCategories().blockingSubscribe();
-                  dlHelper.appDatabase.taskCategoryDao()
-                      .insertCategories(taskCategories).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_TASK_CATEGORIES, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.taskCategoryDao().replaceAll(taskCategories),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_TASK_CATEGORIES
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -273,6 +276,14 @@ public class TaskCategory extends GroupedListItem implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download TaskCategories: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
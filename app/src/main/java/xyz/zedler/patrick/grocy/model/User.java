@@ -34,7 +34,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -238,9 +237,12 @@ public class User implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getUsers(),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_USERS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<User>>() {
                 }.getType();
@@ -249,13 +251,15 @@ public class User implements Parcelable {
                   Log.i(dlHelper.tag, "download Users: " + users);
                 }
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.userDao().deleteUsers().blockingSubscribe();
-                  dlHelper.appDatabase.userDao().insertUsers(users).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_USERS, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(
+                      uuid,
+                      () -> dlHelper.appDatabase.userDao().replaceAll(users),
+                      dbChangedTime,
+                      PREF.DB_LAST_TIME_USERS
+                  );
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -271,6 +275,14 @@ public class User implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Users: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
@@ -39,7 +39,6 @@ import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -354,9 +353,12 @@ public class Userfield implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getObjects(GrocyApi.ENTITY.USERFIELDS),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_USERFIELDS,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 Type type = new TypeToken<List<Userfield>>() {
                 }.getType();
@@ -365,13 +367,15 @@ public class Userfield implements Parcelable {
                   Log.i(dlHelper.tag, "download Userfields: " + userfields);
                 }
                 Single.fromCallable(() -> {
-                      dlHelper.appDatabase.userfieldDao().deleteUserfields().blockingSubscribe();
-                      dlHelper.appDatabase.userfieldDao().insertStores(userfields).blockingSubscribe();
-                      dlHelper.sharedPrefs.edit()
-                          .putString(PREF.DB_LAST_TIME_USERFIELDS, dbChangedTime).apply();
+                      dlHelper.writeToDatabase(
+                          uuid,
+                          () -> dlHelper.appDatabase.userfieldDao().replaceAll(userfields),
+                          dbChangedTime,
+                          PREF.DB_LAST_TIME_USERFIELDS
+                      );
                       return true;
                     })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -387,6 +391,14 @@ public class Userfield implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Userfields: not modified");
+                }
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
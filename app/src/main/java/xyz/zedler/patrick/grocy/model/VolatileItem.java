@@ -34,7 +34,6 @@ import com.android.volley.Response;
 import com.google.gson.reflect.TypeToken;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
-import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -154,9 +153,12 @@ public class VolatileItem implements Parcelable {
             @Nullable OnMultiTypeErrorListener errorListener,
             @Nullable String uuid
         ) {
-          dlHelper.get(
+          dlHelper.getIfChanged(
               dlHelper.grocyApi.getStockVolatile(),
               uuid,
+              dbChangedTime,
+              PREF.DB_LAST_TIME_VOLATILE,
+              !forceUpdate && onResponseListener == null,
               response -> {
                 if (dlHelper.debug) {
                   Log.i(dlHelper.tag, "updateVolatile: success");
@@ -221,18 +223,13 @@ public class VolatileItem implements Parcelable {
                 ArrayList<StockItem> finalExpiredItems = expiredItems;
                 ArrayList<MissingItem> finalMissingItems = missingItems;
                 Single.fromCallable(() -> {
-                  dlHelper.appDatabase.volatileItemDao().deleteVolatileItems().blockingSubscribe();
-                  dlHelper.appDatabase.volatileItemDao()
-                      .insertVolatileItems(volatileItemsTogether).blockingSubscribe();
-                  dlHelper.appDatabase.missingItemDao().deleteMissingItems().blockingSubscribe();
-                  dlHelper.appDatabase.missingItemDao()
-                      .insertMissingItems(finalMissingItems).blockingSubscribe();
-                  dlHelper.sharedPrefs.edit()
-                      .putString(PREF.DB_LAST_TIME_VOLATILE, dbChangedTime)
-                      .putString(PREF.DB_LAST_TIME_VOLATILE_MISSING, dbChangedTime).apply();
+                  dlHelper.writeToDatabase(uuid, () -> {
+                    dlHelper.appDatabase.volatileItemDao().replaceAll(volatileItemsTogether);
+                    dlHelper.appDatabase.missingItemDao().replaceAll(finalMissingItems);
+                  }, dbChangedTime, PREF.DB_LAST_TIME_VOLATILE, PREF.DB_LAST_TIME_VOLATILE_MISSING);
                   return true;
                 })
-                    .subscribeOn(Schedulers.io())
+                    .subscribeOn(DownloadHelper.WRITE_SCHEDULER)
                     .observeOn(AndroidSchedulers.mainThread())
                     .doFinally(() -> {
                       if (onResponseListener != null) {
@@ -249,6 +246,15 @@ public class VolatileItem implements Parcelable {
                       }
                     });
               },
+              () -> {
+                if (dlHelper.debug) {
+                  Log.i(dlHelper.tag, "download Volatile: not modified");
+                }
+                dlHelper.saveLastTime(uuid, dbChangedTime, PREF.DB_LAST_TIME_VOLATILE_MISSING);
+                if (responseListener != null) {
+                  responseListener.onResponse(null);
+                }
+              },
               error -> {
                 if (errorListener != null) {
                   errorListener.onError(error);
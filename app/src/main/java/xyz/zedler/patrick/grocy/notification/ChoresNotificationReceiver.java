@@ -82,7 +82,7 @@ public class ChoresNotificationReceiver extends BroadcastReceiver {
           continue;
         }
         int daysFromNow = DateUtil
-            .getDaysFromNow(choreEntry.getNextEstimatedExecutionTime());
+            .getDaysFromNow(choreEntry.getNextEstimatedExecutionEpochDay());
         if (daysFromNow <= 0) {
           choresDueCount++;
         }
@@ -26,16 +26,20 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.PendingProduct;
 import xyz.zedler.patrick.grocy.model.Product;
 
 public class ChooseProductRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public ChooseProductRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -66,7 +70,7 @@ public class ChooseProductRepository {
 
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     Single.zip(
-        appDatabase.productDao().getProducts(),
+        entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
         appDatabase.pendingProductDao().getPendingProducts(),
         ChooseProductData::new
     )
@@ -26,7 +26,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Chore;
 import xyz.zedler.patrick.grocy.model.ChoreEntry;
 import xyz.zedler.patrick.grocy.model.User;
@@ -34,9 +36,11 @@ import xyz.zedler.patrick.grocy.model.User;
 public class ChoresRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public ChoresRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface ChoresDataListener {
@@ -76,9 +80,12 @@ public class ChoresRepository {
   public void loadFromDatabase(ChoresDataListener onSuccess, Consumer<Throwable> onError) {
     Single
         .zip(
-            appDatabase.choreEntryDao().getChoreEntries(),
-            appDatabase.choreDao().getChores(),
-            appDatabase.userDao().getUsers(),
+            entityCache.get(
+                PREF.DB_LAST_TIME_CHORE_ENTRIES,
+                appDatabase.choreEntryDao().getChoreEntries()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_CHORES, appDatabase.choreDao().getChores()),
+            entityCache.get(PREF.DB_LAST_TIME_USERS, appDatabase.userDao().getUsers()),
             ChoresData::new
         )
         .subscribeOn(Schedulers.io())
@@ -26,7 +26,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
@@ -38,9 +40,11 @@ import xyz.zedler.patrick.grocy.model.Store;
 public class InventoryRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public InventoryRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -108,13 +112,25 @@ public class InventoryRepository {
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     Single
         .zip(
-            appDatabase.productDao().getProducts(),
-            appDatabase.productBarcodeDao().getProductBarcodes(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved(),
-            appDatabase.storeDao().getStores(),
-            appDatabase.locationDao().getLocations(),
-            appDatabase.stockItemDao().getStockItems(),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+                appDatabase.productBarcodeDao().getProductBarcodes()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED,
+                appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_STORES, appDatabase.storeDao().getStores()),
+            entityCache.get(PREF.DB_LAST_TIME_LOCATIONS, appDatabase.locationDao().getLocations()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_STOCK_ITEMS,
+                appDatabase.stockItemDao().getStockItems()
+            ),
             InventoryData::new
         )
         .subscribeOn(Schedulers.io())
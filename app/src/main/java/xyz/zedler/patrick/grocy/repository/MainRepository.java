@@ -24,19 +24,25 @@ import android.app.Application;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 
 public class MainRepository {
 
+  private final Application application;
   private final AppDatabase appDatabase;
 
   public MainRepository(Application application) {
+    this.application = application;
     this.appDatabase = AppDatabase.getAppDatabase(application);
   }
 
   public void clearAllTables() {
     Single
         .just(0)
-        .doFinally(appDatabase::clearAllTables)
+        .doFinally(() -> {
+          appDatabase.clearAllTables();
+          EntityCache.getInstance(application).clear();
+        })
         .subscribeOn(Schedulers.io())
         .subscribe();
   }
@@ -26,7 +26,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductGroup;
@@ -37,9 +39,11 @@ import xyz.zedler.patrick.grocy.model.TaskCategory;
 public class MasterDataOverviewRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public MasterDataOverviewRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -99,12 +103,21 @@ public class MasterDataOverviewRepository {
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     Single
         .zip(
-            appDatabase.storeDao().getStores(),
-            appDatabase.locationDao().getLocations(),
-            appDatabase.productGroupDao().getProductGroups(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.productDao().getProducts(),
-            appDatabase.taskCategoryDao().getTaskCategories(),
+            entityCache.get(PREF.DB_LAST_TIME_STORES, appDatabase.storeDao().getStores()),
+            entityCache.get(PREF.DB_LAST_TIME_LOCATIONS, appDatabase.locationDao().getLocations()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_GROUPS,
+                appDatabase.productGroupDao().getProductGroups()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_TASK_CATEGORIES,
+                appDatabase.taskCategoryDao().getTaskCategories()
+            ),
             MasterDataOverviewData::new
         )
         .subscribeOn(Schedulers.io())
@@ -26,7 +26,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
@@ -39,9 +41,11 @@ import xyz.zedler.patrick.grocy.model.Userfield;
 public class MasterObjectListRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public MasterObjectListRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -115,14 +119,29 @@ public class MasterObjectListRepository {
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     Single
         .zip(
-            appDatabase.productDao().getProducts(),
-            appDatabase.productGroupDao().getProductGroups(),
-            appDatabase.storeDao().getStores(),
-            appDatabase.locationDao().getLocations(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.taskCategoryDao().getTaskCategories(),
-            appDatabase.userfieldDao().getUserfields(),
-            appDatabase.productBarcodeDao().getProductBarcodes(),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_GROUPS,
+                appDatabase.productGroupDao().getProductGroups()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_STORES, appDatabase.storeDao().getStores()),
+            entityCache.get(PREF.DB_LAST_TIME_LOCATIONS, appDatabase.locationDao().getLocations()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_TASK_CATEGORIES,
+                appDatabase.taskCategoryDao().getTaskCategories()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_USERFIELDS,
+                appDatabase.userfieldDao().getUserfields()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+                appDatabase.productBarcodeDao().getProductBarcodes()
+            ),
             MasterObjectData::new
         )
         .subscribeOn(Schedulers.io())
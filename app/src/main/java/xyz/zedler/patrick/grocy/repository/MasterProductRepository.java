@@ -26,7 +26,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.PendingProductBarcode;
 import xyz.zedler.patrick.grocy.model.Product;
@@ -40,9 +42,11 @@ import xyz.zedler.patrick.grocy.model.Store;
 public class MasterProductRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public MasterProductRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -120,18 +124,66 @@ public class MasterProductRepository {
     }
   }
 
+  public interface BarcodesDataListener {
+    void actionFinished(BarcodesData data);
+  }
+
+  public static class BarcodesData {
+
+    private final List<ProductBarcode> barcodes;
+    private final List<QuantityUnit> quantityUnits;
+    private final List<Store> stores;
+
+    public BarcodesData(
+        List<ProductBarcode> barcodes,
+        List<QuantityUnit> quantityUnits,
+        List<Store> stores
+    ) {
+      this.barcodes = barcodes;
+      this.quantityUnits = quantityUnits;
+      this.stores = stores;
+    }
+
+    public List<ProductBarcode> getBarcodes() {
+      return barcodes;
+    }
+
+    public List<QuantityUnit> getQuantityUnits() {
+      return quantityUnits;
+    }
+
+    public List<Store> getStores() {
+      return stores;
+    }
+  }
+
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     Single
         .zip(
-            appDatabase.productDao().getProducts(),
-            appDatabase.productGroupDao().getProductGroups(),
-            appDatabase.productBarcodeDao().getProductBarcodes(),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_GROUPS,
+                appDatabase.productGroupDao().getProductGroups()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+                appDatabase.productBarcodeDao().getProductBarcodes()
+            ),
             appDatabase.pendingProductBarcodeDao().getProductBarcodes(),
-            appDatabase.storeDao().getStores(),
-            appDatabase.locationDao().getLocations(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.quantityUnitConversionDao().getConversions(),
-            appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved(),
+            entityCache.get(PREF.DB_LAST_TIME_STORES, appDatabase.storeDao().getStores()),
+            entityCache.get(PREF.DB_LAST_TIME_LOCATIONS, appDatabase.locationDao().getLocations()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS,
+                appDatabase.quantityUnitConversionDao().getConversions()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED,
+                appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved()
+            ),
             MasterProductData::new
         )
         .subscribeOn(Schedulers.io())
@@ -141,4 +193,28 @@ public class MasterProductRepository {
         .onErrorComplete()
         .subscribe();
   }
+
+  // loads only the barcodes of the product instead of all barcodes
+  public void loadBarcodesFromDatabase(
+      int productId,
+      BarcodesDataListener onSuccess,
+      Consumer<Throwable> onError
+  ) {
+    Single
+        .zip(
+            appDatabase.productBarcodeDao().getProductBarcodesForProduct(String.valueOf(productId)),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_STORES, appDatabase.storeDao().getStores()),
+            BarcodesData::new
+        )
+        .subscribeOn(Schedulers.io())
+        .observeOn(AndroidSchedulers.mainThread())
+        .doOnSuccess(onSuccess::actionFinished)
+        .doOnError(onError)
+        .onErrorComplete()
+        .subscribe();
+  }
 }
@@ -25,7 +25,9 @@ import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.MealPlanEntry;
 import xyz.zedler.patrick.grocy.model.MealPlanSection;
 import xyz.zedler.patrick.grocy.model.Product;
@@ -41,9 +43,11 @@ import xyz.zedler.patrick.grocy.util.RxJavaUtil;
 public class MealPlanRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public MealPlanRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface MealPlanDataListener {
@@ -129,19 +133,49 @@ public class MealPlanRepository {
     }
   }
 
-  public void loadFromDatabase(MealPlanDataListener onSuccess, Consumer<Throwable> onError) {
+  /**
+   * Loads the meal plan entries from firstDay to lastDay (format yyyy-MM-dd) together with all
+   * other data which the entries of these days need
+   */
+  public void loadFromDatabase(
+      String firstDay,
+      String lastDay,
+      MealPlanDataListener onSuccess,
+      Consumer<Throwable> onError
+  ) {
     RxJavaUtil
         .zip(
-            appDatabase.recipeDao().getRecipes(),
-            appDatabase.recipeFulfillmentDao().getRecipeFulfillments(),
-            appDatabase.recipePositionDao().getRecipePositions(),
-            appDatabase.productDao().getProducts(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.productLastPurchasedDao().getProductsLastPurchased(),
-            appDatabase.mealPlanEntryDao().getMealPlanEntries(),
-            appDatabase.mealPlanSectionDao().getMealPlanSections(),
-            appDatabase.stockItemDao().getStockItems(),
-            appDatabase.userfieldDao().getUserfields(),
+            entityCache.get(PREF.DB_LAST_TIME_RECIPES, appDatabase.recipeDao().getRecipes()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_RECIPE_FULFILLMENTS,
+                appDatabase.recipeFulfillmentDao().getRecipeFulfillments()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_RECIPE_POSITIONS,
+                appDatabase.recipePositionDao().getRecipePositions()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCTS_LAST_PURCHASED,
+                appDatabase.productLastPurchasedDao().getProductsLastPurchased()
+            ),
+            appDatabase.mealPlanEntryDao().getMealPlanEntries(firstDay, lastDay),
+            entityCache.get(
+                PREF.DB_LAST_TIME_MEAL_PLAN_SECTIONS,
+                appDatabase.mealPlanSectionDao().getMealPlanSections()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_STOCK_ITEMS,
+                appDatabase.stockItemDao().getStockItems()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_USERFIELDS,
+                appDatabase.userfieldDao().getUserfields()
+            ),
             MealPlanData::new
         )
         .subscribeOn(Schedulers.io())
@@ -25,7 +25,9 @@ import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.ChoreEntry;
 import xyz.zedler.patrick.grocy.model.MissingItem;
 import xyz.zedler.patrick.grocy.model.Product;
@@ -41,9 +43,11 @@ import xyz.zedler.patrick.grocy.util.RxJavaUtil;
 public class OverviewStartRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public OverviewStartRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -131,16 +135,34 @@ public class OverviewStartRepository {
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     RxJavaUtil
         .zip(
-            appDatabase.stockItemDao().getStockItems(),
-            appDatabase.shoppingListItemDao().getShoppingListItems(),
-            appDatabase.shoppingListDao().getShoppingLists(),
-            appDatabase.productDao().getProducts(),
+            entityCache.get(
+                PREF.DB_LAST_TIME_STOCK_ITEMS,
+                appDatabase.stockItemDao().getStockItems()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS,
+                appDatabase.shoppingListItemDao().getShoppingListItems()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_SHOPPING_LISTS,
+                appDatabase.shoppingListDao().getShoppingLists()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
             appDatabase.storedPurchaseDao().getStoredPurchases(),
-            appDatabase.recipeDao().getRecipes(),
-            appDatabase.choreEntryDao().getChoreEntries(),
-            appDatabase.taskDao().getTasks(),
-            appDatabase.volatileItemDao().getVolatileItems(),
-            appDatabase.missingItemDao().getMissingItems(),
+            entityCache.get(PREF.DB_LAST_TIME_RECIPES, appDatabase.recipeDao().getRecipes()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_CHORE_ENTRIES,
+                appDatabase.choreEntryDao().getChoreEntries()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_TASKS, appDatabase.taskDao().getTasks()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_VOLATILE,
+                appDatabase.volatileItemDao().getVolatileItems()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_VOLATILE_MISSING,
+                appDatabase.missingItemDao().getMissingItems()
+            ),
             OverviewStartData::new
         )
         .subscribeOn(Schedulers.io())
@@ -25,7 +25,9 @@ import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.PendingProduct;
 import xyz.zedler.patrick.grocy.model.PendingProductBarcode;
@@ -41,9 +43,11 @@ import xyz.zedler.patrick.grocy.util.RxJavaUtil;
 public class PurchaseRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public PurchaseRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -131,15 +135,27 @@ public class PurchaseRepository {
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     RxJavaUtil
         .zip(
-            appDatabase.productDao().getProducts(),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
             appDatabase.pendingProductDao().getPendingProducts(),
-            appDatabase.productBarcodeDao().getProductBarcodes(),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+                appDatabase.productBarcodeDao().getProductBarcodes()
+            ),
             appDatabase.pendingProductBarcodeDao().getProductBarcodes(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved(),
-            appDatabase.storeDao().getStores(),
-            appDatabase.locationDao().getLocations(),
-            appDatabase.shoppingListItemDao().getShoppingListItems(),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED,
+                appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_STORES, appDatabase.storeDao().getStores()),
+            entityCache.get(PREF.DB_LAST_TIME_LOCATIONS, appDatabase.locationDao().getLocations()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS,
+                appDatabase.shoppingListItemDao().getShoppingListItems()
+            ),
             appDatabase.storedPurchaseDao().getStoredPurchases(),
             PurchaseData::new
         )
@@ -26,7 +26,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
@@ -36,9 +38,11 @@ import xyz.zedler.patrick.grocy.model.RecipePosition;
 public class RecipeEditRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public RecipeEditRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -89,13 +93,50 @@ public class RecipeEditRepository {
   }
 
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
+    loadFromDatabase(
+        entityCache.get(
+            PREF.DB_LAST_TIME_RECIPE_POSITIONS,
+            appDatabase.recipePositionDao().getRecipePositions()
+        ),
+        onSuccess,
+        onError
+    );
+  }
+
+  // loads only the positions of the recipe instead of all recipe positions
+  public void loadFromDatabase(
+      int recipeId,
+      DataListener onSuccess,
+      Consumer<Throwable> onError
+  ) {
+    loadFromDatabase(
+        appDatabase.recipePositionDao().getRecipePositionsForRecipe(recipeId),
+        onSuccess,
+        onError
+    );
+  }
+
+  private void loadFromDatabase(
+      Single<List<RecipePosition>> recipePositions,
+      DataListener onSuccess,
+      Consumer<Throwable> onError
+  ) {
     Single
         .zip(
-            appDatabase.productDao().getProducts(),
-            appDatabase.productBarcodeDao().getProductBarcodes(),
-            appDatabase.recipePositionDao().getRecipePositions(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved(),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+                appDatabase.productBarcodeDao().getProductBarcodes()
+            ),
+            recipePositions,
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED,
+                appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved()
+            ),
             RecipeEditData::new
         )
         .subscribeOn(Schedulers.io())
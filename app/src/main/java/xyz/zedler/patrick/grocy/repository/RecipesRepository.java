@@ -25,7 +25,9 @@ import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversionResolved;
@@ -41,9 +43,11 @@ import xyz.zedler.patrick.grocy.util.RxJavaUtil;
 public class RecipesRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public RecipesRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface RecipesDataListener {
@@ -132,16 +136,40 @@ public class RecipesRepository {
   public void loadFromDatabase(RecipesDataListener onSuccess, Consumer<Throwable> onError) {
     RxJavaUtil
         .zip(
-            appDatabase.recipeDao().getRecipes(),
-            appDatabase.recipeFulfillmentDao().getRecipeFulfillments(),
-            appDatabase.recipePositionDao().getRecipePositions(),
-            appDatabase.recipePositionResolvedDao().getRecipePositionsResolved(),
-            appDatabase.productDao().getProducts(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved(),
-            appDatabase.stockItemDao().getStockItems(),
-            appDatabase.shoppingListItemDao().getShoppingListItems(),
-            appDatabase.userfieldDao().getUserfields(),
+            entityCache.get(PREF.DB_LAST_TIME_RECIPES, appDatabase.recipeDao().getRecipes()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_RECIPE_FULFILLMENTS,
+                appDatabase.recipeFulfillmentDao().getRecipeFulfillments()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_RECIPE_POSITIONS,
+                appDatabase.recipePositionDao().getRecipePositions()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_RECIPE_POSITIONS_RESOLVED,
+                appDatabase.recipePositionResolvedDao().getRecipePositionsResolved()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED,
+                appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_STOCK_ITEMS,
+                appDatabase.stockItemDao().getStockItems()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS,
+                appDatabase.shoppingListItemDao().getShoppingListItems()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_USERFIELDS,
+                appDatabase.userfieldDao().getUserfields()
+            ),
             RecipesData::new
         )
         .subscribeOn(Schedulers.io())
@@ -26,7 +26,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
@@ -36,9 +38,11 @@ import xyz.zedler.patrick.grocy.model.ShoppingList;
 public class ShoppingListItemEditRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public ShoppingListItemEditRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -91,11 +95,23 @@ public class ShoppingListItemEditRepository {
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     Single
         .zip(
-            appDatabase.shoppingListDao().getShoppingLists(),
-            appDatabase.productDao().getProducts(),
-            appDatabase.productBarcodeDao().getProductBarcodes(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved(),
+            entityCache.get(
+                PREF.DB_LAST_TIME_SHOPPING_LISTS,
+                appDatabase.shoppingListDao().getShoppingLists()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+                appDatabase.productBarcodeDao().getProductBarcodes()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED,
+                appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved()
+            ),
             ShoppingListItemEditData::new
         )
         .subscribeOn(Schedulers.io())
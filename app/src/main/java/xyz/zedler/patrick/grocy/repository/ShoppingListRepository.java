@@ -27,7 +27,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.MissingItem;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductGroup;
@@ -41,9 +43,11 @@ import xyz.zedler.patrick.grocy.model.Store;
 public class ShoppingListRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public ShoppingListRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -125,15 +129,36 @@ public class ShoppingListRepository {
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     Single
         .zip(
-            appDatabase.shoppingListItemDao().getShoppingListItems(),
-            appDatabase.shoppingListDao().getShoppingLists(),
-            appDatabase.productGroupDao().getProductGroups(),
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved(),
-            appDatabase.productDao().getProducts(),
-            appDatabase.productLastPurchasedDao().getProductsLastPurchased(),
-            appDatabase.storeDao().getStores(),
-            appDatabase.missingItemDao().getMissingItems(),
+            entityCache.get(
+                PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS,
+                appDatabase.shoppingListItemDao().getShoppingListItems()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_SHOPPING_LISTS,
+                appDatabase.shoppingListDao().getShoppingLists()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_GROUPS,
+                appDatabase.productGroupDao().getProductGroups()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED,
+                appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCTS_LAST_PURCHASED,
+                appDatabase.productLastPurchasedDao().getProductsLastPurchased()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_STORES, appDatabase.storeDao().getStores()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_VOLATILE_MISSING,
+                appDatabase.missingItemDao().getMissingItems()
+            ),
             ShoppingListData::new
         )
         .subscribeOn(Schedulers.io())
@@ -149,6 +174,7 @@ public class ShoppingListRepository {
       ShoppingListItem... shoppingListItems
   ) {
     appDatabase.shoppingListItemDao().insertShoppingListItems(shoppingListItems)
+        .doOnSuccess(ids -> entityCache.invalidate(PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS))
         .subscribeOn(Schedulers.io())
         .observeOn(AndroidSchedulers.mainThread())
         .doFinally(onFinished::run)
@@ -163,7 +189,8 @@ public class ShoppingListRepository {
       ShoppingListsListener onSuccess,
       Consumer<Throwable> onError
   ) {
-    appDatabase.shoppingListDao().getShoppingLists()
+    entityCache
+        .get(PREF.DB_LAST_TIME_SHOPPING_LISTS, appDatabase.shoppingListDao().getShoppingLists())
         .subscribeOn(Schedulers.io())
         .observeOn(AndroidSchedulers.mainThread())
         .doOnSuccess(onSuccess::actionFinished)
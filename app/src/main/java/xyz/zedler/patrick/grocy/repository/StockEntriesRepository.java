@@ -21,32 +21,43 @@
 package xyz.zedler.patrick.grocy.repository;
 
 import android.app.Application;
+import androidx.annotation.Nullable;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.util.Collections;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.StockEntry;
+import xyz.zedler.patrick.grocy.model.StockLogEntry;
 import xyz.zedler.patrick.grocy.model.Store;
 import xyz.zedler.patrick.grocy.model.User;
 
 public class StockEntriesRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public StockEntriesRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface StockOverviewDataListener {
     void actionFinished(StockOverviewData data);
   }
 
+  public interface StockLogEntriesListener {
+    void actionFinished(List<StockLogEntry> stockLogEntries);
+  }
+
   public static class StockOverviewData {
 
     private final List<QuantityUnit> quantityUnits;
@@ -104,16 +115,34 @@ public class StockEntriesRepository {
     }
   }
 
-  public void loadFromDatabase(StockOverviewDataListener onSuccess, Consumer<Throwable> onError) {
+  /**
+   * @param productId if not null, only the stock entries of this product are loaded
+   */
+  public void loadFromDatabase(
+      @Nullable Integer productId,
+      StockOverviewDataListener onSuccess,
+      Consumer<Throwable> onError
+  ) {
     Single
         .zip(
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.stockEntryDao().getStockEntries(),
-            appDatabase.productDao().getProducts(),
-            appDatabase.productBarcodeDao().getProductBarcodes(),
-            appDatabase.locationDao().getLocations(),
-            appDatabase.storeDao().getStores(),
-            appDatabase.userDao().getUsers(),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            productId != null
+                ? appDatabase.stockEntryDao().getStockEntriesForProduct(productId)
+                : entityCache.get(
+                    PREF.DB_LAST_TIME_STOCK_ENTRIES,
+                    appDatabase.stockEntryDao().getStockEntries()
+                ),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+                appDatabase.productBarcodeDao().getProductBarcodes()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_LOCATIONS, appDatabase.locationDao().getLocations()),
+            entityCache.get(PREF.DB_LAST_TIME_STORES, appDatabase.storeDao().getStores()),
+            entityCache.get(PREF.DB_LAST_TIME_USERS, appDatabase.userDao().getUsers()),
             StockOverviewData::new
         )
         .subscribeOn(Schedulers.io())
@@ -123,4 +152,34 @@ public class StockEntriesRepository {
         .onErrorComplete()
         .subscribe();
   }
+
+  /**
+   * Loads the cached journal entries which are older than beforeId, newest first.
+   * The filters are not applied if productIds, locationId or userId are null.
+   */
+  public void loadStockLogEntriesFromDatabase(
+      @Nullable List<Integer> productIds,
+      @Nullable String locationId,
+      @Nullable String userId,
+      int beforeId,
+      int limit,
+      StockLogEntriesListener onSuccess,
+      Consumer<Throwable> onError
+  ) {
+    appDatabase.stockLogEntryDao()
+        .getStockLogEntries(
+            beforeId,
+            productIds == null,
+            productIds != null ? productIds : Collections.emptyList(),
+            locationId,
+            userId,
+            limit
+        )
+        .subscribeOn(Schedulers.io())
+        .observeOn(AndroidSchedulers.mainThread())
+        .doOnSuccess(onSuccess::actionFinished)
+        .doOnError(onError)
+        .onErrorComplete()
+        .subscribe();
+  }
 }
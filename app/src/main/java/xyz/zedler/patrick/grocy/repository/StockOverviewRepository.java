@@ -25,7 +25,9 @@ import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.MissingItem;
 import xyz.zedler.patrick.grocy.model.Product;
@@ -45,9 +47,11 @@ import xyz.zedler.patrick.grocy.util.RxJavaUtil;
 public class StockOverviewRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public StockOverviewRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface StockOverviewDataListener {
@@ -163,20 +167,56 @@ public class StockOverviewRepository {
   public void loadFromDatabase(StockOverviewDataListener onSuccess, Consumer<Throwable> onError) {
     RxJavaUtil
         .zip(
-            appDatabase.quantityUnitDao().getQuantityUnits(),
-            appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved(),
-            appDatabase.productGroupDao().getProductGroups(),
-            appDatabase.stockItemDao().getStockItems(),
-            appDatabase.productDao().getProducts(),
-            appDatabase.productAveragePriceDao().getProductsAveragePrice(),
-            appDatabase.productLastPurchasedDao().getProductsLastPurchased(),
-            appDatabase.productBarcodeDao().getProductBarcodes(),
-            appDatabase.shoppingListItemDao().getShoppingListItems(),
-            appDatabase.locationDao().getLocations(),
-            appDatabase.stockLocationDao().getStockLocations(),
-            appDatabase.volatileItemDao().getVolatileItems(),
-            appDatabase.missingItemDao().getMissingItems(),
-            appDatabase.userfieldDao().getUserfields(),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNITS,
+                appDatabase.quantityUnitDao().getQuantityUnits()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_QUANTITY_UNIT_CONVERSIONS_RESOLVED,
+                appDatabase.quantityUnitConversionResolvedDao().getConversionsResolved()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_GROUPS,
+                appDatabase.productGroupDao().getProductGroups()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_STOCK_ITEMS,
+                appDatabase.stockItemDao().getStockItems()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCTS_AVERAGE_PRICE,
+                appDatabase.productAveragePriceDao().getProductsAveragePrice()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCTS_LAST_PURCHASED,
+                appDatabase.productLastPurchasedDao().getProductsLastPurchased()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_PRODUCT_BARCODES,
+                appDatabase.productBarcodeDao().getProductBarcodes()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_SHOPPING_LIST_ITEMS,
+                appDatabase.shoppingListItemDao().getShoppingListItems()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_LOCATIONS, appDatabase.locationDao().getLocations()),
+            entityCache.get(
+                PREF.DB_LAST_TIME_STOCK_LOCATIONS,
+                appDatabase.stockLocationDao().getStockLocations()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_VOLATILE,
+                appDatabase.volatileItemDao().getVolatileItems()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_VOLATILE_MISSING,
+                appDatabase.missingItemDao().getMissingItems()
+            ),
+            entityCache.get(
+                PREF.DB_LAST_TIME_USERFIELDS,
+                appDatabase.userfieldDao().getUserfields()
+            ),
             StockOverviewData::new
         )
         .subscribeOn(Schedulers.io())
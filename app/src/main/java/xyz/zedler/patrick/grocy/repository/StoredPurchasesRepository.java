@@ -26,7 +26,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.PendingProduct;
 import xyz.zedler.patrick.grocy.model.PendingProductBarcode;
 import xyz.zedler.patrick.grocy.model.Product;
@@ -36,9 +38,11 @@ import xyz.zedler.patrick.grocy.repository.PurchaseRepository.SuccessIdListener;
 public class StoredPurchasesRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public StoredPurchasesRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface DataListener {
@@ -83,7 +87,7 @@ public class StoredPurchasesRepository {
 
   public void loadFromDatabase(DataListener onSuccess, Consumer<Throwable> onError) {
     Single.zip(
-        appDatabase.productDao().getProducts(),
+        entityCache.get(PREF.DB_LAST_TIME_PRODUCTS, appDatabase.productDao().getProducts()),
         appDatabase.pendingProductDao().getPendingProducts(),
         appDatabase.pendingProductBarcodeDao().getProductBarcodes(),
         appDatabase.storedPurchaseDao().getStoredPurchases(),
@@ -26,7 +26,9 @@ import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.functions.Consumer;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.util.List;
+import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.database.AppDatabase;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Task;
 import xyz.zedler.patrick.grocy.model.TaskCategory;
 import xyz.zedler.patrick.grocy.model.User;
@@ -34,9 +36,11 @@ import xyz.zedler.patrick.grocy.model.User;
 public class TasksRepository {
 
   private final AppDatabase appDatabase;
+  private final EntityCache entityCache;
 
   public TasksRepository(Application application) {
     this.appDatabase = AppDatabase.getAppDatabase(application);
+    this.entityCache = EntityCache.getInstance(application);
   }
 
   public interface TasksDataListener {
@@ -76,9 +80,12 @@ public class TasksRepository {
   public void loadFromDatabase(TasksDataListener onSuccess, Consumer<Throwable> onError) {
     Single
         .zip(
-            appDatabase.taskCategoryDao().getTaskCategories(),
-            appDatabase.taskDao().getTasks(),
-            appDatabase.userDao().getUsers(),
+            entityCache.get(
+                PREF.DB_LAST_TIME_TASK_CATEGORIES,
+                appDatabase.taskCategoryDao().getTaskCategories()
+            ),
+            entityCache.get(PREF.DB_LAST_TIME_TASKS, appDatabase.taskDao().getTasks()),
+            entityCache.get(PREF.DB_LAST_TIME_USERS, appDatabase.userDao().getUsers()),
             TasksData::new
         )
         .subscribeOn(Schedulers.io())
@@ -40,8 +40,7 @@ public class AmountUtil {
       ShoppingListItem item,
       HashMap<Integer, Product> productHashMap,
       HashMap<Integer, QuantityUnit> quantityUnitHashMap,
-      List<QuantityUnitConversionResolved> unitConversions,
-      boolean isServerVersionMin400
+      List<QuantityUnitConversionResolved> unitConversions
   ) {
     if (!item.hasProduct()) {
       return null;
@@ -55,7 +54,7 @@ public class AmountUtil {
       return null;
     }
     HashMap<QuantityUnit, Double> unitFactors = QuantityUnitConversionUtil
-        .getUnitFactors(quantityUnitHashMap, unitConversions, product, isServerVersionMin400);
+        .getUnitFactors(quantityUnitHashMap, unitConversions, product);
     Double factor = unitFactors.get(quantityUnitHashMap.get(item.getQuIdInt()));
     return factor != null ? item.getAmountDouble() * factor : item.getAmountDouble();
   }
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import xyz.zedler.patrick.grocy.helper.EntityCache;
 import xyz.zedler.patrick.grocy.model.Chore;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.MealPlanEntry;
@@ -49,44 +50,52 @@ import xyz.zedler.patrick.grocy.model.Userfield;
 public class ArrayUtil {
 
   public static HashMap<Integer, Product> getProductsHashMap(List<Product> products) {
-    HashMap<Integer, Product> hashMap = new HashMap<>();
-    for (Product p : products) {
-      hashMap.put(p.getId(), p);
-    }
-    return hashMap;
+    return EntityCache.getIndex(products, "getProductsHashMap", () -> {
+      HashMap<Integer, Product> hashMap = new HashMap<>();
+      for (Product p : products) {
+        hashMap.put(p.getId(), p);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<Integer, String> getProductNamesHashMap(List<Product> products) {
-    if (products == null) {
-      return null;
-    }
-    HashMap<Integer, String> productNamesHashMap = new HashMap<>();
-    for (Product product : products) {
-      productNamesHashMap.put(product.getId(), product.getName());
-    }
-    return productNamesHashMap;
+    return EntityCache.getIndex(products, "getProductNamesHashMap", () -> {
+      if (products == null) {
+        return null;
+      }
+      HashMap<Integer, String> productNamesHashMap = new HashMap<>();
+      for (Product product : products) {
+        productNamesHashMap.put(product.getId(), product.getName());
+      }
+      return productNamesHashMap;
+    });
   }
 
   public static HashMap<Integer, ProductLastPurchased> getProductLastPurchasedHashMap(
       List<ProductLastPurchased> productsLastPurchased
   ) {
-    HashMap<Integer, ProductLastPurchased> hashMap = new HashMap<>();
-    if (productsLastPurchased == null) return hashMap;
-    for (ProductLastPurchased p : productsLastPurchased) {
-      hashMap.put(p.getProductId(), p);
-    }
-    return hashMap;
+    return EntityCache.getIndex(productsLastPurchased, "getProductLastPurchasedHashMap", () -> {
+      HashMap<Integer, ProductLastPurchased> hashMap = new HashMap<>();
+      if (productsLastPurchased == null) return hashMap;
+      for (ProductLastPurchased p : productsLastPurchased) {
+        hashMap.put(p.getProductId(), p);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<Integer, String> getProductAveragePriceHashMap(
       List<ProductAveragePrice> productsAveragePrice
   ) {
-    HashMap<Integer, String> hashMap = new HashMap<>();
-    if (productsAveragePrice == null) return hashMap;
-    for (ProductAveragePrice p : productsAveragePrice) {
-      hashMap.put(p.getProductId(), p.getPrice());
-    }
-    return hashMap;
+    return EntityCache.getIndex(productsAveragePrice, "getProductAveragePriceHashMap", () -> {
+      HashMap<Integer, String> hashMap = new HashMap<>();
+      if (productsAveragePrice == null) return hashMap;
+      for (ProductAveragePrice p : productsAveragePrice) {
+        hashMap.put(p.getProductId(), p.getPrice());
+      }
+      return hashMap;
+    });
   }
 
   public static ArrayList<Integer> getMissingProductsIds(List<MissingItem> missingItems) {
@@ -98,83 +107,101 @@ public class ArrayUtil {
   }
 
   public static HashMap<Integer, Location> getLocationsHashMap(List<Location> locations) {
-    HashMap<Integer, Location> hashMap = new HashMap<>();
-    for (Location l : locations) {
-      hashMap.put(l.getId(), l);
-    }
-    return hashMap;
+    return EntityCache.getIndex(locations, "getLocationsHashMap", () -> {
+      HashMap<Integer, Location> hashMap = new HashMap<>();
+      for (Location l : locations) {
+        hashMap.put(l.getId(), l);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<Integer, ProductGroup> getProductGroupsHashMap(
       List<ProductGroup> productGroups
   ) {
-    HashMap<Integer, ProductGroup> hashMap = new HashMap<>();
-    for (ProductGroup p : productGroups) {
-      hashMap.put(p.getId(), p);
-    }
-    return hashMap;
+    return EntityCache.getIndex(productGroups, "getProductGroupsHashMap", () -> {
+      HashMap<Integer, ProductGroup> hashMap = new HashMap<>();
+      for (ProductGroup p : productGroups) {
+        hashMap.put(p.getId(), p);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<String, ProductBarcode> getProductBarcodesHashMap(
       List<ProductBarcode> productBarcodes
   ) {
-    HashMap<String, ProductBarcode> productBarcodeHashMap = new HashMap<>();
-    for (ProductBarcode barcode : productBarcodes) {
-      productBarcodeHashMap.put(barcode.getBarcode().toLowerCase(), barcode);
-    }
-    return productBarcodeHashMap;
+    return EntityCache.getIndex(productBarcodes, "getProductBarcodesHashMap", () -> {
+      HashMap<String, ProductBarcode> productBarcodeHashMap = new HashMap<>();
+      for (ProductBarcode barcode : productBarcodes) {
+        productBarcodeHashMap.put(barcode.getBarcode().toLowerCase(), barcode);
+      }
+      return productBarcodeHashMap;
+    });
   }
 
   public static HashMap<Integer, Store> getStoresHashMap(List<Store> stores) {
-    HashMap<Integer, Store> hashMap = new HashMap<>();
-    for (Store s : stores) {
-      hashMap.put(s.getId(), s);
-    }
-    return hashMap;
+    return EntityCache.getIndex(stores, "getStoresHashMap", () -> {
+      HashMap<Integer, Store> hashMap = new HashMap<>();
+      for (Store s : stores) {
+        hashMap.put(s.getId(), s);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<Integer, QuantityUnit> getQuantityUnitsHashMap(
       List<QuantityUnit> quantityUnits
   ) {
-    HashMap<Integer, QuantityUnit> hashMap = new HashMap<>();
-    for (QuantityUnit q : quantityUnits) {
-      hashMap.put(q.getId(), q);
-    }
-    return hashMap;
+    return EntityCache.getIndex(quantityUnits, "getQuantityUnitsHashMap", () -> {
+      HashMap<Integer, QuantityUnit> hashMap = new HashMap<>();
+      for (QuantityUnit q : quantityUnits) {
+        hashMap.put(q.getId(), q);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<Integer, Task> getTasksHashMap(List<Task> tasks) {
-    HashMap<Integer, Task> hashMap = new HashMap<>();
-    for (Task t : tasks) {
-      hashMap.put(t.getId(), t);
-    }
-    return hashMap;
+    return EntityCache.getIndex(tasks, "getTasksHashMap", () -> {
+      HashMap<Integer, Task> hashMap = new HashMap<>();
+      for (Task t : tasks) {
+        hashMap.put(t.getId(), t);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<Integer, TaskCategory> getTaskCategoriesHashMap(
       List<TaskCategory> taskCategories
   ) {
-    HashMap<Integer, TaskCategory> hashMap = new HashMap<>();
-    for (TaskCategory t : taskCategories) {
-      hashMap.put(t.getId(), t);
-    }
-    return hashMap;
+    return EntityCache.getIndex(taskCategories, "getTaskCategoriesHashMap", () -> {
+      HashMap<Integer, TaskCategory> hashMap = new HashMap<>();
+      for (TaskCategory t : taskCategories) {
+        hashMap.put(t.getId(), t);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<Integer, Chore> getChoresHashMap(List<Chore> chores) {
-    HashMap<Integer, Chore> hashMap = new HashMap<>();
-    for (Chore c : chores) {
-      hashMap.put(c.getId(), c);
-    }
-    return hashMap;
+    return EntityCache.getIndex(chores, "getChoresHashMap", () -> {
+      HashMap<Integer, Chore> hashMap = new HashMap<>();
+      for (Chore c : chores) {
+        hashMap.put(c.getId(), c);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<Integer, User> getUsersHashMap(List<User> users) {
-    HashMap<Integer, User> hashMap = new HashMap<>();
-    for (User u : users) {
-      hashMap.put(u.getId(), u);
-    }
-    return hashMap;
+    return EntityCache.getIndex(users, "getUsersHashMap", () -> {
+      HashMap<Integer, User> hashMap = new HashMap<>();
+      for (User u : users) {
+        hashMap.put(u.getId(), u);
+      }
+      return hashMap;
+    });
   }
 
   public static HashMap<Integer, ShoppingListItem> getShoppingListItemHashMap(
@@ -191,19 +218,23 @@ public class ArrayUtil {
   }
 
   public static HashMap<Integer, StockItem> getStockItemHashMap(List<StockItem> stockItems) {
-    HashMap<Integer, StockItem> stockItemHashMap = new HashMap<>();
-    for (StockItem stockItem : stockItems) {
-      stockItemHashMap.put(stockItem.getProductId(), stockItem);
-    }
-    return stockItemHashMap;
+    return EntityCache.getIndex(stockItems, "getStockItemHashMap", () -> {
+      HashMap<Integer, StockItem> stockItemHashMap = new HashMap<>();
+      for (StockItem stockItem : stockItems) {
+        stockItemHashMap.put(stockItem.getProductId(), stockItem);
+      }
+      return stockItemHashMap;
+    });
   }
 
   public static HashMap<Integer, Recipe> getRecipesHashMap(List<Recipe> recipes) {
-    HashMap<Integer, Recipe> recipeHashMap = new HashMap<>();
-    for (Recipe recipe : recipes) {
-      recipeHashMap.put(recipe.getId(), recipe);
-    }
-    return recipeHashMap;
+    return EntityCache.getIndex(recipes, "getRecipesHashMap", () -> {
+      HashMap<Integer, Recipe> recipeHashMap = new HashMap<>();
+      for (Recipe recipe : recipes) {
+        recipeHashMap.put(recipe.getId(), recipe);
+      }
+      return recipeHashMap;
+    });
   }
 
   public static List<Recipe> getRecipesWithoutShadowRecipes(List<Recipe> allRecipes) {
@@ -229,21 +260,25 @@ public class ArrayUtil {
   public static HashMap<Integer, RecipePosition> getRecipePositionHashMap(
       List<RecipePosition> recipePositions
   ) {
-    HashMap<Integer, RecipePosition> recipePositionHashMap = new HashMap<>();
-    for (RecipePosition recipePosition : recipePositions) {
-      recipePositionHashMap.put(recipePosition.getId(), recipePosition);
-    }
-    return recipePositionHashMap;
+    return EntityCache.getIndex(recipePositions, "getRecipePositionHashMap", () -> {
+      HashMap<Integer, RecipePosition> recipePositionHashMap = new HashMap<>();
+      for (RecipePosition recipePosition : recipePositions) {
+        recipePositionHashMap.put(recipePosition.getId(), recipePosition);
+      }
+      return recipePositionHashMap;
+    });
   }
 
   public static HashMap<Integer, RecipeFulfillment> getRecipeFulfillmentHashMap(
       List<RecipeFulfillment> recipeFulfillments
   ) {
-    HashMap<Integer, RecipeFulfillment> recipeFulfillmentHashMap = new HashMap<>();
-    for (RecipeFulfillment recipeFulfillment : recipeFulfillments) {
-      recipeFulfillmentHashMap.put(recipeFulfillment.getRecipeId(), recipeFulfillment);
-    }
-    return recipeFulfillmentHashMap;
+    return EntityCache.getIndex(recipeFulfillments, "getRecipeFulfillmentHashMap", () -> {
+      HashMap<Integer, RecipeFulfillment> recipeFulfillmentHashMap = new HashMap<>();
+      for (RecipeFulfillment recipeFulfillment : recipeFulfillments) {
+        recipeFulfillmentHashMap.put(recipeFulfillment.getRecipeId(), recipeFulfillment);
+      }
+      return recipeFulfillmentHashMap;
+    });
   }
 
   public static HashMap<String, RecipeFulfillment> getRecipeResolvedFulfillmentForMealplanHashMap(
@@ -290,11 +325,13 @@ public class ArrayUtil {
   }
 
   public static HashMap<String, Userfield> getUserfieldHashMap(List<Userfield> userfields) {
-    HashMap<String, Userfield> hashMap = new HashMap<>();
-    for (Userfield u : userfields) {
-      hashMap.put(u.getName(), u);
-    }
-    return hashMap;
+    return EntityCache.getIndex(userfields, "getUserfieldHashMap", () -> {
+      HashMap<String, Userfield> hashMap = new HashMap<>();
+      for (Userfield u : userfields) {
+        hashMap.put(u.getName(), u);
+      }
+      return hashMap;
+    });
   }
 
   public static boolean areListsEqualIgnoreOrder(List<String> list1, List<String> list2) {
@@ -27,6 +27,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.WeekFields;
 import java.util.Calendar;
 import java.util.Date;
@@ -46,14 +47,16 @@ public class DateUtil {
   public static final int FORMAT_SHORT = 0;
   public static final int FORMAT_SHORT_WITH_TIME = 3;
 
-  public static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat(
-      "yyyy-MM-dd", Locale.ENGLISH
-  );
-  private static final SimpleDateFormat DATE_FORMAT_WITH_TIME = new SimpleDateFormat(
-      "yyyy-MM-dd HH:mm:ss", Locale.ENGLISH
+  public static final long NO_DATE = Long.MIN_VALUE; // epoch day of missing or invalid dates
+
+  // SimpleDateFormat is not thread-safe, every thread gets its own instances
+  public static final ThreadLocal<SimpleDateFormat> DATE_FORMAT = ThreadLocal.withInitial(
+      () -> new SimpleDateFormat("yyyy-MM-dd", Locale.ENGLISH)
   );
-  private static final SimpleDateFormat TIME_FORMAT = new SimpleDateFormat(
-      "HH:mm:ss", Locale.ENGLISH
+  private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT_WITH_TIME
+      = ThreadLocal.withInitial(() -> new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.ENGLISH));
+  private static final ThreadLocal<SimpleDateFormat> TIME_FORMAT = ThreadLocal.withInitial(
+      () -> new SimpleDateFormat("HH:mm:ss", Locale.ENGLISH)
   );
   private final Context context;
 
@@ -68,8 +71,8 @@ public class DateUtil {
     Date date = null;
     try {
       date = dateString.split(" ").length == 2
-          ? DATE_FORMAT_WITH_TIME.parse(dateString)
-          : DATE_FORMAT.parse(dateString);
+          ? DATE_FORMAT_WITH_TIME.get().parse(dateString)
+          : DATE_FORMAT.get().parse(dateString);
     } catch (ParseException e) {
       Log.e(TAG, "getDate: ");
     }
@@ -77,20 +80,42 @@ public class DateUtil {
   }
 
   public static String getDateStringToday() {
-    return DATE_FORMAT.format(getCurrentDate());
+    return DATE_FORMAT.get().format(getCurrentDate());
   }
 
+  /**
+   * Returns the number of calendar days between today and the date, the time of date strings
+   * with time is ignored. Returns 0 for missing or invalid dates.
+   */
   public static int getDaysFromNow(String dateString) {
-    Date date = getDate(dateString);
-    if (date == null) return 0;
-    long diff = date.getTime() - getCurrentDate().getTime();
-    return (int) TimeUnit.DAYS.convert(diff, TimeUnit.MILLISECONDS);
+    return getDaysFromNow(getEpochDay(dateString));
+  }
+
+  public static int getDaysFromNow(long epochDay) {
+    if (epochDay == NO_DATE) return 0;
+    return (int) (epochDay - LocalDate.now().toEpochDay());
+  }
+
+  /**
+   * Parses the date part of a date string (with or without time) into days since 1970-01-01.
+   * Unlike getDate, this can be used from any thread.
+   * Returns NO_DATE for missing or invalid dates, which is lower than every other epoch day.
+   */
+  public static long getEpochDay(String dateString) {
+    if (dateString == null || dateString.length() < 10) {
+      return NO_DATE;
+    }
+    try {
+      return LocalDate.parse(dateString.substring(0, 10)).toEpochDay();
+    } catch (DateTimeParseException e) {
+      return NO_DATE;
+    }
   }
 
   public static String getTodayWithDaysAdded(int daysToAdd) {
     Calendar calendar = Calendar.getInstance();
     calendar.add(Calendar.DAY_OF_MONTH, daysToAdd);
-    return DATE_FORMAT.format(calendar.getTime());
+    return DATE_FORMAT.get().format(calendar.getTime());
   }
 
   public static String getDateWithDaysAdded(String dateString, int daysToAdd) {
@@ -99,7 +124,7 @@ public class DateUtil {
     Calendar calendar = Calendar.getInstance();
     calendar.setTime(date);
     calendar.add(Calendar.DAY_OF_MONTH, daysToAdd);
-    return DATE_FORMAT.format(calendar.getTime());
+    return DATE_FORMAT.get().format(calendar.getTime());
   }
 
   private static Date getCurrentDate() {
@@ -120,13 +145,13 @@ public class DateUtil {
   public String getCurrentDateWithTimeStr() {
     Calendar cal = Calendar.getInstance();
     cal.set(Calendar.MILLISECOND, 0);
-    return DATE_FORMAT_WITH_TIME.format(cal.getTime());
+    return DATE_FORMAT_WITH_TIME.get().format(cal.getTime());
   }
 
   public String getCurrentDateWithoutTimeStr() {
     Calendar cal = Calendar.getInstance();
     cal.set(Calendar.MILLISECOND, 0);
-    return DATE_FORMAT.format(cal.getTime());
+    return DATE_FORMAT.get().format(cal.getTime());
   }
 
   public boolean isTimeLessThanOneMinuteAway(String dateWithTimeStr) {
@@ -136,7 +161,7 @@ public class DateUtil {
     Date currentDateWithTime = getCurrentDateWithTime();
     Date askedDateWithTime = null;
     try {
-      askedDateWithTime = DATE_FORMAT_WITH_TIME.parse(dateWithTimeStr);
+      askedDateWithTime = DATE_FORMAT_WITH_TIME.get().parse(dateWithTimeStr);
     } catch (ParseException e) {
       Log.e(TAG, "isTimeMoreThanOneMinuteAway: " + e);
     }
@@ -158,8 +183,8 @@ public class DateUtil {
     Date date = null;
     try {
       date = dateString.split(" ").length == 2
-          ? DATE_FORMAT_WITH_TIME.parse(dateString)
-          : DATE_FORMAT.parse(dateString);
+          ? DATE_FORMAT_WITH_TIME.get().parse(dateString)
+          : DATE_FORMAT.get().parse(dateString);
     } catch (ParseException e) {
       Log.e(TAG, "getLocalizedDate: " + e);
     }
@@ -190,7 +215,7 @@ public class DateUtil {
     }
     Date date = null;
     try {
-      date = TIME_FORMAT.parse(timeString);
+      date = TIME_FORMAT.get().parse(timeString);
     } catch (ParseException e) {
       Log.e(TAG, "getLocalizedTime: " + e);
     }
@@ -270,7 +295,7 @@ public class DateUtil {
         // Check if days are about the same as to the never expiring date
         Calendar calendarNever = Calendar.getInstance();
         try {
-          Date dateNever = DATE_FORMAT.parse(Constants.DATE.NEVER_OVERDUE);
+          Date dateNever = DATE_FORMAT.get().parse(Constants.DATE.NEVER_OVERDUE);
           if (dateNever != null) {
             calendarNever.setTime(dateNever);
           }
@@ -25,12 +25,13 @@ import java.util.regex.Pattern;
 
 public class GrocycodeUtil {
 
-  private static Matcher getMatcher(String barcode) {
-    return Pattern.compile("grcy:([a-z]+):([0-9]+)(:.+)*").matcher(barcode);
-  }
+  private static final String PREFIX = "grcy:";
+  private static final Pattern PATTERN = Pattern.compile("grcy:([a-z]+):([0-9]+)(:.+)*");
 
   public static Grocycode getGrocycode(String barcode) {
-    Matcher matcher = getMatcher(barcode);
+    // most scanned codes are product barcodes, which are rejected without the regex
+    if (barcode == null || !barcode.startsWith(PREFIX)) return null;
+    Matcher matcher = PATTERN.matcher(barcode);
     if (!matcher.matches()) return null;
     return new Grocycode(matcher);
   }
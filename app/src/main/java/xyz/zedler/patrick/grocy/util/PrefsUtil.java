@@ -246,6 +246,7 @@ public class PrefsUtil {
     editPrefs.remove(PREF.DB_LAST_TIME_USERFIELDS);
     editPrefs.remove(PREF.DB_LAST_TIME_MEAL_PLAN_ENTRIES);
     editPrefs.remove(PREF.DB_LAST_TIME_MEAL_PLAN_SECTIONS);
+    editPrefs.remove(PREF.DB_LAST_WINDOW_MEAL_PLAN_ENTRIES);
     editPrefs.apply();
   }
 
@@ -22,6 +22,7 @@ package xyz.zedler.patrick.grocy.util;
 
 import java.util.HashMap;
 import java.util.List;
+import xyz.zedler.patrick.grocy.helper.QuantityUnitConversionIndex;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.QuantityUnit;
 import xyz.zedler.patrick.grocy.model.QuantityUnitConversion;
@@ -31,22 +32,15 @@ public class QuantityUnitConversionUtil {
   public static HashMap<QuantityUnit, Double> getUnitFactors(
       HashMap<Integer, QuantityUnit> quantityUnitHashMap,
       List<QuantityUnitConversionResolved> unitConversions,
-      Product product,
-      boolean useResolvedConversions
+      Product product
   ) {
-    // useResolvedConversions is always the VersionUtil.isGrocyServerMin400() value because
-    // starting with this version, transitive conversions are
-    // calculated (see QuantityUnitConversionResolved class). For easier version compatibility
-    // changes of this app in future versions, the QuantityUnitConversionsResolved table of this app
-    // contains with earlier server versions just the simple conversions from the Grocy
-    // server (not resolved). If 4.0.0 is the min. server version requirement, this behavior
-    // can simply be removed and not all pages have to be edited.
-    if (!useResolvedConversions) {
-      return getUnitFactors(quantityUnitHashMap, unitConversions, product);
-    }
+    // Starting with server version 4.0, transitive conversions are calculated by the server
+    // (see QuantityUnitConversionResolved class). For earlier server versions, the app calculates
+    // them itself after the download (see QuantityUnitConversionResolver class), so the table
+    // contains the resolved conversions of every product for all server versions.
     HashMap<QuantityUnit, Double> unitFactors = new HashMap<>();
-    for (QuantityUnitConversion conversion : unitConversions) {
-      if (conversion.getProductIdInt() != product.getId()) continue;
+    QuantityUnitConversionIndex conversionIndex = QuantityUnitConversionIndex.get(unitConversions);
+    for (QuantityUnitConversion conversion : conversionIndex.getConversions(product.getId())) {
 
       // We need this check because unitConversions list can contain multiple entry for the same "to" QU.
       //
@@ -65,50 +59,6 @@ public class QuantityUnitConversionUtil {
     return unitFactors;
   }
 
-  private static HashMap<QuantityUnit, Double> getUnitFactors(
-      HashMap<Integer, QuantityUnit> quantityUnitHashMap,
-      List<QuantityUnitConversionResolved> unitConversions,
-      Product product
-  ) {
-    QuantityUnit stockUnit = quantityUnitHashMap.get(product.getQuIdStockInt());
-    QuantityUnit purchaseUnit = quantityUnitHashMap.get(product.getQuIdPurchaseInt());
-
-    HashMap<QuantityUnit, Double> unitFactors = new HashMap<>();
-    if (stockUnit == null || purchaseUnit == null) {
-      return unitFactors;
-    }
-    unitFactors.put(stockUnit, (double) 1);
-    if (!unitFactors.containsKey(purchaseUnit)) {
-      unitFactors.put(purchaseUnit, 1 / product.getQuFactorPurchaseToStockDouble());
-    }
-    for (QuantityUnitConversion conversion : unitConversions) {
-      if (!NumUtil.isStringInt(conversion.getProductId())
-          || product.getId() != conversion.getProductIdInt()) {
-        continue;
-      }
-      // Only add product specific conversions
-      // ("overriding" standard conversions which are added in the next step)
-      QuantityUnit unit = quantityUnitHashMap.get(conversion.getToQuId());
-      if (unit == null || unitFactors.containsKey(unit)) {
-        continue;
-      }
-      unitFactors.put(unit, conversion.getFactor());
-    }
-    for (QuantityUnitConversion conversion : unitConversions) {
-      if (NumUtil.isStringInt(conversion.getProductId())
-          || stockUnit.getId() != conversion.getFromQuId()) {
-        continue;
-      }
-      // Only add standard unit conversions
-      QuantityUnit unit = quantityUnitHashMap.get(conversion.getToQuId());
-      if (unit == null || unitFactors.containsKey(unit)) {
-        continue;
-      }
-      unitFactors.put(unit, conversion.getFactor());
-    }
-    return unitFactors;
-  }
-
   public static String getAmountStock(
       QuantityUnit stock,
       QuantityUnit current,
@@ -23,15 +23,20 @@ package xyz.zedler.patrick.grocy.util;
 import android.content.pm.ShortcutInfo;
 import android.os.Build;
 import androidx.annotation.RequiresApi;
+import java.text.CollationKey;
 import java.text.Collator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 import xyz.zedler.patrick.grocy.model.ChoreEntry;
 import xyz.zedler.patrick.grocy.model.Language;
 import xyz.zedler.patrick.grocy.model.Location;
@@ -59,22 +64,20 @@ public class SortUtil {
       ",J<k,K<l,L<m,M<n,N<o,O<p,P<q,Q<r,R<s, S & SS,ß<t,T& TH, Þ &TH," +
       "þ <u,U<v,V<w,W<x,X<y,Y<z,Z&AE,Æ&AE,æ&OE,Œ&OE,œ";
 
+  private static final int SORT_KEY_CACHE_SIZE = 4096;
+  private static final Map<Locale, SortKeyCache> sortKeyCaches = new ConcurrentHashMap<>();
+
   private static void compareStockItemsWithExtGerman(List<StockItem> items, boolean asc) {
-    Collections.sort(items, (item1, item2) -> Collator.getInstance(Locale.GERMAN).compare(
-        (asc ? item1 : item2).getProduct().getName().toLowerCase(),
-        (asc ? item2 : item1).getProduct().getName().toLowerCase()
-    ));
+    sortByCollationKey(
+        items, item -> item.getProduct().getName(), true, asc, getSortKeyCache(Locale.GERMAN)
+    );
   }
 
   public static void sortStockItemsByName(List<StockItem> stockItems, boolean ascending) {
     if (stockItems == null) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(stockItems, (item1, item2) -> Collator.getInstance(locale).compare(
-        (ascending ? item1 : item2).getProduct().getName().toLowerCase(),
-        (ascending ? item2 : item1).getProduct().getName().toLowerCase())
-    );
+    sortByCollationKey(stockItems, item -> item.getProduct().getName(), ascending);
   }
 
   public static void sortStockItemsByBBD(List<StockItem> stockItems, boolean ascending) {
@@ -83,18 +86,10 @@ public class SortUtil {
     }
     Collections.sort(
         stockItems,
-        (item1, item2) -> {
-          String bbd1 = (ascending ? item1 : item2).getBestBeforeDate();
-          String bbd2 = (ascending ? item2 : item1).getBestBeforeDate();
-          if (bbd1 == null && bbd2 == null) {
-            return 0;
-          } else if (bbd1 == null) {
-            return -1; // or 1 when items without BBD should be last
-          } else if (bbd2 == null) {
-            return 1; // or -1 when items without BBD should be last
-          }
-          return DateUtil.getDate(bbd1).compareTo(DateUtil.getDate(bbd2));
-        }
+        (item1, item2) -> Long.compare( // items without BBD are first (NO_DATE)
+            (ascending ? item1 : item2).getBestBeforeDateEpochDay(),
+            (ascending ? item2 : item1).getBestBeforeDateEpochDay()
+        )
     );
   }
 
@@ -158,7 +153,8 @@ public class SortUtil {
     } else {
       return Collator.getInstance(LocaleUtil.getLocale()).compare(value1, value2);
     }*/
-    return Collator.getInstance(LocaleUtil.getLocale()).compare(value1, value2);
+    SortKeyCache sortKeyCache = getSortKeyCache(LocaleUtil.getLocale());
+    return sortKeyCache.get(value1, false).compareTo(sortKeyCache.get(value2, false));
   }
 
   public static void sortStockEntriesByDueDate(List<StockEntry> stockEntries, boolean ascending) {
@@ -167,18 +163,10 @@ public class SortUtil {
     }
     Collections.sort(
         stockEntries,
-        (item1, item2) -> {
-          String bbd1 = (ascending ? item1 : item2).getBestBeforeDate();
-          String bbd2 = (ascending ? item2 : item1).getBestBeforeDate();
-          if (bbd1 == null && bbd2 == null) {
-            return 0;
-          } else if (bbd1 == null) {
-            return -1; // or 1 when items without BBD should be last
-          } else if (bbd2 == null) {
-            return 1; // or -1 when items without BBD should be last
-          }
-          return DateUtil.getDate(bbd1).compareTo(DateUtil.getDate(bbd2));
-        }
+        (item1, item2) -> Long.compare( // items without BBD are first (NO_DATE)
+            (ascending ? item1 : item2).getBestBeforeDateEpochDay(),
+            (ascending ? item2 : item1).getBestBeforeDateEpochDay()
+        )
     );
   }
 
@@ -188,36 +176,17 @@ public class SortUtil {
     if (stockEntries == null || productHashMap == null) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(stockEntries, (entry1, entry2) -> {
-      int productId1 = (ascending ? entry1 : entry2).getProductId();
-      int productId2 = (ascending ? entry2 : entry1).getProductId();
-      Product product1 = productHashMap.get(productId1);
-      Product product2 = productHashMap.get(productId2);
-      if (product1 == null && product2 == null) {
-        return 0;
-      } else if (product1 == null) {
-        return -1;
-      } else if (product2 == null) {
-        return 1;
-      }
-      return Collator.getInstance(locale).compare(
-          product1.getName().toLowerCase(),
-          product2.getName().toLowerCase()
-      );
-    });
+    sortByCollationKey(stockEntries, entry -> {
+      Product product = productHashMap.get(entry.getProductId());
+      return product != null ? product.getName() : null;
+    }, ascending);
   }
 
   public static void sortProductsByName(List<Product> products, boolean ascending) {
     if (products == null) {
       return;
     }
-    Collections.sort(
-        products,
-        (item1, item2) -> (ascending ? item1 : item2).getName().toLowerCase().compareTo(
-            (ascending ? item2 : item1).getName().toLowerCase()
-        )
-    );
+    sortByCollationKey(products, Product::getName, ascending);
   }
 
   public static void sortStockLocationItemsByName(ArrayList<StockLocation> stockLocations) {
@@ -233,11 +202,7 @@ public class SortUtil {
     if (tasks == null || tasks.isEmpty()) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(tasks, (item1, item2) -> Collator.getInstance(locale).compare(
-        (ascending ? item1 : item2).getName().toLowerCase(),
-        (ascending ? item2 : item1).getName().toLowerCase()
-    ));
+    sortByCollationKey(tasks, Task::getName, ascending);
   }
 
   public static void sortTasksByDueDate(List<Task> tasks, boolean ascending) {
@@ -246,19 +211,10 @@ public class SortUtil {
     }
     Collections.sort(
         tasks,
-        (item1, item2) -> {
-          String bbd1 = (ascending ? item1 : item2).getDueDate();
-          String bbd2 = (ascending ? item2 : item1).getDueDate();
-          if (bbd1 == null && bbd2 == null
-              || bbd1 != null && bbd1.isEmpty() && bbd2 != null && bbd2.isEmpty()) {
-            return 0;
-          } else if (bbd1 == null || bbd1.isEmpty()) {
-            return -1; // or 1 when items without BBD should be last
-          } else if (bbd2 == null || bbd2.isEmpty()) {
-            return 1; // or -1 when items without BBD should be last
-          }
-          return DateUtil.getDate(bbd1).compareTo(DateUtil.getDate(bbd2));
-        }
+        (item1, item2) -> Long.compare( // tasks without due date are first (NO_DATE)
+            (ascending ? item1 : item2).getDueDateEpochDay(),
+            (ascending ? item2 : item1).getDueDateEpochDay()
+        )
     );
   }
 
@@ -268,11 +224,7 @@ public class SortUtil {
     if (taskCategories == null || taskCategories.isEmpty()) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(taskCategories, (item1, item2) -> Collator.getInstance(locale).compare(
-        (ascending ? item1 : item2).getName().toLowerCase(),
-        (ascending ? item2 : item1).getName().toLowerCase()
-    ));
+    sortByCollationKey(taskCategories, TaskCategory::getName, ascending);
   }
 
   public static void sortTasksByCategory(
@@ -314,22 +266,19 @@ public class SortUtil {
     Collections.sort(
         choreEntries,
         (item1, item2) -> {
-          String time1 = (ascending ? item1 : item2).getNextEstimatedExecutionTime();
-          String time2 = (ascending ? item2 : item1).getNextEstimatedExecutionTime();
-          if (time1 == null && time2 == null
-              || time1 != null && time1.isEmpty() && time2 != null && time2.isEmpty()) {
-            return 0;
-          } else if (time1 == null || time1.isEmpty()) {
-            return -1; // or 1 when items without BBD should be last
-          } else if (time2 == null || time2.isEmpty()) {
-            return 1; // or -1 when items without BBD should be last
+          ChoreEntry entry1 = ascending ? item1 : item2;
+          ChoreEntry entry2 = ascending ? item2 : item1;
+          // entries without next execution are first (NO_DATE)
+          int compare = Long.compare(
+              entry1.getNextEstimatedExecutionEpochDay(),
+              entry2.getNextEstimatedExecutionEpochDay()
+          );
+          if (compare != 0 || entry1.getNextEstimatedExecutionEpochDay() == DateUtil.NO_DATE) {
+            return compare;
           }
-          Date date1 = DateUtil.getDate(time1);
-          Date date2 = DateUtil.getDate(time2);
-          if (date1 == null || date2 == null) {
-            return 0;
-          }
-          return DateUtil.getDate(time1).compareTo(DateUtil.getDate(time2));
+          // same day, the time of the ISO strings can be compared as text
+          return entry1.getNextEstimatedExecutionTime()
+              .compareTo(entry2.getNextEstimatedExecutionTime());
         }
     );
   }
@@ -338,33 +287,21 @@ public class SortUtil {
     if (choreEntries == null || choreEntries.isEmpty()) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(choreEntries, (item1, item2) -> Collator.getInstance(locale).compare(
-        (ascending ? item1 : item2).getChoreName().toLowerCase(),
-        (ascending ? item2 : item1).getChoreName().toLowerCase()
-    ));
+    sortByCollationKey(choreEntries, ChoreEntry::getChoreName, ascending);
   }
 
   public static void sortUsersByName(ArrayList<User> users, boolean ascending) {
     if (users == null || users.isEmpty()) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(users, (item1, item2) -> Collator.getInstance(locale).compare(
-        (ascending ? item1 : item2).getDisplayName().toLowerCase(),
-        (ascending ? item2 : item1).getDisplayName().toLowerCase()
-    ));
+    sortByCollationKey(users, User::getDisplayName, ascending);
   }
 
   public static void sortStringsByName(List<String> strings, boolean ascending) {
     if (strings == null || strings.isEmpty()) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(strings, (item1, item2) -> Collator.getInstance(locale).compare(
-        (ascending ? item1 : item2).toLowerCase(),
-        (ascending ? item2 : item1).toLowerCase()
-    ));
+    sortByCollationKey(strings, item -> item, ascending);
   }
 
   public static void sortStringsByValue(List<String> strings) {
@@ -390,32 +327,21 @@ public class SortUtil {
     if (locations == null) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(locations, (item1, item2) -> Collator.getInstance(locale).compare(
-        (ascending ? item1 : item2).getName().toLowerCase(),
-        (ascending ? item2 : item1).getName().toLowerCase()
-    ));
+    sortByCollationKey(locations, Location::getName, ascending);
   }
 
   public static void sortStoresByName(List<Store> stores, boolean ascending) {
     if (stores == null) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(stores, (item1, item2) -> Collator.getInstance(locale).compare(
-            (ascending ? item1 : item2).getName().toLowerCase(),
-            (ascending ? item2 : item1).getName().toLowerCase()));
+    sortByCollationKey(stores, Store::getName, ascending);
   }
 
   public static void sortProductGroupsByName(List<ProductGroup> productGroups, boolean ascending) {
     if (productGroups == null || productGroups.isEmpty()) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(productGroups, (item1, item2) -> Collator.getInstance(locale).compare(
-        (ascending ? item1 : item2).getName().toLowerCase(),
-        (ascending ? item2 : item1).getName().toLowerCase()
-    ));
+    sortByCollationKey(productGroups, ProductGroup::getName, ascending);
   }
 
   public static void sortQuantityUnitsByName(
@@ -424,11 +350,7 @@ public class SortUtil {
     if (quantityUnits == null) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(quantityUnits, (item1, item2) -> Collator.getInstance(locale).compare(
-            (ascending ? item1 : item2).getName().toLowerCase(),
-            (ascending ? item2 : item1).getName().toLowerCase()
-    ));
+    sortByCollationKey(quantityUnits, QuantityUnit::getName, ascending);
   }
 
   public static void sortShoppingListItemsByName(
@@ -439,47 +361,23 @@ public class SortUtil {
     if (shoppingListItems == null) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
     ArrayList<ShoppingListItem> itemsWithoutProduct = new ArrayList<>();
     for (ShoppingListItem shoppingListItem : shoppingListItems) {
       if (!shoppingListItem.hasProduct()) {
         itemsWithoutProduct.add(shoppingListItem);
       }
     }
-    Collections.sort(
-        itemsWithoutProduct,
-        (item1, item2) -> {
-          String noteA = (ascending ? item1 : item2).getNote();
-          String noteB = (ascending ? item2 : item1).getNote();
-          if (noteA != null && noteB != null) {
-            return Collator.getInstance(locale).compare(noteA, noteB);
-          } else if (noteA == null && noteB != null) {
-            return -1;
-          } else if (noteA != null) {
-            return 1;
-          } else {
-            return 0;
-          }
-        }
+    SortKeyCache sortKeyCache = getSortKeyCache(LocaleUtil.getLocale());
+    sortByCollationKey(
+        itemsWithoutProduct, ShoppingListItem::getNote, false, ascending, sortKeyCache
     );
     shoppingListItems.removeAll(itemsWithoutProduct);
-    Collections.sort(
+    sortByCollationKey(
         shoppingListItems,
-        (item1, item2) -> {
-          String nameA = productNamesHashMap.get((ascending ? item1 : item2)
-              .getProductIdInt());
-          String nameB = productNamesHashMap.get((ascending ? item2 : item1)
-              .getProductIdInt());
-          if (nameA != null && nameB != null) {
-            return Collator.getInstance(locale).compare(nameA, nameB);
-          } else if (nameA == null && nameB != null) {
-            return -1;
-          } else if (nameA != null) {
-            return 1;
-          } else {
-            return 0;
-          }
-        }
+        item -> productNamesHashMap.get(item.getProductIdInt()),
+        false,
+        ascending,
+        sortKeyCache
     );
     shoppingListItems.addAll(itemsWithoutProduct);
   }
@@ -488,11 +386,7 @@ public class SortUtil {
     if (users == null || users.isEmpty()) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(users, (item1, item2) -> Collator.getInstance(locale).compare(
-        (ascending ? item1 : item2).getUserName().toLowerCase(),
-        (ascending ? item2 : item1).getUserName().toLowerCase()
-    ));
+    sortByCollationKey(users, User::getUserName, ascending);
   }
 
   public static void sortMealPlanSections(List<MealPlanSection> mealPlanSections) {
@@ -535,40 +429,35 @@ public class SortUtil {
     if (recipes == null) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(recipes, (item1, item2) -> Collator.getInstance(locale).compare(
-            (ascending ? item1 : item2).getName().toLowerCase(),
-            (ascending ? item2 : item1).getName().toLowerCase()));
+    sortByCollationKey(recipes, Recipe::getName, ascending);
   }
 
-  public static void sortRecipesByCalories(List<Recipe> recipes, List<RecipeFulfillment> recipeFulfillments, boolean ascending) {
-    if (recipes == null || recipeFulfillments == null) {
+  public static void sortRecipesByCalories(
+      List<Recipe> recipes,
+      Map<Integer, RecipeFulfillment> recipeFulfillmentHashMap,
+      boolean ascending
+  ) {
+    if (recipes == null || recipeFulfillmentHashMap == null) {
       return;
     }
-    Collections.sort(recipes, (recipe1, recipe2) -> {
-      RecipeFulfillment recipeFulfillment1 = RecipeFulfillment.getRecipeFulfillmentFromRecipeId(recipeFulfillments, recipe1.getId());
-      RecipeFulfillment recipeFulfillment2 = RecipeFulfillment.getRecipeFulfillmentFromRecipeId(recipeFulfillments, recipe2.getId());
-
-      double recipe1Calories = recipeFulfillment1 != null ? recipeFulfillment1.getCalories() : 0;
-      double recipe2Calories = recipeFulfillment2 != null ? recipeFulfillment2.getCalories() : 0;
-
-      return (int)(ascending ? recipe1Calories : recipe2Calories) - (int)(ascending ? recipe2Calories : recipe1Calories);
-    });
+    sortByNumericKey(recipes, recipe -> {
+      RecipeFulfillment recipeFulfillment = recipeFulfillmentHashMap.get(recipe.getId());
+      return recipeFulfillment != null ? recipeFulfillment.getCalories() : 0;
+    }, ascending);
   }
 
-  public static void sortRecipesByDueScore(List<Recipe> recipes, List<RecipeFulfillment> recipeFulfillments, boolean ascending) {
-    if (recipes == null || recipeFulfillments == null) {
+  public static void sortRecipesByDueScore(
+      List<Recipe> recipes,
+      Map<Integer, RecipeFulfillment> recipeFulfillmentHashMap,
+      boolean ascending
+  ) {
+    if (recipes == null || recipeFulfillmentHashMap == null) {
       return;
     }
-    Collections.sort(recipes, (recipe1, recipe2) -> {
-      RecipeFulfillment recipeFulfillment1 = RecipeFulfillment.getRecipeFulfillmentFromRecipeId(recipeFulfillments, recipe1.getId());
-      RecipeFulfillment recipeFulfillment2 = RecipeFulfillment.getRecipeFulfillmentFromRecipeId(recipeFulfillments, recipe2.getId());
-
-      int recipe1DueScore = recipeFulfillment1 != null ? recipeFulfillment1.getDueScore() : 0;
-      int recipe2DueScore = recipeFulfillment2 != null ? recipeFulfillment2.getDueScore() : 0;
-
-      return (ascending ? recipe1DueScore : recipe2DueScore) - (ascending ? recipe2DueScore : recipe1DueScore);
-    });
+    sortByNumericKey(recipes, recipe -> {
+      RecipeFulfillment recipeFulfillment = recipeFulfillmentHashMap.get(recipe.getId());
+      return recipeFulfillment != null ? recipeFulfillment.getDueScore() : 0;
+    }, ascending);
   }
 
   public static void sortRecipesByUserfieldValue(
@@ -595,18 +484,7 @@ public class SortUtil {
     if (objects == null) {
       return;
     }
-    Locale locale = LocaleUtil.getLocale();
-    Collections.sort(objects, (item1, item2) -> {
-      String name1 = ObjectUtil.getObjectName(isAscending ? item1 : item2, entity);
-      String name2 = ObjectUtil.getObjectName(isAscending ? item2 : item1, entity);
-      if (name1 == null || name2 == null) {
-        return 0;
-      }
-      return Collator.getInstance(locale).compare(
-          name1.toLowerCase(locale),
-          name2.toLowerCase(locale)
-      );
-    });
+    sortByCollationKey(objects, item -> ObjectUtil.getObjectName(item, entity), isAscending);
   }
 
   public static void sortObjectsByCreatedTimestamp(
@@ -648,4 +526,121 @@ public class SortUtil {
       return compareUserfieldValues(value1, value2, userfield.getType());
     });
   }
+
+  /**
+   * Sorts by names with the collator of the locale, without comparing the strings with the
+   * collator on every comparison. The collation key of each name is computed only once and
+   * cached, so sorting the same list again doesn't need the collator at all.
+   * Items without name are sorted first.
+   */
+  private static <T> void sortByCollationKey(
+      List<T> items,
+      Function<T, String> nameFunction,
+      boolean ascending
+  ) {
+    sortByCollationKey(
+        items, nameFunction, true, ascending, getSortKeyCache(LocaleUtil.getLocale())
+    );
+  }
+
+  private static <T> void sortByCollationKey(
+      List<T> items,
+      Function<T, String> nameFunction,
+      boolean lowerCase,
+      boolean ascending,
+      SortKeyCache sortKeyCache
+  ) {
+    ArrayList<KeyedItem<T>> keyedItems = new ArrayList<>(items.size());
+    for (T item : items) {
+      keyedItems.add(new KeyedItem<>(
+          sortKeyCache.get(nameFunction.apply(item), lowerCase), item
+      ));
+    }
+    Comparator<KeyedItem<T>> comparator = (item1, item2) -> {
+      if (item1.key == null || item2.key == null) {
+        return item1.key == null ? (item2.key == null ? 0 : -1) : 1;
+      }
+      return item1.key.compareTo(item2.key);
+    };
+    Collections.sort(keyedItems, ascending ? comparator : comparator.reversed());
+    for (int i = 0; i < keyedItems.size(); i++) {
+      items.set(i, keyedItems.get(i).item);
+    }
+  }
+
+  /**
+   * Sorts by a number which is computed only once per item, not in every comparison.
+   */
+  private static <T> void sortByNumericKey(
+      List<T> items,
+      ToDoubleFunction<T> keyFunction,
+      boolean ascending
+  ) {
+    double[] keys = new double[items.size()];
+    Integer[] order = new Integer[items.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = keyFunction.applyAsDouble(items.get(i));
+      order[i] = i;
+    }
+    Arrays.sort(order, ascending
+        ? (i1, i2) -> Double.compare(keys[i1], keys[i2])
+        : (i1, i2) -> Double.compare(keys[i2], keys[i1]));
+    ArrayList<T> sorted = new ArrayList<>(items.size());
+    for (int index : order) {
+      sorted.add(items.get(index));
+    }
+    for (int i = 0; i < sorted.size(); i++) {
+      items.set(i, sorted.get(i));
+    }
+  }
+
+  private static SortKeyCache getSortKeyCache(Locale locale) {
+    return sortKeyCaches.computeIfAbsent(locale, SortKeyCache::new);
+  }
+
+  private static class KeyedItem<T> {
+
+    private final CollationKey key;
+    private final T item;
+
+    KeyedItem(CollationKey key, T item) {
+      this.key = key;
+      this.item = item;
+    }
+  }
+
+  private static class SortKeyCache {
+
+    private final Locale locale;
+    private final Collator collator;
+    private final Map<String, CollationKey> keys = createLruMap();
+    private final Map<String, CollationKey> lowerCaseKeys = createLruMap();
+
+    SortKeyCache(Locale locale) {
+      this.locale = locale;
+      this.collator = Collator.getInstance(locale);
+    }
+
+    synchronized CollationKey get(String name, boolean lowerCase) {
+      if (name == null) {
+        return null;
+      }
+      Map<String, CollationKey> cache = lowerCase ? lowerCaseKeys : keys;
+      CollationKey key = cache.get(name);
+      if (key == null) {
+        key = collator.getCollationKey(lowerCase ? name.toLowerCase(locale) : name);
+        cache.put(name, key);
+      }
+      return key;
+    }
+
+    private static Map<String, CollationKey> createLruMap() {
+      return new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CollationKey> eldest) {
+          return size() > SORT_KEY_CACHE_SIZE;
+        }
+      };
+    }
+  }
 }
@@ -39,6 +39,7 @@ import androidx.annotation.StringRes;
 import androidx.appcompat.app.AlertDialog;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Observer;
 import androidx.preference.PreferenceManager;
 import com.android.volley.VolleyError;
 import com.google.android.material.dialog.MaterialAlertDialogBuilder;
@@ -56,6 +57,7 @@ import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.SnackbarMessage;
 import xyz.zedler.patrick.grocy.util.LocaleUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
+import xyz.zedler.patrick.grocy.web.DbChangedTimeFeed;
 
 public class BaseViewModel extends AndroidViewModel {
 
@@ -65,6 +67,8 @@ public class BaseViewModel extends AndroidViewModel {
   private final Resources resources;
   private boolean isSearchVisible;
   private final boolean debug;
+  private Observer<String> dbChangedTimeObserver;
+  private boolean dbChangedTimeObserverReady;
 
   public BaseViewModel(@NonNull Application application) {
     super(application);
@@ -85,6 +89,37 @@ public class BaseViewModel extends AndroidViewModel {
     return sharedPrefs;
   }
 
+  /**
+   * Calls onDbChangedTime every time the shared db-changed-time changes, because polling or the
+   * download of any screen noticed a change on the server, while this ViewModel is alive
+   */
+  void observeDbChangedTime() {
+    if (dbChangedTimeObserver != null) {
+      return;
+    }
+    dbChangedTimeObserver = dbChangedTime -> {
+      // skip the value which was already published before this ViewModel was created
+      if (dbChangedTimeObserverReady) {
+        onDbChangedTime(dbChangedTime);
+      }
+    };
+    DbChangedTimeFeed.getInstance(getApplication()).getDbChangedTimeLive()
+        .observeForever(dbChangedTimeObserver);
+    dbChangedTimeObserverReady = true;
+  }
+
+  void onDbChangedTime(String dbChangedTime) {
+  }
+
+  @Override
+  protected void onCleared() {
+    if (dbChangedTimeObserver != null) {
+      DbChangedTimeFeed.getInstance(getApplication()).getDbChangedTimeLive()
+          .removeObserver(dbChangedTimeObserver);
+    }
+    super.onCleared();
+  }
+
   public boolean isFeatureEnabled(String pref) {
     if (pref == null) {
       return true;
@@ -30,10 +30,9 @@ import androidx.preference.PreferenceManager;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import me.xdrop.fuzzywuzzy.FuzzySearch;
-import me.xdrop.fuzzywuzzy.model.BoundExtractedResult;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.ProductSearchIndex;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.OpenBeautyFactsProduct;
 import xyz.zedler.patrick.grocy.model.OpenFoodFactsProduct;
@@ -65,6 +64,7 @@ public class ChooseProductViewModel extends BaseViewModel {
 
   private final String barcode;
   private List<Product> products;
+  private ProductSearchIndex productSearchIndex;
   private final HashMap<String, Product> productHashMap;
   private List<PendingProduct> pendingProducts;
   private final HashMap<String, PendingProduct> pendingProductHashMap;
@@ -126,6 +126,9 @@ public class ChooseProductViewModel extends BaseViewModel {
       for (PendingProduct pendingProduct : this.pendingProducts) {
         pendingProductHashMap.put(pendingProduct.getName().toLowerCase(), pendingProduct);
       }
+      ArrayList<Product> allProducts = new ArrayList<>(products);
+      allProducts.addAll(pendingProducts);
+      productSearchIndex = new ProductSearchIndex(allProducts);
       displayItems();
       if (downloadAfterLoading) {
         downloadData(false);
@@ -176,20 +179,9 @@ public class ChooseProductViewModel extends BaseViewModel {
       productNameErrorLive.setValue(null);
     }
 
-    ArrayList<Product> allProducts = new ArrayList<>();
-    allProducts.addAll(products);
-    allProducts.addAll(pendingProducts);
-    ArrayList<Product> suggestions = new ArrayList<>(30);
-    List<BoundExtractedResult<Product>> results = FuzzySearch.extractTop(
-            productName.toLowerCase(),
-            allProducts,
-            Product::getName,
-            30,
-            20
-    );
-    for (BoundExtractedResult<Product> result : results) {
-      suggestions.add(result.getReferent());
-    }
+    List<Product> suggestions = productSearchIndex != null
+        ? productSearchIndex.search(productName, 30, 20)
+        : new ArrayList<>();
 
     displayedItemsLive.setValue(suggestions);
     createProductTextLive.setValue(
@@ -102,6 +102,7 @@ public class ChoresViewModel extends BaseViewModel {
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(getApplication());
     repository = new ChoresRepository(application);
+    observeDbChangedTime();
     dateUtil = new DateUtil(application);
 
     infoFullscreenLive = new MutableLiveData<>();
@@ -150,7 +151,7 @@ public class ChoresViewModel extends BaseViewModel {
             || choreEntry.getNextEstimatedExecutionTime().isEmpty()) {
           continue;
         }
-        int daysFromNow = DateUtil.getDaysFromNow(choreEntry.getNextEstimatedExecutionTime());
+        int daysFromNow = DateUtil.getDaysFromNow(choreEntry.getNextEstimatedExecutionEpochDay());
         if (daysFromNow < 0) {
           choresOverdueCount++;
         }
@@ -205,7 +206,7 @@ public class ChoresViewModel extends BaseViewModel {
         continue;
       }
 
-      int daysFromNow = DateUtil.getDaysFromNow(choreEntry.getNextEstimatedExecutionTime());
+      int daysFromNow = DateUtil.getDaysFromNow(choreEntry.getNextEstimatedExecutionEpochDay());
       if (filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusChores.STATUS_DUE
           && daysFromNow > 0
           || filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusChores.STATUS_OVERDUE
@@ -359,6 +360,14 @@ public class ChoresViewModel extends BaseViewModel {
     return sharedPrefs.getBoolean(pref, true);
   }
 
+  @Override
+  void onDbChangedTime(String dbChangedTime) {
+    // skip the change which the own download noticed, its data is already downloaded
+    if (!dbChangedTime.equals(dlHelper.getLastDbChangedTime())) {
+      downloadData(false);
+    }
+  }
+
   @Override
   protected void onCleared() {
     dlHelper.destroy();
@@ -51,9 +51,12 @@ import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.QuantityUnitsBottomSh
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.QuickModeConfirmBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.StockEntriesBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.StockLocationsBottomSheet;
+import xyz.zedler.patrick.grocy.helper.BarcodeResolver;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.StockTransactionOutbox;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.InfoFullscreen;
+import xyz.zedler.patrick.grocy.model.PendingStockTransaction;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
 import xyz.zedler.patrick.grocy.model.ProductDetails;
@@ -80,12 +83,14 @@ public class ConsumeViewModel extends BaseViewModel {
 
   private final DownloadHelper dlHelper;
   private final GrocyApi grocyApi;
+  private final StockTransactionOutbox stockTransactionOutbox;
   private final InventoryRepository repository;
   private final FormDataConsume formData;
 
   private List<Product> products;
   private List<QuantityUnitConversionResolved> unitConversions;
-  private List<ProductBarcode> barcodes;
+  private HashMap<Integer, Product> productHashMap;
+  private final BarcodeResolver barcodeResolver;
   private HashMap<Integer, QuantityUnit> quantityUnitHashMap;
 
   private final MutableLiveData<Boolean> isLoadingLive;
@@ -109,6 +114,7 @@ public class ConsumeViewModel extends BaseViewModel {
     isLoadingLive = new MutableLiveData<>(false);
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(getApplication());
+    stockTransactionOutbox = StockTransactionOutbox.getInstance();
     repository = new InventoryRepository(application);
     formData = new FormDataConsume(application, sharedPrefs, args);
 
@@ -126,7 +132,8 @@ public class ConsumeViewModel extends BaseViewModel {
     }
     quickModeEnabled = new MutableLiveData<>(quickModeStart);
 
-    barcodes = new ArrayList<>();
+    productHashMap = new HashMap<>();
+    barcodeResolver = BarcodeResolver.getInstance();
   }
 
   public FormDataConsume getFormData() {
@@ -136,7 +143,8 @@ public class ConsumeViewModel extends BaseViewModel {
   public void loadFromDatabase(boolean downloadAfterLoading) {
     repository.loadFromDatabase(data -> {
       this.products = data.getProducts();
-      this.barcodes = data.getBarcodes();
+      productHashMap = ArrayUtil.getProductsHashMap(products);
+      barcodeResolver.setBarcodes(data.getBarcodes());
       this.quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       this.unitConversions = data.getQuantityUnitConversionsResolved();
       formData.getProductsLive().setValue(
@@ -192,8 +200,7 @@ public class ConsumeViewModel extends BaseViewModel {
       HashMap<QuantityUnit, Double> unitFactors = QuantityUnitConversionUtil.getUnitFactors(
           quantityUnitHashMap,
           unitConversions,
-          product,
-          VersionUtil.isGrocyServerMin400(sharedPrefs)
+          product
       );
       formData.getQuantityUnitsFactorsLive().setValue(unitFactors);
       QuantityUnit stock = quantityUnitHashMap.get(product.getQuIdStockInt());
@@ -314,7 +321,7 @@ public class ConsumeViewModel extends BaseViewModel {
 
   public void onBarcodeRecognized(String barcode) {
     if (formData.getProductDetailsLive().getValue() != null) {
-      if (ProductBarcode.getFromBarcode(barcodes, barcode) == null) {
+      if (barcodeResolver.getBarcode(barcode) == null) {
         formData.getBarcodeLive().setValue(barcode);
       } else {
         showMessage(R.string.msg_clear_form_first);
@@ -325,7 +332,7 @@ public class ConsumeViewModel extends BaseViewModel {
     String stockEntryId = null;
     Grocycode grocycode = GrocycodeUtil.getGrocycode(barcode);
     if (grocycode != null && grocycode.isProduct()) {
-      product = Product.getProductFromId(products, grocycode.getObjectId());
+      product = productHashMap.get(grocycode.getObjectId());
       if (product == null) {
         showMessageAndContinueScanning(R.string.msg_not_found);
         return;
@@ -337,9 +344,9 @@ public class ConsumeViewModel extends BaseViewModel {
     }
     ProductBarcode productBarcode = null;
     if (product == null) {
-      productBarcode = ProductBarcode.getFromBarcode(barcodes, barcode);
+      productBarcode = barcodeResolver.getBarcode(barcode);
       product = productBarcode != null
-          ? Product.getProductFromId(products, productBarcode.getProductIdInt()) : null;
+          ? productHashMap.get(productBarcode.getProductIdInt()) : null;
     }
     if (product != null) {
       setProduct(product.getId(), productBarcode, stockEntryId);
@@ -360,7 +367,7 @@ public class ConsumeViewModel extends BaseViewModel {
 
     Grocycode grocycode = GrocycodeUtil.getGrocycode(input.trim());
     if (grocycode != null && grocycode.isProduct()) {
-      product = Product.getProductFromId(products, grocycode.getObjectId());
+      product = productHashMap.get(grocycode.getObjectId());
       if (product == null) {
         showMessageAndContinueScanning(R.string.msg_not_found);
         return;
@@ -370,12 +377,9 @@ public class ConsumeViewModel extends BaseViewModel {
       return;
     }
     if (product == null) {
-      ProductBarcode productBarcode = null;
-      for (ProductBarcode code : barcodes) {
-        if (code.getBarcode().equals(input.trim())) {
-          productBarcode = code;
-          product = Product.getProductFromId(products, code.getProductIdInt());
-        }
+      ProductBarcode productBarcode = barcodeResolver.getBarcode(input.trim());
+      if (productBarcode != null) {
+        product = productHashMap.get(productBarcode.getProductIdInt());
       }
       if (product != null) {
         setProduct(product.getId(), productBarcode, null);
@@ -414,11 +418,16 @@ public class ConsumeViewModel extends BaseViewModel {
     assert formData.getProductDetailsLive().getValue() != null;
     Product product = formData.getProductDetailsLive().getValue().getProduct();
     JSONObject body = formData.getFilledJSONObject(isActionOpen);
-    dlHelper.postWithArray(
-        isActionOpen
-            ? grocyApi.openProduct(product.getId())
-            : grocyApi.consumeProduct(product.getId()),
-        body,
+    stockTransactionOutbox.post(
+        dlHelper,
+        new PendingStockTransaction(
+            product.getId(),
+            isActionOpen
+                ? PendingStockTransaction.TYPE_OPEN
+                : PendingStockTransaction.TYPE_CONSUME,
+            body
+        ),
+        isOffline(),
         response -> {
           // UNDO OPTION
           String transactionId = null;
@@ -455,6 +464,10 @@ public class ConsumeViewModel extends BaseViewModel {
           showSnackbar(snackbarMessage);
           sendEvent(Event.CONSUME_SUCCESS);
         },
+        () -> {
+          showMessage(R.string.msg_transaction_queued);
+          sendEvent(Event.CONSUME_SUCCESS);
+        },
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
@@ -482,7 +495,7 @@ public class ConsumeViewModel extends BaseViewModel {
     JSONObject body = productBarcode.getJsonFromProductBarcode(debug, TAG);
     ProductBarcode.addProductBarcode(dlHelper, body, () -> {
       formData.getBarcodeLive().setValue(null);
-      barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
+      barcodeResolver.addBarcode(productBarcode); // found on next scan without reload
       if (onSuccess != null) {
         onSuccess.run();
       }
@@ -50,11 +50,14 @@ import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.LocationsBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.QuantityUnitsBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.QuickModeConfirmBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.StoresBottomSheet;
+import xyz.zedler.patrick.grocy.helper.BarcodeResolver;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectResponseListener;
+import xyz.zedler.patrick.grocy.helper.StockTransactionOutbox;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.InfoFullscreen;
 import xyz.zedler.patrick.grocy.model.Location;
+import xyz.zedler.patrick.grocy.model.PendingStockTransaction;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
 import xyz.zedler.patrick.grocy.model.ProductDetails;
@@ -70,7 +73,6 @@ import xyz.zedler.patrick.grocy.util.GrocycodeUtil.Grocycode;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
-import xyz.zedler.patrick.grocy.util.VersionUtil;
 
 public class InventoryViewModel extends BaseViewModel {
 
@@ -80,12 +82,14 @@ public class InventoryViewModel extends BaseViewModel {
 
   private final DownloadHelper dlHelper;
   private final GrocyApi grocyApi;
+  private final StockTransactionOutbox stockTransactionOutbox;
   private final InventoryRepository repository;
   private final FormDataInventory formData;
 
   private List<Product> products;
   private List<QuantityUnitConversionResolved> unitConversions;
-  private List<ProductBarcode> barcodes;
+  private HashMap<Integer, Product> productHashMap;
+  private final BarcodeResolver barcodeResolver;
   private List<Store> stores;
   private List<Location> locations;
   private HashMap<Integer, QuantityUnit> quantityUnitHashMap;
@@ -116,6 +120,7 @@ public class InventoryViewModel extends BaseViewModel {
     isLoadingLive = new MutableLiveData<>(false);
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(getApplication());
+    stockTransactionOutbox = StockTransactionOutbox.getInstance();
     repository = new InventoryRepository(application);
     formData = new FormDataInventory(application, sharedPrefs, args);
 
@@ -131,7 +136,8 @@ public class InventoryViewModel extends BaseViewModel {
     }
     quickModeEnabled = new MutableLiveData<>(quickModeStart);
 
-    barcodes = new ArrayList<>();
+    productHashMap = new HashMap<>();
+    barcodeResolver = BarcodeResolver.getInstance();
   }
 
   public FormDataInventory getFormData() {
@@ -141,7 +147,8 @@ public class InventoryViewModel extends BaseViewModel {
   public void loadFromDatabase(boolean downloadAfterLoading) {
     repository.loadFromDatabase(data -> {
       this.products = data.getProducts();
-      this.barcodes = data.getBarcodes();
+      productHashMap = ArrayUtil.getProductsHashMap(products);
+      barcodeResolver.setBarcodes(data.getBarcodes());
       this.quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       this.unitConversions = data.getQuantityUnitConversionsResolved();
       this.stores = data.getStores();
@@ -196,8 +203,7 @@ public class InventoryViewModel extends BaseViewModel {
       HashMap<QuantityUnit, Double> unitFactors = QuantityUnitConversionUtil.getUnitFactors(
           quantityUnitHashMap,
           unitConversions,
-          updatedProduct,
-          VersionUtil.isGrocyServerMin400(sharedPrefs)
+          updatedProduct
       );
       formData.getQuantityUnitsFactorsLive().setValue(unitFactors);
       QuantityUnit stock = quantityUnitHashMap.get(updatedProduct.getQuIdStockInt());
@@ -275,7 +281,7 @@ public class InventoryViewModel extends BaseViewModel {
 
   public void onBarcodeRecognized(String barcode) {
     if (formData.getProductDetailsLive().getValue() != null) {
-      if (ProductBarcode.getFromBarcode(barcodes, barcode) == null) {
+      if (barcodeResolver.getBarcode(barcode) == null) {
         formData.getBarcodeLive().setValue(barcode);
       } else {
         showMessage(R.string.msg_clear_form_first);
@@ -285,7 +291,7 @@ public class InventoryViewModel extends BaseViewModel {
     Product product = null;
     Grocycode grocycode = GrocycodeUtil.getGrocycode(barcode);
     if (grocycode != null && grocycode.isProduct()) {
-      product = Product.getProductFromId(products, grocycode.getObjectId());
+      product = productHashMap.get(grocycode.getObjectId());
       if (product == null) {
         showMessageAndContinueScanning(R.string.msg_not_found);
         return;
@@ -296,9 +302,9 @@ public class InventoryViewModel extends BaseViewModel {
     }
     ProductBarcode productBarcode = null;
     if (product == null) {
-      productBarcode = ProductBarcode.getFromBarcode(barcodes, barcode);
+      productBarcode = barcodeResolver.getBarcode(barcode);
       product = productBarcode != null
-          ? Product.getProductFromId(products, productBarcode.getProductIdInt()) : null;
+          ? productHashMap.get(productBarcode.getProductIdInt()) : null;
     }
     if (product != null) {
       setProduct(product.getId(), productBarcode);
@@ -319,7 +325,7 @@ public class InventoryViewModel extends BaseViewModel {
 
     Grocycode grocycode = GrocycodeUtil.getGrocycode(input.trim());
     if (grocycode != null && grocycode.isProduct()) {
-      product = Product.getProductFromId(products, grocycode.getObjectId());
+      product = productHashMap.get(grocycode.getObjectId());
       if (product == null) {
         showMessageAndContinueScanning(R.string.msg_not_found);
         return;
@@ -329,12 +335,9 @@ public class InventoryViewModel extends BaseViewModel {
       return;
     }
     if (product == null) {
-      ProductBarcode barcode = null;
-      for (ProductBarcode code : barcodes) {
-        if (code.getBarcode().equals(input.trim())) {
-          barcode = code;
-          product = Product.getProductFromId(products, code.getProductIdInt());
-        }
+      ProductBarcode barcode = barcodeResolver.getBarcode(input.trim());
+      if (barcode != null) {
+        product = productHashMap.get(barcode.getProductIdInt());
       }
       if (product != null) {
         setProduct(product.getId(), barcode);
@@ -373,9 +376,12 @@ public class InventoryViewModel extends BaseViewModel {
 
     Product product = formData.getProductDetailsLive().getValue().getProduct();
     JSONObject body = formData.getFilledJSONObject();
-    dlHelper.postWithArray(
-        grocyApi.inventoryProduct(product.getId()),
-        body,
+    stockTransactionOutbox.post(
+        dlHelper,
+        new PendingStockTransaction(
+            product.getId(), PendingStockTransaction.TYPE_INVENTORY, body
+        ),
+        isOffline(),
         response -> {
           // UNDO OPTION
           String transactionId = null;
@@ -409,6 +415,10 @@ public class InventoryViewModel extends BaseViewModel {
           showSnackbar(snackbarMessage);
           sendEvent(Event.TRANSACTION_SUCCESS);
         },
+        () -> {
+          showMessage(R.string.msg_transaction_queued);
+          sendEvent(Event.TRANSACTION_SUCCESS);
+        },
         error -> {
           showNetworkErrorMessage(error);
             if (debug) {
@@ -441,7 +451,7 @@ public class InventoryViewModel extends BaseViewModel {
     JSONObject body = productBarcode.getJsonFromProductBarcode(debug, TAG);
     ProductBarcode.addProductBarcode(dlHelper, body, () -> {
       formData.getBarcodeLive().setValue(null);
-      barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
+      barcodeResolver.addBarcode(productBarcode); // found on next scan without reload
         if (onSuccess != null) {
             onSuccess.run();
         }
@@ -41,6 +41,7 @@ import xyz.zedler.patrick.grocy.api.GrocyApi.ENTITY;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.ProductOverviewBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.ProductOverviewBottomSheetArgs;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.ProductSearchIndex;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveData;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataProductGroup;
@@ -80,6 +81,7 @@ public class MasterObjectListViewModel extends BaseViewModel {
   private final FilterChipLiveDataSort filterChipLiveDataSort;
 
   private List<?> objects;
+  private ProductSearchIndex productSearchIndex;
   private List<QuantityUnit> quantityUnits;
   private List<Location> locations;
   private HashMap<String, ProductBarcode> productBarcodeHashMap;
@@ -123,6 +125,7 @@ public class MasterObjectListViewModel extends BaseViewModel {
       switch (entity) {
         case ENTITY.PRODUCTS:
           this.objects = data.getProducts();
+          this.productSearchIndex = ProductSearchIndex.get(data.getProducts());
           filterChipLiveDataProductGroup.setProductGroups(data.getProductGroups());
           this.quantityUnits = data.getQuantityUnits();
           this.locations = data.getLocations();
@@ -181,18 +184,22 @@ public class MasterObjectListViewModel extends BaseViewModel {
     if (search != null && !search.isEmpty()) {
 
       ArrayList<Object> searchResultsFuzzy = new ArrayList<>(30);
-      List results = FuzzySearch.extractTop(
-          search,
-          objects,
-          item -> {
-            String name = ObjectUtil.getObjectName(item, entity);
-            return name != null ? name.toLowerCase() : "";
-          },
-          30,
-          70
-      );
-      for (Object result : results) {
-        searchResultsFuzzy.add(((BoundExtractedResult<?>) result).getReferent());
+      if (entity.equals(GrocyApi.ENTITY.PRODUCTS) && productSearchIndex != null) {
+        searchResultsFuzzy.addAll(productSearchIndex.search(search, 30, 70));
+      } else {
+        List results = FuzzySearch.extractTop(
+            search,
+            objects,
+            item -> {
+              String name = ObjectUtil.getObjectName(item, entity);
+              return name != null ? name.toLowerCase() : "";
+            },
+            30,
+            70
+        );
+        for (Object result : results) {
+          searchResultsFuzzy.add(((BoundExtractedResult<?>) result).getReferent());
+        }
       }
 
       searchedItems = new ArrayList<>();
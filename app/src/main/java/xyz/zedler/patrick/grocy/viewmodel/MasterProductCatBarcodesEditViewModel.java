@@ -57,7 +57,6 @@ import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
-import xyz.zedler.patrick.grocy.util.VersionUtil;
 
 public class MasterProductCatBarcodesEditViewModel extends BaseViewModel {
 
@@ -228,8 +227,7 @@ public class MasterProductCatBarcodesEditViewModel extends BaseViewModel {
       HashMap<QuantityUnit, Double> unitFactors = QuantityUnitConversionUtil.getUnitFactors(
           quantityUnitHashMap,
           unitConversions,
-          product,
-          VersionUtil.isGrocyServerMin400(sharedPrefs)
+          product
       );
       formData.getQuantityUnitsFactorsLive().setValue(unitFactors);
       formData.setQuantityUnitPurchase(quantityUnitHashMap.get(product.getQuIdPurchaseInt()));
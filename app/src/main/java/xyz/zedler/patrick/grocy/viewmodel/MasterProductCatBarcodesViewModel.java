@@ -79,14 +79,15 @@ public class MasterProductCatBarcodesViewModel extends BaseViewModel {
   }
 
   public void loadFromDatabase(boolean downloadAfterLoading) {
-    repository.loadFromDatabase(data -> {
+    assert args.getProduct() != null;
+    repository.loadBarcodesFromDatabase(args.getProduct().getId(), data -> {
       this.productBarcodes = data.getBarcodes();
       this.quantityUnits = data.getQuantityUnits();
       this.stores = data.getStores();
       if (downloadAfterLoading) {
         downloadData(false);
       } else {
-        productBarcodesLive.setValue(filterBarcodes(productBarcodes));
+        productBarcodesLive.setValue(new ArrayList<>(productBarcodes));
       }
     }, error -> onError(error, TAG));
   }
@@ -98,7 +99,7 @@ public class MasterProductCatBarcodesViewModel extends BaseViewModel {
           if (updated) {
             loadFromDatabase(false);
           } else {
-            productBarcodesLive.setValue(filterBarcodes(productBarcodes));
+            productBarcodesLive.setValue(new ArrayList<>(productBarcodes));
           }
         }, error -> onError(error, null),
         forceUpdate,
@@ -109,18 +110,6 @@ public class MasterProductCatBarcodesViewModel extends BaseViewModel {
     );
   }
 
-  private ArrayList<ProductBarcode> filterBarcodes(List<ProductBarcode> barcodes) {
-    ArrayList<ProductBarcode> filteredBarcodes = new ArrayList<>();
-    assert args.getProduct() != null;
-    int productId = args.getProduct().getId();
-    for (ProductBarcode barcode : barcodes) {
-      if (barcode.getProductIdInt() == productId) {
-        filteredBarcodes.add(barcode);
-      }
-    }
-    return filteredBarcodes;
-  }
-
   public MutableLiveData<ArrayList<ProductBarcode>> getProductBarcodesLive() {
     return productBarcodesLive;
   }
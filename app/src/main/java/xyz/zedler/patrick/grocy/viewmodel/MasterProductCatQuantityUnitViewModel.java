@@ -218,8 +218,8 @@ public class MasterProductCatQuantityUnitViewModel extends BaseViewModel {
       // Old behavior: With Grocy server version until 3.3.2, stock unit can be edited
       // after creation as long as no transactions have been made or purchase unit can always be
       // edited because of available stock to purchase factor.
-      // No transitive conversions allowed (conversionsResolved only contain normal conversions
-      // with server version < v4).
+      // conversionsResolved are resolved by the app with server version < v4
+      // (see QuantityUnitConversionResolver class).
       if (type.equals(FormDataMasterProductCatQuantityUnit.STOCK)
           && hasProductAlreadyStockTransactionsLive.getValue()) {
         QuantityUnit quStockOld = quantityUnitHashMap.get(args.getProduct().getQuIdStockInt());
@@ -32,6 +32,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.TemporalAdjusters;
 import java.util.HashMap;
 import java.util.List;
 import xyz.zedler.patrick.grocy.Constants.PREF;
@@ -60,6 +61,7 @@ import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PluralUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
+import xyz.zedler.patrick.grocy.web.DbChangedTimeFeed;
 import xyz.zedler.patrick.grocy.web.RequestHeaders;
 
 public class MealPlanViewModel extends BaseViewModel {
@@ -75,6 +77,9 @@ public class MealPlanViewModel extends BaseViewModel {
   public final static String FIELD_AMOUNT = "field_amount";
   public final static String FIELD_DAY_SUMMARY = "field_day_summary";
 
+  // weeks before and after the selected week which are loaded and cached
+  private final static int WINDOW_WEEKS = 2;
+
   private final SharedPreferences sharedPrefs;
   private final DownloadHelper dlHelper;
   private final GrocyApi grocyApi;
@@ -108,6 +113,8 @@ public class MealPlanViewModel extends BaseViewModel {
   private final int decimalPlacesPriceDisplay;
   private final String currency;
   private boolean initialScrollDone;
+  private LocalDate windowFirstDay;
+  private LocalDate windowLastDay;
   private final boolean debug;
 
   public MealPlanViewModel(@NonNull Application application) {
@@ -133,6 +140,7 @@ public class MealPlanViewModel extends BaseViewModel {
     grocyApi = new GrocyApi(getApplication());
     grocyAuthHeaders = RequestHeaders.getGlideGrocyAuthHeaders(getApplication());
     repository = new MealPlanRepository(application);
+    observeDbChangedTime();
     pluralUtil = new PluralUtil(application);
 
     infoFullscreenLive = new MutableLiveData<>();
@@ -160,7 +168,15 @@ public class MealPlanViewModel extends BaseViewModel {
   }
 
   public void loadFromDatabase(boolean downloadAfterLoading) {
-    repository.loadFromDatabase(data -> {
+    if (windowFirstDay == null) {
+      setWindow(getSelectedDate());
+    }
+    String firstDay = windowFirstDay.format(dateFormatter);
+    String lastDay = windowLastDay.format(dateFormatter);
+    repository.loadFromDatabase(firstDay, lastDay, data -> {
+      if (!firstDay.equals(windowFirstDay.format(dateFormatter))) {
+        return; // window was moved in the meantime, the newer load is applied
+      }
       quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       productHashMap = ArrayUtil.getProductsHashMap(data.getProducts());
       productLastPurchasedHashMap = ArrayUtil
@@ -195,24 +211,61 @@ public class MealPlanViewModel extends BaseViewModel {
       isLoadingLive.setValue(false);
       return;
     }
-    dlHelper.updateData(
-        updated -> {
-          if (updated) loadFromDatabase(false);
-        },
-        error -> onError(error, TAG),
-        forceUpdate,
-        true,
-        QuantityUnit.class,
-        MealPlanEntry.class,
-        MealPlanSection.class,
-        Recipe.class,
-        RecipeFulfillment.class,
-        Product.class,
-        StockItem.class,
-        Userfield.class
+    if (windowFirstDay == null) {
+      setWindow(getSelectedDate());
+    }
+    String firstDay = windowFirstDay.format(dateFormatter);
+    String lastDay = windowLastDay.format(dateFormatter);
+    dlHelper.getTimeDbChanged(
+        forceUpdate ? 0 : DbChangedTimeFeed.DEFAULT_MAX_AGE_MILLIS,
+        dbChangedTime -> dlHelper.updateData(
+            updated -> {
+              if (updated) loadFromDatabase(false);
+            },
+            error -> onError(error, TAG),
+            dbChangedTime,
+            forceUpdate,
+            true,
+            MealPlanEntry.updateMealPlanEntries(
+                dlHelper, dbChangedTime, firstDay, lastDay, forceUpdate, null
+            ),
+            QuantityUnit.class,
+            MealPlanSection.class,
+            Recipe.class,
+            RecipeFulfillment.class,
+            Product.class,
+            StockItem.class,
+            Userfield.class
+        ),
+        error -> {
+          offlineLive.setValue(true);
+          if (forceUpdate) {
+            onError(error, TAG);
+          }
+        }
     );
   }
 
+  /**
+   * Moves the loaded window of weeks to the date if the week before or after it is not loaded,
+   * so the neighbouring weeks are already there when the user pages to them
+   */
+  public void loadWindowIfNeeded(LocalDate date) {
+    LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(getFirstDayOfWeek()));
+    if (windowFirstDay != null && !weekStart.minusWeeks(1).isBefore(windowFirstDay)
+        && !weekStart.plusWeeks(2).minusDays(1).isAfter(windowLastDay)) {
+      return;
+    }
+    setWindow(date);
+    loadFromDatabase(!isOffline());
+  }
+
+  private void setWindow(LocalDate date) {
+    LocalDate weekStart = date.with(TemporalAdjusters.previousOrSame(getFirstDayOfWeek()));
+    windowFirstDay = weekStart.minusWeeks(WINDOW_WEEKS);
+    windowLastDay = weekStart.plusWeeks(WINDOW_WEEKS + 1).minusDays(1);
+  }
+
   public DayOfWeek getFirstDayOfWeek() {
     return DateUtil.getMealPlanFirstDayOfWeek(sharedPrefs);
   }
@@ -346,6 +399,14 @@ public class MealPlanViewModel extends BaseViewModel {
     );
   }
 
+  @Override
+  void onDbChangedTime(String dbChangedTime) {
+    // skip the change which the own download noticed, its data is already downloaded
+    if (!dbChangedTime.equals(dlHelper.getLastDbChangedTime())) {
+      downloadData(false);
+    }
+  }
+
   @Override
   protected void onCleared() {
     dlHelper.destroy();
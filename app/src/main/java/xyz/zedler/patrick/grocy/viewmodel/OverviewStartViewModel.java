@@ -466,7 +466,7 @@ public class OverviewStartViewModel extends BaseViewModel {
           continue;
         }
         int daysFromNow = DateUtil
-            .getDaysFromNow(choreEntry.getNextEstimatedExecutionTime());
+            .getDaysFromNow(choreEntry.getNextEstimatedExecutionEpochDay());
         if (daysFromNow < 0) {
           choresOverdueCount++;
         }
@@ -33,6 +33,7 @@ import androidx.lifecycle.ViewModelProvider;
 import androidx.preference.PreferenceManager;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import org.json.JSONException;
@@ -54,6 +55,7 @@ import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.ProductsBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.QuantityUnitsBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.QuickModeConfirmBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.StoresBottomSheet;
+import xyz.zedler.patrick.grocy.helper.BarcodeResolver;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnJSONArrayResponseListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectResponseListener;
@@ -80,7 +82,6 @@ import xyz.zedler.patrick.grocy.util.GrocycodeUtil.Grocycode;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
-import xyz.zedler.patrick.grocy.util.VersionUtil;
 
 public class PurchaseViewModel extends BaseViewModel {
 
@@ -96,12 +97,12 @@ public class PurchaseViewModel extends BaseViewModel {
   private List<Product> products;
   private HashMap<Integer, Product> productHashMap;
   private List<PendingProduct> pendingProducts;
+  private HashMap<Integer, PendingProduct> pendingProductHashMap;
   private List<QuantityUnit> quantityUnits;
   private HashMap<Integer, QuantityUnit> quantityUnitHashMap;
   private List<QuantityUnitConversionResolved> unitConversions;
   private HashMap<Integer, Double> shoppingListItemAmountsHashMap;
-  private List<ProductBarcode> barcodes;
-  private List<PendingProductBarcode> pendingProductBarcodes;
+  private final BarcodeResolver barcodeResolver;
   private List<Store> stores;
   private List<Location> locations;
   private List<ShoppingListItem> shoppingListItems;
@@ -137,6 +138,7 @@ public class PurchaseViewModel extends BaseViewModel {
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(getApplication());
     repository = new PurchaseRepository(application);
+    barcodeResolver = BarcodeResolver.getInstance();
     formData = new FormDataPurchase(application, sharedPrefs, args);
 
     if (args.getShoppingListItems() != null) {
@@ -183,8 +185,12 @@ public class PurchaseViewModel extends BaseViewModel {
               appendPendingProducts(Product.getActiveProductsOnly(products), pendingProducts)
       );
       productHashMap = ArrayUtil.getProductsHashMap(products);
-      this.pendingProductBarcodes = data.getPendingProductBarcodes();
-      this.barcodes = appendPendingProductBarcodes(data.getBarcodes(), pendingProductBarcodes);
+      pendingProductHashMap = new HashMap<>();
+      for (PendingProduct pendingProduct : pendingProducts) {
+        pendingProductHashMap.put(pendingProduct.getId(), pendingProduct);
+      }
+      barcodeResolver.setBarcodes(data.getBarcodes());
+      barcodeResolver.setPendingBarcodes(data.getPendingProductBarcodes());
       this.quantityUnits = data.getQuantityUnits();
       quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(quantityUnits);
       this.unitConversions = data.getQuantityUnitConversionsResolved();
@@ -271,8 +277,7 @@ public class PurchaseViewModel extends BaseViewModel {
       HashMap<QuantityUnit, Double> unitFactors = QuantityUnitConversionUtil.getUnitFactors(
           quantityUnitHashMap,
           unitConversions,
-          updatedProduct,
-          VersionUtil.isGrocyServerMin400(sharedPrefs)
+          updatedProduct
       );
       formData.getQuantityUnitsFactorsLive().setValue(unitFactors);
       formData.getQuantityUnitStockLive().setValue(
@@ -301,8 +306,7 @@ public class PurchaseViewModel extends BaseViewModel {
         formData.getAmountLive().setValue(NumUtil.trimAmount(barcode.getAmountDouble(), maxDecimalPlacesAmount));
       } else if (!isTareWeightEnabled && shoppingListItem != null) {
         Double amountInUnit = AmountUtil.getShoppingListItemAmount(
-            shoppingListItem, productHashMap, quantityUnitHashMap, unitConversions,
-            VersionUtil.isGrocyServerMin400(sharedPrefs)
+            shoppingListItem, productHashMap, quantityUnitHashMap, unitConversions
         );
         formData.getAmountLive().setValue(
             NumUtil.trimAmount(
@@ -415,7 +419,8 @@ public class PurchaseViewModel extends BaseViewModel {
   }
 
   public void setPendingProduct(int pendingProductId, PendingProductBarcode barcode) {
-    PendingProduct pendingProduct = PendingProduct.getFromId(pendingProducts, pendingProductId);
+    if (pendingProductHashMap == null) return;
+    PendingProduct pendingProduct = pendingProductHashMap.get(pendingProductId);
     if (pendingProduct == null) return;
     formData.getPendingProductLive().setValue(pendingProduct);
     formData.getProductNameLive().setValue(pendingProduct.getName());
@@ -461,8 +466,8 @@ public class PurchaseViewModel extends BaseViewModel {
   }
 
   private void setStoredPurchase(StoredPurchase storedPurchase) {
-    PendingProduct pendingProduct = PendingProduct
-        .getFromId(pendingProducts, storedPurchase.getPendingProductId());
+    PendingProduct pendingProduct = pendingProductHashMap
+        .get(storedPurchase.getPendingProductId());
     if (pendingProduct == null) return;
 
     formData.getPendingProductLive().setValue(pendingProduct);
@@ -496,12 +501,12 @@ public class PurchaseViewModel extends BaseViewModel {
   }
 
   public void onBarcodeRecognized(String barcode) {
-    if (barcodes == null) {
+    if (productHashMap == null) {
       loadFromDatabase(true);
       return;
     }
     if (formData.getProductDetailsLive().getValue() != null) {
-      if (ProductBarcode.getFromBarcode(barcodes, barcode) == null) {
+      if (barcodeResolver.getBarcodeOrPending(barcode) == null) {
         formData.getBarcodeLive().setValue(barcode);
       } else {
         showMessage(R.string.msg_clear_form_first);
@@ -522,7 +527,7 @@ public class PurchaseViewModel extends BaseViewModel {
     }
     ProductBarcode productBarcode = null;
     if (product == null) {
-      productBarcode = ProductBarcode.getFromBarcode(barcodes, barcode);
+      productBarcode = barcodeResolver.getBarcodeOrPending(barcode);
       if (productBarcode instanceof PendingProductBarcode) {
         setPendingProduct(productBarcode.getProductIdInt(), (PendingProductBarcode) productBarcode);
         return;
@@ -559,16 +564,11 @@ public class PurchaseViewModel extends BaseViewModel {
       return;
     }
     if (product == null) {
-      ProductBarcode productBarcode = null;
-      for (ProductBarcode code : barcodes) {
-        if (code.getBarcode().equals(input.trim())) {
-          productBarcode = code;
-          if (code instanceof PendingProductBarcode) {
-            product = PendingProduct.getFromId(pendingProducts, code.getProductIdInt());
-          } else {
-            product = productHashMap.get(code.getProductIdInt());
-          }
-        }
+      ProductBarcode productBarcode = barcodeResolver.getBarcodeOrPending(input.trim());
+      if (productBarcode instanceof PendingProductBarcode) {
+        product = pendingProductHashMap.get(productBarcode.getProductIdInt());
+      } else if (productBarcode != null) {
+        product = productHashMap.get(productBarcode.getProductIdInt());
       }
       if (product != null) {
         setProduct(product.getId(), productBarcode, null);
@@ -747,7 +747,7 @@ public class PurchaseViewModel extends BaseViewModel {
     JSONObject body = productBarcode.getJsonFromProductBarcode(debug, TAG);
     ProductBarcode.addProductBarcode(dlHelper, body, () -> {
       formData.getBarcodeLive().setValue(null);
-      barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
+      barcodeResolver.addBarcode(productBarcode); // found on next scan without reload
       if (onSuccess != null) {
         onSuccess.run();
       }
@@ -781,8 +781,7 @@ public class PurchaseViewModel extends BaseViewModel {
   private void storePendingProductBarcode(Runnable onSuccess) {
     PendingProductBarcode productBarcode = formData.fillPendingProductBarcode();
     formData.getBarcodeLive().setValue(null);
-    barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
-    pendingProductBarcodes.add(productBarcode);
+    barcodeResolver.addBarcode(productBarcode); // found on next scan without reload
     repository.insertPendingProductBarcode(productBarcode, onSuccess);
   }
 
@@ -843,10 +842,9 @@ public class PurchaseViewModel extends BaseViewModel {
     if (shoppingListItems == null) {
       return;
     }
-    boolean isGrocyServerMin400 = VersionUtil.isGrocyServerMin400(sharedPrefs);
     for (ShoppingListItem item : shoppingListItems) {
       Double amount = AmountUtil.getShoppingListItemAmount(
-          item, productHashMap, quantityUnitHashMap, unitConversions, isGrocyServerMin400
+          item, productHashMap, quantityUnitHashMap, unitConversions
       );
       if (amount != null) {
         shoppingListItemAmountsHashMap.put(item.getId(), amount);
@@ -1003,7 +1001,7 @@ public class PurchaseViewModel extends BaseViewModel {
           ArrayList<Product> products,
           List<PendingProduct> pendingProducts
   ) {
-    ArrayList<String> productStrings = new ArrayList<>();
+    HashSet<String> productStrings = new HashSet<>();
     for (Product product : products) {
       productStrings.add(product.getName());
     }
@@ -1017,22 +1015,6 @@ public class PurchaseViewModel extends BaseViewModel {
     return newList;
   }
 
-  private ArrayList<ProductBarcode> appendPendingProductBarcodes(
-      List<ProductBarcode> productBarcodes,
-      List<PendingProductBarcode> pendingProductBarcodes
-  ) {
-    ArrayList<String> barcodeStrings = new ArrayList<>();
-    for (ProductBarcode productBarcode : productBarcodes) {
-      barcodeStrings.add(productBarcode.getBarcode());
-    }
-    ArrayList<ProductBarcode> newList = new ArrayList<>(productBarcodes);
-    for (PendingProductBarcode pendingProductBarcode : pendingProductBarcodes) {
-      if (barcodeStrings.contains(pendingProductBarcode.getBarcode())) continue;
-      newList.add(pendingProductBarcode);
-    }
-    return newList;
-  }
-
   public boolean hasStoredPurchase() {
     return storedPurchaseId != null;
   }
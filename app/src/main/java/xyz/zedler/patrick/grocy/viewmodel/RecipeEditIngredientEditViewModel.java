@@ -60,7 +60,6 @@ import xyz.zedler.patrick.grocy.util.GrocycodeUtil;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
-import xyz.zedler.patrick.grocy.util.VersionUtil;
 
 public class RecipeEditIngredientEditViewModel extends BaseViewModel {
 
@@ -160,8 +159,7 @@ public class RecipeEditIngredientEditViewModel extends BaseViewModel {
       HashMap<QuantityUnit, Double> unitFactors = QuantityUnitConversionUtil.getUnitFactors(
           quantityUnitHashMap,
           unitConversions,
-          product,
-          VersionUtil.isGrocyServerMin400(sharedPrefs)
+          product
       );
       formData.getQuantityUnitsFactorsLive().setValue(unitFactors);
       formData.getQuantityUnitStockLive().setValue(
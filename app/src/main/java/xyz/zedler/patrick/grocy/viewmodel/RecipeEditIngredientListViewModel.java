@@ -96,10 +96,9 @@ public class RecipeEditIngredientListViewModel extends BaseViewModel {
   }
 
   public void loadFromDatabase(boolean downloadAfterLoading) {
-    repository.loadFromDatabase(data -> {
+    repository.loadFromDatabase(recipe.getId(), data -> {
 
-      this.recipePositions = (ArrayList<RecipePosition>) RecipePosition
-          .getRecipePositionsFromRecipeId(data.getRecipePositions(), recipe.getId());
+      this.recipePositions = new ArrayList<>(data.getRecipePositions());
       this.products = Product.getProductsForRecipePositions(data.getProducts(), recipePositions);
       this.quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       this.unitConversions = data.getQuantityUnitConversionsResolved();
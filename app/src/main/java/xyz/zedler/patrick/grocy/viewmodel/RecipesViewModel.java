@@ -27,6 +27,7 @@ import androidx.lifecycle.MutableLiveData;
 import androidx.preference.PreferenceManager;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import xyz.zedler.patrick.grocy.Constants;
 import xyz.zedler.patrick.grocy.Constants.PREF;
@@ -34,6 +35,7 @@ import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.api.GrocyApi.ENTITY;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.RecipeSearchIndex;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveData;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataFields;
@@ -83,7 +85,8 @@ public class RecipesViewModel extends BaseViewModel {
   private final FilterChipLiveDataFields filterChipLiveDataFields;
 
   private List<Recipe> recipes;
-  private List<RecipeFulfillment> recipeFulfillments;
+  private HashMap<Integer, RecipeFulfillment> recipeFulfillmentHashMap;
+  private RecipeSearchIndex recipeSearchIndex;
   private List<RecipePosition> recipePositions;
   private List<Product> products;
   private List<QuantityUnit> quantityUnits;
@@ -100,6 +103,7 @@ public class RecipesViewModel extends BaseViewModel {
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(getApplication());
     repository = new RecipesRepository(application);
+    observeDbChangedTime();
 
     infoFullscreenLive = new MutableLiveData<>();
     filteredRecipesLive = new MutableLiveData<>();
@@ -134,7 +138,10 @@ public class RecipesViewModel extends BaseViewModel {
   public void loadFromDatabase(boolean downloadAfterLoading) {
     repository.loadFromDatabase(data -> {
       recipes = ArrayUtil.getRecipesWithoutShadowRecipes(data.getRecipes());
-      recipeFulfillments = data.getRecipeFulfillments();
+      recipeFulfillmentHashMap = ArrayUtil.getRecipeFulfillmentHashMap(
+          data.getRecipeFulfillments()
+      );
+      recipeSearchIndex = new RecipeSearchIndex(recipes, recipeFulfillmentHashMap);
       recipePositions = data.getRecipePositions();
       products = data.getProducts();
       quantityUnits = data.getQuantityUnits();
@@ -177,12 +184,14 @@ public class RecipesViewModel extends BaseViewModel {
     int notEnoughInStockButInShoppingListCount = 0;
     int notEnoughInStockCount = 0;
 
-    if (recipes == null || recipeFulfillments == null) {
+    if (recipes == null || recipeFulfillmentHashMap == null) {
       loadFromDatabase(true);
       return;
     }
+    HashSet<Integer> searchResultIds = searchInput != null && !searchInput.isEmpty()
+        ? recipeSearchIndex.search(searchInput) : null;
     for (Recipe recipe : recipes) {
-      RecipeFulfillment recipeFulfillment = RecipeFulfillment.getRecipeFulfillmentFromRecipeId(recipeFulfillments, recipe.getId());
+      RecipeFulfillment recipeFulfillment = recipeFulfillmentHashMap.get(recipe.getId());
 
       if (recipeFulfillment != null) {
         if (recipeFulfillment.isNeedFulfilled()) {
@@ -205,18 +214,7 @@ public class RecipesViewModel extends BaseViewModel {
         }
       }
 
-      boolean searchContainsItem = true;
-      if (searchInput != null && !searchInput.isEmpty()) {
-        searchContainsItem = recipe.getName().toLowerCase().contains(searchInput);
-
-        if (!searchContainsItem && recipeFulfillment != null
-            && recipeFulfillment.getProductNamesCommaSeparated() != null) {
-          searchContainsItem = recipeFulfillment.getProductNamesCommaSeparated()
-              .toLowerCase().contains(searchInput);
-        }
-      }
-
-      if (!searchContainsItem) {
+      if (searchResultIds != null && !searchResultIds.contains(recipe.getId())) {
         continue;
       }
 
@@ -227,9 +225,9 @@ public class RecipesViewModel extends BaseViewModel {
     boolean sortAscending = filterChipLiveDataSort.isSortAscending();
 
     if (sortMode.equals(SORT_ENERGY)) {
-      SortUtil.sortRecipesByCalories(filteredRecipes, recipeFulfillments, sortAscending);
+      SortUtil.sortRecipesByCalories(filteredRecipes, recipeFulfillmentHashMap, sortAscending);
     } else if (sortMode.equals(SORT_DUE_SCORE)) {
-      SortUtil.sortRecipesByDueScore(filteredRecipes, recipeFulfillments, sortAscending);
+      SortUtil.sortRecipesByDueScore(filteredRecipes, recipeFulfillmentHashMap, sortAscending);
     } else if (sortMode.startsWith(Userfield.NAME_PREFIX)) {
       String userfieldName = sortMode.substring(Userfield.NAME_PREFIX.length());
       Userfield userfield = userfieldHashMap.get(userfieldName);
@@ -260,8 +258,8 @@ public class RecipesViewModel extends BaseViewModel {
     sendEvent(Event.SCROLL_UP);
   }
 
-  public ArrayList<RecipeFulfillment> getRecipeFulfillments() {
-    return new ArrayList<>(recipeFulfillments);
+  public HashMap<Integer, RecipeFulfillment> getRecipeFulfillmentHashMap() {
+    return recipeFulfillmentHashMap;
   }
 
   public ArrayList<RecipePosition> getRecipePositions() {
@@ -348,6 +346,14 @@ public class RecipesViewModel extends BaseViewModel {
     return sharedPrefs.getBoolean(pref, true);
   }
 
+  @Override
+  void onDbChangedTime(String dbChangedTime) {
+    // skip the change which the own download noticed, its data is already downloaded
+    if (!dbChangedTime.equals(dlHelper.getLastDbChangedTime())) {
+      downloadData(false);
+    }
+  }
+
   @Override
   protected void onCleared() {
     dlHelper.destroy();
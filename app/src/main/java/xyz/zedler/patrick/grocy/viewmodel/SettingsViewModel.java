@@ -68,6 +68,8 @@ import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.ReminderUtil;
 import xyz.zedler.patrick.grocy.util.SortUtil;
 import xyz.zedler.patrick.grocy.util.VersionUtil;
+import xyz.zedler.patrick.grocy.web.DbChangedTimeFeed;
+import xyz.zedler.patrick.grocy.web.ResponseValidatorStore;
 
 public class SettingsViewModel extends BaseViewModel {
 
@@ -1137,6 +1139,8 @@ public class SettingsViewModel extends BaseViewModel {
 
   public void clearServerRelatedSharedPreferences() {
     PrefsUtil.clearServerRelatedSharedPreferences(sharedPrefs);
+    DbChangedTimeFeed.getInstance(getApplication()).reset();
+    ResponseValidatorStore.getInstance(getApplication()).clear();
   }
 
   @Override
@@ -241,8 +241,7 @@ public class ShoppingListItemEditViewModel extends BaseViewModel {
       HashMap<QuantityUnit, Double> unitFactors = QuantityUnitConversionUtil.getUnitFactors(
           quantityUnitHashMap,
           unitConversions,
-          product,
-          VersionUtil.isGrocyServerMin400(sharedPrefs)
+          product
       );
       formData.getQuantityUnitsFactorsLive().setValue(unitFactors);
       formData.getQuantityUnitStockLive().setValue(
@@ -276,8 +275,7 @@ public class ShoppingListItemEditViewModel extends BaseViewModel {
     HashMap<QuantityUnit, Double> unitFactors = QuantityUnitConversionUtil.getUnitFactors(
         quantityUnitHashMap,
         unitConversions,
-        product,
-        VersionUtil.isGrocyServerMin400(sharedPrefs)
+        product
     );
     formData.getQuantityUnitsFactorsLive().setValue(unitFactors);
     formData.getQuantityUnitStockLive().setValue(
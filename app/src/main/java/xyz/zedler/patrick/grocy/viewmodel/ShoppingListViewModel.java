@@ -42,6 +42,7 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.ShoppingListSyncBatcher;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveData;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataFields;
@@ -64,7 +65,6 @@ import xyz.zedler.patrick.grocy.repository.ShoppingListRepository;
 import xyz.zedler.patrick.grocy.util.AmountUtil;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
-import xyz.zedler.patrick.grocy.util.VersionUtil;
 import xyz.zedler.patrick.grocy.web.NetworkQueue;
 
 public class ShoppingListViewModel extends BaseViewModel {
@@ -80,6 +80,7 @@ public class ShoppingListViewModel extends BaseViewModel {
 
   private final SharedPreferences sharedPrefs;
   private final DownloadHelper dlHelper;
+  private final ShoppingListSyncBatcher syncBatcher;
   private final GrocyApi grocyApi;
   private final ShoppingListRepository repository;
 
@@ -120,8 +121,11 @@ public class ShoppingListViewModel extends BaseViewModel {
 
     isLoadingLive = new MutableLiveData<>(false);
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
+    syncBatcher = new ShoppingListSyncBatcher(dlHelper);
+    dlHelper.setBatchDatabaseWrites(true);
     grocyApi = new GrocyApi(getApplication());
     repository = new ShoppingListRepository(application);
+    observeDbChangedTime();
 
     infoFullscreenLive = new MutableLiveData<>();
     selectedShoppingListIdLive = new MutableLiveData<>(1);
@@ -307,50 +311,36 @@ public class ShoppingListViewModel extends BaseViewModel {
 
   private void syncShoppingListItems() {
     if (isOffline()) return;
+    if (syncBatcher.isSyncing()) {
+      return;
+    }
     ArrayList<ShoppingListItem> itemsToSync = new ArrayList<>();
     for (ShoppingListItem item : shoppingListItems) {
       if (item.getDoneSynced() != -1) {
         itemsToSync.add(item);
       }
     }
-    if (itemsToSync.isEmpty()) return;
-    Runnable emptyListener = () -> {
-      ArrayList<ShoppingListItem> itemsToUpdate = new ArrayList<>();
-      for (ShoppingListItem itemToSync : itemsToSync) {
-        itemToSync.setDoneSynced(-1);
-        itemsToUpdate.add(itemToSync);
+    if (itemsToSync.isEmpty()) {
+      return;
+    }
+    syncBatcher.sync(itemsToSync, (synced, failed) -> {
+      if (failed == 0) {
+        showMessage(getString(R.string.msg_synced));
+      } else {
+        SnackbarMessage snackbarMessage = new SnackbarMessage(
+            getString(R.string.msg_failed_to_sync)
+        );
+        snackbarMessage.setAction(
+            getString(R.string.action_details),
+            v -> showSyncErrorDetailsAlertDialog()
+        );
+        snackbarMessage.setDurationSecs(5);
+        showSnackbar(snackbarMessage);
       }
-      repository.insertShoppingListItems(
-          () -> {
-            showMessage(getString(R.string.msg_synced));
-            loadFromDatabase(false);
-          },
-          itemsToUpdate.toArray(new ShoppingListItem[0])
-      );
-    };
-    DownloadHelper.OnMultiTypeErrorListener errorListener = error -> {
-      SnackbarMessage snackbarMessage = new SnackbarMessage(getString(R.string.msg_failed_to_sync));
-      snackbarMessage.setAction(
-          getString(R.string.action_details),
-          v -> showSyncErrorDetailsAlertDialog()
-      );
-      snackbarMessage.setDurationSecs(5);
-      showSnackbar(snackbarMessage);
-      showMessage(getString(R.string.msg_failed_to_sync));
-    };
-    NetworkQueue queue = dlHelper.newQueue(updated -> emptyListener.run(), errorListener);
-    for (ShoppingListItem itemToSync : itemsToSync) {
-      JSONObject body = new JSONObject();
-      try {
-        body.put("done", itemToSync.getDoneInt());
-      } catch (JSONException e) {
-        if (debug) {
-          Log.e(TAG, "syncItems: " + e);
-        }
+      if (synced > 0) {
+        loadFromDatabase(false);
       }
-      queue.append(ShoppingListItem.editShoppingListItem(dlHelper, itemToSync.getId(), body));
-    }
-    queue.start();
+    });
   }
 
   private void showSyncErrorDetailsAlertDialog() {
@@ -715,10 +705,9 @@ public class ShoppingListViewModel extends BaseViewModel {
 
   private void fillShoppingListItemAmountsHashMap() {
     shoppingListItemAmountsHashMap = new HashMap<>();
-    boolean isGrocyServerMin400 = VersionUtil.isGrocyServerMin400(sharedPrefs);
     for (ShoppingListItem item : shoppingListItems) {
       Double amount = AmountUtil.getShoppingListItemAmount(
-          item, productHashMap, quantityUnitHashMap, unitConversions, isGrocyServerMin400
+          item, productHashMap, quantityUnitHashMap, unitConversions
       );
       if (amount != null) {
         shoppingListItemAmountsHashMap.put(item.getId(), amount);
@@ -744,8 +733,17 @@ public class ShoppingListViewModel extends BaseViewModel {
     return infoFullscreenLive;
   }
 
+  @Override
+  void onDbChangedTime(String dbChangedTime) {
+    // skip the change which the own download noticed, its data is already downloaded
+    if (!dbChangedTime.equals(dlHelper.getLastDbChangedTime())) {
+      downloadData(false, false);
+    }
+  }
+
   @Override
   protected void onCleared() {
+    syncBatcher.cancel();
     dlHelper.destroy();
     super.onCleared();
   }
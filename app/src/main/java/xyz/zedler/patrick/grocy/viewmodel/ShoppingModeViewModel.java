@@ -40,6 +40,7 @@ import xyz.zedler.patrick.grocy.Constants.PREF;
 import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.ShoppingListSyncBatcher;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveData;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataFields;
@@ -61,8 +62,7 @@ import xyz.zedler.patrick.grocy.repository.ShoppingListRepository;
 import xyz.zedler.patrick.grocy.util.AmountUtil;
 import xyz.zedler.patrick.grocy.util.ArrayUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
-import xyz.zedler.patrick.grocy.util.VersionUtil;
-import xyz.zedler.patrick.grocy.web.NetworkQueue;
+import xyz.zedler.patrick.grocy.web.DbChangedTimeFeed;
 
 public class ShoppingModeViewModel extends BaseViewModel {
 
@@ -78,6 +78,7 @@ public class ShoppingModeViewModel extends BaseViewModel {
 
   private final SharedPreferences sharedPrefs;
   private final DownloadHelper dlHelper;
+  private final ShoppingListSyncBatcher syncBatcher;
   private final GrocyApi grocyApi;
   private final ShoppingListRepository repository;
 
@@ -100,6 +101,7 @@ public class ShoppingModeViewModel extends BaseViewModel {
   private HashMap<Integer, String> productNamesHashMap;
   private HashMap<Integer, ProductLastPurchased> productLastPurchasedHashMap;
   private ArrayList<Integer> missingProductIds;
+  private String downloadingDbChangedTime;
   private final boolean debug;
 
   public ShoppingModeViewModel(@NonNull Application application) {
@@ -111,8 +113,10 @@ public class ShoppingModeViewModel extends BaseViewModel {
     isLoadingLive = new MutableLiveData<>(false);
     autoSyncDisabledLive = new MutableLiveData<>(!getAutoSyncEnabled());
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
+    syncBatcher = new ShoppingListSyncBatcher(dlHelper);
     grocyApi = new GrocyApi(getApplication());
     repository = new ShoppingListRepository(application);
+    observeDbChangedTime();
 
     infoFullscreenLive = new MutableLiveData<>();
     selectedShoppingListIdLive = new MutableLiveData<>(1);
@@ -205,25 +209,45 @@ public class ShoppingModeViewModel extends BaseViewModel {
   }
 
   public void downloadData(boolean forceUpdate, boolean noSync) {
-    dlHelper.updateData(
-        updated -> {
-          if (updated) {
-            loadFromDatabase(false);
-          } else {
-            syncShoppingListItems();
-          }
+    dlHelper.getTimeDbChanged(
+        forceUpdate ? 0 : DbChangedTimeFeed.DEFAULT_MAX_AGE_MILLIS,
+        dbChangedTime -> {
+          downloadingDbChangedTime = dbChangedTime;
+          dlHelper.updateData(
+              updated -> {
+                downloadingDbChangedTime = null;
+                if (updated) {
+                  loadFromDatabase(false);
+                } else {
+                  syncShoppingListItems();
+                }
+              },
+              error -> {
+                downloadingDbChangedTime = null;
+                if (forceUpdate) {
+                  onError(error, TAG);
+                }
+              },
+              dbChangedTime,
+              forceUpdate,
+              false,
+              null,
+              noSync ? ShoppingListItem.class : ShoppingListItemWithSync.class,
+              ShoppingList.class,
+              ProductGroup.class,
+              Product.class,
+              Store.class,
+              MissingItem.class,
+              QuantityUnit.class,
+              QuantityUnitConversionResolved.class
+          );
         },
-        error -> onError(error, TAG),
-        forceUpdate,
-        true,
-        noSync ? ShoppingListItem.class : ShoppingListItemWithSync.class,
-        ShoppingList.class,
-        ProductGroup.class,
-        Product.class,
-        Store.class,
-        MissingItem.class,
-        QuantityUnit.class,
-        QuantityUnitConversionResolved.class
+        error -> {
+          getOfflineLive().setValue(true);
+          if (forceUpdate) {
+            onError(error, TAG);
+          }
+        }
     );
   }
 
@@ -235,6 +259,9 @@ public class ShoppingModeViewModel extends BaseViewModel {
       loadFromDatabase(true);
       return;
     }
+    if (syncBatcher.isSyncing()) {
+      return;
+    }
     ArrayList<ShoppingListItem> itemsToSync = new ArrayList<>();
     for (ShoppingListItem item : shoppingListItems) {
       if (item.getDoneSynced() != -1) {
@@ -244,43 +271,24 @@ public class ShoppingModeViewModel extends BaseViewModel {
     if (itemsToSync.isEmpty()) {
       return;
     }
-    Runnable emptyListener = () -> {
-      ArrayList<ShoppingListItem> itemsToUpdate = new ArrayList<>();
-      for (ShoppingListItem itemToSync : itemsToSync) {
-        itemToSync.setDoneSynced(-1);
-        itemsToUpdate.add(itemToSync);
+    syncBatcher.sync(itemsToSync, (synced, failed) -> {
+      if (failed == 0) {
+        showMessage(getString(R.string.msg_synced));
+      } else {
+        SnackbarMessage snackbarMessage = new SnackbarMessage(
+            getString(R.string.msg_failed_to_sync)
+        );
+        snackbarMessage.setAction(
+            getString(R.string.action_details),
+            v -> showSyncErrorDetailsAlertDialog()
+        );
+        snackbarMessage.setDurationSecs(5);
+        showSnackbar(snackbarMessage);
       }
-      repository.insertShoppingListItems(
-          () -> {
-            showMessage(getString(R.string.msg_synced));
-            loadFromDatabase(false);
-          },
-          itemsToUpdate.toArray(new ShoppingListItem[0])
-      );
-    };
-    DownloadHelper.OnMultiTypeErrorListener errorListener = error -> {
-      SnackbarMessage snackbarMessage = new SnackbarMessage(getString(R.string.msg_failed_to_sync));
-      snackbarMessage.setAction(
-          getString(R.string.action_details),
-          v -> showSyncErrorDetailsAlertDialog()
-      );
-      snackbarMessage.setDurationSecs(5);
-      showSnackbar(snackbarMessage);
-      showMessage(getString(R.string.msg_failed_to_sync));
-    };
-    NetworkQueue queue = dlHelper.newQueue(updated -> emptyListener.run(), errorListener);
-    for (ShoppingListItem itemToSync : itemsToSync) {
-      JSONObject body = new JSONObject();
-      try {
-        body.put("done", itemToSync.getDoneInt());
-      } catch (JSONException e) {
-        if (debug) {
-          Log.e(TAG, "syncItems: " + e);
-        }
+      if (synced > 0) {
+        loadFromDatabase(false);
       }
-      queue.append(ShoppingListItem.editShoppingListItem(dlHelper, itemToSync.getId(), body));
-    }
-    queue.start();
+    });
   }
 
   private void showSyncErrorDetailsAlertDialog() {
@@ -428,10 +436,9 @@ public class ShoppingModeViewModel extends BaseViewModel {
 
   private void fillShoppingListItemAmountsHashMap() {
     shoppingListItemAmountsHashMap = new HashMap<>();
-    boolean isGrocyServerMin400 = VersionUtil.isGrocyServerMin400(sharedPrefs);
     for (ShoppingListItem item : shoppingListItems) {
       Double amount = AmountUtil.getShoppingListItemAmount(
-          item, productHashMap, quantityUnitHashMap, unitConversions, isGrocyServerMin400
+          item, productHashMap, quantityUnitHashMap, unitConversions
       );
       if (amount != null) {
         shoppingListItemAmountsHashMap.put(item.getId(), amount);
@@ -514,8 +521,18 @@ public class ShoppingModeViewModel extends BaseViewModel {
     autoSyncDisabledLive.setValue(!enabled);
   }
 
+  @Override
+  void onDbChangedTime(String dbChangedTime) {
+    // the change was noticed by the download which is already running for it
+    if (dbChangedTime.equals(downloadingDbChangedTime)) {
+      return;
+    }
+    downloadData(false, false);
+  }
+
   @Override
   protected void onCleared() {
+    syncBatcher.cancel();
     dlHelper.destroy();
     super.onCleared();
   }
@@ -143,7 +143,7 @@ public class StockEntriesViewModel extends BaseViewModel {
   }
 
   public void loadFromDatabase(boolean downloadAfterLoading) {
-    repository.loadFromDatabase(data -> {
+    repository.loadFromDatabase(productId, data -> {
       quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       productHashMap = ArrayUtil.getProductsHashMap(data.getProducts());
       productBarcodeHashMap = ArrayUtil.getProductBarcodesHashMap(data.getProductBarcodes());
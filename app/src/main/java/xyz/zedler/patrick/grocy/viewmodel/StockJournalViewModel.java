@@ -35,6 +35,10 @@ import xyz.zedler.patrick.grocy.R;
 import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnObjectsResponseListener;
+import xyz.zedler.patrick.grocy.helper.StockLogRemoteMediator;
+import xyz.zedler.patrick.grocy.model.FilterChipLiveData;
+import xyz.zedler.patrick.grocy.model.FilterChipLiveDataLocation;
+import xyz.zedler.patrick.grocy.model.FilterChipLiveDataUser;
 import xyz.zedler.patrick.grocy.model.InfoFullscreen;
 import xyz.zedler.patrick.grocy.model.Location;
 import xyz.zedler.patrick.grocy.model.Product;
@@ -51,14 +55,23 @@ public class StockJournalViewModel extends BaseViewModel {
 
   private final static String TAG = ShoppingListViewModel.class.getSimpleName();
 
+  private final static int PAGE_SIZE = 20;
+  // number of entries before the end of the list at which the next page is loaded
+  public final static int PREFETCH_DISTANCE = 10;
+  // downloads per page, a restrictive filter would otherwise download the whole journal at once
+  private final static int MAX_APPENDS_PER_PAGE = 3;
+
   private final SharedPreferences sharedPrefs;
   private final DownloadHelper dlHelper;
   private final GrocyApi grocyApi;
   private final StockEntriesRepository repository;
+  private final StockLogRemoteMediator remoteMediator;
 
   private final MutableLiveData<Boolean> isLoadingLive;
   private final MutableLiveData<InfoFullscreen> infoFullscreenLive;
   private final MutableLiveData<ArrayList<StockLogEntry>> filteredStockLogEntriesLive;
+  private final FilterChipLiveDataLocation filterChipLiveDataLocation;
+  private final FilterChipLiveDataUser filterChipLiveDataUser;
 
   private List<StockLogEntry> stockLogEntries;
   private HashMap<Integer, Product> productHashMap;
@@ -69,8 +82,9 @@ public class StockJournalViewModel extends BaseViewModel {
   private String searchInput;
   private final boolean debug;
 
-  private int currentPage = 0;
   private boolean isLastPage = false;
+  private boolean isLoadingPage = false;
+  private int pageLoadCount = 0;
 
   public StockJournalViewModel(@NonNull Application application) {
     super(application);
@@ -82,33 +96,33 @@ public class StockJournalViewModel extends BaseViewModel {
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(getApplication());
     repository = new StockEntriesRepository(application);
+    remoteMediator = new StockLogRemoteMediator(dlHelper);
 
     infoFullscreenLive = new MutableLiveData<>();
     filteredStockLogEntriesLive = new MutableLiveData<>();
+    filterChipLiveDataLocation = new FilterChipLiveDataLocation(
+        getApplication(),
+        this::loadFirstPage
+    );
+    filterChipLiveDataUser = new FilterChipLiveDataUser(
+        getApplication(),
+        this::loadFirstPage
+    );
   }
 
   public void loadFromDatabase(boolean downloadAfterLoading) {
-    repository.loadFromDatabase(data -> {
+    repository.loadFromDatabase(null, data -> {
       quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       productHashMap = ArrayUtil.getProductsHashMap(data.getProducts());
 
       locationHashMap = ArrayUtil.getLocationsHashMap(data.getLocations());
       userHashMap = ArrayUtil.getUsersHashMap(data.getUsers());
+      filterChipLiveDataLocation.setLocations(data.getLocations());
+      filterChipLiveDataUser.setUsers(data.getUsers());
 
+      loadFirstPage();
       if (downloadAfterLoading) {
         downloadData(false);
-      } else {
-        NetworkQueue queue = dlHelper.newQueue(
-            updated -> updateFilteredStockLogEntries(),
-            error -> onError(error, TAG)
-        );
-        queue.append(StockLogEntry.getStockLogEntries(
-            dlHelper,
-            20,
-            0,
-            entries -> this.stockLogEntries = entries
-        ));
-        queue.start();
       }
     }, error -> onError(error, TAG));
   }
@@ -120,8 +134,10 @@ public class StockJournalViewModel extends BaseViewModel {
           loadFromDatabase(false);
         },
         error -> onError(error, TAG),
+        null,
         forceUpdate,
-        false,
+        true,
+        remoteMediator.refresh(null),
         QuantityUnit.class,
         Product.class,
         Location.class,
@@ -129,26 +145,106 @@ public class StockJournalViewModel extends BaseViewModel {
     );
   }
 
+  public void loadFirstPage() {
+    isLastPage = false;
+    loadPage(Integer.MAX_VALUE, entries -> {
+      stockLogEntries = new ArrayList<>(entries);
+      updateFilteredStockLogEntries();
+    });
+  }
+
   public void loadNextPage(OnObjectsResponseListener<StockLogEntry> responseListener) {
-    NetworkQueue queue = dlHelper.newQueue(updated -> {
-      if (isOffline()) setOfflineLive(false);
-    }, error -> onError(error, TAG));
-    queue.append(StockLogEntry.getStockLogEntries(
-        dlHelper,
-        20,
-        currentPage*20,
-        responseListener
-    ));
-    queue.start();
+    if (stockLogEntries == null || isLoadingPage) return;
+    int beforeId = stockLogEntries.isEmpty()
+        ? Integer.MAX_VALUE
+        : stockLogEntries.get(stockLogEntries.size() - 1).getId();
+    loadPage(beforeId, entries -> {
+      stockLogEntries.addAll(entries);
+      responseListener.onResponse(entries);
+    });
+  }
+
+  private void loadPage(int beforeId, OnObjectsResponseListener<StockLogEntry> listener) {
+    loadPage(beforeId, 0, listener);
+  }
+
+  /**
+   * Loads a page of the filtered entries from the database. If the cache runs out before the
+   * page is full, older entries are downloaded first, until the oldest entry is cached or
+   * MAX_APPENDS_PER_PAGE downloads were made. Then the page may be incomplete and the next
+   * scroll continues.
+   */
+  private void loadPage(
+      int beforeId,
+      int appendCount,
+      OnObjectsResponseListener<StockLogEntry> listener
+  ) {
+    int pageLoad = ++pageLoadCount;
+    isLoadingPage = true;
+    repository.loadStockLogEntriesFromDatabase(
+        getProductIdsFilter(),
+        filterChipLiveDataLocation.getSelectedId() != FilterChipLiveDataLocation.NO_FILTER
+            ? String.valueOf(filterChipLiveDataLocation.getSelectedId()) : null,
+        filterChipLiveDataUser.getSelectedId() != FilterChipLiveDataUser.NO_FILTER
+            ? String.valueOf(filterChipLiveDataUser.getSelectedId()) : null,
+        beforeId,
+        PAGE_SIZE,
+        entries -> {
+          if (pageLoad != pageLoadCount) return; // filters changed, newer load is applied
+          if (entries.size() < PAGE_SIZE && !remoteMediator.isEndReached() && !isOffline()
+              && appendCount < MAX_APPENDS_PER_PAGE) {
+            NetworkQueue queue = dlHelper.newQueue(
+                updated -> {
+                  if (pageLoad == pageLoadCount) loadPage(beforeId, appendCount + 1, listener);
+                },
+                error -> {
+                  if (pageLoad != pageLoadCount) return;
+                  isLoadingPage = false;
+                  isLastPage = true; // no retries while scrolling, refresh resets it
+                  listener.onResponse(entries);
+                }
+            );
+            queue.append(remoteMediator.append(null));
+            queue.start();
+            return;
+          }
+          isLoadingPage = false;
+          if (entries.size() < PAGE_SIZE
+              && (remoteMediator.isEndReached() || isOffline())) {
+            isLastPage = true;
+          }
+          listener.onResponse(entries);
+        },
+        error -> {
+          isLoadingPage = false;
+          onError(error, TAG);
+        }
+    );
+  }
+
+  // ids of the products which match the search input, null if the search is empty
+  private List<Integer> getProductIdsFilter() {
+    if (searchInput == null || searchInput.isEmpty() || productHashMap == null) {
+      return null;
+    }
+    ArrayList<Integer> productIds = new ArrayList<>();
+    for (Product product : productHashMap.values()) {
+      if (product.getName().toLowerCase().contains(searchInput)) {
+        productIds.add(product.getId());
+      }
+    }
+    return productIds;
   }
 
   public void updateFilteredStockLogEntries() {
-    if (this.stockLogEntries == null) return;
+    // the adapter needs the lookups of loadFromDatabase
+    if (this.stockLogEntries == null || productHashMap == null) return;
     ArrayList<StockLogEntry> filteredStockLogEntries = new ArrayList<>(this.stockLogEntries);
 
     if (filteredStockLogEntries.isEmpty()) {
       InfoFullscreen info;
-      if (searchInput != null && !searchInput.isEmpty()) {
+      if (searchInput != null && !searchInput.isEmpty()
+          || filterChipLiveDataLocation.isActive() || filterChipLiveDataUser.isActive()) {
         info = new InfoFullscreen(InfoFullscreen.INFO_NO_SEARCH_RESULTS);
       } else {
         info = new InfoFullscreen(InfoFullscreen.INFO_EMPTY_STOCK);
@@ -165,7 +261,15 @@ public class StockJournalViewModel extends BaseViewModel {
     dlHelper.post(
         grocyApi.undoStockTransaction(entry.getTransactionId()),
         response -> {
-          downloadData(false);
+          NetworkQueue queue = dlHelper.newQueue(
+              updated -> loadFirstPage(),
+              error -> onError(error, TAG)
+          );
+          queue.append(
+              remoteMediator.refresh(null),
+              remoteMediator.updateTransaction(entry.getTransactionId())
+          );
+          queue.start();
           showSnackbar(new SnackbarMessage(
               getString(R.string.msg_undone_transaction),
               Snackbar.LENGTH_SHORT
@@ -190,7 +294,15 @@ public class StockJournalViewModel extends BaseViewModel {
   public void updateSearchInput(String input) {
     this.searchInput = input.toLowerCase();
 
-    updateFilteredStockLogEntries();
+    loadFirstPage();
+  }
+
+  public FilterChipLiveData.Listener getFilterChipLiveDataLocation() {
+    return () -> filterChipLiveDataLocation;
+  }
+
+  public FilterChipLiveData.Listener getFilterChipLiveDataUser() {
+    return () -> filterChipLiveDataUser;
   }
 
   public HashMap<Integer, Product> getProductHashMap() {
@@ -213,16 +325,8 @@ public class StockJournalViewModel extends BaseViewModel {
     return isLastPage;
   }
 
-  public void setLastPage(boolean lastPage) {
-    isLastPage = lastPage;
-  }
-
-  public int getCurrentPage() {
-    return currentPage;
-  }
-
-  public void setCurrentPage(int currentPage) {
-    this.currentPage = currentPage;
+  public boolean isLoadingPage() {
+    return isLoadingPage;
   }
 
   @NonNull
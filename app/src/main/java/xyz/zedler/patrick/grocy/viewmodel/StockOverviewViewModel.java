@@ -31,9 +31,8 @@ import androidx.preference.PreferenceManager;
 import com.google.android.material.snackbar.Snackbar;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import me.xdrop.fuzzywuzzy.FuzzySearch;
-import me.xdrop.fuzzywuzzy.model.BoundExtractedResult;
 import org.json.JSONException;
 import org.json.JSONObject;
 import xyz.zedler.patrick.grocy.Constants;
@@ -45,6 +44,8 @@ import xyz.zedler.patrick.grocy.api.GrocyApi;
 import xyz.zedler.patrick.grocy.api.GrocyApi.ENTITY;
 import xyz.zedler.patrick.grocy.fragment.StockOverviewFragmentArgs;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.ListPipeline;
+import xyz.zedler.patrick.grocy.helper.ProductSearchIndex;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveData;
 import xyz.zedler.patrick.grocy.model.FilterChipLiveDataFields;
@@ -107,6 +108,7 @@ public class StockOverviewViewModel extends BaseViewModel {
   private final MutableLiveData<Boolean> isLoadingLive;
   private final MutableLiveData<InfoFullscreen> infoFullscreenLive;
   private final MutableLiveData<ArrayList<StockItem>> filteredStockItemsLive;
+  private final ListPipeline listPipeline;
   private final MutableLiveData<Boolean> scannerVisibilityLive;
   private final FilterChipLiveDataStatusStock filterChipLiveDataStatus;
   private final FilterChipLiveDataProductGroup filterChipLiveDataProductGroup;
@@ -117,6 +119,7 @@ public class StockOverviewViewModel extends BaseViewModel {
 
   private List<StockItem> stockItems;
   private List<Product> products;
+  private ProductSearchIndex productSearchIndex;
   private HashMap<Integer, ProductGroup> productGroupHashMap;
   private HashMap<String, ProductBarcode> productBarcodeHashMap;
   private HashMap<Integer, Product> productHashMap;
@@ -132,7 +135,6 @@ public class StockOverviewViewModel extends BaseViewModel {
   private HashMap<String, Userfield> userfieldHashMap;
 
   private String searchInput;
-  private ArrayList<String> searchResultsFuzzy;
   private final boolean debug;
   private final int maxDecimalPlacesAmount;
   private boolean alreadyLoadedFromDatabase;
@@ -150,12 +152,15 @@ public class StockOverviewViewModel extends BaseViewModel {
 
     isLoadingLive = new MutableLiveData<>(false);
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
+    dlHelper.setBatchDatabaseWrites(true);
     grocyApi = new GrocyApi(getApplication());
     repository = new StockOverviewRepository(application);
+    observeDbChangedTime();
     pluralUtil = new PluralUtil(application);
 
     infoFullscreenLive = new MutableLiveData<>();
     filteredStockItemsLive = new MutableLiveData<>();
+    listPipeline = new ListPipeline();
     scannerVisibilityLive = new MutableLiveData<>(false);
 
     filterChipLiveDataStatus = new FilterChipLiveDataStatusStock(
@@ -215,6 +220,7 @@ public class StockOverviewViewModel extends BaseViewModel {
       filterChipLiveDataProductGroup.setProductGroups(data.getProductGroups());
       this.products = data.getProducts();
       productHashMap = ArrayUtil.getProductsHashMap(data.getProducts());
+      productSearchIndex = ProductSearchIndex.get(data.getProducts());
       productAveragePriceHashMap = ArrayUtil
           .getProductAveragePriceHashMap(data.getProductsAveragePrice());
       productLastPurchasedHashMap = ArrayUtil
@@ -335,121 +341,149 @@ public class StockOverviewViewModel extends BaseViewModel {
   }
 
   public void updateFilteredStockItems() {
-    ArrayList<StockItem> filteredStockItems = new ArrayList<>();
-
-    Product productSearch = null;
-    ProductBarcode productBarcodeSearch = null;
-    if (searchInput != null && !searchInput.isEmpty()) {
-      Grocycode grocycode = GrocycodeUtil.getGrocycode(searchInput);
-      if (grocycode != null && grocycode.isProduct()) {
-        productSearch = productHashMap.get(grocycode.getObjectId());
-      }
-      if (productSearch == null) {
-        productBarcodeSearch = productBarcodeHashMap.get(searchInput);
-      }
+    updateFilteredStockItems(false);
+  }
+
+  private void updateFilteredStockItems(boolean scrollUp) {
+    // snapshot of the current state, as the stage runs on a background thread
+    String searchInput = this.searchInput;
+    List<StockItem> stockItems = this.stockItems;
+    ProductSearchIndex productSearchIndex = this.productSearchIndex;
+    HashMap<Integer, Product> productHashMap = this.productHashMap;
+    HashMap<String, ProductBarcode> productBarcodeHashMap = this.productBarcodeHashMap;
+    HashMap<Integer, HashMap<Integer, StockLocation>> stockLocationsHashMap
+        = this.stockLocationsHashMap;
+    HashMap<Integer, MissingItem> productIdsMissingItems = this.productIdsMissingItems;
+    int productGroupFilterId = filterChipLiveDataProductGroup.getSelectedId();
+    int locationFilterId = filterChipLiveDataLocation.getSelectedId();
+    int status = filterChipLiveDataStatus.getStatus();
+    if (stockItems == null) {
+      return;
     }
 
-    for (StockItem item : this.stockItems) {
-      if (item.getProduct() == null) {
-        // invalidate products and stock items offline cache because products may have changed
-        SharedPreferences.Editor editPrefs = sharedPrefs.edit();
-        editPrefs.putString(PREF.DB_LAST_TIME_PRODUCTS, null);
-        editPrefs.putString(PREF.DB_LAST_TIME_STOCK_ITEMS, null);
-        editPrefs.apply();
-        continue;
-      }
-
-      if (item.getProduct().getHideOnStockOverviewBoolean()) {
-        continue;
-      }
+    listPipeline.submit(token -> {
+      ArrayList<StockItem> filteredStockItems = new ArrayList<>();
 
-      boolean searchContainsItem = true;
+      HashSet<String> searchResultsFuzzy = new HashSet<>(30);
+      Product productSearch = null;
+      ProductBarcode productBarcodeSearch = null;
       if (searchInput != null && !searchInput.isEmpty()) {
-        String productName = item.getProduct().getName().toLowerCase();
-        searchContainsItem = productName.contains(searchInput);
-        if (!searchContainsItem) {
-          searchContainsItem = searchResultsFuzzy.contains(productName);
+        if (productSearchIndex != null) {
+          for (Product product : productSearchIndex.search(searchInput, 30, 70)) {
+            searchResultsFuzzy.add(product.getName().toLowerCase());
+          }
+        }
+        Grocycode grocycode = GrocycodeUtil.getGrocycode(searchInput);
+        if (grocycode != null && grocycode.isProduct()) {
+          productSearch = productHashMap.get(grocycode.getObjectId());
+        }
+        if (productSearch == null) {
+          productBarcodeSearch = productBarcodeHashMap.get(searchInput);
         }
-      }
-      if (!searchContainsItem && productSearch == null && productBarcodeSearch == null) {
-        continue;
-      }
-      if (!searchContainsItem && productSearch == null
-          && productBarcodeSearch.getProductIdInt() != item.getProductId()) {
-        continue;
-      }
-      if (productSearch != null && productSearch.getId() != item.getProductId()) {
-        continue;
       }
 
-      int productGroupFilterId = filterChipLiveDataProductGroup.getSelectedId();
-      if (productGroupFilterId != FilterChipLiveDataProductGroup.NO_FILTER
-          && NumUtil.isStringInt(item.getProduct().getProductGroupId())
-          && productGroupFilterId != Integer.parseInt(item.getProduct().getProductGroupId())
-          || productGroupFilterId != FilterChipLiveDataProductGroup.NO_FILTER
-          && !NumUtil.isStringInt(item.getProduct().getProductGroupId())
-      ) {
-        continue;
-      }
-      int locationFilterId = filterChipLiveDataLocation.getSelectedId();
-      if (locationFilterId != FilterChipLiveDataLocation.NO_FILTER) {
-        HashMap<Integer, StockLocation> stockLocationsForProductId
-            = stockLocationsHashMap.get(item.getProductId());
-        if (stockLocationsForProductId == null
-            || !stockLocationsForProductId.containsKey(locationFilterId)
+      for (StockItem item : stockItems) {
+        token.throwIfCanceled();
+        if (item.getProduct() == null) {
+          // invalidate products and stock items offline cache because products may have changed
+          SharedPreferences.Editor editPrefs = sharedPrefs.edit();
+          editPrefs.putString(PREF.DB_LAST_TIME_PRODUCTS, null);
+          editPrefs.putString(PREF.DB_LAST_TIME_STOCK_ITEMS, null);
+          editPrefs.apply();
+          continue;
+        }
+
+        if (item.getProduct().getHideOnStockOverviewBoolean()) {
+          continue;
+        }
+
+        boolean searchContainsItem = true;
+        if (searchInput != null && !searchInput.isEmpty()) {
+          String productName = item.getProduct().getName().toLowerCase();
+          searchContainsItem = productName.contains(searchInput);
+          if (!searchContainsItem) {
+            searchContainsItem = searchResultsFuzzy.contains(productName);
+          }
+        }
+        if (!searchContainsItem && productSearch == null && productBarcodeSearch == null) {
+          continue;
+        }
+        if (!searchContainsItem && productSearch == null
+            && productBarcodeSearch.getProductIdInt() != item.getProductId()) {
+          continue;
+        }
+        if (productSearch != null && productSearch.getId() != item.getProductId()) {
+          continue;
+        }
+
+        if (productGroupFilterId != FilterChipLiveDataProductGroup.NO_FILTER
+            && NumUtil.isStringInt(item.getProduct().getProductGroupId())
+            && productGroupFilterId != Integer.parseInt(item.getProduct().getProductGroupId())
+            || productGroupFilterId != FilterChipLiveDataProductGroup.NO_FILTER
+            && !NumUtil.isStringInt(item.getProduct().getProductGroupId())
         ) {
           continue;
         }
-      }
+        if (locationFilterId != FilterChipLiveDataLocation.NO_FILTER) {
+          HashMap<Integer, StockLocation> stockLocationsForProductId
+              = stockLocationsHashMap.get(item.getProductId());
+          if (stockLocationsForProductId == null
+              || !stockLocationsForProductId.containsKey(locationFilterId)
+          ) {
+            continue;
+          }
+        }
 
-      MissingItem missingItem = productIdsMissingItems.get(item.getProductId());
-      boolean hasOwnStock = !item.getProduct().getNoOwnStockBoolean();
-      if (filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusStock.STATUS_ALL
-          || filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusStock.STATUS_NOT_FRESH
-          && (item.isItemDue() || item.isItemOverdue() || item.isItemExpired()) && hasOwnStock
-          || filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusStock.STATUS_DUE_SOON
-          && item.isItemDue() && hasOwnStock
-          || filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusStock.STATUS_OVERDUE
-          && item.isItemOverdue() && hasOwnStock
-          || filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusStock.STATUS_EXPIRED
-          && item.isItemExpired() && hasOwnStock
-          || filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusStock.STATUS_BELOW_MIN
-          && missingItem != null
-          || filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusStock.STATUS_IN_STOCK
-          && (missingItem == null || missingItem.getIsPartlyInStockBoolean())
-          || filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusStock.STATUS_OPENED
-          && item.getAmountOpenedDouble() > 0
-      ) {
-        filteredStockItems.add(item);
+        MissingItem missingItem = productIdsMissingItems.get(item.getProductId());
+        boolean hasOwnStock = !item.getProduct().getNoOwnStockBoolean();
+        if (status == FilterChipLiveDataStatusStock.STATUS_ALL
+            || status == FilterChipLiveDataStatusStock.STATUS_NOT_FRESH
+            && (item.isItemDue() || item.isItemOverdue() || item.isItemExpired()) && hasOwnStock
+            || status == FilterChipLiveDataStatusStock.STATUS_DUE_SOON
+            && item.isItemDue() && hasOwnStock
+            || status == FilterChipLiveDataStatusStock.STATUS_OVERDUE
+            && item.isItemOverdue() && hasOwnStock
+            || status == FilterChipLiveDataStatusStock.STATUS_EXPIRED
+            && item.isItemExpired() && hasOwnStock
+            || status == FilterChipLiveDataStatusStock.STATUS_BELOW_MIN
+            && missingItem != null
+            || status == FilterChipLiveDataStatusStock.STATUS_IN_STOCK
+            && (missingItem == null || missingItem.getIsPartlyInStockBoolean())
+            || status == FilterChipLiveDataStatusStock.STATUS_OPENED
+            && item.getAmountOpenedDouble() > 0
+        ) {
+          filteredStockItems.add(item);
+        }
       }
-    }
 
-    if (filteredStockItems.isEmpty()) {
-      InfoFullscreen info;
-      if (searchInput != null && !searchInput.isEmpty()) {
-        info = new InfoFullscreen(InfoFullscreen.INFO_NO_SEARCH_RESULTS);
-      } else if (filterChipLiveDataStatus.getStatus()
-          != FilterChipLiveDataStatusStock.STATUS_ALL
-          || filterChipLiveDataProductGroup.getSelectedId()
-          != FilterChipLiveDataProductGroup.NO_FILTER
-          || filterChipLiveDataLocation.getSelectedId()
-          != FilterChipLiveDataProductGroup.NO_FILTER
-      ) {
-        info = new InfoFullscreen(InfoFullscreen.INFO_NO_FILTER_RESULTS);
+      return filteredStockItems;
+    }, filteredStockItems -> {
+      if (filteredStockItems.isEmpty()) {
+        InfoFullscreen info;
+        if (searchInput != null && !searchInput.isEmpty()) {
+          info = new InfoFullscreen(InfoFullscreen.INFO_NO_SEARCH_RESULTS);
+        } else if (status != FilterChipLiveDataStatusStock.STATUS_ALL
+            || productGroupFilterId != FilterChipLiveDataProductGroup.NO_FILTER
+            || locationFilterId != FilterChipLiveDataProductGroup.NO_FILTER
+        ) {
+          info = new InfoFullscreen(InfoFullscreen.INFO_NO_FILTER_RESULTS);
+        } else {
+          info = new InfoFullscreen(InfoFullscreen.INFO_EMPTY_STOCK);
+        }
+        infoFullscreenLive.setValue(info);
       } else {
-        info = new InfoFullscreen(InfoFullscreen.INFO_EMPTY_STOCK);
+        infoFullscreenLive.setValue(null);
       }
-      infoFullscreenLive.setValue(info);
-    } else {
-      infoFullscreenLive.setValue(null);
-    }
 
-    filteredStockItemsLive.setValue(filteredStockItems);
+      filteredStockItemsLive.setValue(filteredStockItems);
+      if (scrollUp) {
+        sendEvent(Event.SCROLL_UP);
+      }
+    });
   }
 
   public void updateFilteredStockItemsWithTopScroll() {
-    updateFilteredStockItems();
-    sendEvent(Event.SCROLL_UP);
+    updateFilteredStockItems(true);
   }
 
   public void performAction(String action, StockItem stockItem) {
@@ -639,19 +673,6 @@ public class StockOverviewViewModel extends BaseViewModel {
 
   public void updateSearchInput(String input) {
     this.searchInput = input.toLowerCase();
-
-    searchResultsFuzzy = new ArrayList<>(30);
-    List<BoundExtractedResult<Product>> results = FuzzySearch.extractTop(
-        this.searchInput,
-        products,
-        item -> item.getName().toLowerCase(),
-        30,
-        70
-    );
-    for (BoundExtractedResult<Product> result : results) {
-      searchResultsFuzzy.add(result.getString());
-    }
-
     updateFilteredStockItems();
   }
 
@@ -792,8 +813,17 @@ public class StockOverviewViewModel extends BaseViewModel {
     );
   }
 
+  @Override
+  void onDbChangedTime(String dbChangedTime) {
+    // skip the change which the own download noticed, its data is already downloaded
+    if (!dbChangedTime.equals(dlHelper.getLastDbChangedTime())) {
+      downloadData(false);
+    }
+  }
+
   @Override
   protected void onCleared() {
+    listPipeline.cancel();
     dlHelper.destroy();
     super.onCleared();
   }
@@ -94,6 +94,7 @@ public class TasksViewModel extends BaseViewModel {
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(getApplication());
     repository = new TasksRepository(application);
+    observeDbChangedTime();
     pluralUtil = new PluralUtil(application);
     dateUtil = new DateUtil(application);
 
@@ -128,7 +129,7 @@ public class TasksViewModel extends BaseViewModel {
       tasksOverdueCount = 0;
       for (Task task : data.getTasks()) {
         if (task.isDone()) continue;
-        int daysFromNow = DateUtil.getDaysFromNow(task.getDueDate());
+        int daysFromNow = DateUtil.getDaysFromNow(task.getDueDateEpochDay());
         if (daysFromNow < 0) {
           tasksOverdueCount++;
         }
@@ -180,7 +181,7 @@ public class TasksViewModel extends BaseViewModel {
       if (!filterChipLiveDataStatus.isShowDoneTasks() && task.isDone()) {
         continue;
       }
-      int daysFromNow = DateUtil.getDaysFromNow(task.getDueDate());
+      int daysFromNow = DateUtil.getDaysFromNow(task.getDueDateEpochDay());
       if (filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusTasks.STATUS_OVERDUE
           && daysFromNow >= 0
           || filterChipLiveDataStatus.getStatus() == FilterChipLiveDataStatusTasks.STATUS_DUE_TODAY
@@ -323,6 +324,14 @@ public class TasksViewModel extends BaseViewModel {
     return sharedPrefs.getBoolean(pref, true);
   }
 
+  @Override
+  void onDbChangedTime(String dbChangedTime) {
+    // skip the change which the own download noticed, its data is already downloaded
+    if (!dbChangedTime.equals(dlHelper.getLastDbChangedTime())) {
+      downloadData(false);
+    }
+  }
+
   @Override
   protected void onCleared() {
     dlHelper.destroy();
@@ -50,10 +50,13 @@ import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.QuantityUnitsBottomSh
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.QuickModeConfirmBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.StockEntriesBottomSheet;
 import xyz.zedler.patrick.grocy.fragment.bottomSheetDialog.StockLocationsBottomSheet;
+import xyz.zedler.patrick.grocy.helper.BarcodeResolver;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.StockTransactionOutbox;
 import xyz.zedler.patrick.grocy.model.Event;
 import xyz.zedler.patrick.grocy.model.InfoFullscreen;
 import xyz.zedler.patrick.grocy.model.Location;
+import xyz.zedler.patrick.grocy.model.PendingStockTransaction;
 import xyz.zedler.patrick.grocy.model.Product;
 import xyz.zedler.patrick.grocy.model.ProductBarcode;
 import xyz.zedler.patrick.grocy.model.ProductDetails;
@@ -69,7 +72,6 @@ import xyz.zedler.patrick.grocy.util.GrocycodeUtil.Grocycode;
 import xyz.zedler.patrick.grocy.util.NumUtil;
 import xyz.zedler.patrick.grocy.util.PrefsUtil;
 import xyz.zedler.patrick.grocy.util.QuantityUnitConversionUtil;
-import xyz.zedler.patrick.grocy.util.VersionUtil;
 
 public class TransferViewModel extends BaseViewModel {
 
@@ -79,12 +81,14 @@ public class TransferViewModel extends BaseViewModel {
 
   private final DownloadHelper dlHelper;
   private final GrocyApi grocyApi;
+  private final StockTransactionOutbox stockTransactionOutbox;
   private final InventoryRepository repository;
   private final FormDataTransfer formData;
 
   private List<Product> products;
   private List<QuantityUnitConversionResolved> unitConversions;
-  private List<ProductBarcode> barcodes;
+  private HashMap<Integer, Product> productHashMap;
+  private final BarcodeResolver barcodeResolver;
   private List<Location> locations;
   private HashMap<Integer, QuantityUnit> quantityUnitHashMap;
 
@@ -109,6 +113,7 @@ public class TransferViewModel extends BaseViewModel {
     isLoadingLive = new MutableLiveData<>(false);
     dlHelper = new DownloadHelper(getApplication(), TAG, isLoadingLive::setValue, getOfflineLive());
     grocyApi = new GrocyApi(getApplication());
+    stockTransactionOutbox = StockTransactionOutbox.getInstance();
     repository = new InventoryRepository(application);
     formData = new FormDataTransfer(application, sharedPrefs, args);
 
@@ -124,7 +129,8 @@ public class TransferViewModel extends BaseViewModel {
     }
     quickModeEnabled = new MutableLiveData<>(quickModeStart);
 
-    barcodes = new ArrayList<>();
+    productHashMap = new HashMap<>();
+    barcodeResolver = BarcodeResolver.getInstance();
   }
 
   public FormDataTransfer getFormData() {
@@ -134,7 +140,8 @@ public class TransferViewModel extends BaseViewModel {
   public void loadFromDatabase(boolean downloadAfterLoading) {
     repository.loadFromDatabase(data -> {
       this.products = data.getProducts();
-      this.barcodes = data.getBarcodes();
+      productHashMap = ArrayUtil.getProductsHashMap(products);
+      barcodeResolver.setBarcodes(data.getBarcodes());
       this.locations = data.getLocations();
       this.quantityUnitHashMap = ArrayUtil.getQuantityUnitsHashMap(data.getQuantityUnits());
       this.unitConversions = data.getQuantityUnitConversionsResolved();
@@ -203,8 +210,7 @@ public class TransferViewModel extends BaseViewModel {
       HashMap<QuantityUnit, Double> unitFactors= QuantityUnitConversionUtil.getUnitFactors(
           quantityUnitHashMap,
           unitConversions,
-          product,
-          VersionUtil.isGrocyServerMin400(sharedPrefs)
+          product
       );
       formData.getQuantityUnitsFactorsLive().setValue(unitFactors);
       QuantityUnit stock = quantityUnitHashMap.get(product.getQuIdStockInt());
@@ -286,7 +292,7 @@ public class TransferViewModel extends BaseViewModel {
 
   public void onBarcodeRecognized(String barcode) {
     if (formData.getProductDetailsLive().getValue() != null) {
-      if (ProductBarcode.getFromBarcode(barcodes, barcode) == null) {
+      if (barcodeResolver.getBarcode(barcode) == null) {
         formData.getBarcodeLive().setValue(barcode);
       } else {
         showMessage(R.string.msg_clear_form_first);
@@ -297,7 +303,7 @@ public class TransferViewModel extends BaseViewModel {
     String stockEntryId = null;
     Grocycode grocycode = GrocycodeUtil.getGrocycode(barcode);
     if (grocycode != null && grocycode.isProduct()) {
-      product = Product.getProductFromId(products, grocycode.getObjectId());
+      product = productHashMap.get(grocycode.getObjectId());
       if (product == null) {
         showMessageAndContinueScanning(R.string.msg_not_found);
         return;
@@ -309,9 +315,9 @@ public class TransferViewModel extends BaseViewModel {
     }
     ProductBarcode productBarcode = null;
     if (product == null) {
-      productBarcode = ProductBarcode.getFromBarcode(barcodes, barcode);
+      productBarcode = barcodeResolver.getBarcode(barcode);
       product = productBarcode != null
-          ? Product.getProductFromId(products, productBarcode.getProductIdInt()) : null;
+          ? productHashMap.get(productBarcode.getProductIdInt()) : null;
     }
     if (product != null) {
       setProduct(product.getId(), productBarcode, stockEntryId);
@@ -332,7 +338,7 @@ public class TransferViewModel extends BaseViewModel {
 
     Grocycode grocycode = GrocycodeUtil.getGrocycode(input.trim());
     if (grocycode != null && grocycode.isProduct()) {
-      product = Product.getProductFromId(products, grocycode.getObjectId());
+      product = productHashMap.get(grocycode.getObjectId());
       if (product == null) {
         showMessageAndContinueScanning(R.string.msg_not_found);
         return;
@@ -342,12 +348,9 @@ public class TransferViewModel extends BaseViewModel {
       return;
     }
     if (product == null) {
-      ProductBarcode productBarcode = null;
-      for (ProductBarcode code : barcodes) {
-        if (code.getBarcode().equals(input.trim())) {
-          productBarcode = code;
-          product = Product.getProductFromId(products, code.getProductIdInt());
-        }
+      ProductBarcode productBarcode = barcodeResolver.getBarcode(input.trim());
+      if (productBarcode != null) {
+        product = productHashMap.get(productBarcode.getProductIdInt());
       }
       if (product != null) {
         setProduct(product.getId(), productBarcode, null);
@@ -399,8 +402,12 @@ public class TransferViewModel extends BaseViewModel {
       return;
     }
 
-    dlHelper.postWithArray(grocyApi.transferProduct(product.getId()),
-        body,
+    stockTransactionOutbox.post(
+        dlHelper,
+        new PendingStockTransaction(
+            product.getId(), PendingStockTransaction.TYPE_TRANSFER, body
+        ),
+        isOffline(),
         response -> {
           // UNDO OPTION
           String transactionId = null;
@@ -440,6 +447,10 @@ public class TransferViewModel extends BaseViewModel {
           showSnackbar(snackbarMessage);
           sendEvent(Event.CONSUME_SUCCESS);
         },
+        () -> {
+          showMessage(R.string.msg_transaction_queued);
+          sendEvent(Event.CONSUME_SUCCESS);
+        },
         error -> {
           showNetworkErrorMessage(error);
           if (debug) {
@@ -467,7 +478,7 @@ public class TransferViewModel extends BaseViewModel {
     JSONObject body = productBarcode.getJsonFromProductBarcode(debug, TAG);
     ProductBarcode.addProductBarcode(dlHelper, body, () -> {
       formData.getBarcodeLive().setValue(null);
-      barcodes.add(productBarcode); // add to list so it will be found on next scan without reload
+      barcodeResolver.addBarcode(productBarcode); // found on next scan without reload
       if (onSuccess != null) {
         onSuccess.run();
       }
@@ -0,0 +1,186 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.web;
+
+import androidx.annotation.Nullable;
+import com.android.volley.DefaultRetryPolicy;
+import com.android.volley.NetworkResponse;
+import com.android.volley.Request;
+import com.android.volley.Response;
+import com.android.volley.RetryPolicy;
+import com.android.volley.toolbox.HttpHeaderParser;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import xyz.zedler.patrick.grocy.web.CustomStreamingRequest.ChunkReader;
+
+/**
+ * GET request for JSON arrays which are read object by object with a JsonReader in chunks of a
+ * fixed size, instead of being converted to one String and one list holding all objects.
+ * The response delivered to the listener is a ChunkReader over the response body, which is read
+ * by the database write and not on the network thread.
+ */
+public class CustomStreamingRequest<T> extends Request<ChunkReader<T>> {
+
+  private final String url;
+  private final String apiKey;
+  private final String homeAssistantIngressSessionKey;
+  private final Gson gson;
+  private final Type elementType;
+  private final int chunkSize;
+  private final Response.Listener<ChunkReader<T>> listener;
+
+  public CustomStreamingRequest(
+      String url,
+      String apiKey,
+      String homeAssistantIngressSessionKey,
+      Gson gson,
+      Type elementType,
+      int chunkSize,
+      Response.Listener<ChunkReader<T>> listener,
+      @Nullable Response.ErrorListener errorListener,
+      int timeoutSeconds,
+      String tag
+  ) {
+    super(Method.GET, url, errorListener);
+    this.url = url;
+    this.apiKey = apiKey;
+    this.homeAssistantIngressSessionKey = homeAssistantIngressSessionKey;
+    this.gson = gson;
+    this.elementType = elementType;
+    this.chunkSize = chunkSize;
+    this.listener = listener;
+    if (tag != null) {
+      setTag(tag);
+    }
+    setShouldCache(false);
+    RetryPolicy policy = new DefaultRetryPolicy(
+        timeoutSeconds * 1000,
+        DefaultRetryPolicy.DEFAULT_MAX_RETRIES,
+        DefaultRetryPolicy.DEFAULT_BACKOFF_MULT
+    );
+    setRetryPolicy(policy);
+  }
+
+  @Override
+  protected Response<ChunkReader<T>> parseNetworkResponse(NetworkResponse response) {
+    if (response.data == null) {
+      return Response.error(new ParseError(response));
+    }
+    Charset charset;
+    try {
+      charset = Charset.forName(
+          HttpHeaderParser.parseCharset(response.headers, StandardCharsets.UTF_8.name())
+      );
+    } catch (IllegalArgumentException e) {
+      charset = StandardCharsets.UTF_8;
+    }
+    JsonReader reader = new JsonReader(new InputStreamReader(
+        new ByteArrayInputStream(response.data), charset
+    ));
+    return Response.success(
+        new ChunkReader<>(reader, gson, elementType, chunkSize),
+        HttpHeaderParser.parseCacheHeaders(response)
+    );
+  }
+
+  @Override
+  protected void deliverResponse(ChunkReader<T> response) {
+    listener.onResponse(response);
+  }
+
+  @Override
+  public Map<String, String> getHeaders() {
+    Map<String, String> params = new HashMap<>();
+    RequestHeaders.putGrocyAuthHeaders(params, url, apiKey, homeAssistantIngressSessionKey);
+    return params.isEmpty() ? Collections.emptyMap() : params;
+  }
+
+  public static class ChunkReader<T> {
+
+    private final JsonReader reader;
+    private final Gson gson;
+    private final Type elementType;
+    private final int chunkSize;
+    private int count;
+    private boolean started;
+
+    ChunkReader(JsonReader reader, Gson gson, Type elementType, int chunkSize) {
+      this.reader = reader;
+      this.gson = gson;
+      this.elementType = elementType;
+      this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the next objects of the array or null if the end of the array is reached.
+     * Throws a JsonParseException if the response is not a valid array of the element type.
+     */
+    @Nullable
+    public List<T> nextChunk() {
+      try {
+        return readChunk();
+      } catch (IOException e) {
+        throw new JsonParseException(e);
+      }
+    }
+
+    @Nullable
+    private List<T> readChunk() throws IOException {
+      if (!started) {
+        started = true;
+        if (reader.peek() == JsonToken.NULL) {
+          reader.nextNull();
+          return null;
+        }
+        reader.beginArray();
+      }
+      if (!reader.hasNext()) {
+        return null;
+      }
+      ArrayList<T> chunk = new ArrayList<>(chunkSize);
+      while (chunk.size() < chunkSize && reader.hasNext()) {
+        T object = gson.fromJson(reader, elementType);
+        if (object != null) {
+          chunk.add(object);
+        }
+      }
+      count += chunk.size();
+      return chunk;
+    }
+
+    public int getCount() {
+      return count;
+    }
+  }
+}
@@ -20,18 +20,17 @@
 
 package xyz.zedler.patrick.grocy.web;
 
-import android.util.Base64;
 import androidx.annotation.Nullable;
 import com.android.volley.DefaultRetryPolicy;
+import com.android.volley.NetworkResponse;
 import com.android.volley.Response;
 import com.android.volley.RetryPolicy;
 import com.android.volley.toolbox.StringRequest;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.web.ResponseValidatorStore.Validators;
 
 public class CustomStringRequest extends StringRequest {
 
@@ -39,6 +38,10 @@ public class CustomStringRequest extends StringRequest {
   private final String apiKey;
   private final String homeAssistantIngressSessionKey;
   private final String userAgent;
+  private Validators validators;
+  private Response.Listener<Validators> onNewValidators;
+  private Runnable onNotModified;
+  private volatile boolean notModified;
 
   public CustomStringRequest(
       int method,
@@ -169,28 +172,73 @@ public class CustomStringRequest extends StringRequest {
     );
   }
 
-  @Override
-  public Map<String, String> getHeaders() {
-    Map<String, String> params = new HashMap<>();
+  /**
+   * Sends the request with the given validators of the last response. If the server answers
+   * with 304 or the body has the same hash as before, onNotModified is called instead of the
+   * response listener and the body is not converted. For changed responses, the new validators
+   * are handed to onNewValidators on the network thread, they must only be saved together with
+   * the written objects.
+   */
+  public void setConditional(
+      @Nullable Validators validators,
+      Response.Listener<Validators> onNewValidators,
+      Runnable onNotModified
+  ) {
+    this.validators = validators;
+    this.onNewValidators = onNewValidators;
+    this.onNotModified = onNotModified;
+  }
 
-    Matcher matcher = Pattern.compile("(http|https)://(\\S+):(\\S+)@(\\S+)").matcher(url);
-    if (matcher.matches()) {
-      String user = matcher.group(2);
-      String password = matcher.group(3);
-      byte[] combination = (user + ":" + password).getBytes();
-      String encoded = Base64.encodeToString(combination, Base64.DEFAULT);
-      params.put("Authorization", "Basic " + encoded);
+  @Override
+  protected Response<String> parseNetworkResponse(NetworkResponse response) {
+    if (onNotModified == null) {
+      return super.parseNetworkResponse(response);
     }
-    if (apiKey != null && !apiKey.isEmpty()) {
-      params.put("GROCY-API-KEY", apiKey);
+    if (response.notModified) {
+      notModified = true;
+      return Response.success(null, null);
     }
-    if (userAgent == null && homeAssistantIngressSessionKey
-        != null) { // should not put key into requests for OpenFoodFacts
-      params.put("Cookie", "ingress_session=" + homeAssistantIngressSessionKey);
+    Validators newValidators = Validators.fromResponse(response);
+    if (newValidators != null && validators != null
+        && newValidators.bodyHash.equals(validators.bodyHash)) {
+      notModified = true;
+      return Response.success(null, null);
+    }
+    if (newValidators != null) {
+      onNewValidators.onResponse(newValidators);
+    }
+    return super.parseNetworkResponse(response);
+  }
+
+  @Override
+  protected void deliverResponse(String response) {
+    if (notModified) {
+      onNotModified.run();
+      return;
     }
+    super.deliverResponse(response);
+  }
+
+  @Override
+  public Map<String, String> getHeaders() {
+    Map<String, String> params = new HashMap<>();
+
+    RequestHeaders.putGrocyAuthHeaders(
+        params,
+        url,
+        apiKey,
+        // should not put key into requests for OpenFoodFacts
+        userAgent == null ? homeAssistantIngressSessionKey : null
+    );
     if (userAgent != null) {
       params.put("User-Agent", userAgent);
     }
+    if (validators != null && validators.etag != null) {
+      params.put("If-None-Match", validators.etag);
+    }
+    if (validators != null && validators.lastModified != null) {
+      params.put("If-Modified-Since", validators.lastModified);
+    }
     return params.isEmpty() ? Collections.emptyMap() : params;
   }
 }
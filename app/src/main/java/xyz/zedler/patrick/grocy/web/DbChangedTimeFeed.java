@@ -0,0 +1,264 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.web;
+
+import android.app.Application;
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import org.json.JSONException;
+import org.json.JSONObject;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
+import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
+
+/**
+ * Process-wide source of the db-changed-time of the server. Concurrent callers share one
+ * request and values younger than the requested age are served from memory, so switching
+ * screens does not need a round-trip each time. Every change of the stored time is published
+ * with getDbChangedTimeLive(), no matter if polling or a get() of a helper fetched it, to the
+ * ViewModels which called BaseViewModel.observeDbChangedTime(). Must be used from the main thread.
+ * <p>
+ * Polling adapts to the activity on the server: the interval is doubled after every
+ * POLLS_PER_BACKOFF_STEP polls without change, up to MAX_BACKOFF_FACTOR times the requested
+ * interval, and falls back to the requested interval as soon as a change of another client is
+ * noticed or own changes were sent. Owners stop polling when their screen is paused, so there
+ * are no requests while the app is in the background.
+ */
+public class DbChangedTimeFeed {
+
+  private static final String TAG = DbChangedTimeFeed.class.getSimpleName();
+  public static final long DEFAULT_MAX_AGE_MILLIS = 10 * 1000L;
+  private static final long FIRST_POLL_DELAY_MILLIS = 2000;
+  private static final int POLLS_PER_BACKOFF_STEP = 3;
+  private static final int MAX_BACKOFF_FACTOR = 8;
+
+  private static DbChangedTimeFeed instance;
+  private final Application application;
+  private final Handler handler;
+  private final MutableLiveData<String> dbChangedTimeLive;
+  private final ArrayList<Callback> pendingCallbacks;
+  private final HashMap<Object, Integer> pollingOwners; // owner -> interval in seconds
+  private DownloadHelper dlHelper;
+  private String dbChangedTime;
+  private long fetchTime;
+  private boolean fetching;
+  private boolean publishFetch;
+  private boolean lastPollFailed;
+  private int unchangedPolls;
+  private int generation;
+
+  private DbChangedTimeFeed(Context context) {
+    application = (Application) context.getApplicationContext();
+    handler = new Handler(Looper.getMainLooper());
+    dbChangedTimeLive = new MutableLiveData<>();
+    pendingCallbacks = new ArrayList<>();
+    pollingOwners = new HashMap<>();
+  }
+
+  public static synchronized DbChangedTimeFeed getInstance(Context context) {
+    if (instance == null) {
+      instance = new DbChangedTimeFeed(context);
+    }
+    return instance;
+  }
+
+  /**
+   * Emits the db-changed-time every time a fetch notices that it has changed on the server
+   * and after polling succeeded again following a failure. The value is emitted after the
+   * callbacks of the fetch were called.
+   */
+  public LiveData<String> getDbChangedTimeLive() {
+    return dbChangedTimeLive;
+  }
+
+  public void get(
+      long maxAgeMillis,
+      @Nullable OnStringResponseListener onResponse,
+      @Nullable OnMultiTypeErrorListener onError
+  ) {
+    if (dbChangedTime != null && !fetching
+        && SystemClock.elapsedRealtime() - fetchTime <= maxAgeMillis) {
+      if (onResponse != null) {
+        onResponse.onResponse(dbChangedTime);
+      }
+      return;
+    }
+    pendingCallbacks.add(new Callback(onResponse, onError));
+    if (!fetching) {
+      fetch();
+    }
+  }
+
+  // called after own changes were sent to the server, so the next get fetches the new time
+  public void invalidate() {
+    fetchTime = 0;
+    // others are probably editing the same list now, so poll with the requested interval again
+    if (unchangedPolls >= POLLS_PER_BACKOFF_STEP) {
+      unchangedPolls = 0;
+      schedulePolling(getPollingDelayMillis());
+    }
+  }
+
+  // called when the server is changed, responses of running requests are not cached anymore
+  public void reset() {
+    generation++;
+    dbChangedTime = null;
+    fetchTime = 0;
+    lastPollFailed = false;
+    unchangedPolls = 0;
+    // the helper holds the url and credentials of the old server
+    dlHelper = null;
+  }
+
+  public void startPolling(Object owner, int intervalSeconds) {
+    pollingOwners.put(owner, intervalSeconds);
+    schedulePolling(FIRST_POLL_DELAY_MILLIS);
+  }
+
+  public void stopPolling(Object owner) {
+    pollingOwners.remove(owner);
+    schedulePolling(FIRST_POLL_DELAY_MILLIS);
+  }
+
+  private void schedulePolling(long delayMillis) {
+    handler.removeCallbacks(pollRunnable);
+    if (!pollingOwners.isEmpty()) {
+      handler.postDelayed(pollRunnable, delayMillis);
+    }
+  }
+
+  private long getPollingDelayMillis() {
+    if (pollingOwners.isEmpty()) {
+      return FIRST_POLL_DELAY_MILLIS;
+    }
+    int factor = Math.min(MAX_BACKOFF_FACTOR, 1 << (unchangedPolls / POLLS_PER_BACKOFF_STEP));
+    return Collections.min(pollingOwners.values()) * 1000L * factor;
+  }
+
+  // the next poll is scheduled when the result is known, so the backoff is up to date
+  private final Runnable pollRunnable = new Runnable() {
+    @Override
+    public void run() {
+      publishFetch = true;
+      get(
+          0,
+          time -> schedulePolling(getPollingDelayMillis()),
+          error -> schedulePolling(getPollingDelayMillis())
+      );
+    }
+  };
+
+  private void fetch() {
+    fetching = true;
+    int requestGeneration = generation;
+    if (dlHelper == null) {
+      dlHelper = new DownloadHelper(application, TAG, null, null);
+    }
+    dlHelper.get(
+        dlHelper.grocyApi.getDbChangedTime(),
+        TAG,
+        response -> {
+          try {
+            JSONObject body = new JSONObject(response);
+            onFetched(body.getString("changed_time"), requestGeneration);
+          } catch (JSONException e) {
+            Log.e(TAG, "fetch: " + e);
+            onFetchFailed(e);
+          }
+        },
+        this::onFetchFailed
+    );
+  }
+
+  private void onFetched(String time, int requestGeneration) {
+    boolean isPoll = publishFetch;
+    boolean publish = false;
+    fetching = false;
+    publishFetch = false;
+    if (requestGeneration == generation) {
+      boolean changed = dbChangedTime != null && !dbChangedTime.equals(time);
+      boolean reconnected = isPoll && lastPollFailed;
+      dbChangedTime = time;
+      fetchTime = SystemClock.elapsedRealtime();
+      publish = changed || reconnected;
+      if (publish) {
+        unchangedPolls = 0;
+      } else if (isPoll && unchangedPolls < POLLS_PER_BACKOFF_STEP * MAX_BACKOFF_FACTOR) {
+        unchangedPolls++;
+      }
+      if (isPoll) {
+        lastPollFailed = false;
+      }
+    }
+    for (Callback callback : takePendingCallbacks()) {
+      if (callback.onResponse != null) {
+        callback.onResponse.onResponse(time);
+      }
+    }
+    // after the callbacks, so a ViewModel can tell apart the change its own download fetched
+    if (publish) {
+      dbChangedTimeLive.setValue(time);
+    }
+  }
+
+  private void onFetchFailed(Object error) {
+    if (publishFetch) {
+      lastPollFailed = true;
+      // no connection, e.g. in the cellar of the store, so don't wake up the radio that often
+      if (unchangedPolls < POLLS_PER_BACKOFF_STEP * MAX_BACKOFF_FACTOR) {
+        unchangedPolls++;
+      }
+    }
+    fetching = false;
+    publishFetch = false;
+    for (Callback callback : takePendingCallbacks()) {
+      if (callback.onError != null) {
+        callback.onError.onError(error);
+      }
+    }
+  }
+
+  private ArrayList<Callback> takePendingCallbacks() {
+    ArrayList<Callback> callbacks = new ArrayList<>(pendingCallbacks);
+    pendingCallbacks.clear();
+    return callbacks;
+  }
+
+  private static class Callback {
+
+    private final OnStringResponseListener onResponse;
+    private final OnMultiTypeErrorListener onError;
+
+    Callback(OnStringResponseListener onResponse, OnMultiTypeErrorListener onError) {
+      this.onResponse = onResponse;
+      this.onError = onError;
+    }
+  }
+}
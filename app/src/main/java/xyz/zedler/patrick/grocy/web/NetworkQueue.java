@@ -20,8 +20,16 @@
 
 package xyz.zedler.patrick.grocy.web;
 
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.Nullable;
 import com.android.volley.RequestQueue;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnLoadingListener;
 import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnMultiTypeErrorListener;
@@ -29,13 +37,22 @@ import xyz.zedler.patrick.grocy.helper.DownloadHelper.OnStringResponseListener;
 
 public class NetworkQueue {
 
+  private final static String TAG = NetworkQueue.class.getSimpleName();
+
+  // same as the number of network dispatcher threads of the Volley RequestQueue
+  public final static int MAX_PARALLEL_ITEMS = 6;
+
   private final ArrayList<QueueItem> queueItems;
+  private final ArrayList<QueueItem> runningItems;
+  private final LinkedHashMap<String, long[]> timings; // name -> {waiting ms, running ms}
   private final OnQueueEmptyListener onQueueEmptyListener;
   private final OnMultiTypeErrorListener onErrorListener;
   private final OnLoadingListener onLoadingListener;
   private final RequestQueue requestQueue;
   private final String uuidQueue;
+  private final boolean debug;
   private int requestsNotFinishedCount;
+  private long startTime;
   private boolean isRunning; // state of queue
   private boolean isLoading; // state of "loading" circle
   private boolean realRequestsMade; // true if any real requests were made (not only QueueItemWithoutLoading in queue)
@@ -45,12 +62,25 @@ public class NetworkQueue {
       OnQueueEmptyListener onQueueEmptyListener,
       OnMultiTypeErrorListener onErrorListener,
       OnLoadingListener onLoadingListener
+  ) {
+    this(requestQueue, onQueueEmptyListener, onErrorListener, onLoadingListener, false);
+  }
+
+  public NetworkQueue(
+      RequestQueue requestQueue,
+      OnQueueEmptyListener onQueueEmptyListener,
+      OnMultiTypeErrorListener onErrorListener,
+      OnLoadingListener onLoadingListener,
+      boolean debug
   ) {
     this.onQueueEmptyListener = onQueueEmptyListener;
     this.onErrorListener = onErrorListener;
     this.onLoadingListener = onLoadingListener;
     this.requestQueue = requestQueue;
+    this.debug = debug;
     queueItems = new ArrayList<>();
+    runningItems = new ArrayList<>();
+    timings = new LinkedHashMap<>();
     uuidQueue = UUID.randomUUID().toString();
     requestsNotFinishedCount = 0;
     isRunning = false;
@@ -86,6 +116,7 @@ public class NetworkQueue {
     } else {
       isRunning = true;
       isLoading = false;
+      startTime = SystemClock.elapsedRealtime();
     }
     if (queueItems.isEmpty()) {
       if (onLoadingListener != null) {
@@ -104,44 +135,102 @@ public class NetworkQueue {
       return;
     }
 
-    for (QueueItem queueItem : queueItems) {
-      if (!(queueItem instanceof QueueItemWithoutLoading) && !isLoading
-          && onLoadingListener != null) {
-        // this prevents loading circle to appear when shopping mode updates data but nothing has
-        // changed on server. In this case, all QueueItems are null except for products because
-        // QuantityUnitConversions rely on it and are updated after products. So loading circle
-        // only appears if QueueItem is not QueueItemWithoutLoading, which is always the case
-        // except in the condition explained.
-        onLoadingListener.onLoadingChanged(true);
-        isLoading = true;
+    // items may finish synchronously and start further items, so iterate over a copy
+    for (QueueItem queueItem : new ArrayList<>(queueItems)) {
+      if (runningItems.size() >= MAX_PARALLEL_ITEMS) {
+        return;
       }
-      queueItem.perform(response -> {
-        requestsNotFinishedCount--;
-        if (requestsNotFinishedCount > 0) {
-          return;
-        }
-        isRunning = false;
-        isLoading = false;
-        if (onLoadingListener != null) {
-          onLoadingListener.onLoadingChanged(false);
-        }
-        if (onQueueEmptyListener != null) {
-          onQueueEmptyListener.onQueueEmpty(realRequestsMade); // TODO: Test it
-        }
-        reset(false);
-      }, error -> {
-        isRunning = false;
-        isLoading = false;
-        if (onLoadingListener != null) {
-          onLoadingListener.onLoadingChanged(false);
-        }
-        if (onErrorListener != null) {
-          onErrorListener.onError(error);
-        }
-        reset(true);
-      }, uuidQueue);
+      if (!queueItems.contains(queueItem) || !areDependenciesFinished(queueItem)) {
+        continue;
+      }
+      queueItems.remove(queueItem);
+      runningItems.add(queueItem);
+      executeQueueItem(queueItem);
     }
-    queueItems.clear();
+  }
+
+  private void executeQueueItem(QueueItem queueItem) {
+    if (!(queueItem instanceof QueueItemWithoutLoading) && !isLoading
+        && onLoadingListener != null) {
+      // this prevents loading circle to appear when shopping mode updates data but nothing has
+      // changed on server. In this case, all QueueItems are null except for products because
+      // QuantityUnitConversions rely on it and are updated after products. So loading circle
+      // only appears if QueueItem is not QueueItemWithoutLoading, which is always the case
+      // except in the condition explained.
+      onLoadingListener.onLoadingChanged(true);
+      isLoading = true;
+    }
+    long performTime = SystemClock.elapsedRealtime();
+    queueItem.perform(response -> {
+      if (!runningItems.remove(queueItem)) {
+        return; // queue was reset in the meantime
+      }
+      if (debug && queueItem.name != null) {
+        timings.put(queueItem.name, new long[]{
+            performTime - startTime, SystemClock.elapsedRealtime() - performTime
+        });
+      }
+      requestsNotFinishedCount--;
+      if (requestsNotFinishedCount > 0) {
+        executeQueueItems();
+        return;
+      }
+      isRunning = false;
+      isLoading = false;
+      logTimings();
+      if (onLoadingListener != null) {
+        onLoadingListener.onLoadingChanged(false);
+      }
+      if (onQueueEmptyListener != null) {
+        onQueueEmptyListener.onQueueEmpty(realRequestsMade); // TODO: Test it
+      }
+      reset(false);
+    }, error -> {
+      isRunning = false;
+      isLoading = false;
+      if (onLoadingListener != null) {
+        onLoadingListener.onLoadingChanged(false);
+      }
+      if (onErrorListener != null) {
+        onErrorListener.onError(error);
+      }
+      reset(true);
+    }, uuidQueue);
+  }
+
+  private boolean areDependenciesFinished(QueueItem queueItem) {
+    if (queueItem.dependencies.isEmpty()) {
+      return true;
+    }
+    for (QueueItem item : queueItems) {
+      if (item.name != null && queueItem.dependencies.contains(item.name)) {
+        return false;
+      }
+    }
+    for (QueueItem item : runningItems) {
+      if (item.name != null && queueItem.dependencies.contains(item.name)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void logTimings() {
+    if (!debug || timings.isEmpty()) {
+      return;
+    }
+    StringBuilder builder = new StringBuilder("queue finished after ")
+        .append(SystemClock.elapsedRealtime() - startTime).append(" ms");
+    for (Map.Entry<String, long[]> entry : timings.entrySet()) {
+      builder.append("\n  ").append(entry.getKey())
+          .append(": waiting ").append(entry.getValue()[0]).append(" ms")
+          .append(", running ").append(entry.getValue()[1]).append(" ms");
+    }
+    Log.i(TAG, builder.toString());
+  }
+
+  public String getUuid() {
+    return uuidQueue;
   }
 
   public int getSize() {
@@ -155,13 +244,37 @@ public class NetworkQueue {
   public void reset(boolean cancelAll) {
     if (cancelAll) {
       requestQueue.cancelAll(uuidQueue);
+      RequestCoalescer.getInstance().cancelAll(uuidQueue);
     }
     queueItems.clear();
+    runningItems.clear();
+    timings.clear();
     requestsNotFinishedCount = 0;
     realRequestsMade = false;
   }
 
   public abstract static class QueueItem {
+
+    @Nullable
+    private String name;
+    private List<String> dependencies = Collections.emptyList();
+
+    /**
+     * Name under which other items of the same queue can declare this item as dependency
+     */
+    public QueueItem setName(@Nullable String name) {
+      this.name = name;
+      return this;
+    }
+
+    /**
+     * Item is not started before all items with the given names in the same queue are finished
+     */
+    public QueueItem setDependencies(String... dependencies) {
+      this.dependencies = Arrays.asList(dependencies);
+      return this;
+    }
+
     public abstract void perform(
         OnStringResponseListener responseListener,
         OnMultiTypeErrorListener errorListener,
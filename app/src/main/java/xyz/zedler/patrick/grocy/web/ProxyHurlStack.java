@@ -21,6 +21,7 @@
 package xyz.zedler.patrick.grocy.web;
 
 import android.content.SharedPreferences;
+import androidx.annotation.Nullable;
 import com.android.volley.toolbox.HurlStack;
 import java.io.IOException;
 import java.net.HttpURLConnection;
@@ -28,6 +29,7 @@ import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.Proxy.Type;
 import java.net.URL;
+import javax.net.ssl.SSLSocketFactory;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS.NETWORK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 
@@ -35,8 +37,12 @@ public class ProxyHurlStack extends HurlStack {
 
   private final Proxy proxy;
 
-  public ProxyHurlStack(SharedPreferences sharedPrefs, boolean useTor) {
-    super();
+  public ProxyHurlStack(
+      SharedPreferences sharedPrefs,
+      boolean useTor,
+      @Nullable SSLSocketFactory sslSocketFactory
+  ) {
+    super(null, sslSocketFactory);
 
     if (useTor) {
       this.proxy = new Proxy(
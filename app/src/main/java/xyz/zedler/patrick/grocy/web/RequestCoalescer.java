@@ -0,0 +1,169 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.web;
+
+import androidx.annotation.Nullable;
+import com.android.volley.Request;
+import com.android.volley.RequestQueue;
+import com.android.volley.Response;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Merges identical GET requests which are in flight at the same time, e.g. when several
+ * DownloadHelpers of different pages request the same objects. Only the first caller starts
+ * a request, all others are attached to it and get the same response string.
+ * Only the network round-trip and the decoding of the body are shared: every caller still
+ * parses the string and writes the objects to the database on its own.
+ * Callers are identified by the tag they would have used for their own request, so
+ * cancelAll(tag) only detaches them; the shared request is only canceled when no caller is left.
+ */
+public class RequestCoalescer {
+
+  private static RequestCoalescer instance;
+  private final Map<String, InFlightRequest> inFlightRequests;
+
+  private RequestCoalescer() {
+    inFlightRequests = new HashMap<>();
+  }
+
+  public static synchronized RequestCoalescer getInstance() {
+    if (instance == null) {
+      instance = new RequestCoalescer();
+    }
+    return instance;
+  }
+
+  public void get(
+      RequestQueue requestQueue,
+      String key,
+      @Nullable String tag,
+      Response.Listener<String> onResponse,
+      @Nullable Runnable onNotModified,
+      Response.ErrorListener onError,
+      RequestFactory requestFactory
+  ) {
+    Caller caller = new Caller(tag, onResponse, onNotModified, onError);
+    InFlightRequest inFlightRequest = new InFlightRequest();
+    synchronized (inFlightRequests) {
+      InFlightRequest running = inFlightRequests.get(key);
+      if (running != null) {
+        running.callers.add(caller);
+        return;
+      }
+      inFlightRequest.callers.add(caller);
+      inFlightRequest.request = requestFactory.create(
+          "coalesced_" + UUID.randomUUID(),
+          response -> {
+            for (Caller c : finish(key, inFlightRequest)) {
+              c.onResponse.onResponse(response);
+            }
+          },
+          () -> {
+            for (Caller c : finish(key, inFlightRequest)) {
+              if (c.onNotModified != null) {
+                c.onNotModified.run();
+              }
+            }
+          },
+          error -> {
+            for (Caller c : finish(key, inFlightRequest)) {
+              c.onError.onErrorResponse(error);
+            }
+          }
+      );
+      inFlightRequests.put(key, inFlightRequest);
+    }
+    requestQueue.add(inFlightRequest.request);
+  }
+
+  /**
+   * Detaches all callers with this tag from the requests they are waiting for. Requests without
+   * any remaining caller are canceled.
+   */
+  public void cancelAll(String tag) {
+    ArrayList<Request<?>> requestsToCancel = new ArrayList<>();
+    synchronized (inFlightRequests) {
+      Iterator<Map.Entry<String, InFlightRequest>> iterator
+          = inFlightRequests.entrySet().iterator();
+      while (iterator.hasNext()) {
+        InFlightRequest inFlightRequest = iterator.next().getValue();
+        inFlightRequest.callers.removeIf(caller -> tag.equals(caller.tag));
+        if (inFlightRequest.callers.isEmpty()) {
+          iterator.remove();
+          requestsToCancel.add(inFlightRequest.request);
+        }
+      }
+    }
+    for (Request<?> request : requestsToCancel) {
+      request.cancel();
+    }
+  }
+
+  private List<Caller> finish(String key, InFlightRequest inFlightRequest) {
+    synchronized (inFlightRequests) {
+      if (inFlightRequests.get(key) == inFlightRequest) {
+        inFlightRequests.remove(key);
+      }
+      return new ArrayList<>(inFlightRequest.callers);
+    }
+  }
+
+  public interface RequestFactory {
+
+    Request<String> create(
+        String tag,
+        Response.Listener<String> onResponse,
+        Runnable onNotModified,
+        Response.ErrorListener onError
+    );
+  }
+
+  private static class InFlightRequest {
+
+    private final List<Caller> callers = new ArrayList<>();
+    private Request<String> request;
+  }
+
+  private static class Caller {
+
+    private final String tag;
+    private final Response.Listener<String> onResponse;
+    private final Runnable onNotModified;
+    private final Response.ErrorListener onError;
+
+    Caller(
+        @Nullable String tag,
+        Response.Listener<String> onResponse,
+        @Nullable Runnable onNotModified,
+        Response.ErrorListener onError
+    ) {
+      this.tag = tag;
+      this.onResponse = onResponse;
+      this.onNotModified = onNotModified;
+      this.onError = onError;
+    }
+  }
+}
@@ -24,9 +24,11 @@ import android.app.Application;
 import android.content.Context;
 import android.content.SharedPreferences;
 import android.util.Base64;
+import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
 import com.bumptech.glide.load.model.LazyHeaders;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import xyz.zedler.patrick.grocy.Constants;
@@ -42,8 +44,23 @@ public class RequestHeaders {
         .getString(Constants.PREF.HOME_ASSISTANT_INGRESS_SESSION_KEY, null);
 
     HashMap<String, String> params = new HashMap<>();
-    Matcher matcher = Pattern.compile("(http|https)://(\\S+):(\\S+)@(\\S+)")
-        .matcher(serverUrl != null ? serverUrl : "");
+    putGrocyAuthHeaders(
+        params,
+        serverUrl != null ? serverUrl : "",
+        apiKey,
+        homeAssistantIngressSessionKey
+    );
+    return params;
+  }
+
+  // basic auth from the credentials in the url, api key and Home Assistant ingress session
+  static void putGrocyAuthHeaders(
+      Map<String, String> params,
+      String url,
+      @Nullable String apiKey,
+      @Nullable String homeAssistantIngressSessionKey
+  ) {
+    Matcher matcher = Pattern.compile("(http|https)://(\\S+):(\\S+)@(\\S+)").matcher(url);
     if (matcher.matches()) {
       String user = matcher.group(2);
       String password = matcher.group(3);
@@ -57,7 +74,6 @@ public class RequestHeaders {
     if (homeAssistantIngressSessionKey != null) {
       params.put("Cookie", "ingress_session=" + homeAssistantIngressSessionKey);
     }
-    return params;
   }
 
   public static LazyHeaders getGlideGrocyAuthHeaders(Context context) {
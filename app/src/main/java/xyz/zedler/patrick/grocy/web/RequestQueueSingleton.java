@@ -22,13 +22,14 @@ package xyz.zedler.patrick.grocy.web;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.util.Log;
+import androidx.annotation.Nullable;
 import androidx.preference.PreferenceManager;
-import com.android.volley.Cache;
 import com.android.volley.Network;
 import com.android.volley.RequestQueue;
 import com.android.volley.toolbox.BasicNetwork;
-import com.android.volley.toolbox.DiskBasedCache;
 import com.android.volley.toolbox.HurlStack;
+import com.android.volley.toolbox.NoCache;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.Socket;
@@ -44,15 +45,23 @@ import xyz.zedler.patrick.grocy.Constants.SETTINGS.NETWORK;
 import xyz.zedler.patrick.grocy.Constants.SETTINGS_DEFAULT;
 import xyz.zedler.patrick.grocy.ssl.ikm.InteractiveKeyManager;
 import xyz.zedler.patrick.grocy.ssl.mtm.MemorizingTrustManager;
+import xyz.zedler.patrick.grocy.util.PrefsUtil;
 
 public class RequestQueueSingleton {
 
+  private static final String TAG = RequestQueueSingleton.class.getSimpleName();
+  private static final int NETWORK_THREADS = 6;
+
   private static RequestQueueSingleton instance;
   private RequestQueue requestQueue;
+  private SSLSocketFactory sslSocketFactory;
+  private final RequestTimingTracker requestTimingTracker;
   private static Context context;
 
   private RequestQueueSingleton(Context context) {
     RequestQueueSingleton.context = context.getApplicationContext();
+    SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
+    requestTimingTracker = new RequestTimingTracker(PrefsUtil.isDebuggingEnabled(sharedPrefs));
     requestQueue = getRequestQueue();
   }
 
@@ -70,28 +79,43 @@ public class RequestQueueSingleton {
     return requestQueue;
   }
 
+  public RequestTimingTracker getRequestTimingTracker() {
+    return requestTimingTracker;
+  }
+
   public void newRequestQueue() {
     //requestQueue = Volley.newRequestQueue(ctx);
 
-    Cache cache = new DiskBasedCache(context.getCacheDir(), 1024 * 1024);
-
     SharedPreferences sharedPrefs = PreferenceManager.getDefaultSharedPreferences(context);
     boolean useTor = sharedPrefs.getBoolean(NETWORK.TOR, SETTINGS_DEFAULT.NETWORK.TOR);
     boolean useProxy = sharedPrefs.getBoolean(NETWORK.PROXY, SETTINGS_DEFAULT.NETWORK.PROXY);
 
+    // The same socket factory is used for every queue, because HttpURLConnection only reuses
+    // pooled keep-alive connections and TLS sessions created with the same factory
+    SSLSocketFactory socketFactory = getSSLSocketFactory();
     HurlStack stack;
     if (useTor || useProxy) {
-      stack = new ProxyHurlStack(sharedPrefs, useTor);
+      stack = new ProxyHurlStack(sharedPrefs, useTor, socketFactory);
     } else {
+      stack = new HurlStack(null, socketFactory);
+    }
+    Network network = new BasicNetwork(stack);
+    // API responses are never cached by Volley, so no disk cache is needed
+    requestQueue = new RequestQueue(new NoCache(), network, NETWORK_THREADS);
+    requestQueue.addRequestEventListener(requestTimingTracker);
+    requestQueue.start();
+  }
+
+  @Nullable
+  private SSLSocketFactory getSSLSocketFactory() {
+    if (sslSocketFactory == null) {
       try {
-        stack = new HurlStack(null, new TLSSocketFactory());
+        sslSocketFactory = new TLSSocketFactory();
       } catch (NoSuchAlgorithmException | KeyManagementException e) {
-        stack = new HurlStack();
+        Log.e(TAG, "getSSLSocketFactory: " + e);
       }
     }
-    Network network = new BasicNetwork(stack);
-    requestQueue = new RequestQueue(cache, network, 6);
-    requestQueue.start();
+    return sslSocketFactory;
   }
 
   private static class TLSSocketFactory extends SSLSocketFactory {
@@ -100,7 +124,6 @@ public class RequestQueueSingleton {
 
     public TLSSocketFactory() throws KeyManagementException, NoSuchAlgorithmException {
       SSLContext sslContext = SSLContext.getInstance("TLS");
-      sslContext.init(null, null, null);
 
       // Client certificates
       KeyManager keyManager = new InteractiveKeyManager(context);
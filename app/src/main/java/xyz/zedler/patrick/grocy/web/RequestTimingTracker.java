@@ -0,0 +1,132 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.web;
+
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import com.android.volley.Request;
+import com.android.volley.RequestQueue;
+import com.android.volley.RequestQueue.RequestEvent;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * Measures for every request of a RequestQueue how long it waited for a network thread and how
+ * long the network part took, so slow connection setup (e.g. with Tor or Home Assistant
+ * ingress) can be told apart from slow responses.
+ */
+public class RequestTimingTracker implements RequestQueue.RequestEventListener {
+
+  private static final String TAG = RequestTimingTracker.class.getSimpleName();
+  private static final Pattern USER_INFO_PATTERN = Pattern.compile("^([a-zA-Z]+://)[^/@]*@");
+
+  private final Map<Request<?>, long[]> startTimes; // queued, network dispatch started
+  private final List<OnRequestTimingListener> listeners;
+  private final boolean debug;
+
+  public RequestTimingTracker(boolean debug) {
+    this.debug = debug;
+    startTimes = new IdentityHashMap<>();
+    listeners = new CopyOnWriteArrayList<>();
+  }
+
+  public void addListener(OnRequestTimingListener listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(OnRequestTimingListener listener) {
+    listeners.remove(listener);
+  }
+
+  @Override
+  public void onRequestEvent(Request<?> request, @RequestEvent int event) {
+    long now = SystemClock.elapsedRealtime();
+    RequestTiming timing = null;
+    synchronized (startTimes) {
+      if (event == RequestQueue.RequestEvent.REQUEST_QUEUED) {
+        startTimes.put(request, new long[]{now, now});
+      } else if (event == RequestQueue.RequestEvent.REQUEST_NETWORK_DISPATCH_STARTED) {
+        long[] times = startTimes.get(request);
+        if (times != null) {
+          times[1] = now;
+        }
+      } else if (event == RequestQueue.RequestEvent.REQUEST_FINISHED) {
+        long[] times = startTimes.remove(request);
+        if (times != null) {
+          timing = new RequestTiming(
+              request.getMethod(),
+              removeUserInfo(request.getUrl()),
+              times[1] - times[0],
+              now - times[1],
+              request.isCanceled()
+          );
+        }
+      }
+    }
+    if (timing == null) {
+      return;
+    }
+    if (debug) {
+      Log.i(TAG, timing.toString());
+    }
+    for (OnRequestTimingListener listener : listeners) {
+      listener.onRequestTiming(timing);
+    }
+  }
+
+  // the server URL can contain the credentials of basic auth, they must not get into the log
+  private static String removeUserInfo(String url) {
+    return USER_INFO_PATTERN.matcher(url).replaceFirst("$1");
+  }
+
+  public static class RequestTiming {
+
+    public final int method;
+    public final String url;
+    public final long waitingMs;
+    public final long networkMs;
+    public final boolean canceled;
+
+    RequestTiming(int method, String url, long waitingMs, long networkMs, boolean canceled) {
+      this.method = method;
+      this.url = url;
+      this.waitingMs = waitingMs;
+      this.networkMs = networkMs;
+      this.canceled = canceled;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+      return url + ": waiting " + waitingMs + " ms, network " + networkMs + " ms"
+          + (canceled ? ", canceled" : "");
+    }
+  }
+
+  public interface OnRequestTimingListener {
+
+    void onRequestTiming(RequestTiming timing);
+  }
+}
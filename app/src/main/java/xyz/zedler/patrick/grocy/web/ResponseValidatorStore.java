@@ -0,0 +1,197 @@
+/*
+ * This file is part of Grocy Android.
+ *
+ * Grocy Android is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grocy Android is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grocy Android. If not, see http://www.gnu.org/licenses/.
+ *
+ * Copyright (c) 2020-2024 by Patrick Zedler and Dominic Zedler
+ * Copyright (c) 2024-2025 by Patrick Zedler
+ */
+
+package xyz.zedler.patrick.grocy.web;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Base64;
+import android.util.Log;
+import androidx.annotation.Nullable;
+import com.android.volley.NetworkResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Persists the validators (ETag, Last-Modified and a hash of the body) of the last response
+ * of entity downloads, so the next download of the same URL can be sent as conditional request.
+ * Validators are saved together with the db-changed-time of their download and are only used
+ * while the DB_LAST_TIME_* value of the entity still matches it, which proves that the objects
+ * of that response were written to the database. Validators of a new response are kept in
+ * memory until the objects and the DB_LAST_TIME_* value were saved, then they are persisted.
+ */
+public class ResponseValidatorStore {
+
+  private static final String TAG = ResponseValidatorStore.class.getSimpleName();
+  private static final String PREFS_NAME = "response_validators";
+
+  private static ResponseValidatorStore instance;
+  private final SharedPreferences validatorPrefs;
+  // DB_LAST_TIME_* key and db-changed-time -> validators of a response which is not saved yet
+  private final Map<String, PendingValidators> pendingValidators;
+
+  private ResponseValidatorStore(Context context) {
+    validatorPrefs = context.getApplicationContext()
+        .getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    pendingValidators = new ConcurrentHashMap<>();
+  }
+
+  public static synchronized ResponseValidatorStore getInstance(Context context) {
+    if (instance == null) {
+      instance = new ResponseValidatorStore(context);
+    }
+    return instance;
+  }
+
+  @Nullable
+  public Validators get(String url, String lastTimePrefKey, @Nullable String lastTime) {
+    if (lastTime == null) {
+      return null;
+    }
+    String json = validatorPrefs.getString(getKey(url, lastTimePrefKey), null);
+    if (json == null) {
+      return null;
+    }
+    try {
+      JSONObject jsonObject = new JSONObject(json);
+      if (!lastTime.equals(jsonObject.getString("db_changed_time"))) {
+        return null;
+      }
+      return new Validators(
+          jsonObject.optString("etag", null),
+          jsonObject.optString("last_modified", null),
+          jsonObject.getString("body_hash")
+      );
+    } catch (JSONException e) {
+      Log.e(TAG, "get: " + e);
+      return null;
+    }
+  }
+
+  // remembers the validators until commitPending() is called after the write of the response
+  public void putPending(
+      String url,
+      String lastTimePrefKey,
+      Validators validators,
+      String dbChangedTime
+  ) {
+    pendingValidators.put(
+        getPendingKey(lastTimePrefKey, dbChangedTime),
+        new PendingValidators(url, validators)
+    );
+  }
+
+  // must be called after the DB_LAST_TIME_* values were saved for the written objects
+  public void commitPending(String dbChangedTime, String... lastTimePrefKeys) {
+    for (String lastTimePrefKey : lastTimePrefKeys) {
+      PendingValidators pending = pendingValidators.remove(
+          getPendingKey(lastTimePrefKey, dbChangedTime)
+      );
+      if (pending != null) {
+        put(pending.url, lastTimePrefKey, pending.validators, dbChangedTime);
+      }
+    }
+  }
+
+  private void put(
+      String url,
+      String lastTimePrefKey,
+      Validators validators,
+      String dbChangedTime
+  ) {
+    try {
+      JSONObject jsonObject = new JSONObject();
+      jsonObject.put("etag", validators.etag);
+      jsonObject.put("last_modified", validators.lastModified);
+      jsonObject.put("body_hash", validators.bodyHash);
+      jsonObject.put("db_changed_time", dbChangedTime);
+      validatorPrefs.edit()
+          .putString(getKey(url, lastTimePrefKey), jsonObject.toString())
+          .apply();
+    } catch (JSONException e) {
+      Log.e(TAG, "put: " + e);
+    }
+  }
+
+  public void clear() {
+    pendingValidators.clear();
+    validatorPrefs.edit().clear().apply();
+  }
+
+  private static String getKey(String url, String lastTimePrefKey) {
+    return lastTimePrefKey + " " + url;
+  }
+
+  private static String getPendingKey(String lastTimePrefKey, String dbChangedTime) {
+    return lastTimePrefKey + " " + dbChangedTime;
+  }
+
+  private static class PendingValidators {
+
+    private final String url;
+    private final Validators validators;
+
+    PendingValidators(String url, Validators validators) {
+      this.url = url;
+      this.validators = validators;
+    }
+  }
+
+  public static class Validators {
+
+    @Nullable public final String etag;
+    @Nullable public final String lastModified;
+    public final String bodyHash;
+
+    public Validators(
+        @Nullable String etag,
+        @Nullable String lastModified,
+        String bodyHash
+    ) {
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.bodyHash = bodyHash;
+    }
+
+    @Nullable
+    public static Validators fromResponse(NetworkResponse response) {
+      if (response.data == null) {
+        return null;
+      }
+      String bodyHash;
+      try {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        bodyHash = Base64.encodeToString(digest.digest(response.data), Base64.NO_WRAP);
+      } catch (NoSuchAlgorithmException e) {
+        return null;
+      }
+      Map<String, String> headers = response.headers;
+      return new Validators(
+          headers != null ? headers.get("ETag") : null,
+          headers != null ? headers.get("Last-Modified") : null,
+          bodyHash
+      );
+    }
+  }
+}